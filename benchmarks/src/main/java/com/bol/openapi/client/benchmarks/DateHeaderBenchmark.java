@@ -0,0 +1,61 @@
+package com.bol.openapi.client.benchmarks;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.bol.openapi.client.util.HttpDateCache;
+
+/**
+ * Compares formatting the Date header for every request, as the signer did before, with the per-second
+ * {@link HttpDateCache}. At 10k requests per second, 10,000 divided by the throughput in ops/s is the share of a core
+ * spent on the header; gc.alloc.rate.norm shows the allocation saved per request.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DateHeaderBenchmark {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormat.forPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'").withLocale(Locale.ENGLISH).withZone(DateTimeZone.forID("GMT"));
+
+    private final HttpDateCache httpDateCache = new HttpDateCache();
+
+    @Benchmark
+    public String formatPerRequest() {
+        return DATE_TIME_FORMATTER.print(new DateTime());
+    }
+
+    @Benchmark
+    public String cached() {
+        return httpDateCache.getDate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String formatPerRequestContended() {
+        return DATE_TIME_FORMATTER.print(new DateTime());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String cachedContended() {
+        return httpDateCache.getDate();
+    }
+}
@@ -0,0 +1,80 @@
+package com.bol.openapi.client.benchmarks;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.bol.openapi.client.OpenApiClient;
+import com.bol.openapi.client.request.ListResultRequest;
+import com.bol.openapi.client.request.SearchResultsRequest;
+import com.bol.openapi.openapi_3_0.ListResultResponse;
+import com.bol.openapi.openapi_3_0.ProductResponse;
+import com.bol.openapi.openapi_3_0.SearchResultsResponse;
+
+/**
+ * Full client calls (URI building, signing, executing and unmarshalling) against the in-process
+ * {@link StubHttpClient}, so the result is the client overhead per call without the network.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EndToEndBenchmark {
+
+    private static final String REST_PATH = "/openapi/services/rest";
+
+    private OpenApiClient openApiClient;
+    private SearchResultsRequest searchResultsRequest;
+    private ListResultRequest listResultRequest;
+
+    @Setup
+    public void setUp() throws Exception {
+        final StubHttpClient httpClient = new StubHttpClient();
+        httpClient.respond(REST_PATH + "/catalog/v3/searchresults/", Fixtures.load(Fixtures.SEARCH_RESULTS));
+        httpClient.respond(REST_PATH + "/catalog/v3/listresults/", Fixtures.load(Fixtures.LIST_RESULTS));
+        httpClient.respond(REST_PATH + "/catalog/v3/products/", Fixtures.load(Fixtures.PRODUCT));
+
+        openApiClient = new OpenApiClient(httpClient, new URI("https://api.bol.com"), "accessKeyId", "secretAccessKey");
+
+        searchResultsRequest = new SearchResultsRequest("harry potter");
+        searchResultsRequest.setNrProducts(10);
+
+        listResultRequest = new ListResultRequest(ListResultRequest.Type.TOPLIST_DEFAULT, "8299");
+        listResultRequest.setNrProducts(100);
+        listResultRequest.setIncludeAttributes(true);
+    }
+
+    @Benchmark
+    public SearchResultsResponse search() throws Exception {
+        return openApiClient.search(searchResultsRequest);
+    }
+
+    @Benchmark
+    public ListResultResponse getList() throws Exception {
+        return openApiClient.getList(listResultRequest);
+    }
+
+    @Benchmark
+    public ProductResponse getProduct() throws Exception {
+        return openApiClient.getProduct("9200000012345678", true);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public ProductResponse getProductContended() throws Exception {
+        return openApiClient.getProduct("9200000012345678", true);
+    }
+}
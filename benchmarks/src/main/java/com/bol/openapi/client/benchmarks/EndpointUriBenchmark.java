@@ -0,0 +1,63 @@
+package com.bol.openapi.client.benchmarks;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.NameValuePair;
+import org.apache.http.client.utils.URIUtils;
+import org.apache.http.client.utils.URLEncodedUtils;
+import org.apache.http.message.BasicNameValuePair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.bol.openapi.client.Endpoint;
+import com.bol.openapi.client.util.EndpointTemplate;
+import com.bol.openapi.client.util.EndpointUri;
+
+/**
+ * Compares building a product URI with {@link URIUtils} and {@link URLEncodedUtils}, as the client did before, with
+ * expanding a precompiled {@link EndpointTemplate}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EndpointUriBenchmark {
+
+    private static final String PRODUCT_ID = "9200000012345678";
+
+    private URI serviceUri;
+    private EndpointTemplate productTemplate;
+    private List<NameValuePair> queryParameters;
+
+    @Setup
+    public void setUp() throws Exception {
+        serviceUri = new URI("https://api.bol.com/openapi/services/rest");
+        productTemplate = EndpointTemplate.compile(serviceUri, Endpoint.PRODUCT.getPathTemplate());
+        queryParameters = new ArrayList<NameValuePair>();
+        queryParameters.add(new BasicNameValuePair("includeAttributes", "true"));
+    }
+
+    @Benchmark
+    public URI uriUtils() throws Exception {
+        return URIUtils.createURI(serviceUri.getScheme(), serviceUri.getHost(), serviceUri.getPort(),
+                serviceUri.getPath() + "/catalog/v3/products/" + PRODUCT_ID, URLEncodedUtils.format(queryParameters, "UTF-8"), null);
+    }
+
+    @Benchmark
+    public EndpointUri endpointTemplate() throws Exception {
+        return productTemplate.expand(queryParameters, PRODUCT_ID);
+    }
+}
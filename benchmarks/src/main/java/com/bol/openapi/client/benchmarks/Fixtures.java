@@ -0,0 +1,37 @@
+package com.bol.openapi.client.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Loads the XSD-conformant response fixtures, which are shared with the client tests (src/test/resources/fixtures).
+ */
+final class Fixtures {
+
+    static final String SEARCH_RESULTS = "search-results.xml";
+    static final String LIST_RESULTS = "list-results.xml";
+    static final String PRODUCT = "product.xml";
+
+    private Fixtures() {
+    }
+
+    static byte[] load(final String name) throws IOException {
+        final InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + name);
+        if (in == null) {
+            throw new IOException("Fixture not found: " + name);
+        }
+
+        try {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } finally {
+            in.close();
+        }
+    }
+}
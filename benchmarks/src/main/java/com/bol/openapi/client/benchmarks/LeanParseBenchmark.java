@@ -0,0 +1,108 @@
+package com.bol.openapi.client.benchmarks;
+
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBContext;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.bol.openapi.client.lean.LeanProducts;
+import com.bol.openapi.client.lean.ProductField;
+import com.bol.openapi.client.lean.ProductProjection;
+import com.bol.openapi.client.xml.ResponseReader;
+import com.bol.openapi.client.xml.UnmarshallerPool;
+import com.bol.openapi.openapi_3_0.ListResultResponse;
+import com.bol.openapi.openapi_3_0.ObjectFactory;
+import com.bol.openapi.openapi_3_0.ProductResponse;
+import com.bol.openapi.openapi_3_0.SearchResultsResponse;
+
+/**
+ * Compares reading the search results, list results and product fixtures into a {@link ProductProjection} against the
+ * full streaming JAXB binding of the same responses. The "card" projection holds the fields of a typical product
+ * listing, "all" every field the lean reader supports.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LeanParseBenchmark {
+
+    @Param({ "card", "all" })
+    private String projectionName;
+
+    private ResponseReader responseReader;
+    private ProductProjection projection;
+    private byte[] searchResults;
+    private byte[] listResults;
+    private byte[] product;
+
+    @Setup
+    public void setUp() throws Exception {
+        responseReader = new ResponseReader(new UnmarshallerPool(JAXBContext.newInstance(ObjectFactory.class), UnmarshallerPool.DEFAULT_MAX_SIZE));
+        responseReader.setStreaming(true);
+        if ("all".equals(projectionName)) {
+            projection = ProductProjection.of(EnumSet.allOf(ProductField.class));
+        } else {
+            projection = ProductProjection.of(ProductField.ID, ProductField.TITLE, ProductField.PRICE, ProductField.AVAILABILITY_CODE);
+        }
+        searchResults = Fixtures.load(Fixtures.SEARCH_RESULTS);
+        listResults = Fixtures.load(Fixtures.LIST_RESULTS);
+        product = Fixtures.load(Fixtures.PRODUCT);
+    }
+
+    @Benchmark
+    public SearchResultsResponse searchResultsJaxb() throws Exception {
+        return responseReader.read(createResponse(searchResults), SearchResultsResponse.class);
+    }
+
+    @Benchmark
+    public LeanProducts searchResultsLean() throws Exception {
+        return responseReader.read(createResponse(searchResults), LeanProducts.class, projection, null);
+    }
+
+    @Benchmark
+    public ListResultResponse listResultsJaxb() throws Exception {
+        return responseReader.read(createResponse(listResults), ListResultResponse.class);
+    }
+
+    @Benchmark
+    public LeanProducts listResultsLean() throws Exception {
+        return responseReader.read(createResponse(listResults), LeanProducts.class, projection, null);
+    }
+
+    @Benchmark
+    public ProductResponse productJaxb() throws Exception {
+        return responseReader.read(createResponse(product), ProductResponse.class);
+    }
+
+    @Benchmark
+    public LeanProducts productLean() throws Exception {
+        return responseReader.read(createResponse(product), LeanProducts.class, projection, null);
+    }
+
+    private static HttpResponse createResponse(final byte[] body) {
+        final HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "OK");
+        final ByteArrayEntity entity = new ByteArrayEntity(body);
+        entity.setContentType("application/xml; charset=UTF-8");
+        response.setEntity(entity);
+        return response;
+    }
+}
@@ -0,0 +1,110 @@
+package com.bol.openapi.client.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.NameValuePair;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.message.BasicNameValuePair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.bol.openapi.client.util.AuthUtils;
+import com.bol.openapi.client.util.RequestSigner;
+import com.bol.openapi.client.util.StringToSignBuilder;
+
+/**
+ * Compares the static {@link AuthUtils} signing path, which creates and initializes a MAC per request, with the
+ * reusable {@link RequestSigner}, and the generic string to sign canonicalization with {@link StringToSignBuilder}.
+ * The contended variants run on 8 threads to expose JCA provider contention.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestSignerBenchmark {
+
+    private static final String ACCESS_KEY_ID = "accessKeyId";
+    private static final String SECRET_ACCESS_KEY = "secretAccessKey";
+
+    private RequestSigner requestSigner;
+    private String stringToSign;
+    private HttpGet signedRequest;
+    private List<NameValuePair> queryParameters;
+
+    @Setup
+    public void setUp() throws Exception {
+        requestSigner = new RequestSigner(ACCESS_KEY_ID, SECRET_ACCESS_KEY);
+        queryParameters = new ArrayList<NameValuePair>();
+        queryParameters.add(new BasicNameValuePair("term", "harry potter"));
+        queryParameters.add(new BasicNameValuePair("nrProducts", "10"));
+        queryParameters.add(new BasicNameValuePair("offset", "0"));
+        queryParameters.add(new BasicNameValuePair("includeAttributes", "false"));
+
+        signedRequest = createRequest();
+        AuthUtils.handleRequest(signedRequest, ACCESS_KEY_ID, SECRET_ACCESS_KEY, null, queryParameters);
+        stringToSign = AuthUtils.createStringToSign(signedRequest, queryParameters);
+    }
+
+    @Benchmark
+    public String stringToSignStatic() throws Exception {
+        return AuthUtils.createStringToSign(signedRequest, queryParameters);
+    }
+
+    @Benchmark
+    public String stringToSignBuilder() throws Exception {
+        return StringToSignBuilder.build("GET", null, null, signedRequest.getFirstHeader("Date").getValue(), null, signedRequest.getURI().getPath(), queryParameters);
+    }
+
+    @Benchmark
+    public String hmacStatic() throws Exception {
+        return AuthUtils.calculateHMAC256(stringToSign, SECRET_ACCESS_KEY);
+    }
+
+    @Benchmark
+    public String hmacSigner() {
+        return requestSigner.calculateHMAC256(stringToSign);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String hmacStaticContended() throws Exception {
+        return AuthUtils.calculateHMAC256(stringToSign, SECRET_ACCESS_KEY);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String hmacSignerContended() {
+        return requestSigner.calculateHMAC256(stringToSign);
+    }
+
+    @Benchmark
+    public HttpGet handleRequestStatic() {
+        final HttpGet httpGet = createRequest();
+        AuthUtils.handleRequest(httpGet, ACCESS_KEY_ID, SECRET_ACCESS_KEY, null, queryParameters);
+        return httpGet;
+    }
+
+    @Benchmark
+    public HttpGet handleRequestSigner() {
+        final HttpGet httpGet = createRequest();
+        requestSigner.handleRequest(httpGet, null, queryParameters);
+        return httpGet;
+    }
+
+    private static HttpGet createRequest() {
+        return new HttpGet("https://api.bol.com/openapi/services/rest/catalog/v3/searchresults/?term=harry+potter&nrProducts=10&offset=0&includeAttributes=false");
+    }
+}
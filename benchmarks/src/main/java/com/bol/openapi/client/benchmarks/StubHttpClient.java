@@ -0,0 +1,92 @@
+package com.bol.openapi.client.benchmarks;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * In-process transport that answers requests with canned response bodies, selected by path prefix. It keeps the
+ * network out of end-to-end benchmarks, so only the client's own work (URI building, signing, unmarshalling) is
+ * measured.
+ */
+class StubHttpClient implements HttpClient {
+
+    private final Map<String, byte[]> responses = new LinkedHashMap<String, byte[]>();
+    private final HttpParams params = new BasicHttpParams();
+
+    /**
+     * Answers requests whose path starts with the given prefix with the given body.
+     *
+     * @param pathPrefix The path prefix, e.g. "/openapi/services/rest/catalog/v3/products/".
+     * @param body The XML response body.
+     */
+    void respond(final String pathPrefix, final byte[] body) {
+        responses.put(pathPrefix, body);
+    }
+
+    public HttpResponse execute(final HttpUriRequest request) throws IOException {
+        final String path = request.getURI().getRawPath();
+        for (final Map.Entry<String, byte[]> entry : responses.entrySet()) {
+            if (path.startsWith(entry.getKey())) {
+                final HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "OK");
+                final ByteArrayEntity entity = new ByteArrayEntity(entry.getValue());
+                entity.setContentType("application/xml; charset=UTF-8");
+                response.setEntity(entity);
+                return response;
+            }
+        }
+
+        return new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_NOT_FOUND, "Not Found");
+    }
+
+    public HttpResponse execute(final HttpUriRequest request, final HttpContext context) throws IOException {
+        return execute(request);
+    }
+
+    public HttpResponse execute(final HttpHost target, final HttpRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    public HttpResponse execute(final HttpHost target, final HttpRequest request, final HttpContext context) {
+        throw new UnsupportedOperationException();
+    }
+
+    public <T> T execute(final HttpUriRequest request, final ResponseHandler<? extends T> responseHandler) throws IOException {
+        return responseHandler.handleResponse(execute(request));
+    }
+
+    public <T> T execute(final HttpUriRequest request, final ResponseHandler<? extends T> responseHandler, final HttpContext context) throws IOException {
+        return responseHandler.handleResponse(execute(request));
+    }
+
+    public <T> T execute(final HttpHost target, final HttpRequest request, final ResponseHandler<? extends T> responseHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    public <T> T execute(final HttpHost target, final HttpRequest request, final ResponseHandler<? extends T> responseHandler, final HttpContext context) {
+        throw new UnsupportedOperationException();
+    }
+
+    public HttpParams getParams() {
+        return params;
+    }
+
+    public ClientConnectionManager getConnectionManager() {
+        return null;
+    }
+}
@@ -0,0 +1,88 @@
+package com.bol.openapi.client.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBContext;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.bol.openapi.client.xml.Binding;
+import com.bol.openapi.client.xml.ResponseReader;
+import com.bol.openapi.client.xml.UnmarshallerPool;
+import com.bol.openapi.openapi_3_0.ListResultResponse;
+import com.bol.openapi.openapi_3_0.ObjectFactory;
+import com.bol.openapi.openapi_3_0.ProductResponse;
+import com.bol.openapi.openapi_3_0.SearchResultsResponse;
+
+/**
+ * Reads the search results (10 products with categories and refinements), list results (100 products with offers and
+ * attributes) and product fixtures through the {@link ResponseReader}, buffered and streaming, with the JAXB runtime and
+ * with the StAX readers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UnmarshalBenchmark {
+
+    @Param({ "false", "true" })
+    private boolean streaming;
+
+    @Param({ "JAXB", "STAX" })
+    private Binding binding;
+
+    private ResponseReader responseReader;
+    private byte[] searchResults;
+    private byte[] listResults;
+    private byte[] product;
+
+    @Setup
+    public void setUp() throws Exception {
+        responseReader = new ResponseReader(new UnmarshallerPool(JAXBContext.newInstance(ObjectFactory.class), UnmarshallerPool.DEFAULT_MAX_SIZE));
+        responseReader.setStreaming(streaming);
+        responseReader.setBinding(binding);
+        searchResults = Fixtures.load(Fixtures.SEARCH_RESULTS);
+        listResults = Fixtures.load(Fixtures.LIST_RESULTS);
+        product = Fixtures.load(Fixtures.PRODUCT);
+    }
+
+    @Benchmark
+    public SearchResultsResponse searchResults() throws Exception {
+        return responseReader.read(createResponse(searchResults), SearchResultsResponse.class);
+    }
+
+    @Benchmark
+    public ListResultResponse listResults() throws Exception {
+        return responseReader.read(createResponse(listResults), ListResultResponse.class);
+    }
+
+    @Benchmark
+    public ProductResponse product() throws Exception {
+        return responseReader.read(createResponse(product), ProductResponse.class);
+    }
+
+    private static HttpResponse createResponse(final byte[] body) {
+        final HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "OK");
+        final ByteArrayEntity entity = new ByteArrayEntity(body);
+        entity.setContentType("application/xml; charset=UTF-8");
+        response.setEntity(entity);
+        return response;
+    }
+}
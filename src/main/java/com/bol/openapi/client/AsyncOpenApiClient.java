@@ -0,0 +1,245 @@
+package com.bol.openapi.client;
+
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.bol.openapi.client.async.CallbackFuture;
+import com.bol.openapi.client.async.ResponseCallback;
+import com.bol.openapi.client.request.ListResultRequest;
+import com.bol.openapi.client.request.ProductRecommendationsRequest;
+import com.bol.openapi.client.request.SearchResultsRequest;
+import com.bol.openapi.client.response.ProductsResult;
+import com.bol.openapi.openapi_3_0.BasketResponse;
+import com.bol.openapi.openapi_3_0.ListResultResponse;
+import com.bol.openapi.openapi_3_0.ProductRecommendationsResponse;
+import com.bol.openapi.openapi_3_0.ProductResponse;
+import com.bol.openapi.openapi_3_0.SearchResultsResponse;
+import com.bol.openapi.openapi_3_0.SessionResponse;
+
+/**
+ * Asynchronous facade for {@link OpenApiClient}. Every operation is submitted to the given executor and returns a
+ * {@link Future} right away; an optional {@link ResponseCallback} is notified on completion. Requests are signed, sent
+ * and mapped by the wrapped client, so errors surface as the same {@link com.bol.openapi.client.exception.BasicApiException}
+ * (wrapped in an {@link java.util.concurrent.ExecutionException} by {@link Future#get()}).
+ */
+public class AsyncOpenApiClient {
+
+    private final OpenApiClient openApiClient;
+    private final ExecutorService executorService;
+
+    /**
+     * Constructs the asynchronous OpenAPI client.
+     *
+     * @param openApiClient   The client that executes the calls.
+     * @param executorService The executor to run the calls on. Its size bounds the number of calls in flight.
+     */
+    public AsyncOpenApiClient(final OpenApiClient openApiClient, final ExecutorService executorService) {
+        this.openApiClient = openApiClient;
+        this.executorService = executorService;
+    }
+
+    /**
+     * Pings the OpenAPI server.
+     *
+     * @param callback The callback, may be null.
+     *
+     * @return The future result, true when the server pongs back.
+     */
+    public Future<Boolean> ping(final ResponseCallback<Boolean> callback) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return openApiClient.ping();
+            }
+        }, callback);
+    }
+
+    /**
+     * Searches for products.
+     *
+     * @param searchResultsRequest The search results request.
+     * @param callback             The callback, may be null.
+     *
+     * @return The future search results response.
+     */
+    public Future<SearchResultsResponse> search(final SearchResultsRequest searchResultsRequest, final ResponseCallback<SearchResultsResponse> callback) {
+        return submit(new Callable<SearchResultsResponse>() {
+            public SearchResultsResponse call() throws Exception {
+                return openApiClient.search(searchResultsRequest);
+            }
+        }, callback);
+    }
+
+    /**
+     * Gets the product or category/refinement results list.
+     *
+     * @param listResultRequest The list result request.
+     * @param callback          The callback, may be null.
+     *
+     * @return The future list result response.
+     */
+    public Future<ListResultResponse> getList(final ListResultRequest listResultRequest, final ResponseCallback<ListResultResponse> callback) {
+        return submit(new Callable<ListResultResponse>() {
+            public ListResultResponse call() throws Exception {
+                return openApiClient.getList(listResultRequest);
+            }
+        }, callback);
+    }
+
+    /**
+     * Gets the product.
+     *
+     * @param id                The product id.
+     * @param includeAttributes Whether to include the product attributes.
+     * @param callback          The callback, may be null.
+     *
+     * @return The future product response.
+     */
+    public Future<ProductResponse> getProduct(final String id, final boolean includeAttributes, final ResponseCallback<ProductResponse> callback) {
+        return submit(new Callable<ProductResponse>() {
+            public ProductResponse call() throws Exception {
+                return openApiClient.getProduct(id, includeAttributes);
+            }
+        }, callback);
+    }
+
+    /**
+     * Gets multiple products. The ids are split into chunks of at most {@link OpenApiClient#MAX_PRODUCTS_PER_REQUEST},
+     * which are fetched concurrently and merged in requested order.
+     *
+     * @param ids               The product ids.
+     * @param includeAttributes Whether to include the product attributes.
+     * @param callback          The callback, may be null.
+     *
+     * @return The future products result. Fails with the first chunk failure, which cancels the other chunks;
+     *         cancelling it cancels the chunks.
+     */
+    public Future<ProductsResult> getProducts(final Collection<String> ids, final boolean includeAttributes, final ResponseCallback<ProductsResult> callback) {
+        return openApiClient.getProducts(OpenApiClient.uniqueProductIds(ids), includeAttributes, executorService, callback);
+    }
+
+    /**
+     * Gets the product recommendations.
+     *
+     * @param request  The product recommendations request.
+     * @param callback The callback, may be null.
+     *
+     * @return The future product recommendations response.
+     */
+    public Future<ProductRecommendationsResponse> getProductRecommendations(final ProductRecommendationsRequest request, final ResponseCallback<ProductRecommendationsResponse> callback) {
+        return submit(new Callable<ProductRecommendationsResponse>() {
+            public ProductRecommendationsResponse call() throws Exception {
+                return openApiClient.getProductRecommendations(request);
+            }
+        }, callback);
+    }
+
+    /**
+     * Gets an anonymous session, which can be used to manage an anonymous basket.
+     *
+     * @param callback The callback, may be null.
+     *
+     * @return The future session response.
+     */
+    public Future<SessionResponse> getAnonymousSession(final ResponseCallback<SessionResponse> callback) {
+        return submit(new Callable<SessionResponse>() {
+            public SessionResponse call() throws Exception {
+                return openApiClient.getAnonymousSession();
+            }
+        }, callback);
+    }
+
+    /**
+     * Gets the basket associated with the given session id.
+     *
+     * @param sessionId The session id.
+     * @param callback  The callback, may be null.
+     *
+     * @return The future basket response.
+     */
+    public Future<BasketResponse> getBasket(final String sessionId, final ResponseCallback<BasketResponse> callback) {
+        return submit(new Callable<BasketResponse>() {
+            public BasketResponse call() throws Exception {
+                return openApiClient.getBasket(sessionId);
+            }
+        }, callback);
+    }
+
+    /**
+     * Adds the offer with offerId to the basket associated with the session id.
+     *
+     * @param sessionId The session id.
+     * @param offerId   The offer id.
+     * @param quantity  The quantity.
+     * @param ipAddress The client IP address.
+     * @param callback  The callback, may be null.
+     *
+     * @return The future result, true when the item was added.
+     */
+    public Future<Boolean> addItemToBasket(final String sessionId, final long offerId, final int quantity, final String ipAddress, final ResponseCallback<Boolean> callback) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return openApiClient.addItemToBasket(sessionId, offerId, quantity, ipAddress);
+            }
+        }, callback);
+    }
+
+    /**
+     * Changes the quantity of the basket item.
+     *
+     * @param sessionId    The session id.
+     * @param basketItemId The basket item id.
+     * @param quantity     The new quantity.
+     * @param callback     The callback, may be null.
+     *
+     * @return The future result, true when the quantity was changed.
+     */
+    public Future<Boolean> changeBasketItemQuantity(final String sessionId, final String basketItemId, final int quantity, final ResponseCallback<Boolean> callback) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return openApiClient.changeBasketItemQuantity(sessionId, basketItemId, quantity);
+            }
+        }, callback);
+    }
+
+    /**
+     * Removes the basket item from the basket associated with the session id.
+     *
+     * @param sessionId    The session id.
+     * @param basketItemId The basket item id.
+     * @param callback     The callback, may be null.
+     *
+     * @return The future result, true when the item was removed.
+     */
+    public Future<Boolean> removeBasketItemFromBasket(final String sessionId, final String basketItemId, final ResponseCallback<Boolean> callback) {
+        return submit(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                return openApiClient.removeBasketItemFromBasket(sessionId, basketItemId);
+            }
+        }, callback);
+    }
+
+    /**
+     * Gets the wrapped synchronous client.
+     *
+     * @return The OpenAPI client.
+     */
+    public OpenApiClient getOpenApiClient() {
+        return openApiClient;
+    }
+
+    /**
+     * Submits the call to the executor.
+     *
+     * @param callable The call.
+     * @param callback The callback, may be null.
+     *
+     * @return The future.
+     */
+    private <T> Future<T> submit(final Callable<T> callable, final ResponseCallback<T> callback) {
+        final CallbackFuture<T> future = new CallbackFuture<T>(callable, callback);
+        executorService.execute(future);
+        return future;
+    }
+}
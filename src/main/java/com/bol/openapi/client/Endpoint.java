@@ -0,0 +1,56 @@
+package com.bol.openapi.client;
+
+/**
+ * The OpenAPI operations supported by the client.
+ */
+public enum Endpoint {
+
+    PING(EndpointGroup.UTILS, false, "/utils/v3/ping"),
+    SEARCH(EndpointGroup.CATALOG, true, "/catalog/v3/searchresults/"),
+    LIST(EndpointGroup.CATALOG, true, "/catalog/v3/listresults/{type}/{ids}"),
+    PRODUCT(EndpointGroup.CATALOG, true, "/catalog/v3/products/{id}"),
+    PRODUCTS(EndpointGroup.CATALOG, true, "/catalog/v3/products/{ids}"),
+    RECOMMENDATIONS(EndpointGroup.CATALOG, true, "/catalog/v3/recommendations/{id}"),
+    SESSION(EndpointGroup.AUTH, false, "/auth/v3/session"),
+    BASKET(EndpointGroup.CHECKOUT, false, "/checkout/v3/baskets"),
+    ADD_TO_BASKET(EndpointGroup.CHECKOUT, false, "/checkout/v3/baskets/{offerId}/{quantity}/{ipAddress}"),
+    CHANGE_BASKET_ITEM(EndpointGroup.CHECKOUT, false, "/checkout/v3/baskets/{basketItemId}/{quantity}"),
+    REMOVE_FROM_BASKET(EndpointGroup.CHECKOUT, false, "/checkout/v3/baskets/{basketItemId}");
+
+    private final EndpointGroup group;
+    private final boolean catalogRead;
+    private final String pathTemplate;
+
+    Endpoint(final EndpointGroup group, final boolean catalogRead, final String pathTemplate) {
+        this.group = group;
+        this.catalogRead = catalogRead;
+        this.pathTemplate = pathTemplate;
+    }
+
+    /**
+     * Gets the group of the endpoint, the OpenAPI service it belongs to.
+     *
+     * @return The endpoint group.
+     */
+    public EndpointGroup getGroup() {
+        return group;
+    }
+
+    /**
+     * Whether the endpoint is an idempotent catalog read, whose responses only depend on the request parameters.
+     *
+     * @return True for catalog reads.
+     */
+    public boolean isCatalogRead() {
+        return catalogRead;
+    }
+
+    /**
+     * Gets the path of the endpoint relative to the REST services, with path variables in braces.
+     *
+     * @return The path template.
+     */
+    public String getPathTemplate() {
+        return pathTemplate;
+    }
+}
@@ -0,0 +1,12 @@
+package com.bol.openapi.client;
+
+/**
+ * The OpenAPI services the endpoints belong to. Endpoints of a group share a backend, and therefore fail together.
+ */
+public enum EndpointGroup {
+
+    UTILS,
+    CATALOG,
+    AUTH,
+    CHECKOUT
+}
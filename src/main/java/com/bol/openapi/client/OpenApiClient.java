@@ -1,17 +1,32 @@
 package com.bol.openapi.client;
 
 import java.io.IOException;
-import java.io.StringReader;
+import java.io.InterruptedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.net.URLEncoder;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 
-import org.apache.http.HttpResponse;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpStatus;
 import org.apache.http.NameValuePair;
 import org.apache.http.ParseException;
@@ -21,22 +36,57 @@ import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
-import org.apache.http.client.utils.URIUtils;
-import org.apache.http.client.utils.URLEncodedUtils;
 import org.apache.http.message.BasicNameValuePair;
-import org.apache.http.util.EntityUtils;
 
+import com.bol.openapi.client.async.CallbackFuture;
+import com.bol.openapi.client.async.ResponseCallback;
+import com.bol.openapi.client.async.ResultFuture;
+import com.bol.openapi.client.breaker.CircuitBreakers;
+import com.bol.openapi.client.cache.RequestCoalescer;
+import com.bol.openapi.client.cache.ResponseCache;
 import com.bol.openapi.client.exception.BasicApiException;
-import com.bol.openapi.client.exception.handler.ExceptionHandler;
+import com.bol.openapi.client.hedge.HedgingPolicy;
+import com.bol.openapi.client.http.PoolStats;
+import com.bol.openapi.client.http.PooledHttpClient;
+import com.bol.openapi.client.lean.LeanProduct;
+import com.bol.openapi.client.lean.LeanProducts;
+import com.bol.openapi.client.lean.ProductProjection;
+import com.bol.openapi.client.metrics.ClientMetrics;
+import com.bol.openapi.client.paging.PageFetcher;
+import com.bol.openapi.client.paging.PagedProducts;
+import com.bol.openapi.client.paging.PagingOptions;
+import com.bol.openapi.client.paging.ProductPage;
+import com.bol.openapi.client.pipeline.ApiRequest;
+import com.bol.openapi.client.pipeline.CacheInterceptor;
+import com.bol.openapi.client.pipeline.CircuitBreakerInterceptor;
+import com.bol.openapi.client.pipeline.CoalescingInterceptor;
+import com.bol.openapi.client.pipeline.ExchangeListener;
+import com.bol.openapi.client.pipeline.HedgingInterceptor;
+import com.bol.openapi.client.pipeline.Interceptor;
+import com.bol.openapi.client.pipeline.RateLimitInterceptor;
+import com.bol.openapi.client.pipeline.RequestExecutor;
+import com.bol.openapi.client.pipeline.RetryInterceptor;
+import com.bol.openapi.client.ratelimit.RateLimiter;
 import com.bol.openapi.client.request.ListResultRequest;
 import com.bol.openapi.client.request.ProductRecommendationsRequest;
 import com.bol.openapi.client.request.SearchResultsRequest;
-import com.bol.openapi.client.util.AuthUtils;
+import com.bol.openapi.client.response.ProductsResult;
+import com.bol.openapi.client.retry.RetryPolicy;
+import com.bol.openapi.client.util.EndpointTemplate;
+import com.bol.openapi.client.util.EndpointUri;
+import com.bol.openapi.client.util.RequestSigner;
+import com.bol.openapi.client.xml.Binding;
+import com.bol.openapi.client.xml.ResponseLimits;
+import com.bol.openapi.client.xml.ResponseReader;
+import com.bol.openapi.client.xml.StringInterner;
+import com.bol.openapi.client.xml.UnmarshallerPool;
 import com.bol.openapi.openapi_3_0.BasketResponse;
 import com.bol.openapi.openapi_3_0.ListResultResponse;
 import com.bol.openapi.openapi_3_0.ObjectFactory;
+import com.bol.openapi.openapi_3_0.Product;
 import com.bol.openapi.openapi_3_0.ProductRecommendationsResponse;
 import com.bol.openapi.openapi_3_0.ProductResponse;
+import com.bol.openapi.openapi_3_0.ProductsResponse;
 import com.bol.openapi.openapi_3_0.SearchResultsResponse;
 import com.bol.openapi.openapi_3_0.SessionResponse;
 
@@ -45,11 +95,26 @@ import com.bol.openapi.openapi_3_0.SessionResponse;
  */
 public class OpenApiClient {
 
+    /**
+     * The maximum number of products the server returns for a single multi-product request.
+     */
+    public static final int MAX_PRODUCTS_PER_REQUEST = 100;
+
     private HttpClient httpClient;
     private JAXBContext jaxbContext;
-    private String accessKeyId;
-    private String secretAccessKey;
+    private RequestSigner requestSigner;
     private URI uriPrefix;
+    private Map<Endpoint, EndpointTemplate> endpointTemplates;
+    private ResponseReader responseReader;
+    private volatile ResponseCache responseCache;
+    private volatile RequestCoalescer requestCoalescer;
+    private volatile RetryPolicy retryPolicy;
+    private volatile HedgingPolicy hedgingPolicy;
+    private volatile CircuitBreakers circuitBreakers;
+    private volatile RateLimiter rateLimiter;
+    private volatile Executor productsExecutor;
+    private final List<Interceptor> interceptors = new CopyOnWriteArrayList<Interceptor>();
+    private RequestExecutor requestExecutor;
 
     /**
      * Constructs the OpenAPI client.
@@ -66,36 +131,314 @@ public class OpenApiClient {
             throws JAXBException, URISyntaxException {
         jaxbContext = JAXBContext.newInstance(ObjectFactory.class);
         this.httpClient = httpClient;
-        this.accessKeyId = accessKeyId;
-        this.secretAccessKey = secretAccessKey;
+        this.requestSigner = new RequestSigner(accessKeyId, secretAccessKey);
         this.uriPrefix = new URI(uri.toString() + "/openapi/services/rest");
+        this.endpointTemplates = new EnumMap<Endpoint, EndpointTemplate>(Endpoint.class);
+        for (final Endpoint endpoint : Endpoint.values()) {
+            endpointTemplates.put(endpoint, EndpointTemplate.compile(uriPrefix, endpoint.getPathTemplate()));
+        }
+        this.responseReader = new ResponseReader(new UnmarshallerPool(jaxbContext, UnmarshallerPool.DEFAULT_MAX_SIZE));
+        this.requestExecutor = new RequestExecutor(httpClient, requestSigner, responseReader);
     }
 
     /**
-     * Pings the OpenAPI server.
+     * Sets the maximum number of idle JAXB unmarshallers kept for reuse. Should be called before the client is shared
+     * between threads.
      *
-     * @return True when the server pongs back.
+     * @param poolSize The pool size, or 0 to create a new unmarshaller for every response.
+     */
+    public void setUnmarshallerPoolSize(final int poolSize) {
+        responseReader.setUnmarshallerPool(new UnmarshallerPool(jaxbContext, poolSize));
+    }
+
+    /**
+     * Gets the unmarshaller pool, which exposes the pool hit and miss counters.
      *
-     * @throws IOException        When the HTTP execution fails.
-     * @throws URISyntaxException When the URI contains a syntax error.
+     * @return The unmarshaller pool.
      */
-    public boolean ping() throws IOException, URISyntaxException {
-        boolean result = false;
+    public UnmarshallerPool getUnmarshallerPool() {
+        return responseReader.getUnmarshallerPool();
+    }
 
-        // Handle request
-        final URI uri = URIUtils.createURI(uriPrefix.getScheme(), uriPrefix.getHost(), uriPrefix.getPort(), uriPrefix.getPath() + "/utils/v3/ping", null, null);
-        final HttpGet httpGet = new HttpGet(uri);
-        AuthUtils.handleRequest(httpGet, accessKeyId, secretAccessKey);
+    /**
+     * Sets whether responses are unmarshalled straight from the HTTP entity stream instead of being buffered as a
+     * string first. Streaming keeps large result pages from being held in memory twice.
+     *
+     * @param streaming True to stream responses.
+     */
+    public void setStreaming(final boolean streaming) {
+        responseReader.setStreaming(streaming);
+    }
+
+    /**
+     * Sets whether gzip and deflate compressed responses are requested. Compressed responses are decompressed while
+     * they are read, straight into the unmarshaller when streaming. The metrics record the bytes both as received and
+     * after decompression.
+     *
+     * @param compression True to request compressed responses.
+     */
+    public void setCompression(final boolean compression) {
+        responseReader.setCompression(compression);
+    }
+
+    /**
+     * Sets how response XML is bound to the generated classes. {@link Binding#STAX} reads the catalog, basket, session
+     * and error responses with hand-written StAX readers, which avoid the reflection of the JAXB runtime.
+     *
+     * @param binding The binding, {@link Binding#JAXB} by default.
+     */
+    public void setBinding(final Binding binding) {
+        responseReader.setBinding(binding);
+    }
+
+    /**
+     * Sets the string interner that deduplicates repetitive values of catalog responses, such as offer availability,
+     * seller names and category and refinement names. It reduces the retained heap of product collections kept in
+     * memory, for instance in the response cache; its hit rate tells whether it pays off.
+     *
+     * @param stringInterner The string interner, or null to disable deduplication.
+     */
+    public void setStringInterner(final StringInterner stringInterner) {
+        responseReader.setStringInterner(stringInterner);
+    }
+
+    /**
+     * Sets the response limits, which bound the size of responses per endpoint and let buffered reads spill large
+     * bodies to a temporary file. A response beyond its maximum size fails with a
+     * {@link com.bol.openapi.client.exception.ResponseTooLargeException}, which is not retried.
+     *
+     * @param responseLimits The response limits, or null to read bodies of any size into memory.
+     */
+    public void setResponseLimits(final ResponseLimits responseLimits) {
+        responseReader.setResponseLimits(responseLimits);
+    }
+
+    /**
+     * Sets the executor that fetches the chunks of {@link #getProducts(Collection, boolean)} concurrently. Its size
+     * bounds the number of chunks in flight.
+     *
+     * @param productsExecutor The executor, or null for a shared cached pool of daemon threads.
+     */
+    public void setProductsExecutor(final Executor productsExecutor) {
+        this.productsExecutor = productsExecutor;
+    }
+
+    /**
+     * Sets the cache for catalog reads (search, lists, products and recommendations). Basket and session calls are
+     * never cached.
+     *
+     * @param responseCache The response cache, or null to disable caching.
+     */
+    public void setResponseCache(final ResponseCache responseCache) {
+        this.responseCache = responseCache;
+        updateInterceptors();
+    }
+
+    /**
+     * Gets the response cache, which exposes the hit, miss and eviction counters.
+     *
+     * @return The response cache, null when caching is disabled.
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Sets the coalescer that lets concurrent identical catalog reads share one HTTP exchange and one parsed response.
+     *
+     * @param requestCoalescer The request coalescer, or null to execute every call on its own.
+     */
+    public void setRequestCoalescer(final RequestCoalescer requestCoalescer) {
+        this.requestCoalescer = requestCoalescer;
+        updateInterceptors();
+    }
+
+    /**
+     * Adds an interceptor to the request pipeline. Every call of the client passes the interceptors in the order
+     * they were added, after the response cache, request coalescing, retries, hedging and circuit breaking and
+     * before rate limiting.
+     *
+     * @param interceptor The interceptor.
+     */
+    public void addInterceptor(final Interceptor interceptor) {
+        interceptors.add(interceptor);
+        updateInterceptors();
+    }
+
+    /**
+     * Removes an interceptor from the request pipeline.
+     *
+     * @param interceptor The interceptor.
+     *
+     * @return True when the interceptor was registered.
+     */
+    public boolean removeInterceptor(final Interceptor interceptor) {
+        final boolean removed = interceptors.remove(interceptor);
+        updateInterceptors();
+        return removed;
+    }
+
+    /**
+     * Gets the request coalescer, which exposes how many calls were coalesced.
+     *
+     * @return The request coalescer, null when coalescing is disabled.
+     */
+    public RequestCoalescer getRequestCoalescer() {
+        return requestCoalescer;
+    }
+
+    /**
+     * Sets the retry policy for idempotent catalog reads (search, lists, products and recommendations). Every attempt
+     * is signed anew, passes the interceptors and takes its own rate limit permit.
+     *
+     * @param retryPolicy The retry policy, or null to fail on the first error.
+     */
+    public void setRetryPolicy(final RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+        updateInterceptors();
+    }
+
+    /**
+     * Gets the retry policy, which exposes the retry, budget exhausted and deadline exceeded counters.
+     *
+     * @return The retry policy, null when retries are disabled.
+     */
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Sets the hedging policy for idempotent catalog reads. A call that is still running after the hedge delay is
+     * sent again, and the first response wins. Every retry attempt is hedged on its own.
+     *
+     * @param hedgingPolicy The hedging policy, or null to disable hedging.
+     */
+    public void setHedgingPolicy(final HedgingPolicy hedgingPolicy) {
+        this.hedgingPolicy = hedgingPolicy;
+        updateInterceptors();
+    }
+
+    /**
+     * Gets the hedging policy, which exposes the hedge, hedge win and budget exhausted counters.
+     *
+     * @return The hedging policy, null when hedging is disabled.
+     */
+    public HedgingPolicy getHedgingPolicy() {
+        return hedgingPolicy;
+    }
+
+    /**
+     * Sets the circuit breakers, one per endpoint group. Calls of a group whose breaker is open fail fast with a
+     * {@link com.bol.openapi.client.exception.CircuitBreakerOpenException}. Every retry attempt and hedge passes the
+     * breaker on its own.
+     *
+     * @param circuitBreakers The circuit breakers, or null to disable circuit breaking.
+     */
+    public void setCircuitBreakers(final CircuitBreakers circuitBreakers) {
+        this.circuitBreakers = circuitBreakers;
+        updateInterceptors();
+    }
+
+    /**
+     * Gets the circuit breakers, which expose the state and rejected counter per endpoint group.
+     *
+     * @return The circuit breakers, null when circuit breaking is disabled.
+     */
+    public CircuitBreakers getCircuitBreakers() {
+        return circuitBreakers;
+    }
+
+    /**
+     * Sets the rate limiter that keeps the calls of this client's access key within the OpenAPI quota. Calls served
+     * from the response cache or joined by request coalescing do not take a permit.
+     *
+     * @param rateLimiter The rate limiter, or null to disable rate limiting.
+     */
+    public void setRateLimiter(final RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+        updateInterceptors();
+    }
+
+    /**
+     * Gets the rate limiter, which exposes the acquired, delayed, rejected and throttled counters.
+     *
+     * @return The rate limiter, null when rate limiting is disabled.
+     */
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Sets the metrics that record latency histograms per endpoint and phase (signing, executing, reading and
+     * unmarshalling) together with byte, status code and error counters.
+     *
+     * @param metrics The metrics, or null to disable recording.
+     */
+    public void setMetrics(final ClientMetrics metrics) {
+        requestExecutor.setMetrics(metrics);
+    }
+
+    /**
+     * Sets the listener that observes the HTTP exchanges on the wire: every signed request as sent, the response as
+     * received and a copy of the raw body, for instance to capture traffic for debugging.
+     *
+     * @param exchangeListener The exchange listener, or null to disable it.
+     */
+    public void setExchangeListener(final ExchangeListener exchangeListener) {
+        requestExecutor.setExchangeListener(exchangeListener);
+    }
+
+    /**
+     * Gets the metrics, use {@link ClientMetrics#snapshot()} to export them.
+     *
+     * @return The metrics, null when recording is disabled.
+     */
+    public ClientMetrics getMetrics() {
+        return requestExecutor.getMetrics();
+    }
+
+    /**
+     * Gets the Apache HTTP client the calls are executed with.
+     *
+     * @return The HTTP client.
+     */
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
 
-        // Handle response
-        final HttpResponse httpResponse = httpClient.execute(httpGet);
-        if (httpResponse != null) {
-            EntityUtils.consume(httpResponse.getEntity());
+    /**
+     * Gets the statistics of the connection pool, see {@link OpenApiClientBuilder}.
+     *
+     * @return The pool statistics, null when the HTTP client is not a {@link PooledHttpClient}.
+     */
+    public PoolStats getPoolStats() {
+        return httpClient instanceof PooledHttpClient ? ((PooledHttpClient) httpClient).getPoolStats() : null;
+    }
 
-            result = httpResponse.getStatusLine().getStatusCode() == HttpStatus.SC_OK;
+    /**
+     * Shuts down the connection manager of the HTTP client, and stops its idle connection sweeper if any. The client
+     * cannot be used afterwards.
+     */
+    public void shutdown() {
+        if (httpClient instanceof PooledHttpClient) {
+            ((PooledHttpClient) httpClient).shutdown();
+        } else {
+            httpClient.getConnectionManager().shutdown();
         }
+    }
 
-        return result;
+    /**
+     * Pings the OpenAPI server.
+     *
+     * @return True when the server pongs back.
+     *
+     * @throws IOException        When the HTTP execution fails, or an interceptor refuses the request.
+     * @throws URISyntaxException When the URI contains a syntax error.
+     */
+    public boolean ping() throws IOException, URISyntaxException {
+        final EndpointUri endpointUri = expand(Endpoint.PING, null);
+
+        return executeStatusCheck(ApiRequest.statusCheck(Endpoint.PING, HttpGet.METHOD_NAME, endpointUri, null, HttpStatus.SC_OK));
     }
 
     /**
@@ -112,11 +455,434 @@ public class OpenApiClient {
      */
     public SearchResultsResponse search(final SearchResultsRequest searchResultsRequest)
             throws IOException, URISyntaxException, BasicApiException, JAXBException {
+        return executeGet(Endpoint.SEARCH, searchUri(searchResultsRequest), null, SearchResultsResponse.class);
+    }
+
+    /**
+     * Gets the product or category/refinement results list.
+     *
+     * @param listResultRequest The list result request.
+     *
+     * @return The list result response.
+     *
+     * @throws IOException        When the HTTP execution fails.
+     * @throws JAXBException      When parsing the response fails.
+     * @throws URISyntaxException When the URI contains a syntax error.
+     * @throws BasicApiException  When an error response was received.
+     */
+    public ListResultResponse getList(final ListResultRequest listResultRequest)
+            throws IOException, JAXBException, URISyntaxException, BasicApiException {
+        return executeGet(Endpoint.LIST, listUri(listResultRequest), null, ListResultResponse.class);
+    }
+
+    /**
+     * Iterates over all products of a search, fetching further pages as the iteration proceeds. Paging starts at the
+     * offset of the request and stops at the total result size.
+     *
+     * @param searchResultsRequest The search results request. Its offset and number of products are managed by the
+     *                             iterator.
+     * @param pagingOptions        The paging options.
+     *
+     * @return The products. Iterators throw a {@link com.bol.openapi.client.exception.PagingException} when fetching
+     *         a page fails.
+     */
+    public PagedProducts searchProducts(final SearchResultsRequest searchResultsRequest, final PagingOptions pagingOptions) {
         if (searchResultsRequest.getTerm() == null) {
             throw new IllegalArgumentException("Search term is required");
         }
 
-        SearchResultsResponse searchResultsResponse = null;
+        final SearchResultsRequest template = new SearchResultsRequest(searchResultsRequest);
+        return new PagedProducts(new PageFetcher() {
+            public ProductPage fetch(final long offset, final int pageSize) throws Exception {
+                final SearchResultsRequest pageRequest = new SearchResultsRequest(template);
+                pageRequest.setOffset(offset);
+                pageRequest.setNrProducts(pageSize);
+                pageRequest.setIncludeProducts(true);
+
+                final SearchResultsResponse response = search(pageRequest);
+                return new ProductPage(response.getProduct(), response.getTotalResultSize());
+            }
+        }, template.getOffset() != null ? template.getOffset() : 0L, pagingOptions);
+    }
+
+    /**
+     * Iterates over all products of a list, fetching further pages as the iteration proceeds. Paging starts at the
+     * offset of the request and stops at the total result size.
+     *
+     * @param listResultRequest The list result request. Its offset and number of products are managed by the iterator.
+     * @param pagingOptions     The paging options.
+     *
+     * @return The products. Iterators throw a {@link com.bol.openapi.client.exception.PagingException} when fetching
+     *         a page fails.
+     */
+    public PagedProducts getListProducts(final ListResultRequest listResultRequest, final PagingOptions pagingOptions) {
+        if (listResultRequest.getType() == null || listResultRequest.getCategoryId() == null) {
+            throw new IllegalArgumentException("Type and category id are required");
+        }
+
+        final ListResultRequest template = new ListResultRequest(listResultRequest);
+        return new PagedProducts(new PageFetcher() {
+            public ProductPage fetch(final long offset, final int pageSize) throws Exception {
+                final ListResultRequest pageRequest = new ListResultRequest(template);
+                pageRequest.setOffset(offset);
+                pageRequest.setNrProducts(pageSize);
+                pageRequest.setIncludeProducts(true);
+
+                final ListResultResponse response = getList(pageRequest);
+                return new ProductPage(response.getProduct(), response.getTotalResultSize());
+            }
+        }, template.getOffset() != null ? template.getOffset() : 0L, pagingOptions);
+    }
+
+    /**
+     * Gets the product.
+     *
+     * @param id The product id.
+     *
+     * @return The product response.
+     *
+     * @throws IOException        When the HTTP execution fails.
+     * @throws JAXBException      When parsing the response fails.
+     * @throws URISyntaxException When the URI contains a syntax error.
+     * @throws BasicApiException  When an error response was received.
+     */
+    public ProductResponse getProduct(final String id, boolean includeAttributes)
+            throws IOException, JAXBException, URISyntaxException, BasicApiException {
+        return executeGet(Endpoint.PRODUCT, productUri(id, includeAttributes), null, ProductResponse.class);
+    }
+
+    /**
+     * Searches for products, reading only the projected fields of each product. Categories, refinements and all other
+     * product data are skipped while parsing.
+     *
+     * @param searchResultsRequest The search results request.
+     * @param projection           The product fields to read.
+     *
+     * @return The lean products and the total result size.
+     *
+     * @throws IOException        When the HTTP execution fails.
+     * @throws JAXBException      When parsing the response fails.
+     * @throws URISyntaxException When the URI contains a syntax error.
+     * @throws BasicApiException  When an error response was received.
+     */
+    public LeanProducts searchLean(final SearchResultsRequest searchResultsRequest, final ProductProjection projection)
+            throws IOException, JAXBException, URISyntaxException, BasicApiException {
+        return requestExecutor.execute(ApiRequest.readLean(Endpoint.SEARCH, searchUri(searchResultsRequest), null, projection));
+    }
+
+    /**
+     * Gets the product results list, reading only the projected fields of each product.
+     *
+     * @param listResultRequest The list result request.
+     * @param projection        The product fields to read.
+     *
+     * @return The lean products and the total result size.
+     *
+     * @throws IOException        When the HTTP execution fails.
+     * @throws JAXBException      When parsing the response fails.
+     * @throws URISyntaxException When the URI contains a syntax error.
+     * @throws BasicApiException  When an error response was received.
+     */
+    public LeanProducts getListLean(final ListResultRequest listResultRequest, final ProductProjection projection)
+            throws IOException, JAXBException, URISyntaxException, BasicApiException {
+        return requestExecutor.execute(ApiRequest.readLean(Endpoint.LIST, listUri(listResultRequest), null, projection));
+    }
+
+    /**
+     * Gets the product, reading only the projected fields.
+     *
+     * @param id         The product id.
+     * @param projection The product fields to read.
+     *
+     * @return The lean product, null when the response holds no product.
+     *
+     * @throws IOException        When the HTTP execution fails.
+     * @throws JAXBException      When parsing the response fails.
+     * @throws URISyntaxException When the URI contains a syntax error.
+     * @throws BasicApiException  When an error response was received.
+     */
+    public LeanProduct getProductLean(final String id, final ProductProjection projection)
+            throws IOException, JAXBException, URISyntaxException, BasicApiException {
+        final LeanProducts products = requestExecutor.execute(ApiRequest.readLean(Endpoint.PRODUCT, productUri(id, false), null, projection));
+        return products == null || products.getProducts().isEmpty() ? null : products.getProducts().get(0);
+    }
+
+    /**
+     * Gets multiple products. The ids are split into chunks of at most {@link #MAX_PRODUCTS_PER_REQUEST}, each
+     * fetched with a single request. A single chunk is fetched on the calling thread, several chunks are fetched
+     * concurrently on the products executor; the first chunk failure cancels the other chunks.
+     *
+     * @param ids               The product ids, numeric.
+     * @param includeAttributes Whether to include the product attributes.
+     *
+     * @return The products in requested order, together with the ids that were not found.
+     *
+     * @throws IOException        When the HTTP execution fails.
+     * @throws JAXBException      When parsing the response fails.
+     * @throws URISyntaxException When the URI contains a syntax error.
+     * @throws BasicApiException  When an error response was received.
+     */
+    public ProductsResult getProducts(final Collection<String> ids, final boolean includeAttributes)
+            throws IOException, JAXBException, URISyntaxException, BasicApiException {
+        final List<Long> uniqueIds = uniqueProductIds(ids);
+        if (uniqueIds.isEmpty()) {
+            return new ProductsResult(uniqueIds, Collections.<Product>emptyList());
+        }
+        if (uniqueIds.size() <= MAX_PRODUCTS_PER_REQUEST) {
+            return new ProductsResult(uniqueIds, getProductsChunk(uniqueIds, includeAttributes));
+        }
+
+        final Executor executor = productsExecutor;
+        final Future<ProductsResult> future = getProducts(uniqueIds, includeAttributes, executor != null ? executor : DefaultProductsExecutor.INSTANCE, null);
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the products");
+        } catch (final ExecutionException e) {
+            final Throwable failure = e.getCause();
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            }
+            if (failure instanceof JAXBException) {
+                throw (JAXBException) failure;
+            }
+            if (failure instanceof URISyntaxException) {
+                throw (URISyntaxException) failure;
+            }
+            if (failure instanceof BasicApiException) {
+                throw (BasicApiException) failure;
+            }
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            throw (RuntimeException) failure;
+        }
+    }
+
+    /**
+     * Gets multiple products by fetching their chunks concurrently. The first chunk failure fails the result and
+     * cancels the other chunks; cancelling the result cancels the chunks as well.
+     *
+     * @param uniqueIds         The unique product ids.
+     * @param includeAttributes Whether to include the product attributes.
+     * @param executor          The executor to fetch the chunks on.
+     * @param callback          The callback, may be null.
+     *
+     * @return The future products result.
+     */
+    Future<ProductsResult> getProducts(final List<Long> uniqueIds, final boolean includeAttributes, final Executor executor,
+            final ResponseCallback<ProductsResult> callback) {
+        final List<Future<List<Product>>> chunkFutures = new CopyOnWriteArrayList<Future<List<Product>>>();
+        final ResultFuture<ProductsResult> result = new ResultFuture<ProductsResult>(callback) {
+            @Override
+            protected void done() {
+                // Completed, failed or cancelled: the chunks still running are no longer needed
+                cancelChunks(chunkFutures);
+                super.done();
+            }
+        };
+        final List<List<Long>> chunks = partitionProductIds(uniqueIds);
+        if (chunks.isEmpty()) {
+            result.complete(new ProductsResult(uniqueIds, Collections.<Product>emptyList()));
+            return result;
+        }
+
+        final List<Product> products = Collections.synchronizedList(new ArrayList<Product>(uniqueIds.size()));
+        final AtomicInteger pending = new AtomicInteger(chunks.size());
+        final ResponseCallback<List<Product>> chunkCallback = new ResponseCallback<List<Product>>() {
+            public void completed(final List<Product> response) {
+                products.addAll(response);
+                if (pending.decrementAndGet() == 0) {
+                    result.complete(new ProductsResult(uniqueIds, products));
+                }
+            }
+
+            public void failed(final Throwable cause) {
+                result.fail(cause);
+            }
+
+            public void cancelled() {
+                result.cancel(false);
+            }
+        };
+
+        for (final List<Long> chunk : chunks) {
+            final CallbackFuture<List<Product>> chunkFuture = new CallbackFuture<List<Product>>(new Callable<List<Product>>() {
+                public List<Product> call() throws Exception {
+                    return getProductsChunk(chunk, includeAttributes);
+                }
+            }, chunkCallback);
+            chunkFutures.add(chunkFuture);
+            try {
+                executor.execute(chunkFuture);
+            } catch (final RejectedExecutionException e) {
+                result.fail(e);
+            }
+        }
+        if (result.isDone()) {
+            // Done while chunks were being submitted, cancel the ones added since
+            cancelChunks(chunkFutures);
+        }
+
+        return result;
+    }
+
+    /**
+     * Cancels the chunk futures that are not done yet.
+     *
+     * @param chunkFutures The chunk futures.
+     */
+    private static void cancelChunks(final List<Future<List<Product>>> chunkFutures) {
+        for (final Future<List<Product>> chunkFuture : chunkFutures) {
+            chunkFuture.cancel(true);
+        }
+    }
+
+    /**
+     * Gets the products for a single chunk of at most {@link #MAX_PRODUCTS_PER_REQUEST} ids.
+     *
+     * @param ids               The product ids.
+     * @param includeAttributes Whether to include the product attributes.
+     *
+     * @return The products that were returned.
+     */
+    List<Product> getProductsChunk(final List<Long> ids, final boolean includeAttributes)
+            throws IOException, JAXBException, URISyntaxException, BasicApiException {
+        final List<NameValuePair> queryParameters = new ArrayList<NameValuePair>();
+        queryParameters.add(new BasicNameValuePair("includeAttributes", String.valueOf(includeAttributes)));
+
+        // Handle request
+        final EndpointUri endpointUri = expand(Endpoint.PRODUCTS, queryParameters, ids);
+
+        // Handle response, a single id may be answered with a plain product response
+        final Object response = executeGet(Endpoint.PRODUCTS, endpointUri, null, Object.class);
+        if (response instanceof ProductsResponse) {
+            return ((ProductsResponse) response).getProduct();
+        }
+        if (response instanceof ProductResponse && ((ProductResponse) response).getProduct() != null) {
+            return Collections.singletonList(((ProductResponse) response).getProduct());
+        }
+
+        return Collections.emptyList();
+    }
+
+    /**
+     * Parses the product ids and removes duplicates, keeping the first occurrence. Ids are compared by value, so "123"
+     * and "0123" are the same product.
+     *
+     * @param ids The product ids.
+     *
+     * @return The unique ids in their original order.
+     *
+     * @throws IllegalArgumentException When the ids are missing or an id is not numeric.
+     */
+    static List<Long> uniqueProductIds(final Collection<String> ids) {
+        if (ids == null || ids.contains(null)) {
+            throw new IllegalArgumentException("Product ids are required");
+        }
+
+        final Set<Long> uniqueIds = new LinkedHashSet<Long>();
+        for (final String id : ids) {
+            try {
+                uniqueIds.add(Long.valueOf(id.trim()));
+            } catch (final NumberFormatException e) {
+                throw new IllegalArgumentException("Product id is not numeric: " + id);
+            }
+        }
+        return new ArrayList<Long>(uniqueIds);
+    }
+
+    /**
+     * Splits the product ids into chunks the server accepts in one request.
+     *
+     * @param ids The product ids.
+     *
+     * @return The chunks.
+     */
+    static List<List<Long>> partitionProductIds(final List<Long> ids) {
+        final List<List<Long>> chunks = new ArrayList<List<Long>>();
+        for (int i = 0; i < ids.size(); i += MAX_PRODUCTS_PER_REQUEST) {
+            chunks.add(ids.subList(i, Math.min(i + MAX_PRODUCTS_PER_REQUEST, ids.size())));
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Executes a GET request that reads the response through the request pipeline.
+     *
+     * @param endpoint     The endpoint.
+     * @param endpointUri  The expanded endpoint URI.
+     * @param sessionId    The session id, may be null.
+     * @param responseType The expected type of a successful response.
+     *
+     * @return The response, null when no HTTP response was received.
+     */
+    private <T> T executeGet(final Endpoint endpoint, final EndpointUri endpointUri, final String sessionId, final Class<T> responseType)
+            throws IOException, JAXBException, BasicApiException {
+        return requestExecutor.execute(ApiRequest.read(endpoint, endpointUri, sessionId, responseType));
+    }
+
+    /**
+     * Executes a status check through the request pipeline. These calls only declare I/O failures, so exceptions
+     * raised by interceptors are reported as such.
+     *
+     * @param request The request.
+     *
+     * @return True when the response has the expected status.
+     */
+    private boolean executeStatusCheck(final ApiRequest<Boolean> request) throws IOException {
+        try {
+            return Boolean.TRUE.equals(requestExecutor.execute(request));
+        } catch (final BasicApiException e) {
+            throw new IOException(request + " failed with status " + e.getStatus() + ": " + e.getMessage(), e);
+        } catch (final JAXBException e) {
+            throw new IOException(request + " failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Rebuilds the interceptor chain: the cache first, then coalescing, retries, hedging and circuit breaking, then
+     * the added interceptors in order and rate limiting last, right before the exchange.
+     */
+    private synchronized void updateInterceptors() {
+        final List<Interceptor> chain = new ArrayList<Interceptor>(interceptors.size() + 6);
+        if (responseCache != null) {
+            chain.add(new CacheInterceptor(responseCache));
+        }
+        if (requestCoalescer != null) {
+            chain.add(new CoalescingInterceptor(requestCoalescer));
+        }
+        if (retryPolicy != null) {
+            chain.add(new RetryInterceptor(retryPolicy));
+        }
+        if (hedgingPolicy != null) {
+            chain.add(new HedgingInterceptor(hedgingPolicy));
+        }
+        if (circuitBreakers != null) {
+            chain.add(new CircuitBreakerInterceptor(circuitBreakers));
+        }
+        chain.addAll(interceptors);
+        if (rateLimiter != null) {
+            chain.add(new RateLimitInterceptor(rateLimiter, requestSigner.getAccessKeyId()));
+        }
+
+        requestExecutor.setInterceptors(chain);
+    }
+
+    /**
+     * Expands the search endpoint for the request.
+     *
+     * @param searchResultsRequest The search results request.
+     *
+     * @return The endpoint URI.
+     */
+    private EndpointUri searchUri(final SearchResultsRequest searchResultsRequest) throws URISyntaxException {
+        if (searchResultsRequest.getTerm() == null) {
+            throw new IllegalArgumentException("Search term is required");
+        }
 
         // Prepare request
         final List<NameValuePair> queryParameters = new ArrayList<NameValuePair>();
@@ -155,53 +921,21 @@ public class OpenApiClient {
             queryParameters.add(new BasicNameValuePair("listId", searchResultsRequest.getListId()));
         }
 
-
-        // Handle request
-        final URI uri = URIUtils.createURI(uriPrefix.getScheme(), uriPrefix.getHost(), uriPrefix.getPort(), uriPrefix.getPath() + "/catalog/v3/searchresults/", URLEncodedUtils.format(queryParameters, "UTF-8"), null);
-        final HttpGet httpGet = new HttpGet(uri);
-        AuthUtils.handleRequest(httpGet, accessKeyId, secretAccessKey, null, queryParameters);
-
-        // Handle response
-        final HttpResponse httpResponse = httpClient.execute(httpGet);
-        if (httpResponse != null) {
-            final String entity = EntityUtils.toString(httpResponse.getEntity(), "UTF-8");
-            final StringReader entityStream = new StringReader(entity);
-
-            try {
-                final Object object = jaxbContext.createUnmarshaller().unmarshal(entityStream);
-                if (httpResponse.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
-                    searchResultsResponse = (SearchResultsResponse) object;
-                } else {
-                    throw ExceptionHandler.handleBasicApiException((com.bol.openapi.openapi_3_0.Error) object);
-                }
-            } finally {
-                entityStream.close();
-            }
-        }
-
-        return searchResultsResponse;
+        return expand(Endpoint.SEARCH, queryParameters);
     }
 
     /**
-     * Gets the product or category/refinement results list.
+     * Expands the list endpoint for the request.
      *
      * @param listResultRequest The list result request.
      *
-     * @return The list result response.
-     *
-     * @throws IOException        When the HTTP execution fails.
-     * @throws JAXBException      When parsing the response fails.
-     * @throws URISyntaxException When the URI contains a syntax error.
-     * @throws BasicApiException  When an error response was received.
+     * @return The endpoint URI.
      */
-    public ListResultResponse getList(final ListResultRequest listResultRequest)
-            throws IOException, JAXBException, URISyntaxException, BasicApiException {
+    private EndpointUri listUri(final ListResultRequest listResultRequest) throws URISyntaxException {
         if (listResultRequest.getType() == null || listResultRequest.getCategoryId() == null) {
             throw new IllegalArgumentException("Type and category id are required");
         }
 
-        ListResultResponse listResultResponse = null;
-
         final String combinedCategoryIdAndRefinementIds = combineCategoryAndRefinementIds(listResultRequest.getCategoryId(), listResultRequest.getRefinementIds());
 
         // Prepare request
@@ -236,77 +970,41 @@ public class OpenApiClient {
             queryParameters.add(new BasicNameValuePair("listId", listResultRequest.getListId()));
         }
 
-        // Handle request
-        final URI uri = URIUtils.createURI(uriPrefix.getScheme(), uriPrefix.getHost(), uriPrefix.getPort(), uriPrefix.getPath() + "/catalog/v3/listresults/" + listResultRequest.getType().value() + "/" + URLEncoder.encode(combinedCategoryIdAndRefinementIds, "UTF-8"), URLEncodedUtils.format(queryParameters, "UTF-8"), null);
-        final HttpGet httpGet = new HttpGet(uri);
-        AuthUtils.handleRequest(httpGet, accessKeyId, secretAccessKey, null, queryParameters);
-
-        // Handle response
-        final HttpResponse httpResponse = httpClient.execute(httpGet);
-        if (httpResponse != null) {
-            final String entity = EntityUtils.toString(httpResponse.getEntity(), "UTF-8");
-            final StringReader entityStream = new StringReader(entity);
-
-            try {
-                final Object object = jaxbContext.createUnmarshaller().unmarshal(entityStream);
-                if (httpResponse.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
-                    listResultResponse = (ListResultResponse) object;
-                } else {
-                    throw ExceptionHandler.handleBasicApiException((com.bol.openapi.openapi_3_0.Error) object);
-                }
-            } finally {
-                entityStream.close();
-            }
-        }
-
-        return listResultResponse;
+        return expand(Endpoint.LIST, queryParameters, listResultRequest.getType().value(), combinedCategoryIdAndRefinementIds);
     }
 
     /**
-     * Gets the product.
-     *
-     * @param id The product id.
+     * Expands the product endpoint for the product.
      *
-     * @return The product response.
+     * @param id                The product id.
+     * @param includeAttributes Whether to include the product attributes.
      *
-     * @throws IOException        When the HTTP execution fails.
-     * @throws JAXBException      When parsing the response fails.
-     * @throws URISyntaxException When the URI contains a syntax error.
-     * @throws BasicApiException  When an error response was received.
+     * @return The endpoint URI.
      */
-    public ProductResponse getProduct(final String id, boolean includeAttributes)
-            throws IOException, JAXBException, URISyntaxException, BasicApiException {
+    private EndpointUri productUri(final String id, final boolean includeAttributes) throws URISyntaxException {
         if (id == null) {
             throw new IllegalArgumentException("Product id is required");
         }
 
-        ProductResponse productResponse = null;
         final List<NameValuePair> queryParameters = new ArrayList<NameValuePair>();
         queryParameters.add(new BasicNameValuePair("includeCategories", ""+includeAttributes));
-        // Handle request
-        final URI uri = URIUtils.createURI(uriPrefix.getScheme(), uriPrefix.getHost(), uriPrefix.getPort(), uriPrefix.getPath() + "/catalog/v3/products/" + id, URLEncodedUtils.format(queryParameters, "UTF-8"), null);
-        final HttpGet httpGet = new HttpGet(uri);
-        AuthUtils.handleRequest(httpGet, accessKeyId, secretAccessKey, null, queryParameters);
-
-        // Handle response
-        final HttpResponse httpResponse = httpClient.execute(httpGet);
-        if (httpResponse != null) {
-            final String entity = EntityUtils.toString(httpResponse.getEntity(), "UTF-8");
-            final StringReader entityStream = new StringReader(entity);
 
-            try {
-                final Object object = jaxbContext.createUnmarshaller().unmarshal(entityStream);
-                if (httpResponse.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
-                    productResponse = (ProductResponse) object;
-                } else {
-                    throw ExceptionHandler.handleBasicApiException((com.bol.openapi.openapi_3_0.Error) object);
-                }
-            } finally {
-                entityStream.close();
-            }
-        }
+        return expand(Endpoint.PRODUCT, queryParameters, id);
+    }
 
-        return productResponse;
+    /**
+     * Expands the precompiled template of the endpoint.
+     *
+     * @param endpoint        The endpoint.
+     * @param queryParameters The query parameters, may be null.
+     * @param pathVariables   The values of the path variables.
+     *
+     * @return The endpoint URI.
+     *
+     * @throws URISyntaxException When the URI contains a syntax error.
+     */
+    private EndpointUri expand(final Endpoint endpoint, final List<NameValuePair> queryParameters, final Object... pathVariables) throws URISyntaxException {
+        return endpointTemplates.get(endpoint).expand(queryParameters, pathVariables);
     }
 
     /**
@@ -355,8 +1053,6 @@ public class OpenApiClient {
             throw new IllegalArgumentException("Product id is required");
         }
 
-        ProductRecommendationsResponse productRecommendationsResponse = null;
-        
         final List<NameValuePair> queryParameters = new ArrayList<NameValuePair>();
 
         // Populate parameters
@@ -377,30 +1073,9 @@ public class OpenApiClient {
         }
 
         // Handle request
-        final URI uri = URIUtils.createURI(uriPrefix.getScheme(), uriPrefix.getHost(), uriPrefix.getPort(), uriPrefix.getPath() + "/catalog/v3/recommendations/" + request.getProductId(), URLEncodedUtils.format(queryParameters, "UTF-8"), null);
-        final HttpGet httpGet = new HttpGet(uri);
-        AuthUtils.handleRequest(httpGet, accessKeyId, secretAccessKey, null, queryParameters);
-
-        // Handle response
-        final HttpResponse httpResponse = httpClient.execute(httpGet);
-        if (httpResponse != null) {
-            final String entity = EntityUtils.toString(httpResponse.getEntity(), "UTF-8");
-            System.out.println(entity);
-            final StringReader entityStream = new StringReader(entity);
+        final EndpointUri endpointUri = expand(Endpoint.RECOMMENDATIONS, queryParameters, request.getProductId());
 
-            try {
-                final Object object = jaxbContext.createUnmarshaller().unmarshal(entityStream);
-                if (httpResponse.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
-                    productRecommendationsResponse = (ProductRecommendationsResponse) object;
-                } else {
-                    throw ExceptionHandler.handleBasicApiException((com.bol.openapi.openapi_3_0.Error) object);
-                }
-            } finally {
-                entityStream.close();
-            }
-        }
-
-        return productRecommendationsResponse;
+        return executeGet(Endpoint.RECOMMENDATIONS, endpointUri, null, ProductRecommendationsResponse.class);
     }
     
     /**
@@ -413,32 +1088,9 @@ public class OpenApiClient {
      * @throws IOException
      */
     public SessionResponse getAnonymousSession() throws URISyntaxException, JAXBException, BasicApiException, ParseException, IOException{
-        SessionResponse response = null;
-        String path = "/auth/v3/session";
-        final URI uri = URIUtils.createURI(uriPrefix.getScheme(), uriPrefix.getHost(), uriPrefix.getPort(), uriPrefix.getPath() + path, null, null);
-        final HttpGet httpGet = new HttpGet(uri);
-        AuthUtils.handleRequest(httpGet, accessKeyId, secretAccessKey);
-
-        // Handle response
-        final HttpResponse httpResponse = httpClient.execute(httpGet);
-        if (httpResponse != null) {
-            final String entity = EntityUtils.toString(httpResponse.getEntity(), "UTF-8");
-            System.out.println(entity);
-            final StringReader entityStream = new StringReader(entity);
-
-            try {
-                final Object object = jaxbContext.createUnmarshaller().unmarshal(entityStream);
-                if (httpResponse.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
-                    response = (SessionResponse) object;
-                } else {
-                    throw ExceptionHandler.handleBasicApiException((com.bol.openapi.openapi_3_0.Error) object);
-                }
-            } finally {
-                entityStream.close();
-            }
-        }
+        final EndpointUri endpointUri = expand(Endpoint.SESSION, null);
 
-        return response;
+        return executeGet(Endpoint.SESSION, endpointUri, null, SessionResponse.class);
     }
     
     /**
@@ -451,36 +1103,12 @@ public class OpenApiClient {
      * @throws IOException
      */
     public BasketResponse getBasket(String sessionId) throws URISyntaxException, JAXBException, BasicApiException, ParseException, IOException {
-        if(org.apache.commons.lang3.StringUtils.isEmpty(sessionId)){
+        if(StringUtils.isEmpty(sessionId)){
             throw new IllegalArgumentException("session id is required");
         }
-        BasketResponse response = null;
-        String path = "/checkout/v3/baskets";
-
-        final URI uri = URIUtils.createURI(uriPrefix.getScheme(), uriPrefix.getHost(), uriPrefix.getPort(), uriPrefix.getPath() + path, null, null);
-        final HttpGet httpGet = new HttpGet(uri);
-        AuthUtils.handleRequest(httpGet, accessKeyId, secretAccessKey, sessionId);
-
-        // Handle response
-        final HttpResponse httpResponse = httpClient.execute(httpGet);
-        if (httpResponse != null) {
-            final String entity = EntityUtils.toString(httpResponse.getEntity(), "UTF-8");
-            System.out.println(entity);
-            final StringReader entityStream = new StringReader(entity);
-
-            try {
-                final Object object = jaxbContext.createUnmarshaller().unmarshal(entityStream);
-                if (httpResponse.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
-                    response = (BasketResponse) object;
-                } else {
-                    throw ExceptionHandler.handleBasicApiException((com.bol.openapi.openapi_3_0.Error) object);
-                }
-            } finally {
-                entityStream.close();
-            }
-        }
+        final EndpointUri endpointUri = expand(Endpoint.BASKET, null);
 
-        return response;
+        return executeGet(Endpoint.BASKET, endpointUri, sessionId, BasketResponse.class);
     }
     
     /**
@@ -495,27 +1123,9 @@ public class OpenApiClient {
      * @throws IOException
      */
     public boolean addItemToBasket(String sessionId, long offerId, int quantity, String ipAddress) throws URISyntaxException, ClientProtocolException, IOException{
-        HttpResponse httpResponse = null;
-        try {
-            String path = String.format("/checkout/v3/baskets/%S/%s/%s", offerId, quantity, ipAddress);
-
-            final URI uri = URIUtils.createURI(uriPrefix.getScheme(), uriPrefix.getHost(), uriPrefix.getPort(), uriPrefix.getPath() + path, null, null);
-            final HttpPost http = new HttpPost(uri);
-            AuthUtils.handleRequest(http, accessKeyId, secretAccessKey, sessionId);
-            httpResponse = httpClient.execute(http);
-            return httpResponse != null ? httpResponse.getStatusLine().getStatusCode() == HttpStatus.SC_CREATED : false;
-        } finally {
-            if (httpResponse != null && httpResponse.getEntity() != null) {
-                try {
-                    // LOG.info("CONSUMING");
-                    EntityUtils.consume(httpResponse.getEntity());
-
-                } catch (Exception e) {
-                    e.printStackTrace(System.err);
-                }
-            }
+        final EndpointUri endpointUri = expand(Endpoint.ADD_TO_BASKET, null, offerId, quantity, ipAddress);
 
-        }
+        return executeStatusCheck(ApiRequest.statusCheck(Endpoint.ADD_TO_BASKET, HttpPost.METHOD_NAME, endpointUri, sessionId, HttpStatus.SC_CREATED));
     }
     
     /**
@@ -529,27 +1139,9 @@ public class OpenApiClient {
      * @throws IOException
      */
     public boolean changeBasketItemQuantity(String sessionId, String basketItemId, int quantity) throws URISyntaxException, ClientProtocolException, IOException {
-        HttpResponse httpResponse = null;
-        try {
+        final EndpointUri endpointUri = expand(Endpoint.CHANGE_BASKET_ITEM, null, basketItemId, quantity);
 
-            String path = String.format("/checkout/v3/baskets/%s/%s", basketItemId, quantity);
-
-            final URI uri = URIUtils.createURI(uriPrefix.getScheme(), uriPrefix.getHost(), uriPrefix.getPort(), uriPrefix.getPath() + path, null, null);
-            final HttpPut http = new HttpPut(uri);
-            AuthUtils.handleRequest(http, accessKeyId, secretAccessKey, sessionId);
-            httpResponse = httpClient.execute(http);
-            return httpResponse != null ? httpResponse.getStatusLine().getStatusCode() == HttpStatus.SC_OK : false;
-        } finally {
-            if (httpResponse != null && httpResponse.getEntity() != null) {
-                try {
-                    // LOG.info("CONSUMING");
-                    EntityUtils.consume(httpResponse.getEntity());
-
-                } catch (Exception e) {
-                    e.printStackTrace(System.err);
-                }
-            }
-        }
+        return executeStatusCheck(ApiRequest.statusCheck(Endpoint.CHANGE_BASKET_ITEM, HttpPut.METHOD_NAME, endpointUri, sessionId, HttpStatus.SC_OK));
     }
     
     /**
@@ -562,27 +1154,24 @@ public class OpenApiClient {
      * @throws IOException
      */
     public boolean removeBasketItemFromBasket(String sessionId, String basketItemId) throws URISyntaxException, ClientProtocolException, IOException {
-        HttpResponse httpResponse = null;
-        try {
+        final EndpointUri endpointUri = expand(Endpoint.REMOVE_FROM_BASKET, null, basketItemId);
 
-            String path = String.format("/checkout/v3/baskets/%s", basketItemId);
-
-            final URI uri = URIUtils.createURI(uriPrefix.getScheme(), uriPrefix.getHost(), uriPrefix.getPort(), uriPrefix.getPath() + path, null, null);
-            final HttpDelete http = new HttpDelete(uri);
-            AuthUtils.handleRequest(http, accessKeyId, secretAccessKey, sessionId);
-            httpResponse = httpClient.execute(http);
-            return httpResponse != null ? httpResponse.getStatusLine().getStatusCode() == HttpStatus.SC_OK : false;
-        } finally {
-            if (httpResponse != null && httpResponse.getEntity() != null) {
-                try {
-                    // LOG.info("CONSUMING");
-                    EntityUtils.consume(httpResponse.getEntity());
-
-                } catch (Exception e) {
-                    e.printStackTrace(System.err);
-                }
-            }
-        }
+        return executeStatusCheck(ApiRequest.statusCheck(Endpoint.REMOVE_FROM_BASKET, HttpDelete.METHOD_NAME, endpointUri, sessionId, HttpStatus.SC_OK));
     }
 
+    /**
+     * Holds the executor for product chunks when none was set, created on first use.
+     */
+    private static final class DefaultProductsExecutor {
+
+        static final ExecutorService INSTANCE = Executors.newCachedThreadPool(new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            public Thread newThread(final Runnable runnable) {
+                final Thread thread = new Thread(runnable, "openapi-products-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
 }
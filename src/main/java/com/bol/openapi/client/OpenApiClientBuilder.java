@@ -0,0 +1,216 @@
+package com.bol.openapi.client;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBException;
+
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+
+import com.bol.openapi.client.http.IdleConnectionSweeper;
+import com.bol.openapi.client.http.PooledConnectionManager;
+import com.bol.openapi.client.http.PooledHttpClient;
+
+/**
+ * Builds an {@link OpenApiClient} backed by a {@link PooledHttpClient}. Unlike a plain {@link DefaultHttpClient}, which
+ * allows only 2 connections per route and keeps idle connections forever, the pool is sized for concurrent use of
+ * the single OpenAPI host, honors keep-alive and is swept for idle and expired connections in the background. Call
+ * {@link OpenApiClient#shutdown()} to release the connections and stop the sweeper.
+ */
+public class OpenApiClientBuilder {
+
+    /**
+     * The pool-lease timeout parameter, read by the request director of HttpClient 4.1 and later.
+     */
+    private static final String CONN_MANAGER_TIMEOUT = "http.conn-manager.timeout";
+
+    private final URI uri;
+    private final String accessKeyId;
+    private final String secretAccessKey;
+    private int maxTotal = 20;
+    private int maxPerRoute = 20;
+    private long connectTimeoutMillis = TimeUnit.SECONDS.toMillis(5);
+    private long socketTimeoutMillis = TimeUnit.SECONDS.toMillis(30);
+    private long leaseTimeoutMillis = TimeUnit.SECONDS.toMillis(5);
+    private long keepAliveMillis = TimeUnit.SECONDS.toMillis(30);
+    private long timeToLiveMillis = -1;
+    private long idleTimeoutMillis = TimeUnit.SECONDS.toMillis(30);
+    private long sweepIntervalMillis = TimeUnit.SECONDS.toMillis(5);
+
+    /**
+     * Constructs the builder.
+     *
+     * @param uri             The URI to connect to.
+     * @param accessKeyId     The access key id.
+     * @param secretAccessKey The secret access key.
+     */
+    public OpenApiClientBuilder(final URI uri, final String accessKeyId, final String secretAccessKey) {
+        this.uri = uri;
+        this.accessKeyId = accessKeyId;
+        this.secretAccessKey = secretAccessKey;
+    }
+
+    /**
+     * Sets the maximum total number of connections, 20 by default.
+     *
+     * @param maxTotal The maximum total number of connections.
+     *
+     * @return This builder.
+     */
+    public OpenApiClientBuilder setMaxTotal(final int maxTotal) {
+        if (maxTotal < 1) {
+            throw new IllegalArgumentException("Maximum total connections must be positive");
+        }
+        this.maxTotal = maxTotal;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of connections per route, 20 by default.
+     *
+     * @param maxPerRoute The maximum number of connections per route.
+     *
+     * @return This builder.
+     */
+    public OpenApiClientBuilder setMaxPerRoute(final int maxPerRoute) {
+        if (maxPerRoute < 1) {
+            throw new IllegalArgumentException("Maximum connections per route must be positive");
+        }
+        this.maxPerRoute = maxPerRoute;
+        return this;
+    }
+
+    /**
+     * Sets the timeout for establishing a connection, 5 seconds by default.
+     *
+     * @param timeout The timeout, or 0 to wait indefinitely.
+     * @param unit    The time unit of the timeout.
+     *
+     * @return This builder.
+     */
+    public OpenApiClientBuilder setConnectTimeout(final long timeout, final TimeUnit unit) {
+        this.connectTimeoutMillis = unit.toMillis(timeout);
+        return this;
+    }
+
+    /**
+     * Sets the maximum period of inactivity while waiting for response data, 30 seconds by default.
+     *
+     * @param timeout The timeout, or 0 to wait indefinitely.
+     * @param unit    The time unit of the timeout.
+     *
+     * @return This builder.
+     */
+    public OpenApiClientBuilder setSocketTimeout(final long timeout, final TimeUnit unit) {
+        this.socketTimeoutMillis = unit.toMillis(timeout);
+        return this;
+    }
+
+    /**
+     * Sets the timeout for leasing a connection from the pool, 5 seconds by default. A call that cannot get a connection
+     * in time fails with a {@link ConnectionPoolTimeoutException}.
+     *
+     * @param timeout The timeout, or 0 to wait indefinitely.
+     * @param unit    The time unit of the timeout.
+     *
+     * @return This builder.
+     */
+    public OpenApiClientBuilder setLeaseTimeout(final long timeout, final TimeUnit unit) {
+        this.leaseTimeoutMillis = unit.toMillis(timeout);
+        return this;
+    }
+
+    /**
+     * Sets the maximum time to keep an idle connection alive, 30 seconds by default. A shorter duration announced by the
+     * server's Keep-Alive header takes precedence.
+     *
+     * @param keepAlive The keep-alive duration.
+     * @param unit      The time unit of the keep-alive duration.
+     *
+     * @return This builder.
+     */
+    public OpenApiClientBuilder setKeepAlive(final long keepAlive, final TimeUnit unit) {
+        this.keepAliveMillis = unit.toMillis(keepAlive);
+        return this;
+    }
+
+    /**
+     * Sets the maximum lifetime of a pooled connection, unlimited by default.
+     *
+     * @param timeToLive The time to live, or -1 for no limit.
+     * @param unit       The time unit of the time to live.
+     *
+     * @return This builder.
+     */
+    public OpenApiClientBuilder setTimeToLive(final long timeToLive, final TimeUnit unit) {
+        this.timeToLiveMillis = timeToLive < 0 ? -1 : unit.toMillis(timeToLive);
+        return this;
+    }
+
+    /**
+     * Sets how the idle connection sweeper runs. By default connections idle for 30 seconds are closed every 5 seconds.
+     *
+     * @param idleTimeout The time after which idle connections are closed.
+     * @param interval    The time between sweeps, or 0 to disable the sweeper.
+     * @param unit        The time unit of the idle timeout and interval.
+     *
+     * @return This builder.
+     */
+    public OpenApiClientBuilder setIdleConnectionSweep(final long idleTimeout, final long interval, final TimeUnit unit) {
+        this.idleTimeoutMillis = unit.toMillis(idleTimeout);
+        this.sweepIntervalMillis = unit.toMillis(interval);
+        return this;
+    }
+
+    /**
+     * Builds the pooled HTTP client. Every call creates a new pool.
+     *
+     * @return The pooled HTTP client.
+     */
+    public PooledHttpClient buildHttpClient() {
+        final PooledConnectionManager connectionManager = new PooledConnectionManager(SchemeRegistryFactory.createDefault(), timeToLiveMillis,
+                TimeUnit.MILLISECONDS);
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+
+        final HttpParams params = new BasicHttpParams();
+        DefaultHttpClient.setDefaultHttpParams(params);
+        HttpConnectionParams.setConnectionTimeout(params, (int) connectTimeoutMillis);
+        HttpConnectionParams.setSoTimeout(params, (int) socketTimeoutMillis);
+        params.setLongParameter(CONN_MANAGER_TIMEOUT, leaseTimeoutMillis);
+
+        IdleConnectionSweeper sweeper = null;
+        if (sweepIntervalMillis > 0) {
+            sweeper = new IdleConnectionSweeper(connectionManager, idleTimeoutMillis, sweepIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+
+        return new PooledHttpClient(connectionManager, params, keepAliveMillis, sweeper);
+    }
+
+    /**
+     * Builds the OpenAPI client on a new pooled HTTP client.
+     *
+     * @return The OpenAPI client.
+     *
+     * @throws JAXBException      When a new JAXB context cannot be instantiated.
+     * @throws URISyntaxException When the URI contains a syntax error.
+     */
+    public OpenApiClient build() throws JAXBException, URISyntaxException {
+        final PooledHttpClient httpClient = buildHttpClient();
+        try {
+            return new OpenApiClient(httpClient, uri, accessKeyId, secretAccessKey);
+        } catch (final JAXBException e) {
+            httpClient.shutdown();
+            throw e;
+        } catch (final URISyntaxException e) {
+            httpClient.shutdown();
+            throw e;
+        }
+    }
+}
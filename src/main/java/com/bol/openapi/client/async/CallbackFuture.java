@@ -0,0 +1,52 @@
+package com.bol.openapi.client.async;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Future task that notifies an optional {@link ResponseCallback} once it is done.
+ *
+ * @param <T> The response type.
+ */
+public class CallbackFuture<T> extends FutureTask<T> {
+
+    private final ResponseCallback<T> callback;
+
+    /**
+     * Constructs the callback future.
+     *
+     * @param callable The call to run.
+     * @param callback The callback to notify, may be null.
+     */
+    public CallbackFuture(final Callable<T> callable, final ResponseCallback<T> callback) {
+        super(callable);
+        this.callback = callback;
+    }
+
+    @Override
+    protected void done() {
+        if (callback == null) {
+            return;
+        }
+
+        if (isCancelled()) {
+            callback.cancelled();
+            return;
+        }
+
+        final T response;
+        try {
+            response = get();
+        } catch (final ExecutionException e) {
+            callback.failed(e.getCause());
+            return;
+        } catch (final InterruptedException e) {
+            // Cannot happen, the task is done
+            Thread.currentThread().interrupt();
+            callback.failed(e);
+            return;
+        }
+        callback.completed(response);
+    }
+}
@@ -0,0 +1,28 @@
+package com.bol.openapi.client.async;
+
+/**
+ * Callback notified when an asynchronous OpenAPI call finishes.
+ *
+ * @param <T> The response type.
+ */
+public interface ResponseCallback<T> {
+
+    /**
+     * Called when the call completed successfully.
+     *
+     * @param response The response.
+     */
+    void completed(T response);
+
+    /**
+     * Called when the call failed, for example with a {@link com.bol.openapi.client.exception.BasicApiException}.
+     *
+     * @param cause The failure.
+     */
+    void failed(Throwable cause);
+
+    /**
+     * Called when the call was cancelled before it completed.
+     */
+    void cancelled();
+}
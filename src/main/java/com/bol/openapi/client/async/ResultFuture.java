@@ -0,0 +1,42 @@
+package com.bol.openapi.client.async;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Future that is completed explicitly instead of by running a task, used to combine the results of several calls.
+ *
+ * @param <T> The response type.
+ */
+public class ResultFuture<T> extends CallbackFuture<T> {
+
+    /**
+     * Constructs the result future.
+     *
+     * @param callback The callback to notify, may be null.
+     */
+    public ResultFuture(final ResponseCallback<T> callback) {
+        super(new Callable<T>() {
+            public T call() throws Exception {
+                throw new IllegalStateException("A result future is completed explicitly");
+            }
+        }, callback);
+    }
+
+    /**
+     * Completes the future with a result. Ignored when the future is already done.
+     *
+     * @param result The result.
+     */
+    public void complete(final T result) {
+        set(result);
+    }
+
+    /**
+     * Completes the future with a failure. Ignored when the future is already done.
+     *
+     * @param cause The failure.
+     */
+    public void fail(final Throwable cause) {
+        setException(cause);
+    }
+}
@@ -0,0 +1,482 @@
+package com.bol.openapi.client.breaker;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.http.conn.ConnectTimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.bol.openapi.client.EndpointGroup;
+import com.bol.openapi.client.exception.BasicApiException;
+import com.bol.openapi.client.exception.CircuitBreakerOpenException;
+import com.bol.openapi.client.util.Ticker;
+
+/**
+ * Circuit breaker of an {@link EndpointGroup}. While closed, the outcome of every call is recorded in a rolling window
+ * of time buckets; once the window holds the minimum number of calls and either the failure rate or the slow call rate
+ * reaches its threshold, the breaker opens. While open, calls fail fast with a {@link CircuitBreakerOpenException}
+ * without being sent. After the open duration the breaker lets a limited number of trial calls through (half-open):
+ * if all of them succeed in time it closes, a single failure or slow call opens it again.
+ *
+ * <p>An optional probe, for example a ping of the server, is run by one caller when the open duration has passed,
+ * before any trial call is let through. A failed probe restarts the open duration.</p>
+ *
+ * <p>The configuration should be completed before the circuit breaker is shared between threads.</p>
+ */
+public class CircuitBreaker {
+
+    /**
+     * The states of a circuit breaker.
+     */
+    public enum State {
+        /**
+         * Calls are let through and their outcomes are recorded.
+         */
+        CLOSED,
+        /**
+         * Calls are rejected.
+         */
+        OPEN,
+        /**
+         * A limited number of trial calls are let through.
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * The statuses that count as failures by default: server errors. Client errors and throttling are not a sign of
+     * an unhealthy backend.
+     */
+    public static final Set<String> DEFAULT_FAILURE_STATUSES = Collections.unmodifiableSet(new HashSet<String>(Arrays.asList("500", "502", "503",
+            "504")));
+
+    private static final Logger LOG = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    private final EndpointGroup group;
+    private final Ticker ticker;
+    private final long origin;
+    private final List<CircuitBreakerListener> listeners = new CopyOnWriteArrayList<CircuitBreakerListener>();
+    private volatile int failureRateThreshold = 50;
+    private volatile int slowCallRateThreshold = 100;
+    private volatile long slowCallNanos = TimeUnit.SECONDS.toNanos(5);
+    private volatile int minimumCalls = 20;
+    private volatile long openNanos = TimeUnit.SECONDS.toNanos(10);
+    private volatile int halfOpenCalls = 3;
+    private volatile Set<String> failureStatuses = DEFAULT_FAILURE_STATUSES;
+    private volatile Callable<Boolean> probe;
+    private final AtomicLong rejected = new AtomicLong();
+
+    // Guarded by this
+    private long bucketNanos;
+    private long[] epochs;
+    private long[] calls;
+    private long[] failures;
+    private long[] slowCalls;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean probing;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    /**
+     * Constructs the circuit breaker.
+     *
+     * @param group  The endpoint group.
+     * @param ticker The ticker to measure the window and the open duration with.
+     */
+    public CircuitBreaker(final EndpointGroup group, final Ticker ticker) {
+        this.group = group;
+        this.ticker = ticker;
+        this.origin = ticker.nanoTime();
+        setWindow(10, 10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Sets the failure rate at which the breaker opens, 50% by default.
+     *
+     * @param percent The failure rate, in percent.
+     */
+    public void setFailureRateThreshold(final int percent) {
+        if (percent <= 0 || percent > 100) {
+            throw new IllegalArgumentException("Failure rate threshold must be between 1 and 100");
+        }
+        this.failureRateThreshold = percent;
+    }
+
+    /**
+     * Sets the slow call rate at which the breaker opens, 100% by default.
+     *
+     * @param percent The slow call rate, in percent.
+     */
+    public void setSlowCallRateThreshold(final int percent) {
+        if (percent <= 0 || percent > 100) {
+            throw new IllegalArgumentException("Slow call rate threshold must be between 1 and 100");
+        }
+        this.slowCallRateThreshold = percent;
+    }
+
+    /**
+     * Sets the duration from which a call counts as slow, 5 seconds by default.
+     *
+     * @param duration The duration.
+     * @param unit     The time unit of the duration.
+     */
+    public void setSlowCallDuration(final long duration, final TimeUnit unit) {
+        this.slowCallNanos = unit.toNanos(duration);
+    }
+
+    /**
+     * Sets the number of calls the window must hold before the rates are evaluated, 20 by default.
+     *
+     * @param minimumCalls The minimum number of calls.
+     */
+    public void setMinimumCalls(final int minimumCalls) {
+        if (minimumCalls < 1) {
+            throw new IllegalArgumentException("Minimum calls must be positive");
+        }
+        this.minimumCalls = minimumCalls;
+    }
+
+    /**
+     * Sets the rolling window of recorded calls, 10 buckets over 10 seconds by default. The recorded calls are
+     * discarded.
+     *
+     * @param buckets  The number of buckets; the window rolls one bucket at a time.
+     * @param duration The duration of the window.
+     * @param unit     The time unit of the duration.
+     */
+    public synchronized void setWindow(final int buckets, final long duration, final TimeUnit unit) {
+        if (buckets < 1 || unit.toNanos(duration) < buckets) {
+            throw new IllegalArgumentException("Window must have at least one bucket of a positive duration");
+        }
+        this.bucketNanos = unit.toNanos(duration) / buckets;
+        this.epochs = new long[buckets];
+        this.calls = new long[buckets];
+        this.failures = new long[buckets];
+        this.slowCalls = new long[buckets];
+        Arrays.fill(epochs, Long.MIN_VALUE);
+    }
+
+    /**
+     * Sets how long the breaker stays open before it lets trial calls through, 10 seconds by default.
+     *
+     * @param duration The duration.
+     * @param unit     The time unit of the duration.
+     */
+    public void setOpenDuration(final long duration, final TimeUnit unit) {
+        this.openNanos = unit.toNanos(duration);
+    }
+
+    /**
+     * Sets the number of trial calls that must succeed in the half-open state before the breaker closes, 3 by default.
+     *
+     * @param halfOpenCalls The number of trial calls.
+     */
+    public void setHalfOpenCalls(final int halfOpenCalls) {
+        if (halfOpenCalls < 1) {
+            throw new IllegalArgumentException("Half-open calls must be positive");
+        }
+        this.halfOpenCalls = halfOpenCalls;
+    }
+
+    /**
+     * Sets the {@link BasicApiException#getStatus() statuses} that count as failures.
+     *
+     * @param failureStatuses The statuses, {@link #DEFAULT_FAILURE_STATUSES} by default.
+     */
+    public void setFailureStatuses(final Collection<String> failureStatuses) {
+        this.failureStatuses = Collections.unmodifiableSet(new HashSet<String>(failureStatuses));
+    }
+
+    /**
+     * Sets the probe that is run before the breaker goes half-open. The probe must not pass this breaker itself, a
+     * ping of the server is a good fit.
+     *
+     * @param probe The probe, returning true when the backend is healthy, or null to go half-open without probing.
+     */
+    public void setProbe(final Callable<Boolean> probe) {
+        this.probe = probe;
+    }
+
+    /**
+     * Adds a listener for the state transitions.
+     *
+     * @param listener The listener.
+     */
+    public void addListener(final CircuitBreakerListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener for the state transitions.
+     *
+     * @param listener The listener.
+     *
+     * @return True when the listener was registered.
+     */
+    public boolean removeListener(final CircuitBreakerListener listener) {
+        return listeners.remove(listener);
+    }
+
+    /**
+     * Acquires the permission to send a call. Every permitted call must be followed by {@link #record(long, boolean)}
+     * or {@link #release()}.
+     *
+     * @throws CircuitBreakerOpenException When the breaker is open, or half-open without trial calls left.
+     */
+    public void acquirePermission() throws CircuitBreakerOpenException {
+        final Callable<Boolean> trial;
+        synchronized (this) {
+            if (state == State.CLOSED) {
+                return;
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenPermits > 0) {
+                    halfOpenPermits--;
+                    return;
+                }
+                throw reject(0);
+            }
+
+            final long remaining = openedAt + openNanos - ticker.nanoTime();
+            if (remaining > 0 || probing) {
+                throw reject(Math.max(remaining, 0));
+            }
+            trial = probe;
+            if (trial == null) {
+                halfOpen();
+                halfOpenPermits--;
+            } else {
+                probing = true;
+            }
+        }
+        if (trial == null) {
+            fireStateTransition(State.OPEN, State.HALF_OPEN);
+            return;
+        }
+
+        boolean healthy = false;
+        try {
+            healthy = Boolean.TRUE.equals(trial.call());
+        } catch (final Exception e) {
+            LOG.debug("Probe of {} failed", group, e);
+        }
+        synchronized (this) {
+            probing = false;
+            if (healthy) {
+                halfOpen();
+                halfOpenPermits--;
+            } else {
+                openedAt = ticker.nanoTime();
+            }
+        }
+        if (!healthy) {
+            throw reject(openNanos);
+        }
+        fireStateTransition(State.OPEN, State.HALF_OPEN);
+    }
+
+    /**
+     * Records the outcome of a permitted call.
+     *
+     * @param durationNanos The duration of the call, in nanoseconds.
+     * @param failure       Whether the call failed, see {@link #isFailure(Exception)}.
+     */
+    public void record(final long durationNanos, final boolean failure) {
+        final boolean slow = durationNanos >= slowCallNanos;
+        final State from;
+        final State to;
+        synchronized (this) {
+            from = state;
+            if (state == State.HALF_OPEN) {
+                if (failure || slow) {
+                    open();
+                } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                    close();
+                }
+            } else if (state == State.CLOSED) {
+                final long epoch = (ticker.nanoTime() - origin) / bucketNanos;
+                final int index = (int) (epoch % epochs.length);
+                if (epochs[index] != epoch) {
+                    epochs[index] = epoch;
+                    calls[index] = 0;
+                    failures[index] = 0;
+                    slowCalls[index] = 0;
+                }
+                calls[index]++;
+                if (failure) {
+                    failures[index]++;
+                }
+                if (slow) {
+                    slowCalls[index]++;
+                }
+                if (isTripped(epoch)) {
+                    open();
+                }
+            }
+            // A call that completes while the breaker is open was permitted before it opened, and is ignored.
+            to = state;
+        }
+        if (from != to) {
+            fireStateTransition(from, to);
+        }
+    }
+
+    /**
+     * Releases the permission of a call whose outcome says nothing about the backend, such as an aborted hedge.
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN) {
+            halfOpenPermits++;
+        }
+    }
+
+    /**
+     * Whether the failure of a call counts against the backend. I/O errors do, except for an interrupted thread; API
+     * errors do when their status is a failure status.
+     *
+     * @param failure The failure.
+     *
+     * @return True when the failure counts.
+     */
+    public boolean isFailure(final Exception failure) {
+        if (failure instanceof BasicApiException) {
+            final String status = ((BasicApiException) failure).getStatus();
+            return status != null && failureStatuses.contains(status);
+        }
+        if (failure instanceof InterruptedIOException) {
+            return failure instanceof SocketTimeoutException || failure instanceof ConnectTimeoutException;
+        }
+        return failure instanceof IOException;
+    }
+
+    /**
+     * Gets the endpoint group.
+     *
+     * @return The endpoint group.
+     */
+    public EndpointGroup getGroup() {
+        return group;
+    }
+
+    /**
+     * Gets the current state. An open breaker whose open duration has passed stays open until the next call.
+     *
+     * @return The state.
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Gets the failure rate of the calls in the window.
+     *
+     * @return The failure rate in percent, or -1 when the window holds fewer than the minimum number of calls.
+     */
+    public synchronized float getFailureRate() {
+        return getRate(failures);
+    }
+
+    /**
+     * Gets the slow call rate of the calls in the window.
+     *
+     * @return The slow call rate in percent, or -1 when the window holds fewer than the minimum number of calls.
+     */
+    public synchronized float getSlowCallRate() {
+        return getRate(slowCalls);
+    }
+
+    /**
+     * Gets the number of calls that were rejected without being sent.
+     *
+     * @return The number of rejected calls.
+     */
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    /**
+     * Whether the rates of the window reach a threshold.
+     *
+     * @param epoch The current bucket epoch.
+     *
+     * @return True when the breaker must open.
+     */
+    private boolean isTripped(final long epoch) {
+        long windowCalls = 0;
+        long windowFailures = 0;
+        long windowSlowCalls = 0;
+        for (int i = 0; i < epochs.length; i++) {
+            if (epochs[i] > epoch - epochs.length) {
+                windowCalls += calls[i];
+                windowFailures += failures[i];
+                windowSlowCalls += slowCalls[i];
+            }
+        }
+        return windowCalls >= minimumCalls
+                && (windowFailures * 100 >= windowCalls * failureRateThreshold || windowSlowCalls * 100 >= windowCalls * slowCallRateThreshold);
+    }
+
+    /**
+     * Gets the rate of the given counts in the window.
+     *
+     * @param counts The counts per bucket.
+     *
+     * @return The rate in percent, or -1 when the window holds fewer than the minimum number of calls.
+     */
+    private float getRate(final long[] counts) {
+        final long epoch = (ticker.nanoTime() - origin) / bucketNanos;
+        long windowCalls = 0;
+        long windowCounts = 0;
+        for (int i = 0; i < epochs.length; i++) {
+            if (epochs[i] > epoch - epochs.length) {
+                windowCalls += calls[i];
+                windowCounts += counts[i];
+            }
+        }
+        return windowCalls < minimumCalls ? -1 : windowCounts * 100f / windowCalls;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = ticker.nanoTime();
+    }
+
+    private void halfOpen() {
+        state = State.HALF_OPEN;
+        halfOpenPermits = halfOpenCalls;
+        halfOpenSuccesses = 0;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        Arrays.fill(epochs, Long.MIN_VALUE);
+    }
+
+    private CircuitBreakerOpenException reject(final long retryAfterNanos) {
+        rejected.incrementAndGet();
+        return new CircuitBreakerOpenException(group, retryAfterNanos);
+    }
+
+    private void fireStateTransition(final State from, final State to) {
+        for (final CircuitBreakerListener listener : listeners) {
+            try {
+                listener.onStateTransition(this, from, to);
+            } catch (final RuntimeException e) {
+                LOG.warn("Circuit breaker listener failed", e);
+            }
+        }
+    }
+}
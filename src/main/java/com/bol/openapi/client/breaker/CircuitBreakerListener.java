@@ -0,0 +1,17 @@
+package com.bol.openapi.client.breaker;
+
+/**
+ * Listener for the state transitions of a {@link CircuitBreaker}. Listeners are notified on the thread that caused the
+ * transition, after the transition, and should return quickly.
+ */
+public interface CircuitBreakerListener {
+
+    /**
+     * Called when the circuit breaker changed its state.
+     *
+     * @param circuitBreaker The circuit breaker.
+     * @param from           The previous state.
+     * @param to             The new state.
+     */
+    void onStateTransition(CircuitBreaker circuitBreaker, CircuitBreaker.State from, CircuitBreaker.State to);
+}
@@ -0,0 +1,72 @@
+package com.bol.openapi.client.breaker;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import com.bol.openapi.client.EndpointGroup;
+import com.bol.openapi.client.util.Ticker;
+
+/**
+ * The circuit breakers of a client, one per {@link EndpointGroup} so that a failing backend does not cut off the
+ * others. {@link EndpointGroup#UTILS} has no circuit breaker, which keeps the ping available as a probe.
+ */
+public class CircuitBreakers {
+
+    private final Map<EndpointGroup, CircuitBreaker> circuitBreakers = new EnumMap<EndpointGroup, CircuitBreaker>(EndpointGroup.class);
+
+    /**
+     * Constructs the circuit breakers with the default configuration.
+     */
+    public CircuitBreakers() {
+        this(Ticker.SYSTEM);
+    }
+
+    /**
+     * Constructs the circuit breakers with the default configuration.
+     *
+     * @param ticker The ticker to measure the windows and open durations with.
+     */
+    public CircuitBreakers(final Ticker ticker) {
+        for (final EndpointGroup group : EndpointGroup.values()) {
+            if (group != EndpointGroup.UTILS) {
+                circuitBreakers.put(group, new CircuitBreaker(group, ticker));
+            }
+        }
+    }
+
+    /**
+     * Gets the circuit breaker of the endpoint group, to configure or inspect it.
+     *
+     * @param group The endpoint group.
+     *
+     * @return The circuit breaker, null when the group has none.
+     */
+    public CircuitBreaker getCircuitBreaker(final EndpointGroup group) {
+        return circuitBreakers.get(group);
+    }
+
+    /**
+     * Adds a listener for the state transitions of all circuit breakers.
+     *
+     * @param listener The listener.
+     */
+    public void addListener(final CircuitBreakerListener listener) {
+        for (final CircuitBreaker circuitBreaker : circuitBreakers.values()) {
+            circuitBreaker.addListener(listener);
+        }
+    }
+
+    /**
+     * Sets the probe of all circuit breakers.
+     *
+     * @param probe The probe, or null to go half-open without probing.
+     *
+     * @see CircuitBreaker#setProbe(Callable)
+     */
+    public void setProbe(final Callable<Boolean> probe) {
+        for (final CircuitBreaker circuitBreaker : circuitBreakers.values()) {
+            circuitBreaker.setProbe(probe);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.bol.openapi.client.cache;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.xml.bind.JAXBException;
+
+import com.bol.openapi.client.exception.BasicApiException;
+
+/**
+ * Lets concurrent identical requests share a single exchange. The first caller for a key executes the call, callers
+ * arriving while it is in flight wait for and receive the same result (or the same exception). Results are shared
+ * between callers and must be treated as read-only.
+ */
+public class RequestCoalescer {
+
+    private final ConcurrentMap<String, FutureTask<Object>> inFlight = new ConcurrentHashMap<String, FutureTask<Object>>();
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /**
+     * Executes the call, or joins the identical call already in flight.
+     *
+     * @param key  The request key, see {@link ResponseCache#createKey}.
+     * @param call The call.
+     *
+     * @return The result of the call.
+     *
+     * @throws IOException When the HTTP execution fails, or the wait is interrupted.
+     * @throws JAXBException When parsing the response fails.
+     * @throws BasicApiException When an error response was received.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(final String key, final Call<T> call) throws IOException, JAXBException, BasicApiException {
+        final FutureTask<Object> task = new FutureTask<Object>(new Callable<Object>() {
+            public Object call() throws Exception {
+                return call.call();
+            }
+        });
+
+        final FutureTask<Object> existing = inFlight.putIfAbsent(key, task);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return (T) await(existing);
+        }
+
+        executions.incrementAndGet();
+        try {
+            task.run();
+        } finally {
+            inFlight.remove(key, task);
+        }
+
+        return (T) await(task);
+    }
+
+    /**
+     * Waits for the task and unwraps its failure.
+     *
+     * @param task The task.
+     *
+     * @return The result of the task.
+     */
+    private Object await(final FutureTask<Object> task) throws IOException, JAXBException, BasicApiException {
+        try {
+            return task.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a coalesced request");
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof JAXBException) {
+                throw (JAXBException) cause;
+            }
+            if (cause instanceof BasicApiException) {
+                throw (BasicApiException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Gets the number of calls that were actually executed.
+     *
+     * @return The execution count.
+     */
+    public long getExecutions() {
+        return executions.get();
+    }
+
+    /**
+     * Gets the number of calls that joined an identical call in flight instead of being executed.
+     *
+     * @return The coalesced count.
+     */
+    public long getCoalesced() {
+        return coalesced.get();
+    }
+
+    /**
+     * Gets the number of distinct calls currently in flight.
+     *
+     * @return The in-flight count.
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * A request exchange that can be coalesced.
+     */
+    public interface Call<T> {
+
+        /**
+         * Executes the exchange.
+         *
+         * @return The response.
+         *
+         * @throws IOException When the HTTP execution fails.
+         * @throws JAXBException When parsing the response fails.
+         * @throws BasicApiException When an error response was received.
+         */
+        T call() throws IOException, JAXBException, BasicApiException;
+    }
+}
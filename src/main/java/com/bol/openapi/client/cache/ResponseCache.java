@@ -0,0 +1,269 @@
+package com.bol.openapi.client.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.http.NameValuePair;
+
+import com.bol.openapi.client.Endpoint;
+
+/**
+ * Size-bounded, least recently used cache for catalog responses, with a time to live per endpoint. Only catalog reads
+ * are cached; cached responses are shared between callers and must be treated as read-only.
+ */
+public class ResponseCache {
+
+    private static final Comparator<NameValuePair> PARAMETER_ORDER = new Comparator<NameValuePair>() {
+        public int compare(final NameValuePair left, final NameValuePair right) {
+            final int result = left.getName().compareTo(right.getName());
+            if (result != 0) {
+                return result;
+            }
+            if (left.getValue() == null) {
+                return right.getValue() == null ? 0 : -1;
+            }
+            return right.getValue() == null ? 1 : left.getValue().compareTo(right.getValue());
+        }
+    };
+
+    private final int maxEntries;
+    private final Map<String, CachedResponse> entries;
+    private final Map<Endpoint, Long> ttls = Collections.synchronizedMap(new EnumMap<Endpoint, Long>(Endpoint.class));
+    private volatile long defaultTtlMillis;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+
+    /**
+     * Constructs the response cache.
+     *
+     * @param maxEntries The maximum number of cached responses.
+     * @param defaultTtl The time to live for endpoints without a specific time to live.
+     * @param unit       The unit of the time to live.
+     */
+    public ResponseCache(final int maxEntries, final long defaultTtl, final TimeUnit unit) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+
+        this.maxEntries = maxEntries;
+        this.defaultTtlMillis = unit.toMillis(defaultTtl);
+        this.entries = new LinkedHashMap<String, CachedResponse>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CachedResponse> eldest) {
+                if (size() > ResponseCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Creates the cache key for a request from its path and its canonical (sorted) query parameters.
+     *
+     * @param endpoint   The endpoint.
+     * @param path       The request path.
+     * @param parameters The query parameters, may be null.
+     *
+     * @return The cache key.
+     */
+    public static String createKey(final Endpoint endpoint, final String path, final List<NameValuePair> parameters) {
+        final StringBuilder sb = new StringBuilder(128);
+        sb.append(endpoint.name()).append(' ').append(path);
+
+        if (parameters != null && !parameters.isEmpty()) {
+            final List<NameValuePair> sorted = new ArrayList<NameValuePair>(parameters);
+            Collections.sort(sorted, PARAMETER_ORDER);
+
+            char separator = '?';
+            for (final NameValuePair parameter : sorted) {
+                sb.append(separator).append(parameter.getName()).append('=');
+                if (parameter.getValue() != null) {
+                    sb.append(parameter.getValue());
+                }
+                separator = '&';
+            }
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Whether responses of the endpoint are cached.
+     *
+     * @param endpoint The endpoint.
+     *
+     * @return True when the endpoint is a catalog read with a positive time to live.
+     */
+    public boolean isCached(final Endpoint endpoint) {
+        return endpoint.isCatalogRead() && getTtlMillis(endpoint) > 0;
+    }
+
+    /**
+     * Gets a cached response.
+     *
+     * @param key The cache key.
+     *
+     * @return The cached response, or null when it is absent or expired.
+     */
+    public Object get(final String key) {
+        final long now = currentTimeMillis();
+
+        synchronized (entries) {
+            final CachedResponse entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt > now) {
+                    hits.incrementAndGet();
+                    return entry.value;
+                }
+
+                entries.remove(key);
+                expirations.incrementAndGet();
+            }
+        }
+
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Caches a response, unless the endpoint is not cached.
+     *
+     * @param endpoint The endpoint the response belongs to.
+     * @param key      The cache key.
+     * @param value    The response.
+     */
+    public void put(final Endpoint endpoint, final String key, final Object value) {
+        if (value == null || !isCached(endpoint)) {
+            return;
+        }
+
+        final CachedResponse entry = new CachedResponse(value, currentTimeMillis() + getTtlMillis(endpoint));
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * Sets the time to live for a single endpoint.
+     *
+     * @param endpoint The endpoint.
+     * @param ttl      The time to live, 0 to disable caching for the endpoint.
+     * @param unit     The unit of the time to live.
+     */
+    public void setTtl(final Endpoint endpoint, final long ttl, final TimeUnit unit) {
+        ttls.put(endpoint, unit.toMillis(ttl));
+    }
+
+    /**
+     * Gets the time to live of an endpoint.
+     *
+     * @param endpoint The endpoint.
+     *
+     * @return The time to live in milliseconds.
+     */
+    public long getTtlMillis(final Endpoint endpoint) {
+        final Long ttl = ttls.get(endpoint);
+        return ttl != null ? ttl : defaultTtlMillis;
+    }
+
+    /**
+     * Removes all cached responses.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Gets the number of cached responses, including expired responses that were not looked up since.
+     *
+     * @return The size.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Gets the maximum number of cached responses.
+     *
+     * @return The maximum size.
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Gets the number of lookups served from the cache.
+     *
+     * @return The hit count.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of lookups that found no live response.
+     *
+     * @return The miss count.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the number of responses removed to make room for new ones.
+     *
+     * @return The eviction count.
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * Gets the number of responses removed because their time to live passed.
+     *
+     * @return The expiration count.
+     */
+    public long getExpirations() {
+        return expirations.get();
+    }
+
+    /**
+     * Gets the current time, overridable for testing.
+     *
+     * @return The current time in milliseconds.
+     */
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * A cached response with its expiry time.
+     */
+    private static final class CachedResponse {
+
+        private final Object value;
+        private final long expiresAt;
+
+        private CachedResponse(final Object value, final long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
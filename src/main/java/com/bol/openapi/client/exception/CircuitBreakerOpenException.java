@@ -0,0 +1,47 @@
+package com.bol.openapi.client.exception;
+
+import java.util.concurrent.TimeUnit;
+
+import com.bol.openapi.client.EndpointGroup;
+
+/**
+ * Thrown when a call is rejected without being sent, because the circuit breaker of its endpoint group is open.
+ */
+public class CircuitBreakerOpenException extends BasicApiException {
+
+    private static final long serialVersionUID = -6120983614257043895L;
+    private final EndpointGroup group;
+    private final long retryAfterNanos;
+
+    /**
+     * Constructs the circuit breaker open exception.
+     * 
+     * @param group The endpoint group.
+     * @param retryAfterNanos The time until the circuit breaker lets a trial call through, in nanoseconds.
+     */
+    public CircuitBreakerOpenException(final EndpointGroup group, final long retryAfterNanos) {
+        super("Circuit breaker of " + group + " is open");
+        this.group = group;
+        this.retryAfterNanos = retryAfterNanos;
+    }
+
+    /**
+     * Gets the endpoint group.
+     * 
+     * @return The endpoint group.
+     */
+    public EndpointGroup getGroup() {
+        return group;
+    }
+
+    /**
+     * Gets the time until the circuit breaker lets a trial call through.
+     * 
+     * @param unit The time unit.
+     * 
+     * @return The time in the given unit.
+     */
+    public long getRetryAfter(final TimeUnit unit) {
+        return unit.convert(retryAfterNanos, TimeUnit.NANOSECONDS);
+    }
+}
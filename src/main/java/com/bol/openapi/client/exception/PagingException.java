@@ -0,0 +1,29 @@
+package com.bol.openapi.client.exception;
+
+/**
+ * Unchecked exception thrown by paging iterators when fetching a page fails. The cause holds the original failure,
+ * for example a {@link BasicApiException}.
+ */
+public class PagingException extends RuntimeException {
+
+    private static final long serialVersionUID = 4920386153390211840L;
+
+    /**
+     * Constructs the paging exception.
+     * 
+     * @param throwable The throwable.
+     */
+    public PagingException(final Throwable throwable) {
+        super(throwable);
+    }
+
+    /**
+     * Constructs the paging exception.
+     * 
+     * @param message The message.
+     * @param throwable The throwable.
+     */
+    public PagingException(final String message, final Throwable throwable) {
+        super(message, throwable);
+    }
+}
@@ -0,0 +1,35 @@
+package com.bol.openapi.client.exception;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thrown when the client-side rate limiter rejects a call before it is sent, because no permit was available within
+ * the allowed wait.
+ */
+public class RateLimitExceededException extends BasicApiException {
+
+    private static final long serialVersionUID = 2871465337906128466L;
+    private final long retryAfterNanos;
+
+    /**
+     * Constructs the rate limit exceeded exception.
+     * 
+     * @param message The message.
+     * @param retryAfterNanos The time until a permit is expected to be available, in nanoseconds.
+     */
+    public RateLimitExceededException(final String message, final long retryAfterNanos) {
+        super(message);
+        this.retryAfterNanos = retryAfterNanos;
+    }
+
+    /**
+     * Gets the time until a permit is expected to be available.
+     * 
+     * @param unit The time unit.
+     * 
+     * @return The time in the given unit.
+     */
+    public long getRetryAfter(final TimeUnit unit) {
+        return unit.convert(retryAfterNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,42 @@
+package com.bol.openapi.client.exception;
+
+import com.bol.openapi.client.Endpoint;
+
+/**
+ * Thrown when a response is larger than the maximum size configured for its endpoint. The rest of the body is not
+ * read; the connection is aborted instead.
+ */
+public class ResponseTooLargeException extends BasicApiException {
+
+    private static final long serialVersionUID = -6301784275209187531L;
+    private final Endpoint endpoint;
+    private final long maxSize;
+    private final long contentLength;
+
+    /**
+     * Constructs the response too large exception.
+     *
+     * @param endpoint The endpoint, may be null.
+     * @param maxSize The maximum size in bytes.
+     * @param contentLength The Content-Length of the response, or -1 when it was not known up front.
+     */
+    public ResponseTooLargeException(final Endpoint endpoint, final long maxSize, final long contentLength) {
+        super("Response" + (endpoint != null ? " of " + endpoint : "") + " exceeds the maximum size of " + maxSize + " bytes"
+                + (contentLength >= 0 ? " (Content-Length " + contentLength + ")" : ""));
+        this.endpoint = endpoint;
+        this.maxSize = maxSize;
+        this.contentLength = contentLength;
+    }
+
+    public Endpoint getEndpoint() {
+        return endpoint;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public long getContentLength() {
+        return contentLength;
+    }
+}
@@ -20,4 +20,16 @@ public final class ExceptionHandler {
     public static BasicApiException handleBasicApiException(final com.bol.openapi.openapi_3_0.Error error) {
         return new BasicApiException(error.getStatus(), error.getMessage());
     }
+
+    /**
+     * Handles an HTTP status without an API error body as an exception.
+     * 
+     * @param statusCode The HTTP status code.
+     * @param reasonPhrase The HTTP reason phrase.
+     * 
+     * @return The basic API exception, with the status code as status.
+     */
+    public static BasicApiException handleHttpStatus(final int statusCode, final String reasonPhrase) {
+        return new BasicApiException(String.valueOf(statusCode), reasonPhrase);
+    }
 }
@@ -0,0 +1,168 @@
+package com.bol.openapi.client.hedge;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.bol.openapi.client.Endpoint;
+import com.bol.openapi.client.metrics.ClientMetrics;
+import com.bol.openapi.client.metrics.HistogramSnapshot;
+import com.bol.openapi.client.metrics.Phase;
+import com.bol.openapi.client.retry.RetryBudget;
+
+/**
+ * Hedging policy for idempotent catalog reads. A call that has not completed within the hedge delay is sent a second
+ * time; the first response wins and the other exchange is aborted. The delay is either fixed, or a percentile of the
+ * {@link Phase#EXECUTE} latency of the endpoint as recorded by {@link ClientMetrics}, so that only the slowest calls
+ * are hedged. A {@link RetryBudget} caps the hedges at a percentage of the calls.
+ *
+ * <p>Hedges run on the given scheduler, whose number of threads bounds the number of hedges in flight. The
+ * configuration should be completed before the policy is shared between threads.</p>
+ */
+public class HedgingPolicy {
+
+    /**
+     * The minimum number of recorded exchanges before the percentile delay is used instead of the fixed delay.
+     */
+    public static final long MIN_SAMPLES = 100;
+
+    private static final long REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final ScheduledExecutorService scheduler;
+    private volatile long delayNanos = TimeUnit.MILLISECONDS.toNanos(100);
+    private volatile ClientMetrics metrics;
+    private volatile double percentile;
+    private volatile RetryBudget hedgeBudget = new RetryBudget(5, 10);
+    private final AtomicLongArray percentileDelays = new AtomicLongArray(Endpoint.values().length);
+    private final AtomicLongArray refreshedAt = new AtomicLongArray(Endpoint.values().length);
+    private final AtomicLong hedges = new AtomicLong();
+    private final AtomicLong hedgeWins = new AtomicLong();
+    private final AtomicLong budgetExhausted = new AtomicLong();
+
+    /**
+     * Constructs the hedging policy.
+     *
+     * @param scheduler The scheduler to start and run the hedges on.
+     */
+    public HedgingPolicy(final ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Sets the fixed hedge delay, 100 milliseconds by default. It is also used while the percentile delay has too few
+     * samples.
+     *
+     * @param delay The delay.
+     * @param unit  The time unit of the delay.
+     */
+    public void setDelay(final long delay, final TimeUnit unit) {
+        this.delayNanos = unit.toNanos(delay);
+    }
+
+    /**
+     * Sets the hedge delay to a percentile of the recorded exchange latency of the endpoint, refreshed every second.
+     *
+     * @param metrics    The metrics of the client, or null to use the fixed delay.
+     * @param percentile The percentile, for example 95.
+     */
+    public void setDelayPercentile(final ClientMetrics metrics, final double percentile) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        this.percentile = percentile;
+        this.metrics = metrics;
+        for (int i = 0; i < refreshedAt.length(); i++) {
+            refreshedAt.set(i, 0);
+            percentileDelays.set(i, 0);
+        }
+    }
+
+    /**
+     * Sets the budget that caps the hedges, 5% of the calls with 10 banked hedges by default.
+     *
+     * @param hedgeBudget The hedge budget, or null to hedge every slow call.
+     */
+    public void setHedgeBudget(final RetryBudget hedgeBudget) {
+        this.hedgeBudget = hedgeBudget;
+    }
+
+    /**
+     * Gets the hedge delay of an endpoint.
+     *
+     * @param endpoint The endpoint.
+     *
+     * @return The delay in nanoseconds.
+     */
+    public long getDelayNanos(final Endpoint endpoint) {
+        final ClientMetrics current = metrics;
+        if (current == null) {
+            return delayNanos;
+        }
+
+        final int index = endpoint.ordinal();
+        final long now = System.nanoTime();
+        final long refreshed = refreshedAt.get(index);
+        if (refreshed == 0 || now - refreshed > REFRESH_NANOS) {
+            refreshedAt.set(index, now);
+            final HistogramSnapshot snapshot = current.getEndpointMetrics(endpoint).getHistogram(Phase.EXECUTE).snapshot();
+            percentileDelays.set(index, snapshot.getCount() < MIN_SAMPLES ? 0 : snapshot.getValueAtPercentile(percentile));
+        }
+
+        final long percentileDelay = percentileDelays.get(index);
+        return percentileDelay > 0 ? percentileDelay : delayNanos;
+    }
+
+    /**
+     * Records the start of a call in the hedge budget.
+     */
+    public void recordCall() {
+        final RetryBudget budget = hedgeBudget;
+        if (budget != null) {
+            budget.deposit();
+        }
+    }
+
+    /**
+     * Decides whether a slow call is hedged, and counts the hedge.
+     *
+     * @return True when the budget allows a hedge.
+     */
+    public boolean tryHedge() {
+        final RetryBudget budget = hedgeBudget;
+        if (budget != null && !budget.tryWithdraw()) {
+            budgetExhausted.incrementAndGet();
+            return false;
+        }
+
+        hedges.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Records a call that was answered by its hedge.
+     */
+    public void recordHedgeWin() {
+        hedgeWins.incrementAndGet();
+    }
+
+    public ScheduledExecutorService getScheduler() {
+        return scheduler;
+    }
+
+    public RetryBudget getHedgeBudget() {
+        return hedgeBudget;
+    }
+
+    public long getHedges() {
+        return hedges.get();
+    }
+
+    public long getHedgeWins() {
+        return hedgeWins.get();
+    }
+
+    public long getBudgetExhausted() {
+        return budgetExhausted.get();
+    }
+}
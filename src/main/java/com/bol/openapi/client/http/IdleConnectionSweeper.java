@@ -0,0 +1,59 @@
+package com.bol.openapi.client.http;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.conn.ClientConnectionManager;
+
+/**
+ * Background task that periodically closes expired connections, and connections that have been idle for longer than
+ * the idle timeout, so that stale connections are not handed out and do not hold server resources.
+ */
+public class IdleConnectionSweeper {
+
+    private final ClientConnectionManager connectionManager;
+    private final long idleTimeoutMillis;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Constructs and starts the sweeper on a daemon thread.
+     *
+     * @param connectionManager The connection manager to sweep.
+     * @param idleTimeout       The time after which idle connections are closed.
+     * @param interval          The time between sweeps.
+     * @param unit              The time unit of the idle timeout and interval.
+     */
+    public IdleConnectionSweeper(final ClientConnectionManager connectionManager, final long idleTimeout, final long interval, final TimeUnit unit) {
+        this.connectionManager = connectionManager;
+        this.idleTimeoutMillis = unit.toMillis(idleTimeout);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            public Thread newThread(final Runnable runnable) {
+                final Thread thread = new Thread(runnable, "openapi-idle-connection-sweeper");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        scheduler.scheduleWithFixedDelay(new Runnable() {
+            public void run() {
+                sweep();
+            }
+        }, interval, interval, unit);
+    }
+
+    /**
+     * Closes the expired and idle connections.
+     */
+    public void sweep() {
+        connectionManager.closeExpiredConnections();
+        connectionManager.closeIdleConnections(idleTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the sweeper, the connection manager is left open.
+     */
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,48 @@
+package com.bol.openapi.client.http;
+
+/**
+ * Immutable snapshot of the state of a connection pool.
+ */
+public final class PoolStats {
+
+    private final int leased;
+    private final int available;
+    private final int pending;
+    private final int max;
+
+    /**
+     * Constructs the pool statistics.
+     *
+     * @param leased    The number of connections currently handed out to requests.
+     * @param available The number of idle connections kept for reuse.
+     * @param pending   The number of requests waiting for a connection.
+     * @param max       The maximum total number of connections.
+     */
+    public PoolStats(final int leased, final int available, final int pending, final int max) {
+        this.leased = leased;
+        this.available = available;
+        this.pending = pending;
+        this.max = max;
+    }
+
+    public int getLeased() {
+        return leased;
+    }
+
+    public int getAvailable() {
+        return available;
+    }
+
+    public int getPending() {
+        return pending;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "[leased: " + leased + "; available: " + available + "; pending: " + pending + "; max: " + max + "]";
+    }
+}
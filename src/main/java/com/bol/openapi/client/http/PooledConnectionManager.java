@@ -0,0 +1,65 @@
+package com.bol.openapi.client.http;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.impl.conn.tsccm.ConnPoolByRoute;
+import org.apache.http.impl.conn.tsccm.ThreadSafeClientConnManager;
+
+/**
+ * Thread safe connection manager that exposes the statistics of its connection pool.
+ */
+public class PooledConnectionManager extends ThreadSafeClientConnManager {
+
+    /**
+     * Constructs the connection manager for http and https, without a time to live for pooled connections.
+     */
+    public PooledConnectionManager() {
+        this(SchemeRegistryFactory.createDefault(), -1, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Constructs the connection manager.
+     *
+     * @param schemeRegistry The scheme registry.
+     * @param connTtl        The maximum time to live of a pooled connection, or -1 for no limit.
+     * @param connTtlUnit    The time unit of the time to live.
+     */
+    public PooledConnectionManager(final SchemeRegistry schemeRegistry, final long connTtl, final TimeUnit connTtlUnit) {
+        super(schemeRegistry, connTtl, connTtlUnit);
+    }
+
+    @Override
+    protected ConnPoolByRoute createConnectionPool(final long connTtl, final TimeUnit connTtlUnit) {
+        return new StatsConnPoolByRoute(this, connTtl, connTtlUnit);
+    }
+
+    /**
+     * Gets the statistics of the connection pool.
+     *
+     * @return The current pool statistics.
+     */
+    public PoolStats getPoolStats() {
+        return ((StatsConnPoolByRoute) pool).getPoolStats();
+    }
+
+    /**
+     * Connection pool that reads its bookkeeping under the pool lock.
+     */
+    private static final class StatsConnPoolByRoute extends ConnPoolByRoute {
+
+        StatsConnPoolByRoute(final PooledConnectionManager connectionManager, final long connTtl, final TimeUnit connTtlUnit) {
+            super(connectionManager.connOperator, connectionManager.connPerRoute, 20, connTtl, connTtlUnit);
+        }
+
+        PoolStats getPoolStats() {
+            getLock().lock();
+            try {
+                return new PoolStats(leasedConnections.size(), freeConnections.size(), waitingThreads.size(), maxTotalConnections);
+            } finally {
+                getLock().unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.bol.openapi.client.http;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * HTTP client backed by a {@link PooledConnectionManager}. Connections are kept alive for the duration announced by
+ * the server's Keep-Alive header, capped at the configured keep-alive duration, and idle connections are closed by an
+ * optional {@link IdleConnectionSweeper}. Created by {@link com.bol.openapi.client.OpenApiClientBuilder}.
+ */
+public class PooledHttpClient extends DefaultHttpClient {
+
+    private final PooledConnectionManager connectionManager;
+    private final IdleConnectionSweeper sweeper;
+
+    /**
+     * Constructs the pooled HTTP client.
+     *
+     * @param connectionManager The connection manager.
+     * @param params            The HTTP parameters, including the connect, socket and pool-lease timeouts.
+     * @param keepAliveMillis   The maximum time in milliseconds to keep an idle connection alive.
+     * @param sweeper           The sweeper of the connection manager, or null when there is none.
+     */
+    public PooledHttpClient(final PooledConnectionManager connectionManager, final HttpParams params, final long keepAliveMillis,
+            final IdleConnectionSweeper sweeper) {
+        super(connectionManager, params);
+        this.connectionManager = connectionManager;
+        this.sweeper = sweeper;
+        setKeepAliveStrategy(new BoundedKeepAliveStrategy(keepAliveMillis));
+    }
+
+    /**
+     * Gets the statistics of the connection pool.
+     *
+     * @return The current pool statistics.
+     */
+    public PoolStats getPoolStats() {
+        return connectionManager.getPoolStats();
+    }
+
+    /**
+     * Stops the sweeper and closes all connections.
+     */
+    public void shutdown() {
+        if (sweeper != null) {
+            sweeper.shutdown();
+        }
+        connectionManager.shutdown();
+    }
+
+    /**
+     * Keep-alive strategy that honors the Keep-Alive header of the response, up to a maximum duration.
+     */
+    static final class BoundedKeepAliveStrategy implements ConnectionKeepAliveStrategy {
+
+        private final ConnectionKeepAliveStrategy headerStrategy = new DefaultConnectionKeepAliveStrategy();
+        private final long keepAliveMillis;
+
+        BoundedKeepAliveStrategy(final long keepAliveMillis) {
+            this.keepAliveMillis = keepAliveMillis;
+        }
+
+        public long getKeepAliveDuration(final HttpResponse response, final HttpContext context) {
+            final long duration = headerStrategy.getKeepAliveDuration(response, context);
+            return duration > 0 ? Math.min(duration, keepAliveMillis) : keepAliveMillis;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.bol.openapi.client.lean;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+import com.bol.openapi.openapi_3_0.ProductType;
+
+/**
+ * Immutable, compact view of a product, holding only the fields of the {@link ProductProjection} it was read with.
+ * Fields outside the projection, and fields missing from the response, are null.
+ */
+public final class LeanProduct {
+
+    private final Object[] values;
+
+    /**
+     * Constructs the lean product.
+     *
+     * @param values The value per {@link ProductField#ordinal()}, owned by the product.
+     */
+    LeanProduct(final Object[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Gets the value of a field.
+     *
+     * @param field The field.
+     *
+     * @return The value, null when not read.
+     */
+    public Object get(final ProductField field) {
+        return values[field.ordinal()];
+    }
+
+    public Long getId() {
+        return (Long) values[ProductField.ID.ordinal()];
+    }
+
+    public String getEan() {
+        return (String) values[ProductField.EAN.ordinal()];
+    }
+
+    public String getTitle() {
+        return (String) values[ProductField.TITLE.ordinal()];
+    }
+
+    public String getSubtitle() {
+        return (String) values[ProductField.SUBTITLE.ordinal()];
+    }
+
+    public ProductType getType() {
+        return (ProductType) values[ProductField.TYPE.ordinal()];
+    }
+
+    public BigDecimal getRating() {
+        return (BigDecimal) values[ProductField.RATING.ordinal()];
+    }
+
+    public String getOfferId() {
+        return (String) values[ProductField.OFFER_ID.ordinal()];
+    }
+
+    public Double getPrice() {
+        return (Double) values[ProductField.PRICE.ordinal()];
+    }
+
+    public Double getListPrice() {
+        return (Double) values[ProductField.LIST_PRICE.ordinal()];
+    }
+
+    public Integer getAvailabilityCode() {
+        return (Integer) values[ProductField.AVAILABILITY_CODE.ordinal()];
+    }
+
+    public String getAvailabilityDescription() {
+        return (String) values[ProductField.AVAILABILITY_DESCRIPTION.ordinal()];
+    }
+
+    public Boolean getSecondHand() {
+        return (Boolean) values[ProductField.SECOND_HAND.ordinal()];
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder(128).append("LeanProduct[");
+        for (final ProductField field : ProductField.values()) {
+            final Object value = values[field.ordinal()];
+            if (value != null) {
+                if (sb.charAt(sb.length() - 1) != '[') {
+                    sb.append(", ");
+                }
+                sb.append(field.name().toLowerCase(Locale.US)).append('=').append(value);
+            }
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,139 @@
+package com.bol.openapi.client.lean;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Reads the products of a catalog response (search results, list results, product, products or recommendations)
+ * with a {@link ProductProjection}. Elements the projection does not need, such as categories, refinements,
+ * attributes, images and all but the best offer, are skipped event by event without reading their text.
+ */
+public final class LeanProductReader {
+
+    private static final String PRODUCT_ELEMENT = "Product";
+    private static final String TOTAL_RESULT_SIZE_ELEMENT = "TotalResultSize";
+    private static final String OFFERS_ELEMENT = "Offers";
+    private static final String OFFER_ELEMENT = "Offer";
+    private static final Map<String, ProductField> PRODUCT_FIELDS = new HashMap<String, ProductField>();
+    private static final Map<String, ProductField> OFFER_FIELDS = new HashMap<String, ProductField>();
+    private static final int FIELD_COUNT = ProductField.values().length;
+
+    static {
+        for (final ProductField field : ProductField.values()) {
+            (field.isOfferField() ? OFFER_FIELDS : PRODUCT_FIELDS).put(field.getElementName(), field);
+        }
+    }
+
+    private LeanProductReader() {
+    }
+
+    /**
+     * Reads the products of the response.
+     *
+     * @param reader The reader, positioned at the start of the root element. It is left at the end of the root element.
+     * @param projection The fields to read.
+     *
+     * @return The products.
+     *
+     * @throws XMLStreamException When the response is malformed or a field has an invalid value.
+     */
+    public static LeanProducts read(final XMLStreamReader reader, final ProductProjection projection) throws XMLStreamException {
+        final List<LeanProduct> products = new ArrayList<LeanProduct>();
+        Long totalResultSize = null;
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            final String name = reader.getLocalName();
+            if (PRODUCT_ELEMENT.equals(name)) {
+                products.add(readProduct(reader, projection));
+            } else if (TOTAL_RESULT_SIZE_ELEMENT.equals(name)) {
+                final String text = reader.getElementText();
+                try {
+                    totalResultSize = Long.valueOf(text.trim());
+                } catch (final NumberFormatException e) {
+                    throw new XMLStreamException("Invalid total result size '" + text + "'", reader.getLocation(), e);
+                }
+            } else {
+                skip(reader);
+            }
+        }
+
+        return new LeanProducts(products, totalResultSize);
+    }
+
+    /**
+     * Reads a product element.
+     */
+    private static LeanProduct readProduct(final XMLStreamReader reader, final ProductProjection projection) throws XMLStreamException {
+        final Object[] values = new Object[FIELD_COUNT];
+        boolean offerRead = false;
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            final String name = reader.getLocalName();
+            final ProductField field = PRODUCT_FIELDS.get(name);
+            if (field != null && projection.includes(field)) {
+                values[field.ordinal()] = parse(reader, field);
+            } else if (OFFERS_ELEMENT.equals(name) && projection.includesOfferFields() && !offerRead) {
+                readBestOffer(reader, projection, values);
+                offerRead = true;
+            } else {
+                skip(reader);
+            }
+        }
+
+        return new LeanProduct(values);
+    }
+
+    /**
+     * Reads the first offer of an offers element, and skips the others.
+     */
+    private static void readBestOffer(final XMLStreamReader reader, final ProductProjection projection, final Object[] values) throws XMLStreamException {
+        boolean first = true;
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (!first || !OFFER_ELEMENT.equals(reader.getLocalName())) {
+                skip(reader);
+                continue;
+            }
+
+            first = false;
+            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                final ProductField field = OFFER_FIELDS.get(reader.getLocalName());
+                if (field != null && projection.includes(field)) {
+                    values[field.ordinal()] = parse(reader, field);
+                } else {
+                    skip(reader);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the text of a simple element and parses it as value of the field.
+     */
+    private static Object parse(final XMLStreamReader reader, final ProductField field) throws XMLStreamException {
+        final String text = reader.getElementText();
+        try {
+            return field.parse(text);
+        } catch (final IllegalArgumentException e) {
+            throw new XMLStreamException("Invalid " + field + " value '" + text + "'", reader.getLocation(), e);
+        }
+    }
+
+    /**
+     * Skips the element the reader is positioned at, including all of its descendants.
+     */
+    private static void skip(final XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+}
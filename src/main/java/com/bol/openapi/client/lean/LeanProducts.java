@@ -0,0 +1,42 @@
+package com.bol.openapi.client.lean;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The products of a response read with a {@link ProductProjection}, in response order.
+ */
+public final class LeanProducts {
+
+    private final List<LeanProduct> products;
+    private final Long totalResultSize;
+
+    /**
+     * Constructs the lean products.
+     *
+     * @param products The products.
+     * @param totalResultSize The total result size of a search or list, null for other responses.
+     */
+    LeanProducts(final List<LeanProduct> products, final Long totalResultSize) {
+        this.products = Collections.unmodifiableList(products);
+        this.totalResultSize = totalResultSize;
+    }
+
+    public List<LeanProduct> getProducts() {
+        return products;
+    }
+
+    /**
+     * Gets the total result size of a search or list, over all pages.
+     *
+     * @return The total result size, null for product and recommendation responses.
+     */
+    public Long getTotalResultSize() {
+        return totalResultSize;
+    }
+
+    @Override
+    public String toString() {
+        return "LeanProducts[products=" + products.size() + ", totalResultSize=" + totalResultSize + "]";
+    }
+}
@@ -0,0 +1,122 @@
+package com.bol.openapi.client.lean;
+
+import java.math.BigDecimal;
+
+import com.bol.openapi.openapi_3_0.ProductType;
+
+/**
+ * The product fields a {@link ProductProjection} can read. Offer fields are taken from the best offer, which is the
+ * first offer of the product.
+ */
+public enum ProductField {
+
+    /**
+     * The product id.
+     */
+    ID("Id", false),
+    /**
+     * The EAN.
+     */
+    EAN("Ean", false),
+    /**
+     * The title.
+     */
+    TITLE("Title", false),
+    /**
+     * The subtitle.
+     */
+    SUBTITLE("Subtitle", false),
+    /**
+     * The product type.
+     */
+    TYPE("Type", false),
+    /**
+     * The average rating.
+     */
+    RATING("Rating", false),
+    /**
+     * The id of the best offer.
+     */
+    OFFER_ID("Id", true),
+    /**
+     * The price of the best offer.
+     */
+    PRICE("Price", true),
+    /**
+     * The list price of the best offer.
+     */
+    LIST_PRICE("ListPrice", true),
+    /**
+     * The availability code of the best offer.
+     */
+    AVAILABILITY_CODE("AvailabilityCode", true),
+    /**
+     * The availability description of the best offer.
+     */
+    AVAILABILITY_DESCRIPTION("AvailabilityDescription", true),
+    /**
+     * Whether the best offer is second hand.
+     */
+    SECOND_HAND("SecondHand", true);
+
+    private final String elementName;
+    private final boolean offerField;
+
+    private ProductField(final String elementName, final boolean offerField) {
+        this.elementName = elementName;
+        this.offerField = offerField;
+    }
+
+    /**
+     * Gets the local name of the element the field is read from, within the product or within the offer.
+     *
+     * @return The element name.
+     */
+    public String getElementName() {
+        return elementName;
+    }
+
+    /**
+     * Whether the field is read from the best offer.
+     *
+     * @return True for offer fields.
+     */
+    public boolean isOfferField() {
+        return offerField;
+    }
+
+    /**
+     * Parses the text of the element into the value of the field.
+     *
+     * @param text The element text.
+     *
+     * @return The value.
+     *
+     * @throws IllegalArgumentException When the text is not a valid value.
+     */
+    Object parse(final String text) {
+        switch (this) {
+        case ID:
+            return Long.valueOf(text.trim());
+        case TYPE:
+            try {
+                return ProductType.fromValue(text.trim());
+            } catch (final IllegalArgumentException e) {
+                // Unknown types are left out, as JAXB does
+                return null;
+            }
+        case RATING:
+            return new BigDecimal(text.trim());
+        case PRICE:
+        case LIST_PRICE:
+            return Double.valueOf(text.trim());
+        case AVAILABILITY_CODE:
+            return Integer.valueOf(text.trim());
+        case SECOND_HAND:
+            final String value = text.trim();
+            return "true".equals(value) || "1".equals(value);
+        default:
+            return text;
+        }
+    }
+}
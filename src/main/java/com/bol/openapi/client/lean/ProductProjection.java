@@ -0,0 +1,108 @@
+package com.bol.openapi.client.lean;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The set of {@link ProductField}s a lean read materializes. All other product data is skipped while parsing, without
+ * being allocated. Projections are immutable.
+ */
+public final class ProductProjection {
+
+    private final Set<ProductField> fields;
+    private final boolean offerFields;
+    private final String key;
+
+    private ProductProjection(final EnumSet<ProductField> fields) {
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("At least one field is required");
+        }
+
+        this.fields = Collections.unmodifiableSet(fields);
+        boolean offer = false;
+        final StringBuilder sb = new StringBuilder(64);
+        for (final ProductField field : fields) {
+            offer |= field.isOfferField();
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(field.name());
+        }
+        this.offerFields = offer;
+        this.key = sb.toString();
+    }
+
+    /**
+     * Creates the projection of the given fields.
+     *
+     * @param first The first field.
+     * @param rest The other fields.
+     *
+     * @return The projection.
+     */
+    public static ProductProjection of(final ProductField first, final ProductField... rest) {
+        return new ProductProjection(EnumSet.of(first, rest));
+    }
+
+    /**
+     * Creates the projection of the given fields.
+     *
+     * @param fields The fields, at least one.
+     *
+     * @return The projection.
+     */
+    public static ProductProjection of(final Collection<ProductField> fields) {
+        return new ProductProjection(fields.isEmpty() ? EnumSet.noneOf(ProductField.class) : EnumSet.copyOf(fields));
+    }
+
+    /**
+     * Whether the projection includes the field.
+     *
+     * @param field The field.
+     *
+     * @return True when the field is read.
+     */
+    public boolean includes(final ProductField field) {
+        return fields.contains(field);
+    }
+
+    /**
+     * Whether the projection includes any field of the best offer.
+     *
+     * @return True when the offers are read.
+     */
+    public boolean includesOfferFields() {
+        return offerFields;
+    }
+
+    public Set<ProductField> getFields() {
+        return fields;
+    }
+
+    /**
+     * Gets the key of the projection, which tells apart the cached responses of different projections.
+     *
+     * @return The field names in declaration order, separated by commas.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof ProductProjection && fields.equals(((ProductProjection) obj).fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return fields.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "ProductProjection" + Arrays.toString(fields.toArray());
+    }
+}
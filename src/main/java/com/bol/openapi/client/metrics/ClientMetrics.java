@@ -0,0 +1,50 @@
+package com.bol.openapi.client.metrics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.bol.openapi.client.Endpoint;
+
+/**
+ * Latency histograms and counters for every OpenAPI endpoint. Memory use is fixed: all histograms are allocated up
+ * front and recording never allocates or locks. Use {@link #snapshot()} to export the data.
+ */
+public class ClientMetrics {
+
+    private final Map<Endpoint, EndpointMetrics> endpointMetrics = new EnumMap<Endpoint, EndpointMetrics>(Endpoint.class);
+
+    /**
+     * Constructs the client metrics.
+     */
+    public ClientMetrics() {
+        for (final Endpoint endpoint : Endpoint.values()) {
+            endpointMetrics.put(endpoint, new EndpointMetrics(endpoint));
+        }
+    }
+
+    /**
+     * Gets the metrics of an endpoint.
+     *
+     * @param endpoint The endpoint.
+     *
+     * @return The endpoint metrics.
+     */
+    public EndpointMetrics getEndpointMetrics(final Endpoint endpoint) {
+        return endpointMetrics.get(endpoint);
+    }
+
+    /**
+     * Takes a snapshot of the metrics of all endpoints.
+     *
+     * @return The snapshot per endpoint.
+     */
+    public Map<Endpoint, EndpointSnapshot> snapshot() {
+        final Map<Endpoint, EndpointSnapshot> snapshot = new EnumMap<Endpoint, EndpointSnapshot>(Endpoint.class);
+        for (final EndpointMetrics metrics : endpointMetrics.values()) {
+            snapshot.put(metrics.getEndpoint(), metrics.snapshot());
+        }
+
+        return Collections.unmodifiableMap(snapshot);
+    }
+}
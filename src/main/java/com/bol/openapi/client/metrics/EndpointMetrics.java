@@ -0,0 +1,155 @@
+package com.bol.openapi.client.metrics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.bol.openapi.client.Endpoint;
+import com.bol.openapi.client.exception.BasicApiException;
+
+/**
+ * Latency histograms per {@link Phase} and counters for a single endpoint. All recording methods are thread safe.
+ */
+public class EndpointMetrics {
+
+    private static final int MAX_STATUS_CODE = 599;
+    private static final String UNKNOWN_STATUS = "unknown";
+
+    private final Endpoint endpoint;
+    private final Map<Phase, LatencyHistogram> histograms = new EnumMap<Phase, LatencyHistogram>(Phase.class);
+    private final AtomicLong bytesReceived = new AtomicLong();
+    private final AtomicLong uncompressedBytes = new AtomicLong();
+    private final AtomicLongArray statusCodes = new AtomicLongArray(MAX_STATUS_CODE + 1);
+    private final ConcurrentMap<String, AtomicLong> errorStatuses = new ConcurrentHashMap<String, AtomicLong>();
+    private final AtomicLong ioFailures = new AtomicLong();
+
+    /**
+     * Constructs the endpoint metrics.
+     *
+     * @param endpoint The endpoint.
+     */
+    public EndpointMetrics(final Endpoint endpoint) {
+        this.endpoint = endpoint;
+        for (final Phase phase : Phase.values()) {
+            histograms.put(phase, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Records the duration of a phase.
+     *
+     * @param phase The phase.
+     * @param nanos The duration in nanoseconds.
+     */
+    public void record(final Phase phase, final long nanos) {
+        histograms.get(phase).record(nanos);
+    }
+
+    /**
+     * Records received response bytes, as transferred.
+     *
+     * @param bytes The number of bytes.
+     */
+    public void recordBytesReceived(final long bytes) {
+        bytesReceived.addAndGet(bytes);
+    }
+
+    /**
+     * Records received response bytes after decompression, equal to the transferred bytes for uncompressed responses.
+     *
+     * @param bytes The number of bytes.
+     */
+    public void recordUncompressedBytes(final long bytes) {
+        uncompressedBytes.addAndGet(bytes);
+    }
+
+    /**
+     * Records the HTTP status code of a response.
+     *
+     * @param statusCode The status code, codes outside 0-599 are ignored.
+     */
+    public void recordStatusCode(final int statusCode) {
+        if (statusCode >= 0 && statusCode <= MAX_STATUS_CODE) {
+            statusCodes.incrementAndGet(statusCode);
+        }
+    }
+
+    /**
+     * Records a call that failed with a basic API exception.
+     *
+     * @param exception The exception.
+     */
+    public void recordError(final BasicApiException exception) {
+        final String status = exception.getStatus() != null ? exception.getStatus() : UNKNOWN_STATUS;
+        AtomicLong counter = errorStatuses.get(status);
+        if (counter == null) {
+            final AtomicLong created = new AtomicLong();
+            counter = errorStatuses.putIfAbsent(status, created);
+            if (counter == null) {
+                counter = created;
+            }
+        }
+        counter.incrementAndGet();
+    }
+
+    /**
+     * Records a call that failed with an I/O exception.
+     */
+    public void recordIoFailure() {
+        ioFailures.incrementAndGet();
+    }
+
+    /**
+     * Takes a snapshot of the metrics.
+     *
+     * @return The snapshot.
+     */
+    public EndpointSnapshot snapshot() {
+        final Map<Phase, HistogramSnapshot> histogramSnapshots = new EnumMap<Phase, HistogramSnapshot>(Phase.class);
+        for (final Map.Entry<Phase, LatencyHistogram> entry : histograms.entrySet()) {
+            histogramSnapshots.put(entry.getKey(), entry.getValue().snapshot());
+        }
+
+        final SortedMap<Integer, Long> statusCodeCounts = new TreeMap<Integer, Long>();
+        for (int i = 0; i <= MAX_STATUS_CODE; i++) {
+            final long count = statusCodes.get(i);
+            if (count > 0) {
+                statusCodeCounts.put(i, count);
+            }
+        }
+
+        final SortedMap<String, Long> errorStatusCounts = new TreeMap<String, Long>();
+        for (final Map.Entry<String, AtomicLong> entry : errorStatuses.entrySet()) {
+            errorStatusCounts.put(entry.getKey(), entry.getValue().get());
+        }
+
+        return new EndpointSnapshot(endpoint, Collections.unmodifiableMap(histogramSnapshots), bytesReceived.get(), uncompressedBytes.get(),
+                Collections.unmodifiableSortedMap(statusCodeCounts), Collections.unmodifiableSortedMap(errorStatusCounts), ioFailures.get());
+    }
+
+    /**
+     * Gets the live histogram of a phase, for reading a single phase without a full {@link #snapshot()}.
+     *
+     * @param phase The phase.
+     *
+     * @return The histogram.
+     */
+    public LatencyHistogram getHistogram(final Phase phase) {
+        return histograms.get(phase);
+    }
+
+    /**
+     * Gets the endpoint.
+     *
+     * @return The endpoint.
+     */
+    public Endpoint getEndpoint() {
+        return endpoint;
+    }
+}
@@ -0,0 +1,105 @@
+package com.bol.openapi.client.metrics;
+
+import java.util.Map;
+import java.util.SortedMap;
+
+import com.bol.openapi.client.Endpoint;
+
+/**
+ * Immutable copy of the {@link EndpointMetrics} of a single endpoint.
+ */
+public class EndpointSnapshot {
+
+    private final Endpoint endpoint;
+    private final Map<Phase, HistogramSnapshot> histograms;
+    private final long bytesReceived;
+    private final long uncompressedBytes;
+    private final SortedMap<Integer, Long> statusCodes;
+    private final SortedMap<String, Long> errorStatuses;
+    private final long ioFailures;
+
+    /**
+     * Constructs the endpoint snapshot.
+     *
+     * @param endpoint The endpoint.
+     * @param histograms The histogram per phase.
+     * @param bytesReceived The number of response bytes received.
+     * @param uncompressedBytes The number of response bytes received, after decompression.
+     * @param statusCodes The number of responses per HTTP status code.
+     * @param errorStatuses The number of basic API exceptions per status.
+     * @param ioFailures The number of calls that failed with an I/O exception.
+     */
+    EndpointSnapshot(final Endpoint endpoint, final Map<Phase, HistogramSnapshot> histograms, final long bytesReceived, final long uncompressedBytes,
+            final SortedMap<Integer, Long> statusCodes, final SortedMap<String, Long> errorStatuses, final long ioFailures) {
+        this.endpoint = endpoint;
+        this.histograms = histograms;
+        this.bytesReceived = bytesReceived;
+        this.uncompressedBytes = uncompressedBytes;
+        this.statusCodes = statusCodes;
+        this.errorStatuses = errorStatuses;
+        this.ioFailures = ioFailures;
+    }
+
+    /**
+     * Gets the histogram of a phase.
+     *
+     * @param phase The phase.
+     *
+     * @return The histogram snapshot.
+     */
+    public HistogramSnapshot getHistogram(final Phase phase) {
+        return histograms.get(phase);
+    }
+
+    /**
+     * Gets the number of calls, including calls answered without an HTTP exchange.
+     *
+     * @return The call count.
+     */
+    public long getCallCount() {
+        return histograms.get(Phase.TOTAL).getCount();
+    }
+
+    public Endpoint getEndpoint() {
+        return endpoint;
+    }
+
+    public Map<Phase, HistogramSnapshot> getHistograms() {
+        return histograms;
+    }
+
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    public long getUncompressedBytes() {
+        return uncompressedBytes;
+    }
+
+    /**
+     * Gets the ratio of the received bytes after and before decompression.
+     *
+     * @return The compression ratio, 1 when nothing was received.
+     */
+    public double getCompressionRatio() {
+        return bytesReceived == 0 ? 1 : (double) uncompressedBytes / bytesReceived;
+    }
+
+    public SortedMap<Integer, Long> getStatusCodes() {
+        return statusCodes;
+    }
+
+    public SortedMap<String, Long> getErrorStatuses() {
+        return errorStatuses;
+    }
+
+    public long getIoFailures() {
+        return ioFailures;
+    }
+
+    @Override
+    public String toString() {
+        return "EndpointSnapshot[endpoint=" + endpoint + ", calls=" + getCallCount() + ", bytesReceived=" + bytesReceived
+                + ", uncompressedBytes=" + uncompressedBytes + ", statusCodes=" + statusCodes + ", errorStatuses=" + errorStatuses + ", ioFailures=" + ioFailures + "]";
+    }
+}
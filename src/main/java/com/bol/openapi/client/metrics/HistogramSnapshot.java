@@ -0,0 +1,146 @@
+package com.bol.openapi.client.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable copy of a {@link LatencyHistogram}. Values are in nanoseconds. The bucket counts are exposed so they can
+ * be exported to other metrics systems.
+ */
+public class HistogramSnapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long total;
+    private final long max;
+
+    /**
+     * Constructs the histogram snapshot.
+     *
+     * @param counts The bucket counts, owned by the snapshot.
+     * @param total The sum of the recorded values.
+     * @param max The largest recorded value.
+     */
+    HistogramSnapshot(final long[] counts, final long total, final long max) {
+        long count = 0;
+        for (final long bucketCount : counts) {
+            count += bucketCount;
+        }
+
+        this.counts = counts;
+        this.count = count;
+        this.total = total;
+        this.max = max;
+    }
+
+    /**
+     * Gets the value below which the given percentage of the recorded values fall. The upper bound of the bucket is
+     * reported, so the value is at most 12.5% too high.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     *
+     * @return The value in nanoseconds, 0 when nothing was recorded.
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        final long rank = Math.max(1L, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.upperBound(i), max);
+            }
+        }
+
+        return max;
+    }
+
+    /**
+     * Gets the value below which the given percentage of the recorded values fall.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     * @param unit The unit to convert to.
+     *
+     * @return The value in the given unit.
+     */
+    public long getValueAtPercentile(final double percentile, final TimeUnit unit) {
+        return unit.convert(getValueAtPercentile(percentile), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the sum of the recorded values.
+     *
+     * @return The total in nanoseconds.
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Gets the largest recorded value.
+     *
+     * @return The maximum in nanoseconds.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Gets the mean of the recorded values.
+     *
+     * @return The mean in nanoseconds, 0 when nothing was recorded.
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    /**
+     * Gets the number of buckets.
+     *
+     * @return The bucket count.
+     */
+    public int getBucketCount() {
+        return counts.length;
+    }
+
+    /**
+     * Gets the number of values recorded in a bucket.
+     *
+     * @param index The bucket index.
+     *
+     * @return The count.
+     */
+    public long getCount(final int index) {
+        return counts[index];
+    }
+
+    /**
+     * Gets the largest value of a bucket.
+     *
+     * @param index The bucket index.
+     *
+     * @return The upper bound in nanoseconds, inclusive.
+     */
+    public long getUpperBound(final int index) {
+        return LatencyHistogram.upperBound(index);
+    }
+
+    @Override
+    public String toString() {
+        return "HistogramSnapshot[count=" + count + ", p50=" + getValueAtPercentile(50) + ", p99=" + getValueAtPercentile(99) + ", max=" + max + "]";
+    }
+}
@@ -0,0 +1,103 @@
+package com.bol.openapi.client.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-memory latency histogram with log-linear buckets. Every power of two is split into 8 linear sub-buckets, which
+ * bounds the relative error of a reported value to 12.5%. Values are in nanoseconds and are clamped to
+ * {@link #MAX_VALUE}. Recording is lock-free and never allocates.
+ */
+public class LatencyHistogram {
+
+    /**
+     * The largest value that can be told apart, about 18 minutes. Larger values are recorded in the last bucket.
+     */
+    public static final long MAX_VALUE = (1L << 40) - 1;
+
+    static final int SUB_BUCKET_BITS = 3;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int BUCKET_COUNT = indexOf(MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a value.
+     *
+     * @param nanos The value in nanoseconds, negative values are recorded as 0.
+     */
+    public void record(final long nanos) {
+        final long value = Math.min(Math.max(nanos, 0L), MAX_VALUE);
+        counts.incrementAndGet(indexOf(value));
+        total.addAndGet(value);
+
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * Takes a snapshot of the histogram. Values recorded while the snapshot is taken may or may not be included.
+     *
+     * @return The snapshot.
+     */
+    public HistogramSnapshot snapshot() {
+        final long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+        }
+
+        return new HistogramSnapshot(snapshot, total.get(), max.get());
+    }
+
+    /**
+     * Gets the bucket of a value.
+     *
+     * @param value The value, between 0 and {@link #MAX_VALUE}.
+     *
+     * @return The bucket index.
+     */
+    static int indexOf(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return ((exponent - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + subBucket;
+    }
+
+    /**
+     * Gets the smallest value of a bucket.
+     *
+     * @param index The bucket index.
+     *
+     * @return The lower bound, inclusive.
+     */
+    static long lowerBound(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        final int shift = (index >> SUB_BUCKET_BITS) - 1;
+        return (long) (SUB_BUCKET_COUNT + (index & (SUB_BUCKET_COUNT - 1))) << shift;
+    }
+
+    /**
+     * Gets the largest value of a bucket.
+     *
+     * @param index The bucket index.
+     *
+     * @return The upper bound, inclusive.
+     */
+    static long upperBound(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        return lowerBound(index) + (1L << ((index >> SUB_BUCKET_BITS) - 1)) - 1;
+    }
+}
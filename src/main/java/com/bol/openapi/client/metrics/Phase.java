@@ -0,0 +1,32 @@
+package com.bol.openapi.client.metrics;
+
+/**
+ * The phases of an OpenAPI call that are timed separately.
+ */
+public enum Phase {
+
+    /**
+     * Creating the HTTP request and calculating its signature.
+     */
+    SIGN,
+
+    /**
+     * Sending the request and waiting for the response headers.
+     */
+    EXECUTE,
+
+    /**
+     * Reading the response body. When streaming, only the part up to the root element.
+     */
+    READ,
+
+    /**
+     * Unmarshalling the response body. When streaming, this includes reading the rest of the body.
+     */
+    UNMARSHAL,
+
+    /**
+     * The whole call as seen by the caller, including interceptors such as the response cache.
+     */
+    TOTAL
+}
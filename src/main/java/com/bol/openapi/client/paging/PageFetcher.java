@@ -0,0 +1,19 @@
+package com.bol.openapi.client.paging;
+
+/**
+ * Fetches a single page of products.
+ */
+public interface PageFetcher {
+
+    /**
+     * Fetches the page starting at the given offset.
+     *
+     * @param offset   The offset of the first product.
+     * @param pageSize The number of products to fetch.
+     *
+     * @return The page.
+     *
+     * @throws Exception When fetching fails.
+     */
+    ProductPage fetch(long offset, int pageSize) throws Exception;
+}
@@ -0,0 +1,169 @@
+package com.bol.openapi.client.paging;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import com.bol.openapi.client.exception.PagingException;
+import com.bol.openapi.openapi_3_0.Product;
+
+/**
+ * Iterator over all products of a paged result. Pages are fetched on demand, or ahead of the consumer when a prefetch
+ * depth and executor are configured. Iteration stops at the total result size reported by the server, at the
+ * configured maximum, or when {@link #close()} is called. Not thread safe.
+ */
+public class PagedProductIterator implements Iterator<Product> {
+
+    private final PageFetcher pageFetcher;
+    private final PagingOptions options;
+    private final long endOffset;
+    private final LinkedList<Future<ProductPage>> pending = new LinkedList<Future<ProductPage>>();
+    private long nextOffset;
+    private long totalResultSize = -1;
+    private long remaining;
+    private Iterator<Product> currentPage;
+    private boolean closed;
+
+    /**
+     * Constructs the paged product iterator.
+     *
+     * @param pageFetcher The fetcher for single pages.
+     * @param startOffset The offset of the first product.
+     * @param options     The paging options.
+     */
+    public PagedProductIterator(final PageFetcher pageFetcher, final long startOffset, final PagingOptions options) {
+        this.pageFetcher = pageFetcher;
+        this.options = options;
+        this.nextOffset = startOffset;
+        this.remaining = options.getMaxProducts();
+        this.endOffset = options.getMaxProducts() > Long.MAX_VALUE - startOffset ? Long.MAX_VALUE : startOffset + options.getMaxProducts();
+    }
+
+    public boolean hasNext() {
+        while (!closed) {
+            if (remaining <= 0) {
+                close();
+            } else if (currentPage != null && currentPage.hasNext()) {
+                return true;
+            } else {
+                if (pending.isEmpty() && !schedule()) {
+                    close();
+                    return false;
+                }
+
+                final ProductPage page = await(pending.removeFirst());
+                totalResultSize = page.getTotalResultSize();
+                if (page.getProducts() == null || page.getProducts().isEmpty()) {
+                    close();
+                    return false;
+                }
+
+                currentPage = page.getProducts().iterator();
+                prefetch();
+            }
+        }
+
+        return false;
+    }
+
+    public Product next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        remaining--;
+        return currentPage.next();
+    }
+
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Stops the iteration and cancels all pages that are still being prefetched.
+     */
+    public void close() {
+        closed = true;
+        currentPage = null;
+        for (final Future<ProductPage> future : pending) {
+            future.cancel(true);
+        }
+        pending.clear();
+    }
+
+    /**
+     * Gets the total result size, as reported by the last fetched page.
+     *
+     * @return The total result size, or -1 when no page was fetched yet.
+     */
+    public long getTotalResultSize() {
+        return totalResultSize;
+    }
+
+    /**
+     * Schedules pages in the background until the prefetch depth is reached.
+     */
+    private void prefetch() {
+        if (options.getExecutorService() == null) {
+            return;
+        }
+
+        while (pending.size() < options.getPrefetchDepth() && schedule()) {
+            // keep scheduling
+        }
+    }
+
+    /**
+     * Schedules the next page. Without a prefetch executor the page is fetched right away on the calling thread.
+     *
+     * @return False when there are no more pages.
+     */
+    private boolean schedule() {
+        if (nextOffset >= endOffset || (totalResultSize >= 0 && nextOffset >= totalResultSize)) {
+            return false;
+        }
+
+        final long offset = nextOffset;
+        final int pageSize = options.getPageSize();
+        nextOffset += pageSize;
+
+        final Callable<ProductPage> task = new Callable<ProductPage>() {
+            public ProductPage call() throws Exception {
+                return pageFetcher.fetch(offset, pageSize);
+            }
+        };
+        if (options.getExecutorService() != null && options.getPrefetchDepth() > 0) {
+            pending.addLast(options.getExecutorService().submit(task));
+        } else {
+            final FutureTask<ProductPage> future = new FutureTask<ProductPage>(task);
+            future.run();
+            pending.addLast(future);
+        }
+
+        return true;
+    }
+
+    /**
+     * Waits for the page to be fetched.
+     *
+     * @param future The future page.
+     *
+     * @return The page.
+     */
+    private ProductPage await(final Future<ProductPage> future) {
+        try {
+            return future.get();
+        } catch (final ExecutionException e) {
+            close();
+            throw new PagingException("Fetching a page failed", e.getCause());
+        } catch (final InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new PagingException("Interrupted while waiting for a page", e);
+        }
+    }
+}
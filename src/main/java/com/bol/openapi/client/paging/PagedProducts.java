@@ -0,0 +1,30 @@
+package com.bol.openapi.client.paging;
+
+import com.bol.openapi.openapi_3_0.Product;
+
+/**
+ * Iterable over all products of a paged result. Each call to {@link #iterator()} walks the result from the start.
+ */
+public class PagedProducts implements Iterable<Product> {
+
+    private final PageFetcher pageFetcher;
+    private final long startOffset;
+    private final PagingOptions options;
+
+    /**
+     * Constructs the paged products.
+     *
+     * @param pageFetcher The fetcher for single pages.
+     * @param startOffset The offset of the first product.
+     * @param options     The paging options.
+     */
+    public PagedProducts(final PageFetcher pageFetcher, final long startOffset, final PagingOptions options) {
+        this.pageFetcher = pageFetcher;
+        this.startOffset = startOffset;
+        this.options = options;
+    }
+
+    public PagedProductIterator iterator() {
+        return new PagedProductIterator(pageFetcher, startOffset, options);
+    }
+}
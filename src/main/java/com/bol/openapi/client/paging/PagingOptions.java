@@ -0,0 +1,92 @@
+package com.bol.openapi.client.paging;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Options for paging through product results.
+ */
+public class PagingOptions {
+
+    /**
+     * The default and maximum number of products per page.
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private int pageSize = MAX_PAGE_SIZE;
+    private int prefetchDepth;
+    private long maxProducts = Long.MAX_VALUE;
+    private ExecutorService executorService;
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Sets the number of products per page.
+     *
+     * @param pageSize The page size, between 1 and {@link #MAX_PAGE_SIZE}.
+     *
+     * @return These options.
+     */
+    public PagingOptions setPageSize(final int pageSize) {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    public int getPrefetchDepth() {
+        return prefetchDepth;
+    }
+
+    /**
+     * Sets the number of pages fetched ahead of the page being consumed. Prefetching requires an executor.
+     *
+     * @param prefetchDepth The number of pages to prefetch, 0 to fetch each page when it is needed.
+     *
+     * @return These options.
+     */
+    public PagingOptions setPrefetchDepth(final int prefetchDepth) {
+        if (prefetchDepth < 0) {
+            throw new IllegalArgumentException("Prefetch depth must not be negative");
+        }
+        this.prefetchDepth = prefetchDepth;
+        return this;
+    }
+
+    public long getMaxProducts() {
+        return maxProducts;
+    }
+
+    /**
+     * Sets the maximum number of products to iterate over. No pages beyond this limit are fetched.
+     *
+     * @param maxProducts The maximum number of products.
+     *
+     * @return These options.
+     */
+    public PagingOptions setMaxProducts(final long maxProducts) {
+        if (maxProducts < 0) {
+            throw new IllegalArgumentException("Maximum number of products must not be negative");
+        }
+        this.maxProducts = maxProducts;
+        return this;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Sets the executor that prefetches pages in the background.
+     *
+     * @param executorService The executor.
+     *
+     * @return These options.
+     */
+    public PagingOptions setExecutorService(final ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+}
@@ -0,0 +1,33 @@
+package com.bol.openapi.client.paging;
+
+import java.util.List;
+
+import com.bol.openapi.openapi_3_0.Product;
+
+/**
+ * A single page of products together with the total result size reported by the server.
+ */
+public class ProductPage {
+
+    private final List<Product> products;
+    private final long totalResultSize;
+
+    /**
+     * Constructs the product page.
+     *
+     * @param products        The products on this page.
+     * @param totalResultSize The total number of results.
+     */
+    public ProductPage(final List<Product> products, final long totalResultSize) {
+        this.products = products;
+        this.totalResultSize = totalResultSize;
+    }
+
+    public List<Product> getProducts() {
+        return products;
+    }
+
+    public long getTotalResultSize() {
+        return totalResultSize;
+    }
+}
@@ -0,0 +1,47 @@
+package com.bol.openapi.client.pipeline;
+
+import org.apache.http.client.methods.HttpUriRequest;
+
+/**
+ * Lets another thread abort the exchange of a request, for example the losing copy of a hedged call. The exchange
+ * registers its HTTP request with the handle; aborting before that aborts the HTTP request as soon as it is registered.
+ */
+public final class AbortHandle {
+
+    private HttpUriRequest httpRequest;
+    private boolean aborted;
+
+    /**
+     * Registers the HTTP request of the exchange.
+     *
+     * @param httpRequest The HTTP request.
+     */
+    synchronized void setHttpRequest(final HttpUriRequest httpRequest) {
+        this.httpRequest = httpRequest;
+        if (aborted) {
+            httpRequest.abort();
+        }
+    }
+
+    /**
+     * Aborts the exchange. A blocked exchange fails with an {@link java.io.IOException}, and its connection is closed
+     * instead of being returned to the pool.
+     */
+    public void abort() {
+        final HttpUriRequest current;
+        synchronized (this) {
+            if (aborted) {
+                return;
+            }
+            aborted = true;
+            current = httpRequest;
+        }
+        if (current != null) {
+            current.abort();
+        }
+    }
+
+    public synchronized boolean isAborted() {
+        return aborted;
+    }
+}
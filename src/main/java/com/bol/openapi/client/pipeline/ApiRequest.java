@@ -0,0 +1,207 @@
+package com.bol.openapi.client.pipeline;
+
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.client.methods.HttpUriRequest;
+
+import com.bol.openapi.client.Endpoint;
+import com.bol.openapi.client.cache.ResponseCache;
+import com.bol.openapi.client.lean.LeanProducts;
+import com.bol.openapi.client.lean.ProductProjection;
+import com.bol.openapi.client.util.EndpointUri;
+
+/**
+ * An OpenAPI call as it travels through the {@link RequestExecutor}. A request either reads a response of the given
+ * type, reads only the projected product fields of a catalog response into {@link LeanProducts}, or only checks the
+ * HTTP status of the response and yields a {@link Boolean}. Requests are immutable; the HTTP request is created and
+ * signed anew for every exchange.
+ */
+public final class ApiRequest<T> {
+
+    private final Endpoint endpoint;
+    private final String method;
+    private final EndpointUri endpointUri;
+    private final String sessionId;
+    private final Class<T> responseType;
+    private final int expectedStatus;
+    private final ProductProjection projection;
+    private final AbortHandle abortHandle;
+    private volatile String key;
+
+    private ApiRequest(final Endpoint endpoint, final String method, final EndpointUri endpointUri, final String sessionId, final Class<T> responseType,
+            final int expectedStatus, final ProductProjection projection, final AbortHandle abortHandle) {
+        this.endpoint = endpoint;
+        this.method = method;
+        this.endpointUri = endpointUri;
+        this.sessionId = sessionId;
+        this.responseType = responseType;
+        this.expectedStatus = expectedStatus;
+        this.projection = projection;
+        this.abortHandle = abortHandle;
+    }
+
+    /**
+     * Creates a GET request that reads the response.
+     *
+     * @param endpoint The endpoint.
+     * @param endpointUri The expanded endpoint URI.
+     * @param sessionId The session id, may be null.
+     * @param responseType The expected type of a successful response.
+     *
+     * @return The request.
+     */
+    public static <T> ApiRequest<T> read(final Endpoint endpoint, final EndpointUri endpointUri, final String sessionId, final Class<T> responseType) {
+        return new ApiRequest<T>(endpoint, HttpGet.METHOD_NAME, endpointUri, sessionId, responseType, 0, null, null);
+    }
+
+    /**
+     * Creates a GET request that reads only the projected fields of the products in the response.
+     *
+     * @param endpoint The catalog endpoint.
+     * @param endpointUri The expanded endpoint URI.
+     * @param sessionId The session id, may be null.
+     * @param projection The product fields to read.
+     *
+     * @return The request.
+     */
+    public static ApiRequest<LeanProducts> readLean(final Endpoint endpoint, final EndpointUri endpointUri, final String sessionId, final ProductProjection projection) {
+        return new ApiRequest<LeanProducts>(endpoint, HttpGet.METHOD_NAME, endpointUri, sessionId, LeanProducts.class, 0, projection, null);
+    }
+
+    /**
+     * Creates a request that only checks the HTTP status of the response. Its result is true when the status equals
+     * the expected status.
+     *
+     * @param endpoint The endpoint.
+     * @param method The HTTP method.
+     * @param endpointUri The expanded endpoint URI.
+     * @param sessionId The session id, may be null.
+     * @param expectedStatus The HTTP status of a successful response.
+     *
+     * @return The request.
+     */
+    public static ApiRequest<Boolean> statusCheck(final Endpoint endpoint, final String method, final EndpointUri endpointUri, final String sessionId,
+            final int expectedStatus) {
+        return new ApiRequest<Boolean>(endpoint, method, endpointUri, sessionId, Boolean.class, expectedStatus, null, null);
+    }
+
+    /**
+     * Creates a copy of this request whose exchange can be aborted through the given handle.
+     *
+     * @param handle The abort handle.
+     *
+     * @return The request.
+     */
+    public ApiRequest<T> withAbortHandle(final AbortHandle handle) {
+        final ApiRequest<T> copy = new ApiRequest<T>(endpoint, method, endpointUri, sessionId, responseType, expectedStatus, projection, handle);
+        copy.key = key;
+        return copy;
+    }
+
+    /**
+     * Creates a new, unsigned HTTP request.
+     *
+     * @return The HTTP request.
+     */
+    public HttpUriRequest createHttpRequest() {
+        if (HttpGet.METHOD_NAME.equals(method)) {
+            return new HttpGet(endpointUri.getUri());
+        }
+        if (HttpPost.METHOD_NAME.equals(method)) {
+            return new HttpPost(endpointUri.getUri());
+        }
+        if (HttpPut.METHOD_NAME.equals(method)) {
+            return new HttpPut(endpointUri.getUri());
+        }
+        if (HttpDelete.METHOD_NAME.equals(method)) {
+            return new HttpDelete(endpointUri.getUri());
+        }
+
+        throw new IllegalStateException("Unsupported HTTP method " + method);
+    }
+
+    /**
+     * Gets the key that identifies the request among requests of all endpoints, see {@link ResponseCache#createKey}. The
+     * key of a lean read ends with its projection.
+     *
+     * @return The key.
+     */
+    public String getKey() {
+        String result = key;
+        if (result == null) {
+            result = ResponseCache.createKey(endpoint, endpointUri.getPath(), endpointUri.getParameters());
+            if (projection != null) {
+                result += '#' + projection.getKey();
+            }
+            key = result;
+        }
+        return result;
+    }
+
+    /**
+     * Whether the request is an idempotent GET.
+     *
+     * @return True for GET requests.
+     */
+    public boolean isIdempotent() {
+        return HttpGet.METHOD_NAME.equals(method);
+    }
+
+    /**
+     * Whether the request only checks the HTTP status.
+     *
+     * @return True for status checks.
+     */
+    public boolean isStatusCheck() {
+        return expectedStatus != 0;
+    }
+
+    public Endpoint getEndpoint() {
+        return endpoint;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public EndpointUri getEndpointUri() {
+        return endpointUri;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public Class<T> getResponseType() {
+        return responseType;
+    }
+
+    public int getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    /**
+     * Gets the projection of a lean read.
+     *
+     * @return The projection, null when the full response is read.
+     */
+    public ProductProjection getProjection() {
+        return projection;
+    }
+
+    /**
+     * Gets the handle to abort the exchange of this request with.
+     *
+     * @return The abort handle, null when the exchange cannot be aborted.
+     */
+    public AbortHandle getAbortHandle() {
+        return abortHandle;
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + endpointUri;
+    }
+}
@@ -0,0 +1,45 @@
+package com.bol.openapi.client.pipeline;
+
+import java.io.IOException;
+
+import javax.xml.bind.JAXBException;
+
+import com.bol.openapi.client.cache.ResponseCache;
+import com.bol.openapi.client.exception.BasicApiException;
+
+/**
+ * Serves catalog reads from a {@link ResponseCache} and stores the responses it passes on.
+ */
+public class CacheInterceptor implements Interceptor {
+
+    private final ResponseCache responseCache;
+
+    /**
+     * Constructs the cache interceptor.
+     *
+     * @param responseCache The response cache.
+     */
+    public CacheInterceptor(final ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    public Object intercept(final Chain chain) throws IOException, JAXBException, BasicApiException {
+        final ApiRequest<?> request = chain.request();
+        if (request.isStatusCheck() || !responseCache.isCached(request.getEndpoint())) {
+            return chain.proceed(request);
+        }
+
+        final Object cached = responseCache.get(request.getKey());
+        if (request.getResponseType().isInstance(cached)) {
+            return cached;
+        }
+
+        final Object response = chain.proceed(request);
+        responseCache.put(request.getEndpoint(), request.getKey(), response);
+        return response;
+    }
+
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+}
@@ -0,0 +1,83 @@
+package com.bol.openapi.client.pipeline;
+
+import java.io.IOException;
+
+import javax.xml.bind.JAXBException;
+
+import com.bol.openapi.client.breaker.CircuitBreaker;
+import com.bol.openapi.client.breaker.CircuitBreakers;
+import com.bol.openapi.client.exception.BasicApiException;
+import com.bol.openapi.client.util.Ticker;
+
+/**
+ * Passes every exchange through the circuit breaker of its endpoint group: rejects it while the breaker is open, and
+ * records its duration and outcome otherwise. An exchange aborted because its hedge won is not recorded, nor is one
+ * that failed with an unchecked exception, which points at a client-side bug rather than at the backend; both give
+ * their permission back.
+ */
+public class CircuitBreakerInterceptor implements Interceptor {
+
+    private final CircuitBreakers circuitBreakers;
+    private final Ticker ticker;
+
+    /**
+     * Constructs the circuit breaker interceptor.
+     *
+     * @param circuitBreakers The circuit breakers.
+     */
+    public CircuitBreakerInterceptor(final CircuitBreakers circuitBreakers) {
+        this(circuitBreakers, Ticker.SYSTEM);
+    }
+
+    /**
+     * Constructs the circuit breaker interceptor.
+     *
+     * @param circuitBreakers The circuit breakers.
+     * @param ticker          The ticker to measure the exchanges with.
+     */
+    public CircuitBreakerInterceptor(final CircuitBreakers circuitBreakers, final Ticker ticker) {
+        this.circuitBreakers = circuitBreakers;
+        this.ticker = ticker;
+    }
+
+    public Object intercept(final Chain chain) throws IOException, JAXBException, BasicApiException {
+        final ApiRequest<?> request = chain.request();
+        final CircuitBreaker circuitBreaker = circuitBreakers.getCircuitBreaker(request.getEndpoint().getGroup());
+        if (circuitBreaker == null) {
+            return chain.proceed(request);
+        }
+
+        circuitBreaker.acquirePermission();
+        final long start = ticker.nanoTime();
+        Exception failure = null;
+        boolean unexpected = false;
+        try {
+            return chain.proceed(request);
+        } catch (final IOException e) {
+            failure = e;
+            throw e;
+        } catch (final JAXBException e) {
+            failure = e;
+            throw e;
+        } catch (final BasicApiException e) {
+            failure = e;
+            throw e;
+        } catch (final RuntimeException e) {
+            unexpected = true;
+            throw e;
+        } catch (final Error e) {
+            unexpected = true;
+            throw e;
+        } finally {
+            if (unexpected || failure != null && request.getAbortHandle() != null && request.getAbortHandle().isAborted()) {
+                circuitBreaker.release();
+            } else {
+                circuitBreaker.record(ticker.nanoTime() - start, failure != null && circuitBreaker.isFailure(failure));
+            }
+        }
+    }
+
+    public CircuitBreakers getCircuitBreakers() {
+        return circuitBreakers;
+    }
+}
@@ -0,0 +1,42 @@
+package com.bol.openapi.client.pipeline;
+
+import java.io.IOException;
+
+import javax.xml.bind.JAXBException;
+
+import com.bol.openapi.client.cache.RequestCoalescer;
+import com.bol.openapi.client.exception.BasicApiException;
+
+/**
+ * Lets concurrent identical catalog reads share one pass through the rest of the chain.
+ */
+public class CoalescingInterceptor implements Interceptor {
+
+    private final RequestCoalescer requestCoalescer;
+
+    /**
+     * Constructs the coalescing interceptor.
+     *
+     * @param requestCoalescer The request coalescer.
+     */
+    public CoalescingInterceptor(final RequestCoalescer requestCoalescer) {
+        this.requestCoalescer = requestCoalescer;
+    }
+
+    public Object intercept(final Chain chain) throws IOException, JAXBException, BasicApiException {
+        final ApiRequest<?> request = chain.request();
+        if (request.isStatusCheck() || !request.getEndpoint().isCatalogRead()) {
+            return chain.proceed(request);
+        }
+
+        return requestCoalescer.execute(request.getKey(), new RequestCoalescer.Call<Object>() {
+            public Object call() throws IOException, JAXBException, BasicApiException {
+                return chain.proceed(request);
+            }
+        });
+    }
+
+    public RequestCoalescer getRequestCoalescer() {
+        return requestCoalescer;
+    }
+}
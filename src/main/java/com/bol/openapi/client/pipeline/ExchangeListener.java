@@ -0,0 +1,39 @@
+package com.bol.openapi.client.pipeline;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+
+/**
+ * Observes the HTTP exchanges of the {@link RequestExecutor} on the wire, for instance to capture them for debugging.
+ * Unlike an {@link Interceptor}, which sees the request and the unmarshalled result, the listener sees every signed
+ * HTTP request as sent, including retries and hedges, the HTTP response as received and the raw bytes of its body.
+ * Listeners are called on the thread of the exchange and should return quickly; their failures are logged and do not
+ * affect the call.
+ */
+public interface ExchangeListener {
+
+    /**
+     * Called when the response of an exchange was received, before its body is read.
+     *
+     * @param request The request.
+     * @param httpRequest The signed HTTP request as sent.
+     * @param httpResponse The HTTP response as received.
+     *
+     * @return The stream to copy the body to as it is read, still encoded as received, or null to skip the body.
+     *         It is closed when the body is closed. Bytes the reader skips by aborting or releasing the
+     *         connection are not copied.
+     */
+    OutputStream responseReceived(ApiRequest<?> request, HttpUriRequest httpRequest, HttpResponse httpResponse);
+
+    /**
+     * Called when sending the request or receiving the response failed.
+     *
+     * @param request The request.
+     * @param httpRequest The signed HTTP request.
+     * @param failure The failure.
+     */
+    void exchangeFailed(ApiRequest<?> request, HttpUriRequest httpRequest, IOException failure);
+}
@@ -0,0 +1,183 @@
+package com.bol.openapi.client.pipeline;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBException;
+
+import com.bol.openapi.client.exception.BasicApiException;
+import com.bol.openapi.client.hedge.HedgingPolicy;
+
+/**
+ * Hedges slow idempotent catalog reads according to a {@link HedgingPolicy}. The call proceeds on the calling thread;
+ * when it is still running after the hedge delay, an independently signed copy proceeds on the scheduler of the
+ * policy. The first successful result is returned and the exchange of the other copy is aborted through its
+ * {@link AbortHandle}. The call only fails when every copy failed.
+ */
+public class HedgingInterceptor implements Interceptor {
+
+    private final HedgingPolicy hedgingPolicy;
+
+    /**
+     * Constructs the hedging interceptor.
+     *
+     * @param hedgingPolicy The hedging policy.
+     */
+    public HedgingInterceptor(final HedgingPolicy hedgingPolicy) {
+        this.hedgingPolicy = hedgingPolicy;
+    }
+
+    public Object intercept(final Chain chain) throws IOException, JAXBException, BasicApiException {
+        final ApiRequest<?> request = chain.request();
+        if (!request.isIdempotent() || !request.getEndpoint().isCatalogRead()) {
+            return chain.proceed(request);
+        }
+
+        hedgingPolicy.recordCall();
+        final HedgedCall call = new HedgedCall();
+        Future<?> hedge = null;
+        try {
+            hedge = hedgingPolicy.getScheduler().schedule(new Runnable() {
+                public void run() {
+                    if (call.startHedge()) {
+                        call.run(HedgedCall.HEDGE, chain, request);
+                    }
+                }
+            }, hedgingPolicy.getDelayNanos(request.getEndpoint()), TimeUnit.NANOSECONDS);
+        } catch (final RejectedExecutionException e) {
+            // Scheduler shut down or saturated, proceed without a hedge
+        }
+
+        call.run(HedgedCall.PRIMARY, chain, request);
+        if (hedge != null) {
+            hedge.cancel(false);
+        }
+        return call.await(request);
+    }
+
+    public HedgingPolicy getHedgingPolicy() {
+        return hedgingPolicy;
+    }
+
+    /**
+     * The state of a call and its hedge.
+     */
+    private final class HedgedCall {
+
+        static final int PRIMARY = 0;
+        static final int HEDGE = 1;
+
+        private final AbortHandle[] handles = { new AbortHandle(), new AbortHandle() };
+        private int running = 1;
+        private boolean primaryFinished;
+        private boolean done;
+        private Object result;
+        private Exception failure;
+
+        /**
+         * Starts the hedge, unless the call already finished or the budget does not allow it.
+         *
+         * @return True when the hedge should proceed.
+         */
+        synchronized boolean startHedge() {
+            if (done || primaryFinished || !hedgingPolicy.tryHedge()) {
+                return false;
+            }
+            running++;
+            return true;
+        }
+
+        /**
+         * Proceeds with a copy of the request and records its outcome.
+         *
+         * @param copy    The copy, {@link #PRIMARY} or {@link #HEDGE}.
+         * @param chain   The chain.
+         * @param request The request.
+         */
+        void run(final int copy, final Chain chain, final ApiRequest<?> request) {
+            try {
+                complete(copy, chain.proceed(request.withAbortHandle(handles[copy])));
+            } catch (final IOException e) {
+                fail(copy, e);
+            } catch (final JAXBException e) {
+                fail(copy, e);
+            } catch (final BasicApiException e) {
+                fail(copy, e);
+            } catch (final RuntimeException e) {
+                fail(copy, e);
+            }
+        }
+
+        private void complete(final int copy, final Object value) {
+            synchronized (this) {
+                running--;
+                primaryFinished |= copy == PRIMARY;
+                if (done) {
+                    return;
+                }
+                done = true;
+                result = value;
+                failure = null;
+                if (copy == HEDGE) {
+                    hedgingPolicy.recordHedgeWin();
+                }
+                notifyAll();
+            }
+
+            handles[1 - copy].abort();
+        }
+
+        private synchronized void fail(final int copy, final Exception e) {
+            running--;
+            primaryFinished |= copy == PRIMARY;
+            if (done) {
+                return;
+            }
+            if (failure == null || copy == PRIMARY) {
+                failure = e;
+            }
+            if (running == 0) {
+                done = true;
+                notifyAll();
+            }
+        }
+
+        /**
+         * Waits for the first result, or for every copy to fail.
+         *
+         * @param request The request.
+         *
+         * @return The result.
+         */
+        Object await(final ApiRequest<?> request) throws IOException, JAXBException, BasicApiException {
+            synchronized (this) {
+                while (!done) {
+                    try {
+                        wait();
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        handles[HEDGE].abort();
+                        throw new InterruptedIOException("Interrupted while waiting for the hedge of " + request);
+                    }
+                }
+            }
+
+            if (failure == null) {
+                return result;
+            }
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            }
+            if (failure instanceof JAXBException) {
+                throw (JAXBException) failure;
+            }
+            if (failure instanceof BasicApiException) {
+                throw (BasicApiException) failure;
+            }
+            throw (RuntimeException) failure;
+        }
+    }
+}
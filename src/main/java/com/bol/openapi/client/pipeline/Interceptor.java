@@ -0,0 +1,54 @@
+package com.bol.openapi.client.pipeline;
+
+import java.io.IOException;
+
+import javax.xml.bind.JAXBException;
+
+import com.bol.openapi.client.exception.BasicApiException;
+
+/**
+ * A stage of the {@link RequestExecutor}. An interceptor may answer the request itself, pass it on (once, several
+ * times, or with a different request) and observe or replace the result. It sees the {@link ApiRequest} and the
+ * unmarshalled result only; the HTTP messages and raw bodies are observed through an {@link ExchangeListener}.
+ */
+public interface Interceptor {
+
+    /**
+     * Intercepts the request.
+     *
+     * @param chain The chain, giving access to the request and the next stage.
+     *
+     * @return The result: the response object, or a {@link Boolean} for status checks.
+     *
+     * @throws IOException When the HTTP execution fails.
+     * @throws JAXBException When parsing the response fails.
+     * @throws BasicApiException When an error response was received.
+     */
+    Object intercept(Chain chain) throws IOException, JAXBException, BasicApiException;
+
+    /**
+     * The remainder of the pipeline, as seen from an interceptor.
+     */
+    interface Chain {
+
+        /**
+         * Gets the request.
+         *
+         * @return The request.
+         */
+        ApiRequest<?> request();
+
+        /**
+         * Passes the request to the next stage. Every call results in a new exchange unless a later stage answers it.
+         *
+         * @param request The request.
+         *
+         * @return The result of the next stage.
+         *
+         * @throws IOException When the HTTP execution fails.
+         * @throws JAXBException When parsing the response fails.
+         * @throws BasicApiException When an error response was received.
+         */
+        Object proceed(ApiRequest<?> request) throws IOException, JAXBException, BasicApiException;
+    }
+}
@@ -0,0 +1,48 @@
+package com.bol.openapi.client.pipeline;
+
+import java.io.IOException;
+
+import javax.xml.bind.JAXBException;
+
+import com.bol.openapi.client.exception.BasicApiException;
+import com.bol.openapi.client.ratelimit.RateLimiter;
+
+/**
+ * Acquires a rate limit permit before every exchange, and reports the outcome so that an adaptive rate limiter can
+ * back off on throttling.
+ */
+public class RateLimitInterceptor implements Interceptor {
+
+    private final RateLimiter rateLimiter;
+    private final String accessKeyId;
+
+    /**
+     * Constructs the rate limit interceptor.
+     *
+     * @param rateLimiter The rate limiter.
+     * @param accessKeyId The access key id the calls are signed with.
+     */
+    public RateLimitInterceptor(final RateLimiter rateLimiter, final String accessKeyId) {
+        this.rateLimiter = rateLimiter;
+        this.accessKeyId = accessKeyId;
+    }
+
+    public Object intercept(final Chain chain) throws IOException, JAXBException, BasicApiException {
+        final ApiRequest<?> request = chain.request();
+        rateLimiter.acquire(accessKeyId, request.getEndpoint());
+
+        final Object result;
+        try {
+            result = chain.proceed(request);
+        } catch (final BasicApiException e) {
+            rateLimiter.onFailure(accessKeyId, request.getEndpoint(), e);
+            throw e;
+        }
+        rateLimiter.onSuccess(accessKeyId, request.getEndpoint());
+        return result;
+    }
+
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+}
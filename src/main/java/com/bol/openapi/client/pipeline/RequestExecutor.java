@@ -0,0 +1,329 @@
+package com.bol.openapi.client.pipeline;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.xml.bind.JAXBException;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.conn.ConnectionReleaseTrigger;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.util.EntityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.bol.openapi.client.exception.BasicApiException;
+import com.bol.openapi.client.metrics.ClientMetrics;
+import com.bol.openapi.client.metrics.EndpointMetrics;
+import com.bol.openapi.client.metrics.Phase;
+import com.bol.openapi.client.util.RequestSigner;
+import com.bol.openapi.client.util.TeeInputStream;
+import com.bol.openapi.client.xml.ResponseReader;
+
+/**
+ * Executes OpenAPI requests: runs them through the interceptors in order and finally signs, sends and reads them.
+ * Without interceptors a request goes straight to the exchange. An optional {@link ExchangeListener} observes every
+ * exchange on the wire.
+ */
+public class RequestExecutor {
+
+    private static final Interceptor[] NO_INTERCEPTORS = new Interceptor[0];
+    private static final Logger LOG = LoggerFactory.getLogger(RequestExecutor.class);
+
+    private final HttpClient httpClient;
+    private final RequestSigner requestSigner;
+    private final ResponseReader responseReader;
+    private volatile Interceptor[] interceptors = NO_INTERCEPTORS;
+    private volatile ClientMetrics metrics;
+    private volatile ExchangeListener exchangeListener;
+
+    /**
+     * Constructs the request executor.
+     *
+     * @param httpClient The Apache HTTP client to interact with.
+     * @param requestSigner The signer for the requests.
+     * @param responseReader The reader for the responses.
+     */
+    public RequestExecutor(final HttpClient httpClient, final RequestSigner requestSigner, final ResponseReader responseReader) {
+        this.httpClient = httpClient;
+        this.requestSigner = requestSigner;
+        this.responseReader = responseReader;
+    }
+
+    /**
+     * Executes the request.
+     *
+     * @param request The request.
+     *
+     * @return The result, null when no HTTP response was received for a read.
+     *
+     * @throws IOException When the HTTP execution fails.
+     * @throws JAXBException When parsing the response fails.
+     * @throws BasicApiException When an error response was received.
+     */
+    public <T> T execute(final ApiRequest<T> request) throws IOException, JAXBException, BasicApiException {
+        final EndpointMetrics endpointMetrics = getEndpointMetrics(request);
+        if (endpointMetrics == null) {
+            return request.getResponseType().cast(proceed(request));
+        }
+
+        final long start = System.nanoTime();
+        try {
+            return request.getResponseType().cast(proceed(request));
+        } catch (final BasicApiException e) {
+            endpointMetrics.recordError(e);
+            throw e;
+        } catch (final IOException e) {
+            endpointMetrics.recordIoFailure();
+            throw e;
+        } finally {
+            endpointMetrics.record(Phase.TOTAL, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Runs the request through the interceptors, or straight to the exchange when there are none.
+     *
+     * @param request The request.
+     *
+     * @return The result.
+     */
+    private Object proceed(final ApiRequest<?> request) throws IOException, JAXBException, BasicApiException {
+        final Interceptor[] current = interceptors;
+        return current.length == 0 ? exchange(request) : new InterceptorChain(current, 0, request).proceed(request);
+    }
+
+    /**
+     * Signs and sends the request and reads the response. This is the final stage of every chain.
+     *
+     * @param request The request.
+     *
+     * @return The result.
+     */
+    Object exchange(final ApiRequest<?> request) throws IOException, JAXBException, BasicApiException {
+        final EndpointMetrics endpointMetrics = getEndpointMetrics(request);
+
+        // Handle request
+        final long start = System.nanoTime();
+        final HttpUriRequest httpRequest = request.createHttpRequest();
+        requestSigner.handleRequest(httpRequest, request.getEndpointUri(), request.getSessionId(), null);
+        responseReader.prepareRequest(httpRequest);
+        final long signed = System.nanoTime();
+        if (endpointMetrics != null) {
+            endpointMetrics.record(Phase.SIGN, signed - start);
+        }
+
+        if (request.getAbortHandle() != null) {
+            request.getAbortHandle().setHttpRequest(httpRequest);
+        }
+
+        // Handle response
+        final ExchangeListener listener = exchangeListener;
+        final HttpResponse httpResponse;
+        try {
+            httpResponse = httpClient.execute(httpRequest);
+        } catch (final IOException e) {
+            if (listener != null) {
+                notifyFailed(listener, request, httpRequest, e);
+            }
+            throw e;
+        }
+        if (listener != null && httpResponse != null) {
+            notifyReceived(listener, request, httpRequest, httpResponse);
+        }
+        if (endpointMetrics != null) {
+            endpointMetrics.record(Phase.EXECUTE, System.nanoTime() - signed);
+            if (httpResponse != null) {
+                endpointMetrics.recordStatusCode(httpResponse.getStatusLine().getStatusCode());
+            }
+        }
+        if (httpResponse == null) {
+            return request.isStatusCheck() ? Boolean.FALSE : null;
+        }
+        if (!request.isStatusCheck()) {
+            return responseReader.read(httpResponse, request.getResponseType(), request.getEndpoint(), request.getProjection(), endpointMetrics);
+        }
+
+        try {
+            return httpResponse.getStatusLine().getStatusCode() == request.getExpectedStatus();
+        } finally {
+            try {
+                EntityUtils.consume(httpResponse.getEntity());
+            } catch (final IOException e) {
+                LOG.warn("Consuming the response of " + request + " failed", e);
+            }
+        }
+    }
+
+    /**
+     * Notifies the listener of a received response, and tees the body to the stream it returns.
+     *
+     * @param listener The exchange listener.
+     * @param request The request.
+     * @param httpRequest The signed HTTP request.
+     * @param httpResponse The HTTP response.
+     */
+    private static void notifyReceived(final ExchangeListener listener, final ApiRequest<?> request, final HttpUriRequest httpRequest,
+            final HttpResponse httpResponse) {
+        final OutputStream copy;
+        try {
+            copy = listener.responseReceived(request, httpRequest, httpResponse);
+        } catch (final RuntimeException e) {
+            LOG.warn("Exchange listener failed for " + request, e);
+            return;
+        }
+        if (copy != null && httpResponse.getEntity() != null) {
+            httpResponse.setEntity(new TeeEntity(httpResponse.getEntity(), copy));
+        }
+    }
+
+    /**
+     * Notifies the listener of a failed exchange.
+     *
+     * @param listener The exchange listener.
+     * @param request The request.
+     * @param httpRequest The signed HTTP request.
+     * @param failure The failure.
+     */
+    private static void notifyFailed(final ExchangeListener listener, final ApiRequest<?> request, final HttpUriRequest httpRequest,
+            final IOException failure) {
+        try {
+            listener.exchangeFailed(request, httpRequest, failure);
+        } catch (final RuntimeException e) {
+            LOG.warn("Exchange listener failed for " + request, e);
+        }
+    }
+
+    /**
+     * Sets the interceptors. Requests already in flight keep the interceptors they started with.
+     *
+     * @param interceptors The interceptors, in the order they see a request.
+     */
+    public void setInterceptors(final List<Interceptor> interceptors) {
+        this.interceptors = interceptors.isEmpty() ? NO_INTERCEPTORS : interceptors.toArray(new Interceptor[interceptors.size()]);
+    }
+
+    /**
+     * Gets the interceptors.
+     *
+     * @return The interceptors, in the order they see a request.
+     */
+    public List<Interceptor> getInterceptors() {
+        return Arrays.asList(interceptors.clone());
+    }
+
+    /**
+     * Sets the metrics to record latencies and counters to.
+     *
+     * @param metrics The metrics, or null to disable recording.
+     */
+    public void setMetrics(final ClientMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public ClientMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Sets the listener that observes the HTTP exchanges on the wire.
+     *
+     * @param exchangeListener The exchange listener, or null to disable it.
+     */
+    public void setExchangeListener(final ExchangeListener exchangeListener) {
+        this.exchangeListener = exchangeListener;
+    }
+
+    public ExchangeListener getExchangeListener() {
+        return exchangeListener;
+    }
+
+    /**
+     * Gets the metrics of the endpoint of the request.
+     *
+     * @param request The request.
+     *
+     * @return The endpoint metrics, null when metrics are disabled.
+     */
+    private EndpointMetrics getEndpointMetrics(final ApiRequest<?> request) {
+        final ClientMetrics current = metrics;
+        return current != null ? current.getEndpointMetrics(request.getEndpoint()) : null;
+    }
+
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    public RequestSigner getRequestSigner() {
+        return requestSigner;
+    }
+
+    public ResponseReader getResponseReader() {
+        return responseReader;
+    }
+
+    /**
+     * The chain from a given interceptor onwards.
+     */
+    private final class InterceptorChain implements Interceptor.Chain {
+
+        private final Interceptor[] interceptors;
+        private final int index;
+        private final ApiRequest<?> request;
+
+        private InterceptorChain(final Interceptor[] interceptors, final int index, final ApiRequest<?> request) {
+            this.interceptors = interceptors;
+            this.index = index;
+            this.request = request;
+        }
+
+        public ApiRequest<?> request() {
+            return request;
+        }
+
+        public Object proceed(final ApiRequest<?> next) throws IOException, JAXBException, BasicApiException {
+            if (index == interceptors.length) {
+                return exchange(next);
+            }
+
+            return interceptors[index].intercept(new InterceptorChain(interceptors, index + 1, next));
+        }
+    }
+
+    /**
+     * Entity that copies its content to an output stream as it is read. Aborting or releasing the connection is passed
+     * on to the wrapped entity.
+     */
+    private static final class TeeEntity extends HttpEntityWrapper implements ConnectionReleaseTrigger {
+
+        private final OutputStream copy;
+
+        private TeeEntity(final HttpEntity entity, final OutputStream copy) {
+            super(entity);
+            this.copy = copy;
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            return new TeeInputStream(wrappedEntity.getContent(), copy);
+        }
+
+        public void releaseConnection() throws IOException {
+            if (wrappedEntity instanceof ConnectionReleaseTrigger) {
+                ((ConnectionReleaseTrigger) wrappedEntity).releaseConnection();
+            }
+        }
+
+        public void abortConnection() throws IOException {
+            if (wrappedEntity instanceof ConnectionReleaseTrigger) {
+                ((ConnectionReleaseTrigger) wrappedEntity).abortConnection();
+            }
+        }
+    }
+}
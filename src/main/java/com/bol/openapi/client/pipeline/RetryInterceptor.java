@@ -0,0 +1,86 @@
+package com.bol.openapi.client.pipeline;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.bol.openapi.client.exception.BasicApiException;
+import com.bol.openapi.client.retry.RetryPolicy;
+import com.bol.openapi.client.util.Ticker;
+
+/**
+ * Retries failed idempotent catalog reads according to a {@link RetryPolicy}. Every attempt passes the rest of the
+ * chain, so its HTTP request is created and signed anew with a fresh Date header.
+ */
+public class RetryInterceptor implements Interceptor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RetryInterceptor.class);
+
+    private final RetryPolicy retryPolicy;
+    private final Ticker ticker;
+
+    /**
+     * Constructs the retry interceptor.
+     *
+     * @param retryPolicy The retry policy.
+     */
+    public RetryInterceptor(final RetryPolicy retryPolicy) {
+        this(retryPolicy, Ticker.SYSTEM);
+    }
+
+    /**
+     * Constructs the retry interceptor.
+     *
+     * @param retryPolicy The retry policy.
+     * @param ticker      The ticker to measure the deadline with.
+     */
+    public RetryInterceptor(final RetryPolicy retryPolicy, final Ticker ticker) {
+        this.retryPolicy = retryPolicy;
+        this.ticker = ticker;
+    }
+
+    public Object intercept(final Chain chain) throws IOException, JAXBException, BasicApiException {
+        final ApiRequest<?> request = chain.request();
+        if (!request.isIdempotent() || !request.getEndpoint().isCatalogRead()) {
+            return chain.proceed(request);
+        }
+
+        retryPolicy.recordCall();
+        final long deadline = ticker.nanoTime() + retryPolicy.getDeadlineNanos();
+        for (int attempt = 1;; attempt++) {
+            final Exception failure;
+            try {
+                return chain.proceed(request);
+            } catch (final IOException e) {
+                failure = e;
+            } catch (final BasicApiException e) {
+                failure = e;
+            }
+
+            final long delay = retryPolicy.getDelayNanos(attempt);
+            if (!retryPolicy.shouldRetry(failure, attempt, deadline - ticker.nanoTime() - delay)) {
+                if (failure instanceof IOException) {
+                    throw (IOException) failure;
+                }
+                throw (BasicApiException) failure;
+            }
+
+            LOG.debug("Retrying {} after attempt {} failed: {}", request, attempt, failure);
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting to retry " + request);
+            }
+        }
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+}
@@ -0,0 +1,320 @@
+package com.bol.openapi.client.ratelimit;
+
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.bol.openapi.client.Endpoint;
+import com.bol.openapi.client.exception.BasicApiException;
+import com.bol.openapi.client.exception.RateLimitExceededException;
+import com.bol.openapi.client.util.Ticker;
+
+/**
+ * Client-side rate limiter that keeps calls within the OpenAPI quota, so that calls the server would reject are not
+ * signed, sent and parsed first. Every access key gets a {@link TokenBucket}, and endpoints can get an additional
+ * bucket of their own; a call needs a permit from both. Clients sharing a rate limiter and an access key share its
+ * quota.
+ *
+ * <p>In adaptive mode, a {@link BasicApiException} with one of the throttle statuses (429 and 503 by default) halves
+ * the rate of the buckets involved, and every successful call raises it again step by step.</p>
+ *
+ * <p>The configuration should be completed before the rate limiter is shared between threads.</p>
+ */
+public class RateLimiter {
+
+    /**
+     * What a call does when no permit is available.
+     */
+    public enum Mode {
+
+        /**
+         * Waits until a permit is available.
+         */
+        BLOCK,
+
+        /**
+         * Waits up to the maximum wait, then fails with a {@link RateLimitExceededException}.
+         */
+        TIMED_WAIT,
+
+        /**
+         * Fails with a {@link RateLimitExceededException} right away.
+         */
+        FAIL_FAST
+    }
+
+    /**
+     * The statuses that signal throttling or overload by default.
+     */
+    public static final Set<String> DEFAULT_THROTTLE_STATUSES = Collections.unmodifiableSet(new HashSet<String>(Arrays.asList("429", "503")));
+
+    private final TokenBucketSpec keySpec;
+    private final Ticker ticker;
+    private final Map<Endpoint, TokenBucketSpec> endpointSpecs = new EnumMap<Endpoint, TokenBucketSpec>(Endpoint.class);
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<String, TokenBucket>();
+    private volatile Mode mode = Mode.BLOCK;
+    private volatile long maxWaitNanos = TimeUnit.SECONDS.toNanos(1);
+    private volatile boolean adaptive;
+    private volatile Set<String> throttleStatuses = DEFAULT_THROTTLE_STATUSES;
+    private final AtomicLong acquired = new AtomicLong();
+    private final AtomicLong delayed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+
+    /**
+     * Constructs the rate limiter.
+     *
+     * @param permitsPerSecond The sustained rate per access key.
+     * @param burst            The number of calls per access key allowed at once.
+     */
+    public RateLimiter(final double permitsPerSecond, final int burst) {
+        this(permitsPerSecond, burst, Ticker.SYSTEM);
+    }
+
+    /**
+     * Constructs the rate limiter.
+     *
+     * @param permitsPerSecond The sustained rate per access key.
+     * @param burst            The number of calls per access key allowed at once.
+     * @param ticker           The ticker.
+     */
+    public RateLimiter(final double permitsPerSecond, final int burst, final Ticker ticker) {
+        this.keySpec = new TokenBucketSpec(permitsPerSecond, burst);
+        this.ticker = ticker;
+    }
+
+    /**
+     * Sets an additional limit for the calls of an endpoint, per access key.
+     *
+     * @param endpoint         The endpoint.
+     * @param permitsPerSecond The sustained rate.
+     * @param burst            The number of calls allowed at once.
+     */
+    public void setEndpointLimit(final Endpoint endpoint, final double permitsPerSecond, final int burst) {
+        endpointSpecs.put(endpoint, new TokenBucketSpec(permitsPerSecond, burst));
+    }
+
+    /**
+     * Sets what a call does when no permit is available, {@link Mode#BLOCK} by default.
+     *
+     * @param mode The mode.
+     */
+    public void setMode(final Mode mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Sets the maximum wait for a permit in {@link Mode#TIMED_WAIT}, 1 second by default.
+     *
+     * @param maxWait The maximum wait.
+     * @param unit    The time unit of the maximum wait.
+     */
+    public void setMaxWait(final long maxWait, final TimeUnit unit) {
+        this.maxWaitNanos = unit.toNanos(maxWait);
+    }
+
+    /**
+     * Sets whether the rate backs off on throttle statuses and recovers on successful calls.
+     *
+     * @param adaptive True to adapt the rate, false by default.
+     */
+    public void setAdaptive(final boolean adaptive) {
+        this.adaptive = adaptive;
+    }
+
+    /**
+     * Sets the {@link BasicApiException#getStatus() statuses} that make an adaptive rate limiter back off.
+     *
+     * @param throttleStatuses The statuses, {@link #DEFAULT_THROTTLE_STATUSES} by default.
+     */
+    public void setThrottleStatuses(final Collection<String> throttleStatuses) {
+        this.throttleStatuses = Collections.unmodifiableSet(new HashSet<String>(throttleStatuses));
+    }
+
+    /**
+     * Acquires a permit for a call, waiting as the mode allows.
+     *
+     * @param accessKeyId The access key id of the call.
+     * @param endpoint    The endpoint of the call.
+     *
+     * @throws RateLimitExceededException When no permit is available within the allowed wait.
+     * @throws InterruptedIOException When the wait is interrupted.
+     */
+    public void acquire(final String accessKeyId, final Endpoint endpoint) throws RateLimitExceededException, InterruptedIOException {
+        final long maxWait = mode == Mode.BLOCK ? Long.MAX_VALUE : mode == Mode.FAIL_FAST ? 0 : maxWaitNanos;
+
+        final TokenBucket keyBucket = getBucket(accessKeyId, null);
+        long wait = keyBucket.reserve(maxWait);
+        if (wait < 0) {
+            throw reject(accessKeyId, keyBucket);
+        }
+
+        final TokenBucket endpointBucket = getBucket(accessKeyId, endpoint);
+        if (endpointBucket != null) {
+            final long endpointWait = endpointBucket.reserve(maxWait);
+            if (endpointWait < 0) {
+                keyBucket.cancel();
+                throw reject(accessKeyId + " on " + endpoint, endpointBucket);
+            }
+            wait = Math.max(wait, endpointWait);
+        }
+
+        if (wait > 0) {
+            delayed.incrementAndGet();
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for a rate limit permit");
+            }
+        }
+        acquired.incrementAndGet();
+    }
+
+    /**
+     * Reports a successful call, which lets an adaptive rate recover.
+     *
+     * @param accessKeyId The access key id of the call.
+     * @param endpoint    The endpoint of the call.
+     */
+    public void onSuccess(final String accessKeyId, final Endpoint endpoint) {
+        if (!adaptive) {
+            return;
+        }
+
+        getBucket(accessKeyId, null).recover();
+        final TokenBucket endpointBucket = getBucket(accessKeyId, endpoint);
+        if (endpointBucket != null) {
+            endpointBucket.recover();
+        }
+    }
+
+    /**
+     * Reports a failed call, which makes an adaptive rate back off when the status signals throttling or overload.
+     *
+     * @param accessKeyId The access key id of the call.
+     * @param endpoint    The endpoint of the call.
+     * @param exception   The failure.
+     */
+    public void onFailure(final String accessKeyId, final Endpoint endpoint, final BasicApiException exception) {
+        if (!adaptive || exception.getStatus() == null || !throttleStatuses.contains(exception.getStatus())) {
+            return;
+        }
+
+        throttled.incrementAndGet();
+        getBucket(accessKeyId, null).backOff();
+        final TokenBucket endpointBucket = getBucket(accessKeyId, endpoint);
+        if (endpointBucket != null) {
+            endpointBucket.backOff();
+        }
+    }
+
+    /**
+     * Gets the current rate of an access key, which is below the configured rate after backing off.
+     *
+     * @param accessKeyId The access key id.
+     *
+     * @return The current rate in permits per second.
+     */
+    public double getRate(final String accessKeyId) {
+        return getBucket(accessKeyId, null).getRate();
+    }
+
+    /**
+     * Gets the bucket of an access key, or of an access key and endpoint.
+     *
+     * @param accessKeyId The access key id.
+     * @param endpoint    The endpoint, or null for the access key bucket.
+     *
+     * @return The bucket, null when the endpoint has no limit of its own.
+     */
+    private TokenBucket getBucket(final String accessKeyId, final Endpoint endpoint) {
+        final TokenBucketSpec spec;
+        final String key;
+        if (endpoint == null) {
+            spec = keySpec;
+            key = accessKeyId;
+        } else {
+            spec = endpointSpecs.get(endpoint);
+            if (spec == null) {
+                return null;
+            }
+            key = accessKeyId + '\n' + endpoint.name();
+        }
+
+        final TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+
+        final TokenBucket created = new TokenBucket(spec.permitsPerSecond, spec.burst, ticker);
+        final TokenBucket existing = buckets.putIfAbsent(key, created);
+        return existing != null ? existing : created;
+    }
+
+    /**
+     * Counts and creates the rejection of a call.
+     *
+     * @param subject The limited access key, and endpoint.
+     * @param bucket  The bucket without permits.
+     *
+     * @return The exception.
+     */
+    private RateLimitExceededException reject(final String subject, final TokenBucket bucket) {
+        rejected.incrementAndGet();
+        return new RateLimitExceededException("Rate limit of " + bucket.getRate() + "/s exceeded for " + subject, bucket.getWaitNanos());
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    public long getAcquired() {
+        return acquired.get();
+    }
+
+    public long getDelayed() {
+        return delayed.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    public long getThrottled() {
+        return throttled.get();
+    }
+
+    /**
+     * The rate and burst of a bucket.
+     */
+    private static final class TokenBucketSpec {
+
+        private final double permitsPerSecond;
+        private final int burst;
+
+        TokenBucketSpec(final double permitsPerSecond, final int burst) {
+            if (!(permitsPerSecond > 0)) {
+                throw new IllegalArgumentException("Rate must be positive");
+            }
+            if (burst < 1) {
+                throw new IllegalArgumentException("Burst must be positive");
+            }
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.bol.openapi.client.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.bol.openapi.client.util.Ticker;
+
+/**
+ * Lock-free token bucket, implemented as a generic cell rate algorithm: instead of a token count the bucket keeps the
+ * theoretical arrival time of the next permit, which is advanced by one emission interval per permit with a single
+ * compare-and-set. Up to burst permits are available at once after the bucket has been idle.
+ *
+ * <p>The rate can be lowered temporarily with {@link #backOff()}, and is restored step by step with
+ * {@link #recover()}.</p>
+ */
+public class TokenBucket {
+
+    /**
+     * The factor by which a back-off lowers the rate.
+     */
+    static final int BACKOFF_FACTOR = 2;
+
+    /**
+     * The lowest rate reached by backing off, as a fraction of the configured rate.
+     */
+    static final int MAX_BACKOFF = 32;
+
+    /**
+     * The number of recoveries that bring the rate back up by the configured rate.
+     */
+    static final int RECOVERY_STEPS = 20;
+
+    private final Ticker ticker;
+    private final double permitsPerSecond;
+    private final int burst;
+    private final long baseIntervalNanos;
+    private final AtomicLong intervalNanos;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * Constructs the token bucket.
+     *
+     * @param permitsPerSecond The sustained rate.
+     * @param burst            The number of permits available at once.
+     */
+    public TokenBucket(final double permitsPerSecond, final int burst) {
+        this(permitsPerSecond, burst, Ticker.SYSTEM);
+    }
+
+    /**
+     * Constructs the token bucket.
+     *
+     * @param permitsPerSecond The sustained rate.
+     * @param burst            The number of permits available at once.
+     * @param ticker           The ticker.
+     */
+    public TokenBucket(final double permitsPerSecond, final int burst, final Ticker ticker) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("Rate must be positive");
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("Burst must be positive");
+        }
+        this.ticker = ticker;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.baseIntervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.intervalNanos = new AtomicLong(baseIntervalNanos);
+        this.theoreticalArrival = new AtomicLong(ticker.nanoTime());
+    }
+
+    /**
+     * Reserves a permit, unless it only becomes available after the maximum wait.
+     *
+     * @param maxWaitNanos The maximum time the caller is willing to wait.
+     *
+     * @return The time to wait before the permit may be used, or -1 when no permit was reserved.
+     */
+    public long reserve(final long maxWaitNanos) {
+        while (true) {
+            final long now = ticker.nanoTime();
+            final long arrival = theoreticalArrival.get();
+            final long interval = intervalNanos.get();
+            final long start = arrival - now > 0 ? arrival : now;
+            final long wait = Math.max(0, start - now - interval * (burst - 1));
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, start + interval)) {
+                return wait;
+            }
+        }
+    }
+
+    /**
+     * Returns a reserved permit that will not be used.
+     */
+    public void cancel() {
+        theoreticalArrival.addAndGet(-intervalNanos.get());
+    }
+
+    /**
+     * Gets the time until the next permit is available, without reserving it.
+     *
+     * @return The time to wait in nanoseconds.
+     */
+    public long getWaitNanos() {
+        final long now = ticker.nanoTime();
+        return Math.max(0, theoreticalArrival.get() - now - intervalNanos.get() * (burst - 1));
+    }
+
+    /**
+     * Lowers the rate by {@link #BACKOFF_FACTOR}, to at most {@link #MAX_BACKOFF} times below the configured rate, and
+     * drains the burst so that the next permit waits a full interval.
+     */
+    public void backOff() {
+        long interval;
+        long lowered;
+        do {
+            interval = intervalNanos.get();
+            lowered = Math.min(interval * BACKOFF_FACTOR, baseIntervalNanos * MAX_BACKOFF);
+        } while (!intervalNanos.compareAndSet(interval, lowered));
+
+        long arrival;
+        long drained;
+        do {
+            arrival = theoreticalArrival.get();
+            drained = ticker.nanoTime() + lowered * burst;
+        } while (drained - arrival > 0 && !theoreticalArrival.compareAndSet(arrival, drained));
+    }
+
+    /**
+     * Raises a lowered rate by a {@link #RECOVERY_STEPS}th of the configured rate.
+     */
+    public void recover() {
+        long interval;
+        long raised;
+        do {
+            interval = intervalNanos.get();
+            if (interval <= baseIntervalNanos) {
+                return;
+            }
+            final double rate = TimeUnit.SECONDS.toNanos(1) / (double) interval + permitsPerSecond / RECOVERY_STEPS;
+            raised = Math.max(baseIntervalNanos, (long) (TimeUnit.SECONDS.toNanos(1) / rate));
+        } while (!intervalNanos.compareAndSet(interval, raised));
+    }
+
+    /**
+     * Gets the current rate, which is below the configured rate after backing off.
+     *
+     * @return The current rate in permits per second.
+     */
+    public double getRate() {
+        return TimeUnit.SECONDS.toNanos(1) / (double) intervalNanos.get();
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+}
@@ -31,6 +31,26 @@ public class ListResultRequest {
         this.categoryId = categoryId;
     }
 
+    /**
+     * Constructs a copy of the list result request. The refinement ids list is shared.
+     * 
+     * @param other The request to copy.
+     */
+    public ListResultRequest(final ListResultRequest other) {
+        this.type = other.type;
+        this.categoryId = other.categoryId;
+        this.refinementIds = other.refinementIds;
+        this.includeProducts = other.includeProducts;
+        this.includeCategories = other.includeCategories;
+        this.includeRefinements = other.includeRefinements;
+        this.includeAttributes = other.includeAttributes;
+        this.sortingMethod = other.sortingMethod;
+        this.sortingAscending = other.sortingAscending;
+        this.nrProducts = other.nrProducts;
+        this.offset = other.offset;
+        this.listId = other.listId;
+    }
+
     public Type getType() {
         return type;
     }
@@ -28,6 +28,26 @@ public class SearchResultsRequest {
     public SearchResultsRequest(final String term) {
         this.term = term;
     }
+
+    /**
+     * Constructs a copy of the search results request. The refinement ids list is shared.
+     * 
+     * @param other The request to copy.
+     */
+    public SearchResultsRequest(final SearchResultsRequest other) {
+        this.term = other.term;
+        this.categoryId = other.categoryId;
+        this.refinementIds = other.refinementIds;
+        this.includeProducts = other.includeProducts;
+        this.includeCategories = other.includeCategories;
+        this.includeRefinements = other.includeRefinements;
+        this.includeAttributes = other.includeAttributes;
+        this.sortingMethod = other.sortingMethod;
+        this.sortingAscending = other.sortingAscending;
+        this.nrProducts = other.nrProducts;
+        this.offset = other.offset;
+        this.listId = other.listId;
+    }
     
     public String getTerm() {
         return term;
@@ -0,0 +1,77 @@
+package com.bol.openapi.client.response;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.bol.openapi.openapi_3_0.Product;
+
+/**
+ * Result of a multi-product lookup. The products are ordered as the ids were requested, ids without a product are
+ * reported as missing.
+ */
+public class ProductsResult {
+
+    private final List<Product> products;
+    private final List<Long> missingIds;
+    private final Map<Long, Product> productsById;
+
+    /**
+     * Constructs the products result.
+     *
+     * @param requestedIds The requested product ids, in order.
+     * @param found        The products that were returned, in any order.
+     */
+    public ProductsResult(final List<Long> requestedIds, final Collection<Product> found) {
+        productsById = new HashMap<Long, Product>();
+        for (final Product product : found) {
+            productsById.put(Long.valueOf(product.getId()), product);
+        }
+
+        final List<Product> orderedProducts = new ArrayList<Product>(requestedIds.size());
+        final List<Long> missing = new ArrayList<Long>();
+        for (final Long id : requestedIds) {
+            final Product product = productsById.get(id);
+            if (product != null) {
+                orderedProducts.add(product);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        this.products = Collections.unmodifiableList(orderedProducts);
+        this.missingIds = Collections.unmodifiableList(missing);
+    }
+
+    /**
+     * Gets the products that were found, in the order they were requested.
+     *
+     * @return The products.
+     */
+    public List<Product> getProducts() {
+        return products;
+    }
+
+    /**
+     * Gets the requested ids for which no product was returned.
+     *
+     * @return The missing ids.
+     */
+    public List<Long> getMissingIds() {
+        return missingIds;
+    }
+
+    /**
+     * Gets the product with the given id.
+     *
+     * @param id The product id.
+     *
+     * @return The product, or null when it is missing.
+     */
+    public Product getProduct(final long id) {
+        return productsById.get(Long.valueOf(id));
+    }
+}
@@ -0,0 +1,75 @@
+package com.bol.openapi.client.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps retries at a percentage of the calls. Every call deposits a fraction of a retry token and every retry withdraws
+ * a whole token, so that retries cannot multiply the load on a server that is already failing. A limited number of
+ * tokens is banked, and the budget starts out full so that retries are possible before any traffic was seen.
+ */
+public class RetryBudget {
+
+    private static final long TOKEN = 1000;
+
+    private final long deposit;
+    private final long maxBalance;
+    private final AtomicLong balance;
+
+    /**
+     * Constructs the retry budget.
+     *
+     * @param percent    The maximum percentage of calls that may be retried.
+     * @param maxBanked  The maximum number of retries saved up during quiet periods.
+     */
+    public RetryBudget(final double percent, final int maxBanked) {
+        if (percent < 0 || percent > 100) {
+            throw new IllegalArgumentException("Percentage must be between 0 and 100");
+        }
+        if (maxBanked < 1) {
+            throw new IllegalArgumentException("Maximum banked retries must be positive");
+        }
+        this.deposit = Math.round(percent * TOKEN / 100);
+        this.maxBalance = maxBanked * TOKEN;
+        this.balance = new AtomicLong(maxBalance);
+    }
+
+    /**
+     * Deposits the share of a call.
+     */
+    public void deposit() {
+        long current;
+        long next;
+        do {
+            current = balance.get();
+            if (current >= maxBalance) {
+                return;
+            }
+            next = Math.min(maxBalance, current + deposit);
+        } while (!balance.compareAndSet(current, next));
+    }
+
+    /**
+     * Withdraws a retry, if the budget allows it.
+     *
+     * @return True when the retry may be made.
+     */
+    public boolean tryWithdraw() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+
+    /**
+     * Gets the number of retries currently available.
+     *
+     * @return The available retries.
+     */
+    public long getAvailable() {
+        return balance.get() / TOKEN;
+    }
+}
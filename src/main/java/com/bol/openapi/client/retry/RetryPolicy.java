@@ -0,0 +1,195 @@
+package com.bol.openapi.client.retry;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.http.conn.ConnectTimeoutException;
+
+import com.bol.openapi.client.exception.BasicApiException;
+
+/**
+ * Retry policy for idempotent catalog reads. A failed attempt is retried when it failed with an I/O error or a
+ * {@link BasicApiException} with a retryable status, after an exponential backoff with full jitter: a random delay
+ * between 0 and base delay * 2^(attempt - 1), capped at the maximum delay. Retries stop at the maximum number of
+ * attempts, when the next attempt would start after the deadline of the call, or when the {@link RetryBudget} is
+ * exhausted.
+ *
+ * <p>The configuration should be completed before the policy is shared between threads.</p>
+ */
+public class RetryPolicy {
+
+    /**
+     * The statuses that are retried by default: throttling and server errors.
+     */
+    public static final Set<String> DEFAULT_RETRYABLE_STATUSES = Collections.unmodifiableSet(new HashSet<String>(Arrays.asList("429", "500", "502",
+            "503", "504")));
+
+    private final Random random = new Random();
+    private volatile int maxAttempts = 3;
+    private volatile long baseDelayNanos = TimeUnit.MILLISECONDS.toNanos(50);
+    private volatile long maxDelayNanos = TimeUnit.SECONDS.toNanos(2);
+    private volatile long deadlineNanos = TimeUnit.SECONDS.toNanos(10);
+    private volatile Set<String> retryableStatuses = DEFAULT_RETRYABLE_STATUSES;
+    private volatile RetryBudget retryBudget = new RetryBudget(10, 10);
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong budgetExhausted = new AtomicLong();
+    private final AtomicLong deadlineExceeded = new AtomicLong();
+
+    /**
+     * Sets the maximum number of attempts per call, including the first one. 3 by default.
+     *
+     * @param maxAttempts The maximum number of attempts.
+     */
+    public void setMaxAttempts(final int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Maximum attempts must be positive");
+        }
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Sets the backoff between attempts, 50 milliseconds doubling up to 2 seconds by default.
+     *
+     * @param baseDelay The upper bound of the delay before the first retry.
+     * @param maxDelay  The upper bound of any delay.
+     * @param unit      The time unit of the delays.
+     */
+    public void setBackoff(final long baseDelay, final long maxDelay, final TimeUnit unit) {
+        this.baseDelayNanos = unit.toNanos(baseDelay);
+        this.maxDelayNanos = unit.toNanos(maxDelay);
+    }
+
+    /**
+     * Sets the deadline of a call, measured from its first attempt; no retry is started after it. 10 seconds by
+     * default. An attempt in progress is bounded by the socket timeout of the HTTP client, not by the deadline.
+     *
+     * @param deadline The deadline.
+     * @param unit     The time unit of the deadline.
+     */
+    public void setDeadline(final long deadline, final TimeUnit unit) {
+        this.deadlineNanos = unit.toNanos(deadline);
+    }
+
+    /**
+     * Sets the {@link BasicApiException#getStatus() statuses} that are retried, all others are fatal.
+     *
+     * @param retryableStatuses The statuses, {@link #DEFAULT_RETRYABLE_STATUSES} by default.
+     */
+    public void setRetryableStatuses(final Collection<String> retryableStatuses) {
+        this.retryableStatuses = Collections.unmodifiableSet(new HashSet<String>(retryableStatuses));
+    }
+
+    /**
+     * Sets the retry budget, 10% of the calls with 10 banked retries by default.
+     *
+     * @param retryBudget The retry budget, or null to retry without a budget.
+     */
+    public void setRetryBudget(final RetryBudget retryBudget) {
+        this.retryBudget = retryBudget;
+    }
+
+    /**
+     * Whether a failure is worth retrying. I/O errors are, except for an interrupted thread; API errors are when their
+     * status is retryable.
+     *
+     * @param failure The failure.
+     *
+     * @return True when the failure is retryable.
+     */
+    public boolean isRetryable(final Exception failure) {
+        if (failure instanceof BasicApiException) {
+            final String status = ((BasicApiException) failure).getStatus();
+            return status != null && retryableStatuses.contains(status);
+        }
+        if (failure instanceof InterruptedIOException) {
+            return failure instanceof SocketTimeoutException || failure instanceof ConnectTimeoutException;
+        }
+        return failure instanceof IOException;
+    }
+
+    /**
+     * Gets a random delay before the given retry.
+     *
+     * @param retry The number of the retry, starting at 1.
+     *
+     * @return The delay in nanoseconds.
+     */
+    public long getDelayNanos(final int retry) {
+        final int shift = Math.min(retry - 1, 30);
+        final long bound = baseDelayNanos > maxDelayNanos >> shift ? maxDelayNanos : baseDelayNanos << shift;
+        synchronized (random) {
+            return (long) (random.nextDouble() * bound);
+        }
+    }
+
+    /**
+     * Records the start of a call in the retry budget.
+     */
+    public void recordCall() {
+        final RetryBudget budget = retryBudget;
+        if (budget != null) {
+            budget.deposit();
+        }
+    }
+
+    /**
+     * Decides whether a failed attempt is retried, and counts the retry.
+     *
+     * @param failure   The failure of the attempt.
+     * @param attempt   The number of the failed attempt, starting at 1.
+     * @param remaining The time left until the deadline, after the delay, in nanoseconds.
+     *
+     * @return True when the call is retried.
+     */
+    public boolean shouldRetry(final Exception failure, final int attempt, final long remaining) {
+        if (attempt >= maxAttempts || !isRetryable(failure)) {
+            return false;
+        }
+        if (remaining <= 0) {
+            deadlineExceeded.incrementAndGet();
+            return false;
+        }
+
+        final RetryBudget budget = retryBudget;
+        if (budget != null && !budget.tryWithdraw()) {
+            budgetExhausted.incrementAndGet();
+            return false;
+        }
+
+        retries.incrementAndGet();
+        return true;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public long getDeadlineNanos() {
+        return deadlineNanos;
+    }
+
+    public RetryBudget getRetryBudget() {
+        return retryBudget;
+    }
+
+    public long getRetries() {
+        return retries.get();
+    }
+
+    public long getBudgetExhausted() {
+        return budgetExhausted.get();
+    }
+
+    public long getDeadlineExceeded() {
+        return deadlineExceeded.get();
+    }
+}
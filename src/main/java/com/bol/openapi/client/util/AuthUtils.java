@@ -26,10 +26,6 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.http.Header;
 import org.apache.http.HttpRequest;
 import org.apache.http.NameValuePair;
-import org.joda.time.DateTime;
-import org.joda.time.DateTimeZone;
-import org.joda.time.format.DateTimeFormat;
-import org.joda.time.format.DateTimeFormatter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,7 +34,7 @@ import org.slf4j.LoggerFactory;
  */
 public final class AuthUtils {
 
-    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormat.forPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'").withLocale(Locale.ENGLISH).withZone(DateTimeZone.forID("GMT"));
+    private static final HttpDateCache DATE_CACHE = new HttpDateCache();
     private static final String HEADER_CONTENT_MD5 = "Content-MD5";
     private static final String HEADER_CONTENT_TYPE = "Content-Type";
     private static final String HEADER_DATE = "Date";
@@ -100,6 +96,32 @@ public final class AuthUtils {
      * @param httpParameters The HTTP parameters.
      */
     public static void handleRequest(final HttpRequest request, final String accessKeyId, final String secretAccessKey, final String sessionId, final String body, final List<NameValuePair> httpParameters) {
+        prepareRequest(request, sessionId, body, DATE_CACHE.getDate());
+
+        // Authorization
+        try {
+            final String stringToSign = AuthUtils.createStringToSign(request, httpParameters);
+            authorize(request, accessKeyId, calculateHMAC256(stringToSign, secretAccessKey));
+        } catch (final NoSuchAlgorithmException e) {
+            LOG.error("The specified algorithm is not available in the default provider package or any of the other provider packages that were searched", e);
+        } catch (final InvalidKeyException e) {
+            LOG.error("The given key is inappropriate for initializing this MAC", e);
+        } catch (final URISyntaxException e) {
+            LOG.error("The given string violates RFC 2396", e);
+        } catch (final UnsupportedEncodingException e) {
+            LOG.error("UTF-8 encoding is not supported on this platform", e);
+        }
+    }
+
+    /**
+     * Adds the headers that are part of the string to sign.
+     *
+     * @param request The HTTP web request.
+     * @param sessionId The session id.
+     * @param body The request body to hash.
+     * @param date The formatted date.
+     */
+    static void prepareRequest(final HttpRequest request, final String sessionId, final String body, final String date) {
         // Session-ID (optional)
         if (sessionId != null) {
             request.addHeader(HEADER_OAI_SESSION_ID, sessionId);
@@ -132,22 +154,18 @@ public final class AuthUtils {
         }
 
         // Date
-        final DateTime dt = new DateTime();
-        request.addHeader(HEADER_DATE, DATE_TIME_FORMATTER.print(dt));
+        request.addHeader(HEADER_DATE, date);
+    }
 
-        // Authorization
-        try {
-            final String stringToSign = AuthUtils.createStringToSign(request, httpParameters);
-            request.addHeader(HEADER_OAI_AUTH, accessKeyId + ":" + calculateHMAC256(stringToSign, secretAccessKey));
-        } catch (final NoSuchAlgorithmException e) {
-            LOG.error("The specified algorithm is not available in the default provider package or any of the other provider packages that were searched", e);
-        } catch (final InvalidKeyException e) {
-            LOG.error("The given key is inappropriate for initializing this MAC", e);
-        } catch (final URISyntaxException e) {
-            LOG.error("The given string violates RFC 2396", e);
-        } catch (final UnsupportedEncodingException e) {
-            LOG.error("UTF-8 encoding is not supported on this platform", e);
-        }
+    /**
+     * Adds the authorization header.
+     *
+     * @param request The HTTP web request.
+     * @param accessKeyId The access key ID.
+     * @param signature The signature of the string to sign.
+     */
+    static void authorize(final HttpRequest request, final String accessKeyId, final String signature) {
+        request.addHeader(HEADER_OAI_AUTH, accessKeyId + ":" + signature);
     }
 
     /**
@@ -0,0 +1,23 @@
+package com.bol.openapi.client.util;
+
+/**
+ * Source of the current time, replaceable for testing.
+ */
+public interface Clock {
+
+    /**
+     * The system clock.
+     */
+    Clock SYSTEM = new Clock() {
+        public long currentTimeMillis() {
+            return System.currentTimeMillis();
+        }
+    };
+
+    /**
+     * Gets the current time.
+     *
+     * @return The current time in milliseconds since the epoch.
+     */
+    long currentTimeMillis();
+}
@@ -0,0 +1,69 @@
+package com.bol.openapi.client.util;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream that counts the bytes read through it. Not thread safe, like the streams it wraps.
+ */
+public class CountingInputStream extends FilterInputStream {
+
+    private long count;
+    private long mark;
+
+    /**
+     * Constructs the counting input stream.
+     *
+     * @param in The stream to count.
+     */
+    public CountingInputStream(final InputStream in) {
+        super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int b = super.read();
+        if (b != -1) {
+            count++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        final int read = super.read(b, off, len);
+        if (read > 0) {
+            count += read;
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        final long skipped = super.skip(n);
+        count += skipped;
+        return skipped;
+    }
+
+    @Override
+    public synchronized void mark(final int readlimit) {
+        super.mark(readlimit);
+        mark = count;
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        super.reset();
+        count = mark;
+    }
+
+    /**
+     * Gets the number of bytes read so far.
+     *
+     * @return The byte count.
+     */
+    public long getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,197 @@
+package com.bol.openapi.client.util;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.NameValuePair;
+
+/**
+ * Precompiled URI template for an OpenAPI operation, for example "/catalog/v3/products/{id}". The static parts are
+ * resolved against the service URI once; expanding the template encodes the path variables and query parameters in a
+ * single pass, with the same encoding as {@link URLEncoder} and {@link org.apache.http.client.utils.URLEncodedUtils},
+ * and builds the decoded path for the string to sign alongside.
+ */
+public final class EndpointTemplate {
+
+    private static final String UTF_8 = "UTF-8";
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    private final String uriBase;
+    private final String pathBase;
+    private final String[] literals;
+    private final String[] variables;
+
+    private EndpointTemplate(final String uriBase, final String pathBase, final String[] literals, final String[] variables) {
+        this.uriBase = uriBase;
+        this.pathBase = pathBase;
+        this.literals = literals;
+        this.variables = variables;
+    }
+
+    /**
+     * Compiles the template.
+     *
+     * @param serviceUri The URI of the service, including its base path.
+     * @param pathTemplate The path relative to the service, with variables in braces.
+     *
+     * @return The template.
+     */
+    public static EndpointTemplate compile(final URI serviceUri, final String pathTemplate) {
+        final List<String> literals = new ArrayList<String>();
+        final List<String> variables = new ArrayList<String>();
+
+        int start = 0;
+        int open = pathTemplate.indexOf('{');
+        while (open >= 0) {
+            final int close = pathTemplate.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unterminated variable in path template: " + pathTemplate);
+            }
+
+            literals.add(pathTemplate.substring(start, open));
+            variables.add(pathTemplate.substring(open + 1, close));
+            start = close + 1;
+            open = pathTemplate.indexOf('{', start);
+        }
+        literals.add(pathTemplate.substring(start));
+
+        // Same composition as URIUtils.createURI
+        final StringBuilder sb = new StringBuilder();
+        if (serviceUri.getHost() != null) {
+            if (serviceUri.getScheme() != null) {
+                sb.append(serviceUri.getScheme()).append("://");
+            }
+            sb.append(serviceUri.getHost());
+            if (serviceUri.getPort() > 0) {
+                sb.append(':').append(serviceUri.getPort());
+            }
+        }
+        final String servicePath = serviceUri.getPath() != null ? serviceUri.getPath() : "";
+        final String pathBase = servicePath + literals.get(0);
+        if (!pathBase.startsWith("/")) {
+            sb.append('/');
+        }
+        sb.append(pathBase);
+
+        return new EndpointTemplate(sb.toString(), pathBase.startsWith("/") ? pathBase : "/" + pathBase,
+                literals.toArray(new String[literals.size()]), variables.toArray(new String[variables.size()]));
+    }
+
+    /**
+     * Expands the template.
+     *
+     * @param queryParameters The query parameters, may be null.
+     * @param values The values of the path variables, in template order. Iterable values are joined with commas.
+     *
+     * @return The expanded URI.
+     *
+     * @throws URISyntaxException When the expanded URI contains a syntax error.
+     */
+    public EndpointUri expand(final List<NameValuePair> queryParameters, final Object... values) throws URISyntaxException {
+        if (values.length != variables.length) {
+            throw new IllegalArgumentException("Expected " + variables.length + " path variables, got " + values.length);
+        }
+
+        final StringBuilder uri = new StringBuilder(uriBase.length() + 64);
+        uri.append(uriBase);
+        final StringBuilder path = variables.length > 0 ? new StringBuilder(pathBase.length() + 32).append(pathBase) : null;
+
+        try {
+            for (int i = 0; i < variables.length; i++) {
+                if (values[i] == null) {
+                    throw new IllegalArgumentException("Path variable " + variables[i] + " is required");
+                }
+
+                if (values[i] instanceof Iterable) {
+                    boolean first = true;
+                    for (final Object element : (Iterable<?>) values[i]) {
+                        if (!first) {
+                            uri.append(',');
+                            path.append(',');
+                        }
+                        appendPathVariable(uri, path, String.valueOf(element));
+                        first = false;
+                    }
+                } else {
+                    appendPathVariable(uri, path, values[i].toString());
+                }
+
+                uri.append(literals[i + 1]);
+                path.append(literals[i + 1]);
+            }
+
+            if (queryParameters != null && !queryParameters.isEmpty()) {
+                char separator = '?';
+                for (final NameValuePair parameter : queryParameters) {
+                    uri.append(separator);
+                    appendEncoded(uri, parameter.getName());
+                    uri.append('=');
+                    if (parameter.getValue() != null) {
+                        appendEncoded(uri, parameter.getValue());
+                    }
+                    separator = '&';
+                }
+            }
+        } catch (final UnsupportedEncodingException e) {
+            throw new IllegalStateException("UTF-8 encoding is not supported on this platform", e);
+        }
+
+        return new EndpointUri(new URI(uri.toString()), path != null ? path.toString() : pathBase, queryParameters);
+    }
+
+    /**
+     * Gets the names of the path variables.
+     *
+     * @return The variable names, in template order.
+     */
+    public String[] getVariables() {
+        return variables.clone();
+    }
+
+    /**
+     * Appends an encoded path variable to the URI and its decoded form to the path. The decoded form of a
+     * {@link URLEncoder} encoded value is the value itself, with spaces read back as plus signs.
+     */
+    private static void appendPathVariable(final StringBuilder uri, final StringBuilder path, final String value) throws UnsupportedEncodingException {
+        appendEncoded(uri, value);
+        path.append(value.replace(' ', '+'));
+    }
+
+    /**
+     * Appends the value encoded as {@link URLEncoder#encode(String, String)} with UTF-8 would. Values with non-ASCII
+     * characters are handed to {@link URLEncoder}.
+     */
+    private static void appendEncoded(final StringBuilder sb, final String value) throws UnsupportedEncodingException {
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) >= 0x80) {
+                sb.append(URLEncoder.encode(value, UTF_8));
+                return;
+            }
+        }
+
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '.' || c == '-' || c == '*' || c == '_') {
+                sb.append(c);
+            } else if (c == ' ') {
+                sb.append('+');
+            } else {
+                sb.append('%').append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder(pathBase);
+        for (int i = 0; i < variables.length; i++) {
+            sb.append('{').append(variables[i]).append('}').append(literals[i + 1]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,62 @@
+package com.bol.openapi.client.util;
+
+import java.net.URI;
+import java.util.List;
+
+import org.apache.http.NameValuePair;
+
+/**
+ * A request URI expanded from an {@link EndpointTemplate}, together with the canonical parts the request is signed
+ * with.
+ */
+public class EndpointUri {
+
+    private final URI uri;
+    private final String path;
+    private final List<NameValuePair> parameters;
+
+    /**
+     * Constructs the endpoint URI.
+     *
+     * @param uri The request URI.
+     * @param path The decoded request path, equal to {@link URI#getPath()}.
+     * @param parameters The query parameters, may be null.
+     */
+    public EndpointUri(final URI uri, final String path, final List<NameValuePair> parameters) {
+        this.uri = uri;
+        this.path = path;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Gets the request URI.
+     *
+     * @return The request URI.
+     */
+    public URI getUri() {
+        return uri;
+    }
+
+    /**
+     * Gets the decoded request path, as used in the string to sign.
+     *
+     * @return The path.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the query parameters, as used in the string to sign.
+     *
+     * @return The query parameters, may be null.
+     */
+    public List<NameValuePair> getParameters() {
+        return parameters;
+    }
+
+    @Override
+    public String toString() {
+        return uri.toString();
+    }
+}
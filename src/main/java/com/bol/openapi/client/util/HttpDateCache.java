@@ -0,0 +1,93 @@
+package com.bol.openapi.client.util;
+
+import java.util.Locale;
+
+import org.joda.time.DateTimeZone;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+
+/**
+ * Supplies the RFC 1123 date used in the Date header and the string to sign. The header has a resolution of one
+ * second, so the formatted value is cached and only formatted again when the clock enters a new second.
+ */
+public class HttpDateCache {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormat.forPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'").withLocale(Locale.ENGLISH).withZone(DateTimeZone.forID("GMT"));
+    private static final long MILLIS_PER_SECOND = 1000L;
+
+    private final Clock clock;
+    private volatile CachedDate cachedDate;
+
+    /**
+     * Constructs the date cache on the system clock.
+     */
+    public HttpDateCache() {
+        this(Clock.SYSTEM);
+    }
+
+    /**
+     * Constructs the date cache.
+     *
+     * @param clock The clock.
+     */
+    public HttpDateCache(final Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Gets the formatted current date.
+     *
+     * @return The date, for example "Fri, 11 Nov 2011 11:11:11 GMT".
+     */
+    public String getDate() {
+        final long second = floorSecond(clock.currentTimeMillis());
+
+        // Threads racing on a new second may each format it once, which is harmless
+        CachedDate current = cachedDate;
+        if (current == null || current.second != second) {
+            current = new CachedDate(second, format(second * MILLIS_PER_SECOND));
+            cachedDate = current;
+        }
+
+        return current.value;
+    }
+
+    /**
+     * Gets the clock.
+     *
+     * @return The clock.
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Formats the instant without caching.
+     *
+     * @param millis The instant in milliseconds since the epoch.
+     *
+     * @return The formatted date.
+     */
+    public static String format(final long millis) {
+        return DATE_TIME_FORMATTER.print(millis);
+    }
+
+    private static long floorSecond(final long millis) {
+        final long second = millis / MILLIS_PER_SECOND;
+        return millis < 0 && second * MILLIS_PER_SECOND != millis ? second - 1 : second;
+    }
+
+    /**
+     * A formatted date with the second it represents.
+     */
+    private static final class CachedDate {
+
+        private final long second;
+        private final String value;
+
+        private CachedDate(final long second, final String value) {
+            this.second = second;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.bol.openapi.client.util;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.commons.codec.binary.Base64;
+import org.apache.http.Header;
+import org.apache.http.HttpRequest;
+import org.apache.http.NameValuePair;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Signs OpenAPI requests for a single access key. Produces the same headers as {@link AuthUtils}, but the signing key
+ * is created once and every thread keeps its own initialized {@link Mac}, so signing does not look up the JCA
+ * provider or initialize a MAC per request.
+ */
+public class RequestSigner {
+
+    private static final String HEADER_CONTENT_MD5 = "Content-MD5";
+    private static final String HEADER_CONTENT_TYPE = "Content-Type";
+    private static final String HEADER_OAI = "X-OpenAPI";
+    private static final String HEADER_OAI_AUTH = "X-OpenAPI-Authorization";
+    private static final String HMAC_SHA256_ALGORITHM = "HmacSHA256";
+    private static final Logger LOG = LoggerFactory.getLogger(RequestSigner.class);
+
+    private final String accessKeyId;
+    private final SecretKeySpec signingKey;
+    private final HttpDateCache dateCache;
+    private final ThreadLocal<Mac> macs = new ThreadLocal<Mac>() {
+        @Override
+        protected Mac initialValue() {
+            return createMac();
+        }
+    };
+
+    /**
+     * Constructs the request signer.
+     *
+     * @param accessKeyId The access key ID.
+     * @param secretAccessKey The secret access key.
+     *
+     * @throws IllegalArgumentException When the secret access key cannot be used as HMAC key.
+     */
+    public RequestSigner(final String accessKeyId, final String secretAccessKey) {
+        this(accessKeyId, secretAccessKey, Clock.SYSTEM);
+    }
+
+    /**
+     * Constructs the request signer.
+     *
+     * @param accessKeyId The access key ID.
+     * @param secretAccessKey The secret access key.
+     * @param clock The clock that dates the requests.
+     *
+     * @throws IllegalArgumentException When the secret access key cannot be used as HMAC key.
+     */
+    public RequestSigner(final String accessKeyId, final String secretAccessKey, final Clock clock) {
+        this.accessKeyId = accessKeyId;
+        this.dateCache = new HttpDateCache(clock);
+        this.signingKey = new SecretKeySpec(secretAccessKey.getBytes(), HMAC_SHA256_ALGORITHM);
+
+        // Fail at construction rather than on the first request
+        macs.get();
+    }
+
+    /**
+     * Handles the request, by adding the required headers for an OpenAPI-RS call.
+     *
+     * @param request The HTTP web request.
+     */
+    public void handleRequest(final HttpRequest request) {
+        sign(request, null, null, null, null);
+    }
+
+    /**
+     * Handles the request, by adding the required headers for an OpenAPI-RS call.
+     *
+     * @param request The HTTP web request.
+     * @param sessionId The session id.
+     */
+    public void handleRequest(final HttpRequest request, final String sessionId) {
+        sign(request, sessionId, null, null, null);
+    }
+
+    /**
+     * Handles the request, by adding the required headers for an OpenAPI-RS call.
+     *
+     * @param request The HTTP web request.
+     * @param sessionId The session id.
+     * @param httpParameters The HTTP parameters.
+     */
+    public void handleRequest(final HttpRequest request, final String sessionId, final List<NameValuePair> httpParameters) {
+        sign(request, sessionId, null, null, httpParameters);
+    }
+
+    /**
+     * Handles the request, by adding the required headers for an OpenAPI-RS call.
+     *
+     * @param request The HTTP web request.
+     * @param sessionId The session id.
+     * @param body The request body to hash.
+     * @param httpParameters The HTTP parameters.
+     */
+    public void handleRequest(final HttpRequest request, final String sessionId, final String body, final List<NameValuePair> httpParameters) {
+        sign(request, sessionId, body, null, httpParameters);
+    }
+
+    /**
+     * Handles a request to an expanded endpoint URI, by adding the required headers for an OpenAPI-RS call. The
+     * decoded path and query parameters of the endpoint URI are signed as they are.
+     *
+     * @param request The HTTP web request, for the endpoint URI.
+     * @param endpointUri The endpoint URI.
+     * @param sessionId The session id.
+     * @param body The request body to hash.
+     */
+    public void handleRequest(final HttpRequest request, final EndpointUri endpointUri, final String sessionId, final String body) {
+        sign(request, sessionId, body, endpointUri.getPath(), endpointUri.getParameters());
+    }
+
+    /**
+     * Adds the headers and the signature.
+     *
+     * @param request The HTTP web request.
+     * @param sessionId The session id.
+     * @param body The request body to hash.
+     * @param path The decoded request path, null to take it from the request.
+     * @param httpParameters The HTTP parameters.
+     */
+    private void sign(final HttpRequest request, final String sessionId, final String body, final String path, final List<NameValuePair> httpParameters) {
+        final String date = dateCache.getDate();
+        AuthUtils.prepareRequest(request, sessionId, body, date);
+
+        // Authorization
+        try {
+            final String stringToSign = createStringToSign(request, date, sessionId, path, httpParameters);
+            AuthUtils.authorize(request, accessKeyId, calculateHMAC256(stringToSign));
+        } catch (final URISyntaxException e) {
+            LOG.error("The given string violates RFC 2396", e);
+        } catch (final UnsupportedEncodingException e) {
+            LOG.error("UTF-8 encoding is not supported on this platform", e);
+        }
+    }
+
+    /**
+     * Creates the string to sign. Requests that only carry the headers added by this signer are canonicalized from
+     * their known parts by {@link StringToSignBuilder}, other requests by {@link AuthUtils#createStringToSign}.
+     *
+     * @param request The HTTP web request, with its headers prepared.
+     * @param date The date of the Date header.
+     * @param sessionId The session id.
+     * @param path The decoded request path, null to take it from the request.
+     * @param httpParameters The HTTP parameters.
+     *
+     * @return The string that needs to be signed for the request.
+     *
+     * @throws URISyntaxException When the URI contains a syntax error.
+     * @throws UnsupportedEncodingException When the given encoding is not supported.
+     */
+    String createStringToSign(final HttpRequest request, final String date, final String sessionId, final String path, final List<NameValuePair> httpParameters)
+            throws URISyntaxException, UnsupportedEncodingException {
+        if (!(request instanceof HttpUriRequest) || countOpenApiHeaders(request) != (sessionId != null ? 1 : 0)) {
+            return AuthUtils.createStringToSign(request, httpParameters);
+        }
+
+        final HttpUriRequest uriRequest = (HttpUriRequest) request;
+        String canonicalPath = path;
+        if (canonicalPath == null) {
+            final URI uri = uriRequest.getURI();
+            canonicalPath = uri == null || uri.toString().length() == 0 ? "/" : uri.getPath();
+        }
+
+        return StringToSignBuilder.build(uriRequest.getMethod(), getHeaderValue(request, HEADER_CONTENT_MD5), getHeaderValue(request, HEADER_CONTENT_TYPE),
+                date, sessionId, canonicalPath, httpParameters);
+    }
+
+    /**
+     * Calculates the HMAC256 string based on the given string, with the MAC of the current thread.
+     *
+     * @param stringToSign The string to sign.
+     *
+     * @return The calculated HMAC256 string, equal to {@link AuthUtils#calculateHMAC256(String, String)}.
+     */
+    public String calculateHMAC256(final String stringToSign) {
+        // doFinal resets the MAC, so it is ready for the next request of this thread
+        final byte[] rawHmac = macs.get().doFinal(stringToSign.getBytes());
+
+        // Base64-encode the hmac
+        return Base64.encodeBase64String(rawHmac).trim();
+    }
+
+    /**
+     * Gets the access key ID.
+     *
+     * @return The access key ID.
+     */
+    public String getAccessKeyId() {
+        return accessKeyId;
+    }
+
+    /**
+     * Counts the headers that are canonicalized as OpenAPI headers.
+     *
+     * @param request The HTTP web request.
+     *
+     * @return The number of OpenAPI headers, excluding the authorization header.
+     */
+    private static int countOpenApiHeaders(final HttpRequest request) {
+        int count = 0;
+        for (final Header header : request.getAllHeaders()) {
+            final String name = header.getName();
+            if (name.regionMatches(true, 0, HEADER_OAI, 0, HEADER_OAI.length()) && !name.equalsIgnoreCase(HEADER_OAI_AUTH)) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Gets the value of the first header with the given name.
+     *
+     * @param request The HTTP web request.
+     * @param name The header name.
+     *
+     * @return The header value, null when absent.
+     */
+    private static String getHeaderValue(final HttpRequest request, final String name) {
+        final Header header = request.getFirstHeader(name);
+        return header != null ? header.getValue() : null;
+    }
+
+    /**
+     * Creates a MAC initialized with the signing key.
+     *
+     * @return The MAC.
+     */
+    private Mac createMac() {
+        try {
+            final Mac mac = Mac.getInstance(HMAC_SHA256_ALGORITHM);
+            mac.init(signingKey);
+            return mac;
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("The HmacSHA256 algorithm is not available", e);
+        } catch (final InvalidKeyException e) {
+            throw new IllegalArgumentException("The given key is inappropriate for initializing this MAC", e);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.bol.openapi.client.util;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.List;
+
+import org.apache.http.NameValuePair;
+
+/**
+ * Builds the string to sign from its already known parts. The result is identical to
+ * {@link AuthUtils#createStringToSign(org.apache.http.HttpRequest, List)} for a request whose only OpenAPI header is
+ * the session id, but the URI is not parsed again, no maps are allocated and parameters are only URL decoded when they
+ * contain an escape. Each thread reuses a single buffer.
+ */
+public final class StringToSignBuilder {
+
+    private static final String HEADER_OAI_SESSION_ID = "x-openapi-session-id";
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int MAX_RETAINED_CAPACITY = 8192;
+    private static final ThreadLocal<StringBuilder> BUFFER = new ThreadLocal<StringBuilder>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder(INITIAL_CAPACITY);
+        }
+    };
+
+    private StringToSignBuilder() {
+    }
+
+    /**
+     * Builds the string to sign.
+     *
+     * @param method The HTTP method.
+     * @param contentMd5 The Content-MD5 header, may be null.
+     * @param contentType The Content-Type header, may be null.
+     * @param date The date header, may be null.
+     * @param sessionId The session id, may be null.
+     * @param path The decoded request path (as {@link java.net.URI#getPath()}).
+     * @param httpParameters The HTTP parameters, may be null.
+     *
+     * @return The string that needs to be signed.
+     *
+     * @throws UnsupportedEncodingException When the given encoding is not supported.
+     */
+    public static String build(final String method, final String contentMd5, final String contentType, final String date, final String sessionId,
+            final String path, final List<NameValuePair> httpParameters) throws UnsupportedEncodingException {
+        StringBuilder sb = BUFFER.get();
+        if (sb.capacity() > MAX_RETAINED_CAPACITY) {
+            // Do not keep a buffer that grew for an exceptionally long request
+            sb = new StringBuilder(INITIAL_CAPACITY);
+            BUFFER.set(sb);
+        }
+        sb.setLength(0);
+
+        appendLine(sb, method);
+        appendLine(sb, contentMd5);
+        appendLine(sb, contentType);
+        appendLine(sb, date);
+
+        // Canonicalized OpenAPI headers
+        if (sessionId != null) {
+            sb.append(HEADER_OAI_SESSION_ID).append(':').append(sessionId).append('\n');
+        }
+
+        // Canonicalized resource
+        appendLine(sb, path);
+
+        // Canonicalized query and post parameters
+        if (httpParameters != null) {
+            appendParameters(sb, httpParameters);
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Appends the parameters sorted by name, with the values of repeated names joined in their original order. Names
+     * are selected in order by repeated scans instead of sorting a copy, as parameter lists are short.
+     *
+     * @param sb The buffer.
+     * @param httpParameters The HTTP parameters.
+     */
+    private static void appendParameters(final StringBuilder sb, final List<NameValuePair> httpParameters) throws UnsupportedEncodingException {
+        final int size = httpParameters.size();
+        String previous = null;
+        boolean first = true;
+
+        while (true) {
+            // Find the smallest name after the previous one
+            String name = null;
+            for (int i = 0; i < size; i++) {
+                final String candidate = httpParameters.get(i).getName();
+                if ((previous == null || candidate.compareTo(previous) > 0) && (name == null || candidate.compareTo(name) < 0)) {
+                    name = candidate;
+                }
+            }
+            if (name == null) {
+                return;
+            }
+
+            if (!first) {
+                sb.append('\n');
+            }
+            sb.append('&');
+            sb.append(decode(name));
+            sb.append('=');
+
+            // Count the values first, a separator follows every non-null value except the last value
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (name.equals(httpParameters.get(i).getName())) {
+                    count++;
+                }
+            }
+
+            int index = 0;
+            for (int i = 0; i < size && index < count; i++) {
+                final NameValuePair nameValuePair = httpParameters.get(i);
+                if (name.equals(nameValuePair.getName())) {
+                    if (nameValuePair.getValue() != null) {
+                        sb.append(decode(nameValuePair.getValue()));
+
+                        if (index < count - 1) {
+                            sb.append(',');
+                        }
+                    }
+                    index++;
+                }
+            }
+
+            previous = name;
+            first = false;
+        }
+    }
+
+    /**
+     * URL decodes the value, skipping values without an escape.
+     *
+     * @param value The value.
+     *
+     * @return The decoded value.
+     */
+    private static String decode(final String value) throws UnsupportedEncodingException {
+        if (value.indexOf('%') < 0 && value.indexOf('+') < 0) {
+            return value;
+        }
+
+        return URLDecoder.decode(value, "UTF-8");
+    }
+
+    /**
+     * Appends the value, if any, and a line break.
+     *
+     * @param sb The buffer.
+     * @param value The value, may be null.
+     */
+    private static void appendLine(final StringBuilder sb, final String value) {
+        if (value != null) {
+            sb.append(value);
+        }
+        sb.append('\n');
+    }
+}
@@ -0,0 +1,100 @@
+package com.bol.openapi.client.util;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Input stream that copies the bytes read through it to an output stream. A failure to write the copy is logged and
+ * stops the copy, but does not fail reading. Not thread safe, like the streams it wraps.
+ */
+public class TeeInputStream extends FilterInputStream {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TeeInputStream.class);
+
+    private OutputStream copy;
+
+    /**
+     * Constructs the tee input stream.
+     *
+     * @param in The stream to read.
+     * @param copy The stream to copy to, closed with this stream.
+     */
+    public TeeInputStream(final InputStream in, final OutputStream copy) {
+        super(in);
+        this.copy = copy;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int b = super.read();
+        if (b != -1 && copy != null) {
+            try {
+                copy.write(b);
+            } catch (final IOException e) {
+                stopCopy(e);
+            }
+        }
+        return b;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        final int read = super.read(b, off, len);
+        if (read > 0 && copy != null) {
+            try {
+                copy.write(b, off, read);
+            } catch (final IOException e) {
+                stopCopy(e);
+            }
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+
+        // Read instead of skipping, so the copy is complete
+        final byte[] buffer = new byte[(int) Math.min(n, 8192)];
+        final int read = read(buffer, 0, buffer.length);
+        return read > 0 ? read : 0;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            if (copy != null) {
+                try {
+                    copy.close();
+                } catch (final IOException e) {
+                    LOG.warn("Closing the copy failed", e);
+                }
+                copy = null;
+            }
+        }
+    }
+
+    private void stopCopy(final IOException failure) {
+        LOG.warn("Writing the copy failed, stopped copying", failure);
+        try {
+            copy.close();
+        } catch (final IOException e) {
+            // Already failed
+        }
+        copy = null;
+    }
+}
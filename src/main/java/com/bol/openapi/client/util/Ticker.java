@@ -0,0 +1,23 @@
+package com.bol.openapi.client.util;
+
+/**
+ * Source of a monotonic time for measuring elapsed time, replaceable for testing.
+ */
+public interface Ticker {
+
+    /**
+     * The system ticker.
+     */
+    Ticker SYSTEM = new Ticker() {
+        public long nanoTime() {
+            return System.nanoTime();
+        }
+    };
+
+    /**
+     * Gets the current value of the ticker. Only the difference between two values is meaningful.
+     *
+     * @return The current value in nanoseconds.
+     */
+    long nanoTime();
+}
@@ -0,0 +1,18 @@
+package com.bol.openapi.client.xml;
+
+/**
+ * How the {@link ResponseReader} binds response XML to the generated classes.
+ */
+public enum Binding {
+
+    /**
+     * The reflective JAXB runtime, for every response.
+     */
+    JAXB,
+
+    /**
+     * The hand-written readers of {@link com.bol.openapi.client.xml.stax.StaxUnmarshaller} for the catalog, basket,
+     * session and error responses, JAXB for the others.
+     */
+    STAX
+}
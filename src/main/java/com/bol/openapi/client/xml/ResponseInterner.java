@@ -0,0 +1,154 @@
+package com.bol.openapi.client.xml;
+
+import java.util.List;
+
+import com.bol.openapi.openapi_3_0.Attribute;
+import com.bol.openapi.openapi_3_0.Attributes;
+import com.bol.openapi.openapi_3_0.BasketItem;
+import com.bol.openapi.openapi_3_0.BasketResponse;
+import com.bol.openapi.openapi_3_0.Category;
+import com.bol.openapi.openapi_3_0.Entity;
+import com.bol.openapi.openapi_3_0.ListResultResponse;
+import com.bol.openapi.openapi_3_0.Offer;
+import com.bol.openapi.openapi_3_0.OriginalRequest;
+import com.bol.openapi.openapi_3_0.Product;
+import com.bol.openapi.openapi_3_0.ProductRecommendationsResponse;
+import com.bol.openapi.openapi_3_0.ProductResponse;
+import com.bol.openapi.openapi_3_0.ProductsResponse;
+import com.bol.openapi.openapi_3_0.Refinement;
+import com.bol.openapi.openapi_3_0.RefinementGroup;
+import com.bol.openapi.openapi_3_0.SearchResultsResponse;
+import com.bol.openapi.openapi_3_0.Seller;
+
+/**
+ * Replaces the low-cardinality string fields of unmarshalled catalog and basket responses by their canonical
+ * instances: offer availability, binding and state, seller names, category and refinement ids and names, attribute
+ * keys, and the product binding, language, format, genre, brand and manufacturer. Product types are enum constants
+ * already. Titles, descriptions and other mostly unique values are left alone.
+ */
+final class ResponseInterner {
+
+    private ResponseInterner() {
+    }
+
+    /**
+     * Interns the known fields of the response.
+     *
+     * @param response The unmarshalled response; types without known fields are left as they are.
+     * @param interner The string interner.
+     */
+    static void intern(final Object response, final StringInterner interner) {
+        if (response instanceof SearchResultsResponse) {
+            final SearchResultsResponse searchResults = (SearchResultsResponse) response;
+            internProducts(searchResults.getProduct(), interner);
+            internCategories(searchResults.getCategory(), interner);
+            internRefinementGroups(searchResults.getRefinementGroup(), interner);
+            internOriginalRequest(searchResults.getOriginalRequest(), interner);
+        } else if (response instanceof ListResultResponse) {
+            final ListResultResponse listResult = (ListResultResponse) response;
+            internProducts(listResult.getProduct(), interner);
+            internCategories(listResult.getCategory(), interner);
+            internRefinementGroups(listResult.getRefinementGroup(), interner);
+            internOriginalRequest(listResult.getOriginalRequest(), interner);
+        } else if (response instanceof ProductResponse) {
+            internProduct(((ProductResponse) response).getProduct(), interner);
+        } else if (response instanceof ProductsResponse) {
+            internProducts(((ProductsResponse) response).getProduct(), interner);
+        } else if (response instanceof ProductRecommendationsResponse) {
+            internProducts(((ProductRecommendationsResponse) response).getProduct(), interner);
+        } else if (response instanceof BasketResponse && ((BasketResponse) response).getBasket() != null) {
+            for (final BasketItem item : ((BasketResponse) response).getBasket().getBasketItem()) {
+                internProduct(item.getProduct(), interner);
+            }
+        }
+    }
+
+    private static void internProducts(final List<Product> products, final StringInterner interner) {
+        for (final Product product : products) {
+            internProduct(product, interner);
+        }
+    }
+
+    private static void internProduct(final Product product, final StringInterner interner) {
+        if (product == null) {
+            return;
+        }
+
+        product.setBindingCode(interner.intern(product.getBindingCode()));
+        product.setBindingDescription(interner.intern(product.getBindingDescription()));
+        product.setLanguageCode(interner.intern(product.getLanguageCode()));
+        product.setLanguageDescription(interner.intern(product.getLanguageDescription()));
+        product.setFormatCode(interner.intern(product.getFormatCode()));
+        product.setFormatDescription(interner.intern(product.getFormatDescription()));
+        product.setGenre(interner.intern(product.getGenre()));
+        internEntity(product.getBrand(), interner);
+        internEntity(product.getManufacturer(), interner);
+
+        if (product.getOffers() != null) {
+            for (final Offer offer : product.getOffers().getOffer()) {
+                offer.setAvailabilityDescription(interner.intern(offer.getAvailabilityDescription()));
+                offer.setBinding(interner.intern(offer.getBinding()));
+                offer.setState(interner.intern(offer.getState()));
+                internSeller(offer.getSeller(), interner);
+            }
+        }
+
+        final Attributes attributes = product.getAttributes();
+        if (attributes != null) {
+            for (final Attribute attribute : attributes.getAttribute()) {
+                attribute.setKey(interner.intern(attribute.getKey()));
+            }
+        }
+    }
+
+    private static void internSeller(final Seller seller, final StringInterner interner) {
+        if (seller != null) {
+            seller.setId(interner.intern(seller.getId()));
+            seller.setDisplayName(interner.intern(seller.getDisplayName()));
+            seller.setSellerType(interner.intern(seller.getSellerType()));
+        }
+    }
+
+    private static void internEntity(final Entity entity, final StringInterner interner) {
+        if (entity != null) {
+            entity.setId(interner.intern(entity.getId()));
+            entity.setName(interner.intern(entity.getName()));
+        }
+    }
+
+    private static void internOriginalRequest(final OriginalRequest originalRequest, final StringInterner interner) {
+        if (originalRequest != null) {
+            internCategory(originalRequest.getCategory(), interner);
+            internRefinementGroups(originalRequest.getRefinementGroup(), interner);
+        }
+    }
+
+    private static void internCategories(final List<Category> categories, final StringInterner interner) {
+        for (final Category category : categories) {
+            internCategory(category, interner);
+        }
+    }
+
+    private static void internCategory(final Category category, final StringInterner interner) {
+        if (category != null) {
+            category.setId(interner.intern(category.getId()));
+            category.setName(interner.intern(category.getName()));
+            internRefinements(category.getRefinement(), interner);
+        }
+    }
+
+    private static void internRefinementGroups(final List<RefinementGroup> refinementGroups, final StringInterner interner) {
+        for (final RefinementGroup refinementGroup : refinementGroups) {
+            refinementGroup.setId(interner.intern(refinementGroup.getId()));
+            refinementGroup.setName(interner.intern(refinementGroup.getName()));
+            internRefinements(refinementGroup.getRefinement(), interner);
+        }
+    }
+
+    private static void internRefinements(final List<Refinement> refinements, final StringInterner interner) {
+        for (final Refinement refinement : refinements) {
+            refinement.setId(interner.intern(refinement.getId()));
+            refinement.setName(interner.intern(refinement.getName()));
+        }
+    }
+}
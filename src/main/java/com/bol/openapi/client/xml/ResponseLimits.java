@@ -0,0 +1,126 @@
+package com.bol.openapi.client.xml;
+
+import java.io.File;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.bol.openapi.client.Endpoint;
+import com.bol.openapi.client.exception.ResponseTooLargeException;
+
+/**
+ * Bounds the memory the {@link ResponseReader} spends on response bodies. A response larger than the maximum size of its
+ * endpoint fails with a {@link ResponseTooLargeException}: right away when its Content-Length says so, otherwise as
+ * soon as the limit is passed while reading, and the connection is aborted instead of being drained. Sizes count the
+ * body after decompression, or the Content-Length as sent.
+ *
+ * <p>Buffered reads keep bodies up to the spill threshold in memory. Larger bodies are written to a temporary file,
+ * which is parsed as a stream and deleted afterwards, so the buffer stays bounded whatever the size of the body.
+ * Streaming reads never buffer the body, so they do not spill.</p>
+ *
+ * <p>The configuration should be completed before the limits are shared between threads.</p>
+ */
+public class ResponseLimits {
+
+    /**
+     * No limit on the size of responses, and no spilling.
+     */
+    public static final long UNLIMITED = -1;
+
+    private final Map<Endpoint, Long> endpointMaxSizes = new EnumMap<Endpoint, Long>(Endpoint.class);
+    private volatile long maxSize = UNLIMITED;
+    private volatile long spillThreshold = UNLIMITED;
+    private volatile File spillDirectory;
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+
+    /**
+     * Sets the maximum size of responses of endpoints without a size of their own.
+     *
+     * @param maxSize The maximum size in bytes, {@link #UNLIMITED} by default.
+     */
+    public void setMaxSize(final long maxSize) {
+        this.maxSize = checkSize(maxSize);
+    }
+
+    /**
+     * Sets the maximum size of the responses of an endpoint.
+     *
+     * @param endpoint The endpoint.
+     * @param maxSize The maximum size in bytes, or {@link #UNLIMITED}.
+     */
+    public void setMaxSize(final Endpoint endpoint, final long maxSize) {
+        endpointMaxSizes.put(endpoint, Long.valueOf(checkSize(maxSize)));
+    }
+
+    /**
+     * Gets the maximum size of the responses of an endpoint.
+     *
+     * @param endpoint The endpoint, may be null.
+     *
+     * @return The maximum size in bytes, or {@link #UNLIMITED}.
+     */
+    public long getMaxSize(final Endpoint endpoint) {
+        final Long endpointMaxSize = endpoint != null ? endpointMaxSizes.get(endpoint) : null;
+        return endpointMaxSize != null ? endpointMaxSize.longValue() : maxSize;
+    }
+
+    /**
+     * Sets the size above which buffered reads spill the body to a temporary file.
+     *
+     * @param spillThreshold The threshold in bytes, or {@link #UNLIMITED} to always buffer in memory, the default.
+     */
+    public void setSpillThreshold(final long spillThreshold) {
+        this.spillThreshold = checkSize(spillThreshold);
+    }
+
+    public long getSpillThreshold() {
+        return spillThreshold;
+    }
+
+    /**
+     * Sets the directory for spilled bodies.
+     *
+     * @param spillDirectory The directory, or null for the default temporary directory.
+     */
+    public void setSpillDirectory(final File spillDirectory) {
+        this.spillDirectory = spillDirectory;
+    }
+
+    public File getSpillDirectory() {
+        return spillDirectory;
+    }
+
+    /**
+     * Gets the number of responses rejected for their size.
+     *
+     * @return The rejected count.
+     */
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    /**
+     * Gets the number of bodies spilled to a temporary file.
+     *
+     * @return The spilled count.
+     */
+    public long getSpilled() {
+        return spilled.get();
+    }
+
+    void recordRejected() {
+        rejected.incrementAndGet();
+    }
+
+    void recordSpilled() {
+        spilled.incrementAndGet();
+    }
+
+    private static long checkSize(final long size) {
+        if (size < 0 && size != UNLIMITED) {
+            throw new IllegalArgumentException("Size must not be negative");
+        }
+        return size;
+    }
+}
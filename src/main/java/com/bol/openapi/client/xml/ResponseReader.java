@@ -0,0 +1,690 @@
+package com.bol.openapi.client.xml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.StatusLine;
+import org.apache.http.conn.ConnectionReleaseTrigger;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.util.EntityUtils;
+
+import com.bol.openapi.client.Endpoint;
+import com.bol.openapi.client.exception.BasicApiException;
+import com.bol.openapi.client.exception.ResponseTooLargeException;
+import com.bol.openapi.client.exception.handler.ExceptionHandler;
+import com.bol.openapi.client.lean.LeanProductReader;
+import com.bol.openapi.client.lean.ProductProjection;
+import com.bol.openapi.client.metrics.EndpointMetrics;
+import com.bol.openapi.client.metrics.Phase;
+import com.bol.openapi.client.util.CountingInputStream;
+import com.bol.openapi.client.xml.stax.StaxUnmarshaller;
+
+/**
+ * Turns OpenAPI HTTP responses into JAXB objects, either by buffering the entity or by streaming it into the
+ * unmarshaller. Gzip and deflate encoded entities are decompressed on the fly. Lean reads with a
+ * {@link ProductProjection} always stream, and only materialize the projected product fields. With the
+ * {@link Binding#STAX} binding, the catalog, basket, session and error responses are read by the hand-written
+ * readers of the {@link StaxUnmarshaller} instead of the reflective JAXB runtime. An optional {@link StringInterner}
+ * deduplicates the repetitive values of catalog responses.
+ */
+public class ResponseReader {
+
+    private static final String ERROR_ELEMENT = "Error";
+    private static final String DEFAULT_CHARSET = "UTF-8";
+    private static final String HEADER_ACCEPT_ENCODING = "Accept-Encoding";
+    private static final String ACCEPT_ENCODING = "gzip, deflate";
+    private static final String ENCODING_GZIP = "gzip";
+    private static final String ENCODING_DEFLATE = "deflate";
+    private static final String ENCODING_IDENTITY = "identity";
+
+    private final XMLInputFactory xmlInputFactory;
+    private UnmarshallerPool unmarshallerPool;
+    private boolean streaming;
+    private boolean compression;
+    private Binding binding = Binding.JAXB;
+    private StringInterner stringInterner;
+    private ResponseLimits responseLimits;
+
+    /**
+     * Constructs the response reader.
+     *
+     * @param unmarshallerPool The pool to take unmarshallers from.
+     */
+    public ResponseReader(final UnmarshallerPool unmarshallerPool) {
+        this.unmarshallerPool = unmarshallerPool;
+        this.xmlInputFactory = XMLInputFactory.newInstance();
+        this.xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        this.xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+    }
+
+    /**
+     * Reads the response.
+     *
+     * @param httpResponse The HTTP response.
+     * @param responseType The expected type of a successful response.
+     *
+     * @return The unmarshalled response.
+     *
+     * @throws IOException When reading the entity fails.
+     * @throws JAXBException When parsing the entity fails.
+     * @throws BasicApiException When an error response was received.
+     */
+    public <T> T read(final HttpResponse httpResponse, final Class<T> responseType) throws IOException, JAXBException, BasicApiException {
+        return read(httpResponse, responseType, null);
+    }
+
+    /**
+     * Prepares the request for the response to be read, by advertising the content encodings the reader decodes
+     * when compression is enabled.
+     *
+     * @param request The HTTP request.
+     */
+    public void prepareRequest(final HttpRequest request) {
+        if (compression) {
+            request.addHeader(HEADER_ACCEPT_ENCODING, ACCEPT_ENCODING);
+        }
+    }
+
+    /**
+     * Reads the response and records the read and unmarshal times and the received bytes, both as received and after
+     * decompression.
+     *
+     * @param httpResponse The HTTP response.
+     * @param responseType The expected type of a successful response.
+     * @param metrics The metrics to record to, may be null.
+     *
+     * @return The unmarshalled response.
+     *
+     * @throws IOException When reading the entity fails.
+     * @throws JAXBException When parsing the entity fails.
+     * @throws BasicApiException When an error response was received.
+     */
+    public <T> T read(final HttpResponse httpResponse, final Class<T> responseType, final EndpointMetrics metrics) throws IOException, JAXBException, BasicApiException {
+        return read(httpResponse, responseType, null, metrics);
+    }
+
+    /**
+     * Reads the response, or only the projected product fields of it, and records the read and unmarshal times and the
+     * received bytes, both as received and after decompression.
+     *
+     * @param httpResponse The HTTP response.
+     * @param responseType The expected type of a successful response, {@link com.bol.openapi.client.lean.LeanProducts}
+     *            for a lean read.
+     * @param projection The product fields to read, or null to unmarshal the full response.
+     * @param metrics The metrics to record to, may be null.
+     *
+     * @return The unmarshalled response.
+     *
+     * @throws IOException When reading the entity fails.
+     * @throws JAXBException When parsing the entity fails.
+     * @throws BasicApiException When an error response was received.
+     */
+    public <T> T read(final HttpResponse httpResponse, final Class<T> responseType, final ProductProjection projection, final EndpointMetrics metrics)
+            throws IOException, JAXBException, BasicApiException {
+        return read(httpResponse, responseType, null, projection, metrics);
+    }
+
+    /**
+     * Reads the response of an endpoint, or only the projected product fields of it, within the maximum size the
+     * {@link ResponseLimits} set for the endpoint, and records the read and unmarshal times and the received bytes, both
+     * as received and after decompression.
+     *
+     * @param httpResponse The HTTP response.
+     * @param responseType The expected type of a successful response, {@link com.bol.openapi.client.lean.LeanProducts}
+     *            for a lean read.
+     * @param endpoint The endpoint that was called, may be null.
+     * @param projection The product fields to read, or null to unmarshal the full response.
+     * @param metrics The metrics to record to, may be null.
+     *
+     * @return The unmarshalled response.
+     *
+     * @throws IOException When reading the entity fails.
+     * @throws JAXBException When parsing the entity fails.
+     * @throws ResponseTooLargeException When the response exceeds the maximum size of the endpoint.
+     * @throws BasicApiException When an error response was received.
+     */
+    public <T> T read(final HttpResponse httpResponse, final Class<T> responseType, final Endpoint endpoint, final ProductProjection projection,
+            final EndpointMetrics metrics) throws IOException, JAXBException, BasicApiException {
+        final StatusLine statusLine = httpResponse.getStatusLine();
+        final HttpEntity entity = httpResponse.getEntity();
+        if (entity == null) {
+            throw ExceptionHandler.handleHttpStatus(statusLine.getStatusCode(), statusLine.getReasonPhrase());
+        }
+
+        final ResponseLimits limits = responseLimits;
+        final long maxSize = limits != null ? limits.getMaxSize(endpoint) : ResponseLimits.UNLIMITED;
+        if (maxSize != ResponseLimits.UNLIMITED && entity.getContentLength() > maxSize) {
+            abortConnection(entity);
+            limits.recordRejected();
+            throw new ResponseTooLargeException(endpoint, maxSize, entity.getContentLength());
+        }
+
+        final String encoding = getContentEncoding(entity);
+        final CountingEntity received = metrics != null ? new CountingEntity(entity) : null;
+        HttpEntity content = received != null ? received : entity;
+        if (encoding != null) {
+            content = new DecodingEntity(content, encoding);
+        }
+        final CountingEntity uncompressed = received != null && encoding != null ? new CountingEntity(content) : received;
+        if (uncompressed != null) {
+            content = uncompressed;
+        }
+        final LimitedEntity limited = maxSize != ResponseLimits.UNLIMITED ? new LimitedEntity(content, entity, maxSize) : null;
+        if (limited != null) {
+            content = limited;
+        }
+
+        final Object object;
+        try {
+            object = streaming || projection != null ? readStreaming(content, statusLine, projection, metrics) : readBuffered(content, limits, metrics);
+        } catch (final IOException e) {
+            checkLimit(limited, limits, endpoint, e);
+            throw e;
+        } catch (final JAXBException e) {
+            checkLimit(limited, limits, endpoint, e);
+            throw e;
+        } finally {
+            if (metrics != null) {
+                metrics.recordBytesReceived(received.getCount());
+                metrics.recordUncompressedBytes(uncompressed.getCount());
+            }
+        }
+
+        if (object instanceof com.bol.openapi.openapi_3_0.Error) {
+            throw ExceptionHandler.handleBasicApiException((com.bol.openapi.openapi_3_0.Error) object);
+        }
+        if (statusLine.getStatusCode() != HttpStatus.SC_OK || !responseType.isInstance(object)) {
+            throw ExceptionHandler.handleHttpStatus(statusLine.getStatusCode(), statusLine.getReasonPhrase());
+        }
+
+        final StringInterner interner = stringInterner;
+        if (interner != null) {
+            ResponseInterner.intern(object, interner);
+        }
+        return responseType.cast(object);
+    }
+
+    /**
+     * Throws a {@link ResponseTooLargeException} when reading failed because the body passed its maximum size.
+     *
+     * @param limited The size limited entity, or null when the size is not limited.
+     * @param limits The response limits.
+     * @param endpoint The endpoint, may be null.
+     * @param failure The failure of reading.
+     */
+    private static void checkLimit(final LimitedEntity limited, final ResponseLimits limits, final Endpoint endpoint, final Exception failure)
+            throws ResponseTooLargeException {
+        if (limited != null && limited.isExceeded()) {
+            limits.recordRejected();
+            final ResponseTooLargeException exception = new ResponseTooLargeException(endpoint, limited.getMaxSize(), -1);
+            exception.initCause(failure);
+            throw exception;
+        }
+    }
+
+    /**
+     * Reads the entity into a string before unmarshalling it, or, when the limits set a spill threshold, into a
+     * {@link SpillBuffer}.
+     *
+     * @param entity The HTTP entity.
+     * @param limits The response limits, may be null.
+     * @param metrics The metrics to record to, may be null.
+     *
+     * @return The unmarshalled object.
+     */
+    private Object readBuffered(final HttpEntity entity, final ResponseLimits limits, final EndpointMetrics metrics) throws IOException, JAXBException {
+        if (limits != null && limits.getSpillThreshold() != ResponseLimits.UNLIMITED) {
+            return readSpilling(entity, limits, metrics);
+        }
+
+        final long start = System.nanoTime();
+        final String content = EntityUtils.toString(entity, DEFAULT_CHARSET);
+        final StringReader entityStream = new StringReader(content);
+        final long read = System.nanoTime();
+        if (metrics != null) {
+            metrics.record(Phase.READ, read - start);
+        }
+
+        try {
+            return binding == Binding.STAX ? unmarshal(entityStream) : unmarshallerPool.unmarshal(entityStream);
+        } finally {
+            entityStream.close();
+            if (metrics != null) {
+                metrics.record(Phase.UNMARSHAL, System.nanoTime() - read);
+            }
+        }
+    }
+
+    /**
+     * Reads the entity into a buffer that moves to a temporary file beyond the spill threshold, and unmarshals the
+     * buffer as a stream, so memory stays bounded for bodies of any size. The temporary file is deleted afterwards.
+     *
+     * @param entity The HTTP entity.
+     * @param limits The response limits.
+     * @param metrics The metrics to record to, may be null.
+     *
+     * @return The unmarshalled object.
+     */
+    private Object readSpilling(final HttpEntity entity, final ResponseLimits limits, final EndpointMetrics metrics) throws IOException, JAXBException {
+        final long start = System.nanoTime();
+        final String charset = EntityUtils.getContentCharSet(entity);
+        final SpillBuffer buffer = new SpillBuffer(limits.getSpillThreshold(), limits.getSpillDirectory(), entity.getContentLength());
+        try {
+            buffer.readFrom(entity.getContent());
+            if (buffer.isSpilled()) {
+                limits.recordSpilled();
+            }
+            final long read = System.nanoTime();
+            if (metrics != null) {
+                metrics.record(Phase.READ, read - start);
+            }
+
+            final InputStream content = buffer.getInputStream();
+            try {
+                return unmarshal(charset != null ? xmlInputFactory.createXMLStreamReader(content, charset) : xmlInputFactory.createXMLStreamReader(content));
+            } catch (final XMLStreamException e) {
+                throw new JAXBException(e);
+            } finally {
+                content.close();
+                if (metrics != null) {
+                    metrics.record(Phase.UNMARSHAL, System.nanoTime() - read);
+                }
+            }
+        } finally {
+            buffer.delete();
+        }
+    }
+
+    /**
+     * Unmarshals the entity stream directly. The root element is inspected first, so non-OK responses without an
+     * error body are not parsed at all. As the body is read while it is unmarshalled, only reading up to the root
+     * element counts as the read phase.
+     *
+     * @param entity The HTTP entity.
+     * @param statusLine The status line of the response.
+     * @param projection The product fields to read, or null to unmarshal the full response.
+     * @param metrics The metrics to record to, may be null.
+     *
+     * @return The unmarshalled object.
+     */
+    private Object readStreaming(final HttpEntity entity, final StatusLine statusLine, final ProductProjection projection, final EndpointMetrics metrics)
+            throws IOException, JAXBException, BasicApiException {
+        final long start = System.nanoTime();
+        final String charset = EntityUtils.getContentCharSet(entity);
+        final InputStream content = entity.getContent();
+
+        try {
+            final XMLStreamReader xmlReader = charset != null ? xmlInputFactory.createXMLStreamReader(content, charset) : xmlInputFactory.createXMLStreamReader(content);
+
+            try {
+                xmlReader.nextTag();
+                final long read = System.nanoTime();
+                if (metrics != null) {
+                    metrics.record(Phase.READ, read - start);
+                }
+                if (statusLine.getStatusCode() != HttpStatus.SC_OK && !ERROR_ELEMENT.equals(xmlReader.getLocalName())) {
+                    throw ExceptionHandler.handleHttpStatus(statusLine.getStatusCode(), statusLine.getReasonPhrase());
+                }
+
+                final Object object = projection != null && !ERROR_ELEMENT.equals(xmlReader.getLocalName()) ? LeanProductReader.read(xmlReader, projection)
+                        : unmarshalRoot(xmlReader);
+                if (metrics != null) {
+                    metrics.record(Phase.UNMARSHAL, System.nanoTime() - read);
+                }
+                return object;
+            } finally {
+                xmlReader.close();
+            }
+        } catch (final XMLStreamException e) {
+            throw new JAXBException(e);
+        } finally {
+            content.close();
+        }
+    }
+
+    /**
+     * Unmarshals the buffered content with the StAX readers, or with JAXB when the root element has none.
+     *
+     * @param content The buffered content.
+     *
+     * @return The unmarshalled object.
+     */
+    private Object unmarshal(final Reader content) throws JAXBException {
+        try {
+            return unmarshal(xmlInputFactory.createXMLStreamReader(content));
+        } catch (final XMLStreamException e) {
+            throw new JAXBException(e);
+        }
+    }
+
+    /**
+     * Unmarshals the document of a new reader, and closes the reader.
+     *
+     * @param xmlReader The reader, positioned before the root element.
+     *
+     * @return The unmarshalled object.
+     */
+    private Object unmarshal(final XMLStreamReader xmlReader) throws JAXBException, XMLStreamException {
+        try {
+            xmlReader.nextTag();
+            return unmarshalRoot(xmlReader);
+        } finally {
+            xmlReader.close();
+        }
+    }
+
+    /**
+     * Unmarshals the root element the reader is positioned at, with the StAX reader for the root when the binding
+     * selects them and one exists, otherwise with JAXB.
+     *
+     * @param xmlReader The reader, positioned at the start of the root element.
+     *
+     * @return The unmarshalled object.
+     */
+    private Object unmarshalRoot(final XMLStreamReader xmlReader) throws JAXBException, XMLStreamException {
+        if (binding == Binding.STAX && StaxUnmarshaller.supports(xmlReader)) {
+            return StaxUnmarshaller.unmarshal(xmlReader);
+        }
+        return unmarshallerPool.unmarshal(xmlReader);
+    }
+
+    /**
+     * Aborts the connection of the entity rather than reading the rest of its body to reuse the connection.
+     *
+     * @param entity The HTTP entity as received.
+     */
+    private static void abortConnection(final HttpEntity entity) {
+        if (entity instanceof ConnectionReleaseTrigger) {
+            try {
+                ((ConnectionReleaseTrigger) entity).abortConnection();
+            } catch (final IOException e) {
+                // The connection is discarded either way
+            }
+        }
+    }
+
+    /**
+     * Gets the content encoding of the entity.
+     *
+     * @param entity The HTTP entity.
+     *
+     * @return The content encoding in lower case, null when the entity is not encoded.
+     */
+    private static String getContentEncoding(final HttpEntity entity) {
+        final Header header = entity.getContentEncoding();
+        if (header == null) {
+            return null;
+        }
+
+        final String encoding = header.getValue().trim().toLowerCase(Locale.US);
+        return encoding.length() == 0 || ENCODING_IDENTITY.equals(encoding) ? null : encoding;
+    }
+
+    /**
+     * Gets the unmarshaller pool.
+     *
+     * @return The unmarshaller pool.
+     */
+    public UnmarshallerPool getUnmarshallerPool() {
+        return unmarshallerPool;
+    }
+
+    /**
+     * Sets the unmarshaller pool.
+     *
+     * @param unmarshallerPool The unmarshaller pool.
+     */
+    public void setUnmarshallerPool(final UnmarshallerPool unmarshallerPool) {
+        this.unmarshallerPool = unmarshallerPool;
+    }
+
+    /**
+     * Whether responses are unmarshalled straight from the entity stream.
+     *
+     * @return True when streaming.
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Sets whether responses are unmarshalled straight from the entity stream instead of being buffered as a string.
+     *
+     * @param streaming True to stream.
+     */
+    public void setStreaming(final boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    /**
+     * Whether gzip and deflate encoded responses are requested.
+     *
+     * @return True when requesting compressed responses.
+     */
+    public boolean isCompression() {
+        return compression;
+    }
+
+    /**
+     * Sets whether gzip and deflate encoded responses are requested. Encoded responses are decompressed whether
+     * requested or not.
+     *
+     * @param compression True to request compressed responses.
+     */
+    public void setCompression(final boolean compression) {
+        this.compression = compression;
+    }
+
+    /**
+     * Gets the binding of response XML to the generated classes.
+     *
+     * @return The binding.
+     */
+    public Binding getBinding() {
+        return binding;
+    }
+
+    /**
+     * Sets the binding of response XML to the generated classes.
+     *
+     * @param binding The binding, {@link Binding#JAXB} by default.
+     */
+    public void setBinding(final Binding binding) {
+        if (binding == null) {
+            throw new IllegalArgumentException("Binding is required");
+        }
+        this.binding = binding;
+    }
+
+    /**
+     * Gets the string interner.
+     *
+     * @return The string interner, null when values are not deduplicated.
+     */
+    public StringInterner getStringInterner() {
+        return stringInterner;
+    }
+
+    /**
+     * Sets the string interner that deduplicates the low-cardinality values of catalog responses, such as offer
+     * availability, seller names and category and refinement names, before they are returned.
+     *
+     * @param stringInterner The string interner, or null to keep values as unmarshalled.
+     */
+    public void setStringInterner(final StringInterner stringInterner) {
+        this.stringInterner = stringInterner;
+    }
+
+    /**
+     * Gets the response limits.
+     *
+     * @return The response limits, null when response sizes are not limited.
+     */
+    public ResponseLimits getResponseLimits() {
+        return responseLimits;
+    }
+
+    /**
+     * Sets the response limits: the maximum response size per endpoint, and the size above which buffered bodies spill
+     * to a temporary file.
+     *
+     * @param responseLimits The response limits, or null to read bodies of any size into memory.
+     */
+    public void setResponseLimits(final ResponseLimits responseLimits) {
+        this.responseLimits = responseLimits;
+    }
+
+    /**
+     * Entity that decompresses its gzip or deflate encoded content while it is read.
+     */
+    private static final class DecodingEntity extends HttpEntityWrapper {
+
+        private final String encoding;
+
+        private DecodingEntity(final HttpEntity entity, final String encoding) {
+            super(entity);
+            this.encoding = encoding;
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            final InputStream content = wrappedEntity.getContent();
+            if (ENCODING_GZIP.equals(encoding) || "x-gzip".equals(encoding)) {
+                return new GZIPInputStream(content);
+            }
+            if (ENCODING_DEFLATE.equals(encoding)) {
+                return inflate(content);
+            }
+
+            content.close();
+            throw new IOException("Unsupported content encoding " + encoding);
+        }
+
+        @Override
+        public Header getContentEncoding() {
+            return null;
+        }
+
+        @Override
+        public long getContentLength() {
+            return -1;
+        }
+
+        /**
+         * Inflates deflate encoded content. The content should be zlib wrapped, but some servers send a raw deflate
+         * stream, which is told apart by its first two bytes.
+         */
+        private static InputStream inflate(final InputStream content) throws IOException {
+            final PushbackInputStream in = new PushbackInputStream(content, 2);
+            final int cmf = in.read();
+            final int flg = in.read();
+            if (flg != -1) {
+                in.unread(flg);
+            }
+            if (cmf != -1) {
+                in.unread(cmf);
+            }
+
+            final boolean zlib = (cmf & 0x0f) == 8 && flg != -1 && (cmf * 256 + flg) % 31 == 0;
+            return new InflaterInputStream(in, new Inflater(!zlib));
+        }
+    }
+
+    /**
+     * Entity that counts the bytes read from its content.
+     */
+    private static final class CountingEntity extends HttpEntityWrapper {
+
+        private CountingInputStream content;
+
+        private CountingEntity(final HttpEntity entity) {
+            super(entity);
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            content = new CountingInputStream(wrappedEntity.getContent());
+            return content;
+        }
+
+        private long getCount() {
+            return content != null ? content.getCount() : 0L;
+        }
+    }
+
+    /**
+     * Entity that fails reading once more than the maximum size has been read from its content, and aborts the
+     * connection of the entity as received.
+     */
+    private static final class LimitedEntity extends HttpEntityWrapper {
+
+        private final HttpEntity received;
+        private final long maxSize;
+        private boolean exceeded;
+
+        private LimitedEntity(final HttpEntity entity, final HttpEntity received, final long maxSize) {
+            super(entity);
+            this.received = received;
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            return new CountingInputStream(wrappedEntity.getContent()) {
+                @Override
+                public int read() throws IOException {
+                    final int b = super.read();
+                    checkSize(getCount());
+                    return b;
+                }
+
+                @Override
+                public int read(final byte[] b, final int off, final int len) throws IOException {
+                    final int read = super.read(b, off, len);
+                    checkSize(getCount());
+                    return read;
+                }
+
+                @Override
+                public long skip(final long n) throws IOException {
+                    final long skipped = super.skip(n);
+                    checkSize(getCount());
+                    return skipped;
+                }
+            };
+        }
+
+        private void checkSize(final long size) throws IOException {
+            if (size > maxSize) {
+                exceeded = true;
+                abortConnection(received);
+                throw new IOException("Response exceeds the maximum size of " + maxSize + " bytes");
+            }
+        }
+
+        private boolean isExceeded() {
+            return exceeded;
+        }
+
+        private long getMaxSize() {
+            return maxSize;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.bol.openapi.client.xml;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Buffer for a response body that keeps it in memory up to a threshold, and moves it to a temporary file once the body
+ * grows beyond. Not thread safe.
+ */
+final class SpillBuffer {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final long threshold;
+    private final File directory;
+    private MemoryBuffer memory;
+    private File file;
+
+    /**
+     * Constructs the spill buffer.
+     *
+     * @param threshold The maximum number of bytes kept in memory.
+     * @param directory The directory for the temporary file, or null for the default temporary directory.
+     * @param sizeHint The expected size of the body, or a negative value when unknown.
+     */
+    SpillBuffer(final long threshold, final File directory, final long sizeHint) {
+        this.threshold = threshold;
+        this.directory = directory;
+        // A body known to stay in memory gets a buffer of its size, one known to spill only a first chunk
+        this.memory = new MemoryBuffer(sizeHint > CHUNK_SIZE && sizeHint <= threshold && sizeHint <= Integer.MAX_VALUE ? (int) sizeHint : CHUNK_SIZE);
+    }
+
+    /**
+     * Reads the stream to its end into the buffer, and closes it.
+     *
+     * @param in The stream.
+     *
+     * @throws IOException When reading the stream or writing the temporary file fails.
+     */
+    void readFrom(final InputStream in) throws IOException {
+        OutputStream out = memory;
+        try {
+            final byte[] chunk = new byte[CHUNK_SIZE];
+            long size = 0;
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                size += read;
+                if (file == null && size > threshold) {
+                    file = File.createTempFile("openapi-response", ".xml", directory);
+                    out = new BufferedOutputStream(new FileOutputStream(file), CHUNK_SIZE);
+                    memory.writeTo(out);
+                    memory = null;
+                }
+                out.write(chunk, 0, read);
+            }
+        } finally {
+            try {
+                in.close();
+            } finally {
+                out.close();
+            }
+        }
+    }
+
+    /**
+     * Whether the body was moved to a temporary file.
+     *
+     * @return True when spilled.
+     */
+    boolean isSpilled() {
+        return file != null;
+    }
+
+    /**
+     * Opens a stream over the buffered body.
+     *
+     * @return The stream.
+     *
+     * @throws IOException When the temporary file cannot be opened.
+     */
+    InputStream getInputStream() throws IOException {
+        return file != null ? new FileInputStream(file) : memory.toInputStream();
+    }
+
+    /**
+     * Deletes the temporary file, if any.
+     */
+    void delete() {
+        if (file != null && !file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    /**
+     * Byte array output stream that can be read back without copying its contents.
+     */
+    private static final class MemoryBuffer extends ByteArrayOutputStream {
+
+        private MemoryBuffer(final int size) {
+            super(size);
+        }
+
+        private InputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.bol.openapi.client.xml;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded table of canonical strings, so repeated values of unmarshalled responses share one instance instead of each
+ * response holding its own copies. The table is direct mapped: a value goes into the slot its hash selects, replacing
+ * whatever was there. Lookups take no locks and the table never grows beyond its capacity; values that keep recurring
+ * stay in their slot, values that collide with a more frequent one are simply not deduplicated.
+ */
+public class StringInterner {
+
+    /**
+     * The default number of slots.
+     */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /**
+     * The default maximum length of interned values. Longer values are rarely repeated.
+     */
+    public static final int DEFAULT_MAX_LENGTH = 64;
+
+    private final String[] slots;
+    private final int mask;
+    private final int maxLength;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Constructs the string interner with the default capacity and maximum length.
+     */
+    public StringInterner() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Constructs the string interner.
+     *
+     * @param capacity The number of slots, rounded up to a power of two.
+     * @param maxLength The maximum length of interned values; longer values are returned as they are.
+     */
+    public StringInterner(final int capacity, final int maxLength) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30");
+        }
+        if (maxLength <= 0) {
+            throw new IllegalArgumentException("Maximum length must be positive");
+        }
+
+        int size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new String[size];
+        this.mask = size - 1;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Gets the canonical instance of the value. Strings are immutable and slots are written whole, so concurrent
+     * lookups at worst miss a value another thread just stored.
+     *
+     * @param value The value, may be null.
+     *
+     * @return The instance in the table when it equals the value, otherwise the value, which then takes the slot.
+     */
+    public String intern(final String value) {
+        if (value == null || value.length() > maxLength) {
+            return value;
+        }
+
+        final int hash = value.hashCode();
+        final int index = (hash ^ (hash >>> 16)) & mask;
+        final String current = slots[index];
+        if (value.equals(current)) {
+            hits.incrementAndGet();
+            return current;
+        }
+
+        misses.incrementAndGet();
+        slots[index] = value;
+        return value;
+    }
+
+    /**
+     * Empties the table. The statistics are kept.
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = null;
+        }
+    }
+
+    /**
+     * Gets the number of slots.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    /**
+     * Gets the number of lookups that returned an instance from the table.
+     *
+     * @return The hit count.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of lookups that stored their value in the table.
+     *
+     * @return The miss count.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the share of lookups that returned an instance from the table.
+     *
+     * @return The hit rate between 0 and 1, 0 before the first lookup.
+     */
+    public double getHitRate() {
+        final long hitCount = hits.get();
+        final long total = hitCount + misses.get();
+        return total > 0 ? (double) hitCount / total : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "StringInterner[capacity=" + slots.length + ", hits=" + hits.get() + ", misses=" + misses.get() + "]";
+    }
+}
@@ -0,0 +1,155 @@
+package com.bol.openapi.client.xml;
+
+import java.io.Reader;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Bounded pool of JAXB unmarshallers. Unmarshallers are not thread safe, but they are expensive to create, so they are
+ * handed out to one thread at a time and returned afterwards.
+ */
+public class UnmarshallerPool {
+
+    /**
+     * The default maximum number of idle unmarshallers kept in the pool.
+     */
+    public static final int DEFAULT_MAX_SIZE = 16;
+
+    private final JAXBContext jaxbContext;
+    private final BlockingQueue<Unmarshaller> idle;
+    private final int maxSize;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Constructs the unmarshaller pool.
+     *
+     * @param jaxbContext The JAXB context to create unmarshallers from.
+     * @param maxSize The maximum number of idle unmarshallers to keep, or 0 to disable pooling.
+     */
+    public UnmarshallerPool(final JAXBContext jaxbContext, final int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Pool size must not be negative");
+        }
+
+        this.jaxbContext = jaxbContext;
+        this.maxSize = maxSize;
+        this.idle = maxSize > 0 ? new ArrayBlockingQueue<Unmarshaller>(maxSize) : null;
+    }
+
+    /**
+     * Takes an unmarshaller from the pool, or creates a new one when the pool is empty.
+     *
+     * @return The unmarshaller.
+     *
+     * @throws JAXBException When a new unmarshaller cannot be created.
+     */
+    public Unmarshaller borrow() throws JAXBException {
+        final Unmarshaller unmarshaller = idle != null ? idle.poll() : null;
+        if (unmarshaller != null) {
+            hits.incrementAndGet();
+            return unmarshaller;
+        }
+
+        misses.incrementAndGet();
+        return jaxbContext.createUnmarshaller();
+    }
+
+    /**
+     * Returns an unmarshaller to the pool. It is dropped when the pool is full or disabled.
+     *
+     * @param unmarshaller The unmarshaller.
+     */
+    public void release(final Unmarshaller unmarshaller) {
+        if (idle != null && unmarshaller != null) {
+            idle.offer(unmarshaller);
+        }
+    }
+
+    /**
+     * Unmarshals the given reader with a pooled unmarshaller.
+     *
+     * @param reader The reader to unmarshal.
+     *
+     * @return The unmarshalled object.
+     *
+     * @throws JAXBException When parsing fails.
+     */
+    public Object unmarshal(final Reader reader) throws JAXBException {
+        final Unmarshaller unmarshaller = borrow();
+        final Object object = unmarshaller.unmarshal(reader);
+
+        // Only successful unmarshallers go back, a failed one may still hold parser state
+        release(unmarshaller);
+
+        return object;
+    }
+
+    /**
+     * Unmarshals the element the given stream reader is positioned on with a pooled unmarshaller.
+     *
+     * @param reader The stream reader, positioned on a start element.
+     *
+     * @return The unmarshalled object.
+     *
+     * @throws JAXBException When parsing fails.
+     */
+    public Object unmarshal(final XMLStreamReader reader) throws JAXBException {
+        final Unmarshaller unmarshaller = borrow();
+        final Object object = unmarshaller.unmarshal(reader);
+        release(unmarshaller);
+
+        return object;
+    }
+
+    /**
+     * Gets the JAXB context.
+     *
+     * @return The JAXB context.
+     */
+    public JAXBContext getJaxbContext() {
+        return jaxbContext;
+    }
+
+    /**
+     * Gets the maximum number of idle unmarshallers.
+     *
+     * @return The maximum size, 0 when pooling is disabled.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the number of idle unmarshallers currently in the pool.
+     *
+     * @return The idle count.
+     */
+    public int getIdleCount() {
+        return idle != null ? idle.size() : 0;
+    }
+
+    /**
+     * Gets the number of borrows served from the pool.
+     *
+     * @return The hit count.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of borrows that had to create a new unmarshaller.
+     *
+     * @return The miss count.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+}
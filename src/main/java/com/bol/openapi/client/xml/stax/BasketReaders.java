@@ -0,0 +1,198 @@
+package com.bol.openapi.client.xml.stax;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.bol.openapi.openapi_3_0.Address;
+import com.bol.openapi.openapi_3_0.Basket;
+import com.bol.openapi.openapi_3_0.BasketItem;
+import com.bol.openapi.openapi_3_0.BasketMessages;
+import com.bol.openapi.openapi_3_0.BasketResponse;
+import com.bol.openapi.openapi_3_0.PricingAdjustment;
+import com.bol.openapi.openapi_3_0.SpecialRequirements;
+
+/**
+ * Readers for the basket response and the basket, item, address and pricing types it is made of. Products in basket
+ * items are read by the catalog product reader.
+ */
+final class BasketReaders {
+
+    static final ElementReader<BasketResponse> BASKET_RESPONSE = new ElementReader<BasketResponse>() {
+        @Override
+        BasketResponse create() {
+            return new BasketResponse();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final BasketResponse target) throws XMLStreamException {
+            if ("Basket".equals(name)) {
+                target.setBasket(BASKET.read(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<Basket> BASKET = new ElementReader<Basket>() {
+        @Override
+        Basket create() {
+            return new Basket();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final Basket target) throws XMLStreamException {
+            if ("BasketItem".equals(name)) {
+                target.getBasketItem().add(BASKET_ITEM.read(reader));
+            } else if ("TotalAmountArticles".equals(name)) {
+                target.setTotalAmountArticles(toDouble(reader));
+            } else if ("SubTotal".equals(name)) {
+                target.setSubTotal(toDouble(reader));
+            } else if ("ShippingFee".equals(name)) {
+                target.setShippingFee(Double.valueOf(toDouble(reader)));
+            } else if ("Total".equals(name)) {
+                target.setTotal(toDouble(reader));
+            } else if ("ServiceFee".equals(name)) {
+                target.setServiceFee(Double.valueOf(toDouble(reader)));
+            } else if ("GiftWrapFee".equals(name)) {
+                target.setGiftWrapFee(Double.valueOf(toDouble(reader)));
+            } else if ("BillingAddress".equals(name)) {
+                target.setBillingAddress(ADDRESS.read(reader));
+            } else if ("ShippingAddress".equals(name)) {
+                target.setShippingAddress(ADDRESS.read(reader));
+            } else if ("TotalQuantity".equals(name)) {
+                target.setTotalQuantity(toInt(reader));
+            } else if ("ShippableAbroad".equals(name)) {
+                target.setShippableAbroad(toBoolean(reader));
+            } else if ("Combinable".equals(name)) {
+                target.setCombinable(toBoolean(reader));
+            } else if ("OpenForUse".equals(name)) {
+                target.setOpenForUse(toBoolean(reader));
+            } else if ("SpecialRequirements".equals(name)) {
+                target.setSpecialRequirements(SPECIAL_REQUIREMENTS.read(reader));
+            } else if ("BasketMessages".equals(name)) {
+                target.setBasketMessages(BASKET_MESSAGES.read(reader));
+            } else if ("PricingAdjustment".equals(name)) {
+                target.getPricingAdjustment().add(PRICING_ADJUSTMENT.read(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<BasketItem> BASKET_ITEM = new ElementReader<BasketItem>() {
+        @Override
+        BasketItem create() {
+            return new BasketItem();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final BasketItem target) throws XMLStreamException {
+            if ("Id".equals(name)) {
+                target.setId(text(reader));
+            } else if ("Price".equals(name)) {
+                target.setPrice(toDouble(reader));
+            } else if ("Quantity".equals(name)) {
+                target.setQuantity(toInt(reader));
+            } else if ("Product".equals(name)) {
+                target.setProduct(CatalogReaders.PRODUCT.read(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<Address> ADDRESS = new ElementReader<Address>() {
+        @Override
+        Address create() {
+            return new Address();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final Address target) throws XMLStreamException {
+            if ("Id".equals(name)) {
+                target.setId(text(reader));
+            } else if ("Gender".equals(name)) {
+                target.setGender(text(reader));
+            } else if ("FirstName".equals(name)) {
+                target.setFirstName(text(reader));
+            } else if ("LastName".equals(name)) {
+                target.setLastName(text(reader));
+            } else if ("Infix".equals(name)) {
+                target.setInfix(text(reader));
+            } else if ("CompanyName".equals(name)) {
+                target.setCompanyName(text(reader));
+            } else if ("City".equals(name)) {
+                target.setCity(text(reader));
+            } else if ("Country".equals(name)) {
+                target.setCountry(text(reader));
+            } else if ("County".equals(name)) {
+                target.setCounty(text(reader));
+            } else if ("HouseNumberExt".equals(name)) {
+                target.setHouseNumberExt(text(reader));
+            } else if ("HouseNumber".equals(name)) {
+                target.setHouseNumber(text(reader));
+            } else if ("PostalCode".equals(name)) {
+                target.setPostalCode(text(reader));
+            } else if ("StreetName".equals(name)) {
+                target.setStreetName(text(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<SpecialRequirements> SPECIAL_REQUIREMENTS = new ElementReader<SpecialRequirements>() {
+        @Override
+        SpecialRequirements create() {
+            return new SpecialRequirements();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final SpecialRequirements target) throws XMLStreamException {
+            if ("Requirement".equals(name)) {
+                target.getRequirement().add(text(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<BasketMessages> BASKET_MESSAGES = new ElementReader<BasketMessages>() {
+        @Override
+        BasketMessages create() {
+            return new BasketMessages();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final BasketMessages target) throws XMLStreamException {
+            if ("Message".equals(name)) {
+                target.getMessage().add(text(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<PricingAdjustment> PRICING_ADJUSTMENT = new ElementReader<PricingAdjustment>() {
+        @Override
+        PricingAdjustment create() {
+            return new PricingAdjustment();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final PricingAdjustment target) throws XMLStreamException {
+            if ("Description".equals(name)) {
+                target.setDescription(text(reader));
+            } else if ("Amount".equals(name)) {
+                target.setAmount(toDouble(reader));
+            } else if ("Revocable".equals(name)) {
+                target.setRevocable(toBoolean(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    private BasketReaders() {
+    }
+}
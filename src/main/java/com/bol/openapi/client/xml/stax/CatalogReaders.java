@@ -0,0 +1,863 @@
+package com.bol.openapi.client.xml.stax;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.bol.openapi.openapi_3_0.Actors;
+import com.bol.openapi.openapi_3_0.Artists;
+import com.bol.openapi.openapi_3_0.Attribute;
+import com.bol.openapi.openapi_3_0.Attributes;
+import com.bol.openapi.openapi_3_0.Authors;
+import com.bol.openapi.openapi_3_0.Category;
+import com.bol.openapi.openapi_3_0.Directors;
+import com.bol.openapi.openapi_3_0.Entity;
+import com.bol.openapi.openapi_3_0.Images;
+import com.bol.openapi.openapi_3_0.ListResultResponse;
+import com.bol.openapi.openapi_3_0.Offer;
+import com.bol.openapi.openapi_3_0.OfferTotals;
+import com.bol.openapi.openapi_3_0.Offers;
+import com.bol.openapi.openapi_3_0.OriginalRequest;
+import com.bol.openapi.openapi_3_0.Product;
+import com.bol.openapi.openapi_3_0.ProductRecommendationsResponse;
+import com.bol.openapi.openapi_3_0.ProductResponse;
+import com.bol.openapi.openapi_3_0.ProductType;
+import com.bol.openapi.openapi_3_0.ProductsResponse;
+import com.bol.openapi.openapi_3_0.Promotion;
+import com.bol.openapi.openapi_3_0.Promotions;
+import com.bol.openapi.openapi_3_0.Refinement;
+import com.bol.openapi.openapi_3_0.RefinementGroup;
+import com.bol.openapi.openapi_3_0.SearchResultsResponse;
+import com.bol.openapi.openapi_3_0.Seller;
+import com.bol.openapi.openapi_3_0.Track;
+import com.bol.openapi.openapi_3_0.TrackList;
+import com.bol.openapi.openapi_3_0.TrackLists;
+import com.bol.openapi.openapi_3_0.Urls;
+
+/**
+ * Readers for the catalog responses (search results, list results, product, products and recommendations) and the
+ * product, offer, category and refinement types they are made of.
+ */
+final class CatalogReaders {
+
+    static final ElementReader<SearchResultsResponse> SEARCH_RESULTS_RESPONSE = new ElementReader<SearchResultsResponse>() {
+        @Override
+        SearchResultsResponse create() {
+            return new SearchResultsResponse();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final SearchResultsResponse target) throws XMLStreamException {
+            if ("Product".equals(name)) {
+                target.getProduct().add(PRODUCT.read(reader));
+            } else if ("SessionId".equals(name)) {
+                target.setSessionId(text(reader));
+            } else if ("TotalResultSize".equals(name)) {
+                target.setTotalResultSize(toLong(reader));
+            } else if ("OriginalRequest".equals(name)) {
+                target.setOriginalRequest(ORIGINAL_REQUEST.read(reader));
+            } else if ("Category".equals(name)) {
+                target.getCategory().add(CATEGORY.read(reader));
+            } else if ("RefinementGroup".equals(name)) {
+                target.getRefinementGroup().add(REFINEMENT_GROUP.read(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<ListResultResponse> LIST_RESULT_RESPONSE = new ElementReader<ListResultResponse>() {
+        @Override
+        ListResultResponse create() {
+            return new ListResultResponse();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final ListResultResponse target) throws XMLStreamException {
+            if ("Product".equals(name)) {
+                target.getProduct().add(PRODUCT.read(reader));
+            } else if ("SessionId".equals(name)) {
+                target.setSessionId(text(reader));
+            } else if ("TotalResultSize".equals(name)) {
+                target.setTotalResultSize(toLong(reader));
+            } else if ("OriginalRequest".equals(name)) {
+                target.setOriginalRequest(ORIGINAL_REQUEST.read(reader));
+            } else if ("Category".equals(name)) {
+                target.getCategory().add(CATEGORY.read(reader));
+            } else if ("RefinementGroup".equals(name)) {
+                target.getRefinementGroup().add(REFINEMENT_GROUP.read(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<ProductResponse> PRODUCT_RESPONSE = new ElementReader<ProductResponse>() {
+        @Override
+        ProductResponse create() {
+            return new ProductResponse();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final ProductResponse target) throws XMLStreamException {
+            if ("Product".equals(name)) {
+                target.setProduct(PRODUCT.read(reader));
+            } else if ("SessionId".equals(name)) {
+                target.setSessionId(text(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<ProductsResponse> PRODUCTS_RESPONSE = new ElementReader<ProductsResponse>() {
+        @Override
+        ProductsResponse create() {
+            return new ProductsResponse();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final ProductsResponse target) throws XMLStreamException {
+            if ("Product".equals(name)) {
+                target.getProduct().add(PRODUCT.read(reader));
+            } else if ("SessionId".equals(name)) {
+                target.setSessionId(text(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<ProductRecommendationsResponse> PRODUCT_RECOMMENDATIONS_RESPONSE = new ElementReader<ProductRecommendationsResponse>() {
+        @Override
+        ProductRecommendationsResponse create() {
+            return new ProductRecommendationsResponse();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final ProductRecommendationsResponse target) throws XMLStreamException {
+            if ("Product".equals(name)) {
+                target.getProduct().add(PRODUCT.read(reader));
+            } else if ("ProductId".equals(name)) {
+                target.getProductId().add(text(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<Product> PRODUCT = new ElementReader<Product>() {
+        @Override
+        Product create() {
+            return new Product();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final Product product) throws XMLStreamException {
+            final ProductElement element = ProductElement.forLocalName(name);
+            if (element == null) {
+                skip(reader);
+                return;
+            }
+
+            switch (element) {
+                case ID:
+                    product.setId(toLong(reader));
+                    break;
+                case TITLE:
+                    product.setTitle(text(reader));
+                    break;
+                case SUBTITLE:
+                    product.setSubtitle(text(reader));
+                    break;
+                case TYPE:
+                    product.setType(toProductType(reader));
+                    break;
+                case PUBLISHER:
+                    product.setPublisher(text(reader));
+                    break;
+                case SHORT_DESCRIPTION:
+                    product.setShortDescription(text(reader));
+                    break;
+                case LONG_DESCRIPTION:
+                    product.setLongDescription(text(reader));
+                    break;
+                case RELEASE_DATE:
+                    product.setReleaseDate(toDate(reader));
+                    break;
+                case EAN:
+                    product.setEan(text(reader));
+                    break;
+                case RATING:
+                    product.setRating(toDecimal(reader));
+                    break;
+                case BINDING_CODE:
+                    product.setBindingCode(text(reader));
+                    break;
+                case BINDING_DESCRIPTION:
+                    product.setBindingDescription(text(reader));
+                    break;
+                case LANGUAGE_CODE:
+                    product.setLanguageCode(text(reader));
+                    break;
+                case LANGUAGE_DESCRIPTION:
+                    product.setLanguageDescription(text(reader));
+                    break;
+                case EDITION:
+                    product.setEdition(text(reader));
+                    break;
+                case FORMAT_DESCRIPTION:
+                    product.setFormatDescription(text(reader));
+                    break;
+                case FORMAT_CODE:
+                    product.setFormatCode(text(reader));
+                    break;
+                case IMPORT:
+                    product.setImport(text(reader));
+                    break;
+                case NUMBER_OF_PIECES:
+                    product.setNumberOfPieces(text(reader));
+                    break;
+                case GENRE:
+                    product.setGenre(text(reader));
+                    break;
+                case BRAND:
+                    product.setBrand(ENTITY.read(reader));
+                    break;
+                case MANUFACTURER:
+                    product.setManufacturer(ENTITY.read(reader));
+                    break;
+                case COLOR:
+                    product.setColor(text(reader));
+                    break;
+                case MANUFACTURER_PRODUCT_NR:
+                    product.setManufacturerProductNr(text(reader));
+                    break;
+                case RECOMMENDED_MIN_AGE:
+                    product.setRecommendedMinAge(text(reader));
+                    break;
+                case RECOMMENDED_MAX_AGE:
+                    product.setRecommendedMaxAge(text(reader));
+                    break;
+                case MIN_NR_PLAYERS:
+                    product.setMinNrPlayers(Integer.valueOf(toInt(reader)));
+                    break;
+                case MAX_NR_PLAYERS:
+                    product.setMaxNrPlayers(Integer.valueOf(toInt(reader)));
+                    break;
+                case PLATFORM_CODE:
+                    product.setPlatformCode(text(reader));
+                    break;
+                case PLATFORM_DESCRIPTION:
+                    product.setPlatformDescription(text(reader));
+                    break;
+                case TARGET_GROUP:
+                    product.setTargetGroup(text(reader));
+                    break;
+                case ONLINE_OPTION:
+                    product.setOnlineOption(text(reader));
+                    break;
+                case SYSTEM_REQUIREMENTS:
+                    product.setSystemRequirements(text(reader));
+                    break;
+                case OPERATING_SYSTEM:
+                    product.setOperatingSystem(text(reader));
+                    break;
+                case STORAGE_CAPACITY:
+                    product.setStorageCapacity(text(reader));
+                    break;
+                case STORAGE_TYPE:
+                    product.setStorageType(text(reader));
+                    break;
+                case INTERNAL_MEMORY:
+                    product.setInternalMemory(text(reader));
+                    break;
+                case PROCESSOR:
+                    product.setProcessor(text(reader));
+                    break;
+                case DISPLAY_DIAMETER:
+                    product.setDisplayDiameter(text(reader));
+                    break;
+                case DISPLAY_RESOLUTION:
+                    product.setDisplayResolution(text(reader));
+                    break;
+                case DISPLAY_FULL_HD:
+                    product.setDisplayFullHd(Boolean.valueOf(toBoolean(reader)));
+                    break;
+                case SCREEN_TECHNOLOGY:
+                    product.setScreenTechnology(text(reader));
+                    break;
+                case MAX_RESOLUTION:
+                    product.setMaxResolution(text(reader));
+                    break;
+                case OPTICAL_ZOOM:
+                    product.setOpticalZoom(text(reader));
+                    break;
+                case DIGITAL_ZOOM:
+                    product.setDigitalZoom(text(reader));
+                    break;
+                case MAX_PIXELS:
+                    product.setMaxPixels(text(reader));
+                    break;
+                case MEMORY_CARD_TYPES:
+                    product.setMemoryCardTypes(text(reader));
+                    break;
+                case PROVIDER:
+                    product.setProvider(text(reader));
+                    break;
+                case LIGHT_SENSITIVITY_STANDARD:
+                    product.setLightSensitivityStandard(text(reader));
+                    break;
+                case WIFI:
+                    product.setWifi(text(reader));
+                    break;
+                case UMTS:
+                    product.setUmts(text(reader));
+                    break;
+                case BLUETOOTH:
+                    product.setBluetooth(text(reader));
+                    break;
+                case BANDWIDTH:
+                    product.setBandwidth(text(reader));
+                    break;
+                case WIRE_LENGTH:
+                    product.setWireLength(text(reader));
+                    break;
+                case ANALOG_TUNER:
+                    product.setAnalogTuner(text(reader));
+                    break;
+                case CAMERA:
+                    product.setCamera(text(reader));
+                    break;
+                case HDMI_PORTS:
+                    product.setHdmiPorts(text(reader));
+                    break;
+                case PORTS:
+                    product.setPorts(text(reader));
+                    break;
+                case BLURAY:
+                    product.setBluray(text(reader));
+                    break;
+                case DTS:
+                    product.setDts(Boolean.valueOf(toBoolean(reader)));
+                    break;
+                case AUDIO_FORMATS:
+                    product.setAudioFormats(text(reader));
+                    break;
+                case MAX_WEIGHT:
+                    product.setMaxWeight(text(reader));
+                    break;
+                case PAGE_COUNT:
+                    product.setPageCount(text(reader));
+                    break;
+                case FILE_SIZE:
+                    product.setFileSize(text(reader));
+                    break;
+                case COMPATIBILITY:
+                    product.setCompatibility(text(reader));
+                    break;
+                case COPYRIGHT:
+                    product.setCopyright(text(reader));
+                    break;
+                case PRINT_RESTRICTIONS:
+                    product.setPrintRestrictions(text(reader));
+                    break;
+                case READ_ALOUD_SUPPORT:
+                    product.setReadAloudSupport(text(reader));
+                    break;
+                case INFORMATION_LEAFLET_URL:
+                    product.setInformationLeafletUrl(text(reader));
+                    break;
+                case OFFERS:
+                    product.setOffers(OFFERS.read(reader));
+                    break;
+                case URLS:
+                    product.setUrls(URLS.read(reader));
+                    break;
+                case ARTISTS:
+                    product.setArtists(ARTISTS.read(reader));
+                    break;
+                case ACTORS:
+                    product.setActors(ACTORS.read(reader));
+                    break;
+                case AUTHORS:
+                    product.setAuthors(AUTHORS.read(reader));
+                    break;
+                case DIRECTORS:
+                    product.setDirectors(DIRECTORS.read(reader));
+                    break;
+                case IMAGES:
+                    product.setImages(IMAGES.read(reader));
+                    break;
+                case ATTRIBUTES:
+                    product.setAttributes(ATTRIBUTES.read(reader));
+                    break;
+                case PROMOTIONS:
+                    product.setPromotions(PROMOTIONS.read(reader));
+                    break;
+                case TRACK_LISTS:
+                    product.setTrackLists(TRACK_LISTS.read(reader));
+                    break;
+                default:
+                    skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<Offers> OFFERS = new ElementReader<Offers>() {
+        @Override
+        Offers create() {
+            return new Offers();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final Offers target) throws XMLStreamException {
+            if ("Offer".equals(name)) {
+                target.getOffer().add(OFFER.read(reader));
+            } else if ("OfferTotals".equals(name)) {
+                target.setOfferTotals(OFFER_TOTALS.read(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<Offer> OFFER = new ElementReader<Offer>() {
+        @Override
+        Offer create() {
+            return new Offer();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final Offer target) throws XMLStreamException {
+            if ("Id".equals(name)) {
+                target.setId(text(reader));
+            } else if ("Price".equals(name)) {
+                target.setPrice(Double.valueOf(toDouble(reader)));
+            } else if ("ListPrice".equals(name)) {
+                target.setListPrice(Double.valueOf(toDouble(reader)));
+            } else if ("AvailabilityCode".equals(name)) {
+                target.setAvailabilityCode(Integer.valueOf(toInt(reader)));
+            } else if ("AvailabilityDescription".equals(name)) {
+                target.setAvailabilityDescription(text(reader));
+            } else if ("SecondHand".equals(name)) {
+                target.setSecondHand(Boolean.valueOf(toBoolean(reader)));
+            } else if ("State".equals(name)) {
+                target.setState(text(reader));
+            } else if ("Seller".equals(name)) {
+                target.setSeller(SELLER.read(reader));
+            } else if ("FirstEdition".equals(name)) {
+                target.setFirstEdition(Boolean.valueOf(toBoolean(reader)));
+            } else if ("Signed".equals(name)) {
+                target.setSigned(Boolean.valueOf(toBoolean(reader)));
+            } else if ("SpecialEdition".equals(name)) {
+                target.setSpecialEdition(Boolean.valueOf(toBoolean(reader)));
+            } else if ("Binding".equals(name)) {
+                target.setBinding(text(reader));
+            } else if ("Comment".equals(name)) {
+                target.setComment(text(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<OfferTotals> OFFER_TOTALS = new ElementReader<OfferTotals>() {
+        @Override
+        OfferTotals create() {
+            return new OfferTotals();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final OfferTotals target) throws XMLStreamException {
+            if ("Bol.com".equals(name)) {
+                target.setBolCom(Integer.valueOf(toInt(reader)));
+            } else if ("SecondHand".equals(name)) {
+                target.setSecondHand(Integer.valueOf(toInt(reader)));
+            } else if ("Plaza".equals(name)) {
+                target.setPlaza(Integer.valueOf(toInt(reader)));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<Seller> SELLER = new ElementReader<Seller>() {
+        @Override
+        Seller create() {
+            return new Seller();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final Seller target) throws XMLStreamException {
+            if ("Id".equals(name)) {
+                target.setId(text(reader));
+            } else if ("DisplayName".equals(name)) {
+                target.setDisplayName(text(reader));
+            } else if ("NumberOfReviews".equals(name)) {
+                target.setNumberOfReviews(Integer.valueOf(toInt(reader)));
+            } else if ("OverallRating".equals(name)) {
+                target.setOverallRating(Integer.valueOf(toInt(reader)));
+            } else if ("Url".equals(name)) {
+                target.setUrl(text(reader));
+            } else if ("Logo".equals(name)) {
+                target.setLogo(text(reader));
+            } else if ("EmailAddress".equals(name)) {
+                target.setEmailAddress(text(reader));
+            } else if ("PhoneNumber".equals(name)) {
+                target.setPhoneNumber(text(reader));
+            } else if ("AddressLine1".equals(name)) {
+                target.setAddressLine1(text(reader));
+            } else if ("AddressLine2".equals(name)) {
+                target.setAddressLine2(text(reader));
+            } else if ("SellerType".equals(name)) {
+                target.setSellerType(text(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<Urls> URLS = new ElementReader<Urls>() {
+        @Override
+        Urls create() {
+            return new Urls();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final Urls target) throws XMLStreamException {
+            if ("Main".equals(name)) {
+                target.setMain(text(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<Images> IMAGES = new ElementReader<Images>() {
+        @Override
+        Images create() {
+            return new Images();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final Images target) throws XMLStreamException {
+            if ("ExtraSmall".equals(name)) {
+                target.setExtraSmall(text(reader));
+            } else if ("Small".equals(name)) {
+                target.setSmall(text(reader));
+            } else if ("Medium".equals(name)) {
+                target.setMedium(text(reader));
+            } else if ("Large".equals(name)) {
+                target.setLarge(text(reader));
+            } else if ("ExtraLarge".equals(name)) {
+                target.setExtraLarge(text(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<Attributes> ATTRIBUTES = new ElementReader<Attributes>() {
+        @Override
+        Attributes create() {
+            return new Attributes();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final Attributes target) throws XMLStreamException {
+            if ("Attribute".equals(name)) {
+                target.getAttribute().add(ATTRIBUTE.read(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<Attribute> ATTRIBUTE = new ElementReader<Attribute>() {
+        @Override
+        Attribute create() {
+            return new Attribute();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final Attribute target) throws XMLStreamException {
+            if ("Key".equals(name)) {
+                target.setKey(text(reader));
+            } else if ("Value".equals(name)) {
+                target.setValue(text(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<Promotions> PROMOTIONS = new ElementReader<Promotions>() {
+        @Override
+        Promotions create() {
+            return new Promotions();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final Promotions target) throws XMLStreamException {
+            if ("Promotion".equals(name)) {
+                target.getPromotion().add(PROMOTION.read(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<Promotion> PROMOTION = new ElementReader<Promotion>() {
+        @Override
+        Promotion create() {
+            return new Promotion();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final Promotion target) throws XMLStreamException {
+            if ("Title".equals(name)) {
+                target.setTitle(text(reader));
+            } else if ("Description".equals(name)) {
+                target.setDescription(text(reader));
+            } else if ("Url".equals(name)) {
+                target.setUrl(text(reader));
+            } else if ("UrlText".equals(name)) {
+                target.setUrlText(text(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<TrackLists> TRACK_LISTS = new ElementReader<TrackLists>() {
+        @Override
+        TrackLists create() {
+            return new TrackLists();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final TrackLists target) throws XMLStreamException {
+            if ("TrackList".equals(name)) {
+                target.getTrackList().add(TRACK_LIST.read(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<TrackList> TRACK_LIST = new ElementReader<TrackList>() {
+        @Override
+        TrackList create() {
+            return new TrackList();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final TrackList target) throws XMLStreamException {
+            if ("Track".equals(name)) {
+                target.getTrack().add(TRACK.read(reader));
+            } else if ("DiscNumber".equals(name)) {
+                target.setDiscNumber(toInt(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<Track> TRACK = new ElementReader<Track>() {
+        @Override
+        Track create() {
+            return new Track();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final Track target) throws XMLStreamException {
+            if ("Title".equals(name)) {
+                target.setTitle(text(reader));
+            } else if ("TrackNumber".equals(name)) {
+                target.setTrackNumber(toInt(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<Artists> ARTISTS = new ElementReader<Artists>() {
+        @Override
+        Artists create() {
+            return new Artists();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final Artists target) throws XMLStreamException {
+            if ("Artist".equals(name)) {
+                target.getArtist().add(ENTITY.read(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<Actors> ACTORS = new ElementReader<Actors>() {
+        @Override
+        Actors create() {
+            return new Actors();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final Actors target) throws XMLStreamException {
+            if ("Actor".equals(name)) {
+                target.getActor().add(ENTITY.read(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<Authors> AUTHORS = new ElementReader<Authors>() {
+        @Override
+        Authors create() {
+            return new Authors();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final Authors target) throws XMLStreamException {
+            if ("Author".equals(name)) {
+                target.getAuthor().add(ENTITY.read(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<Directors> DIRECTORS = new ElementReader<Directors>() {
+        @Override
+        Directors create() {
+            return new Directors();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final Directors target) throws XMLStreamException {
+            if ("Director".equals(name)) {
+                target.getDirector().add(ENTITY.read(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<Entity> ENTITY = new ElementReader<Entity>() {
+        @Override
+        Entity create() {
+            return new Entity();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final Entity target) throws XMLStreamException {
+            if ("Id".equals(name)) {
+                target.setId(text(reader));
+            } else if ("Name".equals(name)) {
+                target.setName(text(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<OriginalRequest> ORIGINAL_REQUEST = new ElementReader<OriginalRequest>() {
+        @Override
+        OriginalRequest create() {
+            return new OriginalRequest();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final OriginalRequest target) throws XMLStreamException {
+            if ("Category".equals(name)) {
+                target.setCategory(CATEGORY.read(reader));
+            } else if ("RefinementGroup".equals(name)) {
+                target.getRefinementGroup().add(REFINEMENT_GROUP.read(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<Category> CATEGORY = new ElementReader<Category>() {
+        @Override
+        Category create() {
+            return new Category();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final Category target) throws XMLStreamException {
+            if ("Id".equals(name)) {
+                target.setId(text(reader));
+            } else if ("Name".equals(name)) {
+                target.setName(text(reader));
+            } else if ("ProductCount".equals(name)) {
+                target.setProductCount(Integer.valueOf(toInt(reader)));
+            } else if ("Refinement".equals(name)) {
+                target.getRefinement().add(REFINEMENT.read(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<RefinementGroup> REFINEMENT_GROUP = new ElementReader<RefinementGroup>() {
+        @Override
+        RefinementGroup create() {
+            return new RefinementGroup();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final RefinementGroup target) throws XMLStreamException {
+            if ("Id".equals(name)) {
+                target.setId(text(reader));
+            } else if ("Name".equals(name)) {
+                target.setName(text(reader));
+            } else if ("ProductCount".equals(name)) {
+                target.setProductCount(Integer.valueOf(toInt(reader)));
+            } else if ("Refinement".equals(name)) {
+                target.getRefinement().add(REFINEMENT.read(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    static final ElementReader<Refinement> REFINEMENT = new ElementReader<Refinement>() {
+        @Override
+        Refinement create() {
+            return new Refinement();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final Refinement target) throws XMLStreamException {
+            if ("Id".equals(name)) {
+                target.setId(text(reader));
+            } else if ("Name".equals(name)) {
+                target.setName(text(reader));
+            } else if ("ProductCount".equals(name)) {
+                target.setProductCount(Integer.valueOf(toInt(reader)));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    private CatalogReaders() {
+    }
+
+    /**
+     * Reads a product type. Values outside the enumeration read as null, as with JAXB.
+     */
+    private static ProductType toProductType(final XMLStreamReader reader) throws XMLStreamException {
+        final String text = reader.getElementText().trim();
+        for (final ProductType type : ProductType.values()) {
+            if (type.value().equals(text)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,156 @@
+package com.bol.openapi.client.xml.stax;
+
+import java.math.BigDecimal;
+
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Reads one element of the OpenAPI schema into its generated class. Child elements are matched on their local name in
+ * any order; unknown children are skipped, as JAXB does. Simple values are converted the way the JAXB runtime converts
+ * them: numbers, booleans and dates are whitespace trimmed, strings are kept as they are.
+ *
+ * @param <T> The generated class.
+ */
+abstract class ElementReader<T> {
+
+    private static final DatatypeFactory DATATYPE_FACTORY;
+
+    static {
+        try {
+            DATATYPE_FACTORY = DatatypeFactory.newInstance();
+        } catch (final DatatypeConfigurationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Reads the element the reader is positioned at.
+     *
+     * @param reader The reader, positioned at the start of the element. It is left at the end of the element.
+     *
+     * @return The read object.
+     *
+     * @throws XMLStreamException When the element is malformed or holds an invalid value.
+     */
+    final T read(final XMLStreamReader reader) throws XMLStreamException {
+        final T target = create();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            readChild(reader, reader.getLocalName(), target);
+        }
+        return target;
+    }
+
+    /**
+     * Creates the object to read into.
+     *
+     * @return The new object.
+     */
+    abstract T create();
+
+    /**
+     * Reads a child element into the target. Children that are not part of the type must be skipped.
+     *
+     * @param reader The reader, positioned at the start of the child. It must be left at the end of the child.
+     * @param name The local name of the child.
+     * @param target The object to read into.
+     *
+     * @throws XMLStreamException When the child is malformed or holds an invalid value.
+     */
+    abstract void readChild(XMLStreamReader reader, String name, T target) throws XMLStreamException;
+
+    static String text(final XMLStreamReader reader) throws XMLStreamException {
+        return reader.getElementText();
+    }
+
+    static long toLong(final XMLStreamReader reader) throws XMLStreamException {
+        final String text = reader.getElementText();
+        try {
+            return Long.parseLong(text.trim());
+        } catch (final NumberFormatException e) {
+            throw invalid(reader, "long", text, e);
+        }
+    }
+
+    static int toInt(final XMLStreamReader reader) throws XMLStreamException {
+        final String text = reader.getElementText();
+        try {
+            return Integer.parseInt(text.trim());
+        } catch (final NumberFormatException e) {
+            throw invalid(reader, "int", text, e);
+        }
+    }
+
+    static double toDouble(final XMLStreamReader reader) throws XMLStreamException {
+        final String text = reader.getElementText();
+        final String value = text.trim();
+        if ("INF".equals(value)) {
+            return Double.POSITIVE_INFINITY;
+        }
+        if ("-INF".equals(value)) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (final NumberFormatException e) {
+            throw invalid(reader, "double", text, e);
+        }
+    }
+
+    static boolean toBoolean(final XMLStreamReader reader) throws XMLStreamException {
+        final String text = reader.getElementText();
+        final String value = text.trim();
+        if ("true".equals(value) || "1".equals(value)) {
+            return true;
+        }
+        if ("false".equals(value) || "0".equals(value)) {
+            return false;
+        }
+        throw invalid(reader, "boolean", text, null);
+    }
+
+    static BigDecimal toDecimal(final XMLStreamReader reader) throws XMLStreamException {
+        final String text = reader.getElementText();
+        try {
+            return new BigDecimal(text.trim());
+        } catch (final NumberFormatException e) {
+            throw invalid(reader, "decimal", text, e);
+        }
+    }
+
+    static XMLGregorianCalendar toDate(final XMLStreamReader reader) throws XMLStreamException {
+        final String text = reader.getElementText();
+        try {
+            return DATATYPE_FACTORY.newXMLGregorianCalendar(text.trim());
+        } catch (final IllegalArgumentException e) {
+            throw invalid(reader, "date", text, e);
+        }
+    }
+
+    /**
+     * Skips the element the reader is positioned at, including all of its descendants.
+     *
+     * @param reader The reader, positioned at the start of the element. It is left at the end of the element.
+     *
+     * @throws XMLStreamException When the element is malformed.
+     */
+    static void skip(final XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static XMLStreamException invalid(final XMLStreamReader reader, final String type, final String text, final Exception cause) {
+        return new XMLStreamException("Invalid " + type + " value '" + text + "'", reader.getLocation(), cause);
+    }
+}
@@ -0,0 +1,120 @@
+package com.bol.openapi.client.xml.stax;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The child elements of a product, in schema order. A product has far more children than any other type, so its reader
+ * looks them up by name once instead of comparing the name against every candidate.
+ */
+enum ProductElement {
+
+    ID("Id"),
+    TITLE("Title"),
+    SUBTITLE("Subtitle"),
+    TYPE("Type"),
+    PUBLISHER("Publisher"),
+    SHORT_DESCRIPTION("ShortDescription"),
+    LONG_DESCRIPTION("LongDescription"),
+    RELEASE_DATE("ReleaseDate"),
+    EAN("Ean"),
+    RATING("Rating"),
+    BINDING_CODE("BindingCode"),
+    BINDING_DESCRIPTION("BindingDescription"),
+    LANGUAGE_CODE("LanguageCode"),
+    LANGUAGE_DESCRIPTION("LanguageDescription"),
+    EDITION("Edition"),
+    FORMAT_DESCRIPTION("FormatDescription"),
+    FORMAT_CODE("FormatCode"),
+    IMPORT("Import"),
+    NUMBER_OF_PIECES("NumberOfPieces"),
+    GENRE("Genre"),
+    BRAND("Brand"),
+    MANUFACTURER("Manufacturer"),
+    COLOR("Color"),
+    MANUFACTURER_PRODUCT_NR("ManufacturerProductNr"),
+    RECOMMENDED_MIN_AGE("RecommendedMinAge"),
+    RECOMMENDED_MAX_AGE("RecommendedMaxAge"),
+    MIN_NR_PLAYERS("MinNrPlayers"),
+    MAX_NR_PLAYERS("MaxNrPlayers"),
+    PLATFORM_CODE("PlatformCode"),
+    PLATFORM_DESCRIPTION("PlatformDescription"),
+    TARGET_GROUP("TargetGroup"),
+    ONLINE_OPTION("OnlineOption"),
+    SYSTEM_REQUIREMENTS("SystemRequirements"),
+    OPERATING_SYSTEM("OperatingSystem"),
+    STORAGE_CAPACITY("StorageCapacity"),
+    STORAGE_TYPE("StorageType"),
+    INTERNAL_MEMORY("InternalMemory"),
+    PROCESSOR("Processor"),
+    DISPLAY_DIAMETER("DisplayDiameter"),
+    DISPLAY_RESOLUTION("DisplayResolution"),
+    DISPLAY_FULL_HD("DisplayFullHd"),
+    SCREEN_TECHNOLOGY("ScreenTechnology"),
+    MAX_RESOLUTION("MaxResolution"),
+    OPTICAL_ZOOM("OpticalZoom"),
+    DIGITAL_ZOOM("DigitalZoom"),
+    MAX_PIXELS("MaxPixels"),
+    MEMORY_CARD_TYPES("MemoryCardTypes"),
+    PROVIDER("Provider"),
+    LIGHT_SENSITIVITY_STANDARD("LightSensitivityStandard"),
+    WIFI("Wifi"),
+    UMTS("Umts"),
+    BLUETOOTH("Bluetooth"),
+    BANDWIDTH("Bandwidth"),
+    WIRE_LENGTH("WireLength"),
+    ANALOG_TUNER("AnalogTuner"),
+    CAMERA("Camera"),
+    HDMI_PORTS("HdmiPorts"),
+    PORTS("Ports"),
+    BLURAY("Bluray"),
+    DTS("Dts"),
+    AUDIO_FORMATS("AudioFormats"),
+    MAX_WEIGHT("MaxWeight"),
+    PAGE_COUNT("PageCount"),
+    FILE_SIZE("FileSize"),
+    COMPATIBILITY("Compatibility"),
+    COPYRIGHT("Copyright"),
+    PRINT_RESTRICTIONS("PrintRestrictions"),
+    READ_ALOUD_SUPPORT("ReadAloudSupport"),
+    INFORMATION_LEAFLET_URL("informationLeafletUrl"),
+    OFFERS("Offers"),
+    URLS("Urls"),
+    ARTISTS("Artists"),
+    ACTORS("Actors"),
+    AUTHORS("Authors"),
+    DIRECTORS("Directors"),
+    IMAGES("Images"),
+    ATTRIBUTES("Attributes"),
+    PROMOTIONS("Promotions"),
+    TRACK_LISTS("TrackLists");
+
+    private static final Map<String, ProductElement> BY_LOCAL_NAME = new HashMap<String, ProductElement>();
+
+    static {
+        for (final ProductElement element : values()) {
+            BY_LOCAL_NAME.put(element.localName, element);
+        }
+    }
+
+    private final String localName;
+
+    private ProductElement(final String localName) {
+        this.localName = localName;
+    }
+
+    public String getLocalName() {
+        return localName;
+    }
+
+    /**
+     * Gets the product element with the local name.
+     *
+     * @param localName The local name.
+     *
+     * @return The element, null when the name is not a child of a product.
+     */
+    static ProductElement forLocalName(final String localName) {
+        return BY_LOCAL_NAME.get(localName);
+    }
+}
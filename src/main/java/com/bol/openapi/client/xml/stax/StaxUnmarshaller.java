@@ -0,0 +1,103 @@
+package com.bol.openapi.client.xml.stax;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.bol.openapi.openapi_3_0.SessionResponse;
+
+/**
+ * Unmarshals the catalog, basket, session and error responses with hand-written StAX readers instead of the reflective
+ * JAXB runtime. The readers fill the same generated classes JAXB does and are checked against JAXB by conformance
+ * tests; when the schema changes, the readers in this package must be updated along with it. Other responses are
+ * left to JAXB.
+ */
+public final class StaxUnmarshaller {
+
+    /**
+     * The namespace of the OpenAPI schema.
+     */
+    public static final String NAMESPACE = "http://openapi.bol.com/openapi-3.0.0";
+
+    private static final ElementReader<SessionResponse> SESSION_RESPONSE = new ElementReader<SessionResponse>() {
+        @Override
+        SessionResponse create() {
+            return new SessionResponse();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final SessionResponse target) throws XMLStreamException {
+            if ("SessionId".equals(name)) {
+                target.setSessionId(text(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    private static final ElementReader<com.bol.openapi.openapi_3_0.Error> ERROR = new ElementReader<com.bol.openapi.openapi_3_0.Error>() {
+        @Override
+        com.bol.openapi.openapi_3_0.Error create() {
+            return new com.bol.openapi.openapi_3_0.Error();
+        }
+
+        @Override
+        void readChild(final XMLStreamReader reader, final String name, final com.bol.openapi.openapi_3_0.Error target) throws XMLStreamException {
+            if ("Status".equals(name)) {
+                target.setStatus(text(reader));
+            } else if ("Message".equals(name)) {
+                target.setMessage(text(reader));
+            } else {
+                skip(reader);
+            }
+        }
+    };
+
+    private static final Map<String, ElementReader<?>> ROOTS = new HashMap<String, ElementReader<?>>();
+
+    static {
+        ROOTS.put("SearchResultsResponse", CatalogReaders.SEARCH_RESULTS_RESPONSE);
+        ROOTS.put("ListResultResponse", CatalogReaders.LIST_RESULT_RESPONSE);
+        ROOTS.put("ProductResponse", CatalogReaders.PRODUCT_RESPONSE);
+        ROOTS.put("ProductsResponse", CatalogReaders.PRODUCTS_RESPONSE);
+        ROOTS.put("ProductRecommendationsResponse", CatalogReaders.PRODUCT_RECOMMENDATIONS_RESPONSE);
+        ROOTS.put("BasketResponse", BasketReaders.BASKET_RESPONSE);
+        ROOTS.put("SessionResponse", SESSION_RESPONSE);
+        ROOTS.put("Error", ERROR);
+    }
+
+    private StaxUnmarshaller() {
+    }
+
+    /**
+     * Whether the root element the reader is positioned at has a StAX reader. Roots outside the OpenAPI namespace never
+     * do, so JAXB gets to reject them.
+     *
+     * @param reader The reader, positioned at the start of the root element.
+     *
+     * @return True when the root can be unmarshalled.
+     */
+    public static boolean supports(final XMLStreamReader reader) {
+        return NAMESPACE.equals(reader.getNamespaceURI()) && ROOTS.containsKey(reader.getLocalName());
+    }
+
+    /**
+     * Unmarshals the root element the reader is positioned at. Child elements are matched on their local name.
+     *
+     * @param reader The reader, positioned at the start of the root element. It is left at the end of the root element.
+     *
+     * @return The unmarshalled response.
+     *
+     * @throws XMLStreamException When the response is malformed or holds an invalid value.
+     * @throws IllegalArgumentException When the root element is not supported.
+     */
+    public static Object unmarshal(final XMLStreamReader reader) throws XMLStreamException {
+        final ElementReader<?> elementReader = supports(reader) ? ROOTS.get(reader.getLocalName()) : null;
+        if (elementReader == null) {
+            throw new IllegalArgumentException("No StAX reader for " + reader.getName());
+        }
+        return elementReader.read(reader);
+    }
+}
@@ -0,0 +1,238 @@
+package com.bol.openapi.client;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.ProtocolVersion;
+import org.apache.http.StatusLine;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.message.BasicStatusLine;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.bol.openapi.client.async.ResponseCallback;
+import com.bol.openapi.client.exception.BasicApiException;
+import com.bol.openapi.client.response.ProductsResult;
+import com.bol.openapi.client.util.TestUtils;
+import com.bol.openapi.openapi_3_0.Product;
+import com.bol.openapi.openapi_3_0.ProductResponse;
+import com.bol.openapi.openapi_3_0.ProductsResponse;
+
+public class AsyncOpenApiClientTest {
+
+    private final HttpClient httpClient = Mockito.mock(HttpClient.class);
+    private ExecutorService executorService;
+    private AsyncOpenApiClient asyncOpenApiClient;
+
+    @Before
+    public void setUp() throws Exception {
+        executorService = Executors.newSingleThreadExecutor();
+        asyncOpenApiClient = new AsyncOpenApiClient(new OpenApiClient(httpClient, new URI("http://localhost:8082"), "accessKeyId", "secretAccessKey"), executorService);
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testGetProduct() throws Exception {
+        {
+            final ProtocolVersion protocolVersion = new ProtocolVersion("http", 1, 1);
+            final StatusLine statusLine = new BasicStatusLine(protocolVersion, HttpStatus.SC_OK, "");
+            final HttpResponse httpResponse = new BasicHttpResponse(statusLine);
+
+            final ProductResponse productResponse = new ProductResponse();
+            final HttpEntity httpEntity = new StringEntity(TestUtils.serializeUsingJAXB(productResponse));
+            httpResponse.setEntity(httpEntity);
+
+            Mockito.when(httpClient.execute(Mockito.any(HttpGet.class))).thenReturn(httpResponse);
+        }
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicReference<ProductResponse> completed = new AtomicReference<ProductResponse>();
+        final Future<ProductResponse> future = asyncOpenApiClient.getProduct("1234567890", false, new ResponseCallback<ProductResponse>() {
+            public void completed(final ProductResponse response) {
+                completed.set(response);
+                latch.countDown();
+            }
+
+            public void failed(final Throwable cause) {
+                latch.countDown();
+            }
+
+            public void cancelled() {
+                latch.countDown();
+            }
+        });
+
+        Assert.assertNotNull(future.get(5, TimeUnit.SECONDS));
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertSame(future.get(), completed.get());
+    }
+
+    @Test
+    public void testGetProductError() throws Exception {
+        {
+            final ProtocolVersion protocolVersion = new ProtocolVersion("http", 1, 1);
+            final StatusLine statusLine = new BasicStatusLine(protocolVersion, HttpStatus.SC_INTERNAL_SERVER_ERROR, "");
+            final HttpResponse httpResponse = new BasicHttpResponse(statusLine);
+
+            final com.bol.openapi.openapi_3_0.Error error = new com.bol.openapi.openapi_3_0.Error();
+            final HttpEntity httpEntity = new StringEntity(TestUtils.serializeUsingJAXB(error));
+            httpResponse.setEntity(httpEntity);
+
+            Mockito.when(httpClient.execute(Mockito.any(HttpGet.class))).thenReturn(httpResponse);
+        }
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicReference<Throwable> failed = new AtomicReference<Throwable>();
+        final Future<ProductResponse> future = asyncOpenApiClient.getProduct("1234567890", false, new ResponseCallback<ProductResponse>() {
+            public void completed(final ProductResponse response) {
+                latch.countDown();
+            }
+
+            public void failed(final Throwable cause) {
+                failed.set(cause);
+                latch.countDown();
+            }
+
+            public void cancelled() {
+                latch.countDown();
+            }
+        });
+
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            Assert.fail("Expected an execution exception");
+        } catch (final ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof BasicApiException);
+        }
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(failed.get() instanceof BasicApiException);
+    }
+
+    @Test
+    public void testPingWithoutCallback() throws Exception {
+        {
+            final ProtocolVersion protocolVersion = new ProtocolVersion("http", 1, 1);
+            final StatusLine statusLine = new BasicStatusLine(protocolVersion, HttpStatus.SC_OK, "");
+            final HttpResponse httpResponse = new BasicHttpResponse(statusLine);
+
+            Mockito.when(httpClient.execute(Mockito.any(HttpGet.class))).thenReturn(httpResponse);
+        }
+
+        Assert.assertTrue(asyncOpenApiClient.ping(null).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testGetProducts() throws Exception {
+        {
+            final ProtocolVersion protocolVersion = new ProtocolVersion("http", 1, 1);
+            final StatusLine statusLine = new BasicStatusLine(protocolVersion, HttpStatus.SC_OK, "");
+            final HttpResponse httpResponse = new BasicHttpResponse(statusLine);
+
+            final ProductsResponse productsResponse = new ProductsResponse();
+            final Product product = new Product();
+            product.setId(5L);
+            productsResponse.getProduct().add(product);
+            final HttpEntity httpEntity = new StringEntity(TestUtils.serializeUsingJAXB(productsResponse));
+            httpResponse.setEntity(httpEntity);
+
+            Mockito.when(httpClient.execute(Mockito.any(HttpGet.class))).thenReturn(httpResponse);
+        }
+
+        final List<String> ids = new ArrayList<String>();
+        for (int i = 0; i < 150; i++) {
+            ids.add(String.valueOf(i));
+        }
+
+        final ProductsResult productsResult = asyncOpenApiClient.getProducts(ids, false, null).get(5, TimeUnit.SECONDS);
+        Assert.assertEquals(1, productsResult.getProducts().size());
+        Assert.assertEquals(149, productsResult.getMissingIds().size());
+    }
+
+    @Test
+    public void testGetProductsChunkFailureCancelsChunks() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        Mockito.when(httpClient.execute(Mockito.any(HttpGet.class))).thenAnswer(new Answer<HttpResponse>() {
+            public HttpResponse answer(final InvocationOnMock invocation) throws Throwable {
+                calls.incrementAndGet();
+                throw new IOException("Connection reset");
+            }
+        });
+
+        final Future<ProductsResult> future = asyncOpenApiClient.getProducts(createIds(250), false, null);
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            Assert.fail("Expected an execution exception");
+        } catch (final ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof IOException);
+        }
+        drainExecutor();
+        Assert.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testGetProductsCancelCancelsChunks() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        Mockito.when(httpClient.execute(Mockito.any(HttpGet.class))).thenAnswer(new Answer<HttpResponse>() {
+            public HttpResponse answer(final InvocationOnMock invocation) throws Throwable {
+                calls.incrementAndGet();
+                started.countDown();
+                try {
+                    Thread.sleep(5000);
+                } catch (final InterruptedException e) {
+                    interrupted.countDown();
+                }
+                throw new IOException("Aborted");
+            }
+        });
+
+        final Future<ProductsResult> future = asyncOpenApiClient.getProducts(createIds(250), false, null);
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(future.cancel(false));
+        Assert.assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        drainExecutor();
+        Assert.assertEquals(1, calls.get());
+    }
+
+    private static List<String> createIds(final int count) {
+        final List<String> ids = new ArrayList<String>();
+        for (int i = 0; i < count; i++) {
+            ids.add(String.valueOf(i));
+        }
+        return ids;
+    }
+
+    private void drainExecutor() throws Exception {
+        // The executor runs tasks in order, so once this one ran the chunks before it are done
+        executorService.submit(new Runnable() {
+            public void run() {
+            }
+        }).get(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,138 @@
+package com.bol.openapi.client;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.protocol.BasicHttpContext;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.bol.openapi.client.http.PoolStats;
+import com.bol.openapi.client.http.PooledHttpClient;
+import com.bol.openapi.client.load.StubOpenApiServer;
+import com.bol.openapi.client.request.SearchResultsRequest;
+
+public class OpenApiClientBuilderTest {
+
+    private static final String ACCESS_KEY_ID = "accessKeyId";
+    private static final String SECRET_ACCESS_KEY = "secretAccessKey";
+
+    private StubOpenApiServer server;
+    private OpenApiClient openApiClient;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new StubOpenApiServer(ACCESS_KEY_ID, SECRET_ACCESS_KEY);
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        if (openApiClient != null) {
+            openApiClient.shutdown();
+        }
+        server.stop();
+    }
+
+    @Test
+    public void testPoolStats() throws Exception {
+        openApiClient = builder().setMaxTotal(4).setMaxPerRoute(4).build();
+
+        Assert.assertTrue(openApiClient.getHttpClient() instanceof PooledHttpClient);
+        Assert.assertTrue(openApiClient.ping());
+        Assert.assertEquals(10, openApiClient.search(new SearchResultsRequest("harry potter")).getProduct().size());
+
+        final PoolStats poolStats = openApiClient.getPoolStats();
+        Assert.assertEquals(0, poolStats.getLeased());
+        Assert.assertEquals(1, poolStats.getAvailable());
+        Assert.assertEquals(0, poolStats.getPending());
+        Assert.assertEquals(4, poolStats.getMax());
+    }
+
+    @Test
+    public void testLeaseTimeout() throws Exception {
+        openApiClient = builder().setMaxTotal(1).setMaxPerRoute(1).setLeaseTimeout(50, TimeUnit.MILLISECONDS).build();
+        server.setLatency(500, 500, TimeUnit.MILLISECONDS);
+
+        final CountDownLatch done = new CountDownLatch(1);
+        new Thread(new Runnable() {
+            public void run() {
+                try {
+                    openApiClient.ping();
+                } catch (final Exception e) {
+                    // Ignore, only holds the connection
+                } finally {
+                    done.countDown();
+                }
+            }
+        }).start();
+
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (openApiClient.getPoolStats().getLeased() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        Assert.assertEquals(1, openApiClient.getPoolStats().getLeased());
+
+        try {
+            openApiClient.ping();
+            Assert.fail("Expected a connection pool timeout");
+        } catch (final ConnectionPoolTimeoutException e) {
+            // Expected
+        }
+        Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(0, openApiClient.getPoolStats().getLeased());
+    }
+
+    @Test
+    public void testIdleConnectionSweep() throws Exception {
+        openApiClient = builder().setIdleConnectionSweep(50, 20, TimeUnit.MILLISECONDS).build();
+
+        Assert.assertTrue(openApiClient.ping());
+        Assert.assertEquals(1, openApiClient.getPoolStats().getAvailable());
+
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (openApiClient.getPoolStats().getAvailable() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(0, openApiClient.getPoolStats().getAvailable());
+        Assert.assertTrue(openApiClient.ping());
+    }
+
+    @Test
+    public void testKeepAlive() throws Exception {
+        final PooledHttpClient httpClient = builder().setKeepAlive(2, TimeUnit.SECONDS).buildHttpClient();
+        try {
+            final ConnectionKeepAliveStrategy keepAliveStrategy = httpClient.getConnectionKeepAliveStrategy();
+            final HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "OK");
+            Assert.assertEquals(2000, keepAliveStrategy.getKeepAliveDuration(response, new BasicHttpContext()));
+
+            response.setHeader("Keep-Alive", "timeout=1");
+            Assert.assertEquals(1000, keepAliveStrategy.getKeepAliveDuration(response, new BasicHttpContext()));
+
+            response.setHeader("Keep-Alive", "timeout=60");
+            Assert.assertEquals(2000, keepAliveStrategy.getKeepAliveDuration(response, new BasicHttpContext()));
+        } finally {
+            httpClient.shutdown();
+        }
+    }
+
+    @Test
+    public void testShutdownWithoutPool() throws Exception {
+        openApiClient = new OpenApiClient(new DefaultHttpClient(), server.getUri(), ACCESS_KEY_ID, SECRET_ACCESS_KEY);
+
+        Assert.assertNull(openApiClient.getPoolStats());
+    }
+
+    private OpenApiClientBuilder builder() throws Exception {
+        return new OpenApiClientBuilder(server.getUri(), ACCESS_KEY_ID, SECRET_ACCESS_KEY);
+    }
+}
@@ -1,8 +1,14 @@
 package com.bol.openapi.client;
 
+import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBException;
 
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
@@ -18,14 +24,28 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
+import com.bol.openapi.client.cache.ResponseCache;
 import com.bol.openapi.client.exception.BasicApiException;
+import com.bol.openapi.client.exception.RateLimitExceededException;
+import com.bol.openapi.client.metrics.ClientMetrics;
+import com.bol.openapi.client.metrics.EndpointSnapshot;
+import com.bol.openapi.client.metrics.Phase;
+import com.bol.openapi.client.paging.PagingOptions;
+import com.bol.openapi.client.pipeline.Interceptor;
+import com.bol.openapi.client.ratelimit.RateLimiter;
 import com.bol.openapi.client.request.ListResultRequest;
 import com.bol.openapi.client.request.SearchResultsRequest;
+import com.bol.openapi.client.response.ProductsResult;
 import com.bol.openapi.client.util.TestUtils;
+import com.bol.openapi.openapi_3_0.BasketResponse;
 import com.bol.openapi.openapi_3_0.ListResultResponse;
+import com.bol.openapi.openapi_3_0.Product;
 import com.bol.openapi.openapi_3_0.ProductRecommendationsResponse;
 import com.bol.openapi.openapi_3_0.ProductResponse;
+import com.bol.openapi.openapi_3_0.ProductsResponse;
 import com.bol.openapi.openapi_3_0.SearchResultsResponse;
 
 public class OpenApiClientTest {
@@ -354,5 +374,326 @@ public class OpenApiClientTest {
         final ProductResponse productResponse = openApiClient.getProduct("1234567890", false);
         Assert.assertNotNull(productResponse);
     }
-   
-}
+
+    @Test
+    public void testUnmarshallerPoolReuse() throws Exception {
+        {
+            final ProtocolVersion protocolVersion = new ProtocolVersion("http", 1, 1);
+            final StatusLine statusLine = new BasicStatusLine(protocolVersion, HttpStatus.SC_OK, "");
+            final HttpResponse httpResponse = new BasicHttpResponse(statusLine);
+
+            final ProductResponse productResponse = new ProductResponse();
+            final HttpEntity httpEntity = new StringEntity(TestUtils.serializeUsingJAXB(productResponse));
+            httpResponse.setEntity(httpEntity);
+
+            Mockito.when(httpClient.execute(Mockito.any(HttpGet.class))).thenReturn(httpResponse);
+        }
+
+        openApiClient.getProduct("1234567890", false);
+        openApiClient.getProduct("1234567890", false);
+        Assert.assertEquals(1, openApiClient.getUnmarshallerPool().getMisses());
+        Assert.assertEquals(1, openApiClient.getUnmarshallerPool().getHits());
+    }
+
+    @Test
+    public void testGetProducts() throws Exception {
+        {
+            final ProtocolVersion protocolVersion = new ProtocolVersion("http", 1, 1);
+            final StatusLine statusLine = new BasicStatusLine(protocolVersion, HttpStatus.SC_OK, "");
+            final HttpResponse httpResponse = new BasicHttpResponse(statusLine);
+
+            final ProductsResponse productsResponse = new ProductsResponse();
+            final Product product = new Product();
+            product.setId(2L);
+            productsResponse.getProduct().add(product);
+            final HttpEntity httpEntity = new StringEntity(TestUtils.serializeUsingJAXB(productsResponse));
+            httpResponse.setEntity(httpEntity);
+
+            Mockito.when(httpClient.execute(Mockito.any(HttpGet.class))).thenReturn(httpResponse);
+        }
+
+        final ProductsResult productsResult = openApiClient.getProducts(Arrays.asList("1", "2", "02", " 2"), false);
+        Assert.assertEquals(1, productsResult.getProducts().size());
+        Assert.assertEquals(2L, productsResult.getProducts().get(0).getId());
+        Assert.assertEquals(Arrays.asList(1L), productsResult.getMissingIds());
+    }
+
+    @Test
+    public void testGetProductsChunks() throws Exception {
+        final ProductsResponse productsResponse = new ProductsResponse();
+        final Product product = new Product();
+        product.setId(5L);
+        productsResponse.getProduct().add(product);
+        final String body = TestUtils.serializeUsingJAXB(productsResponse);
+
+        final CountDownLatch allChunksStarted = new CountDownLatch(3);
+        Mockito.when(httpClient.execute(Mockito.any(HttpGet.class))).thenAnswer(new Answer<HttpResponse>() {
+            public HttpResponse answer(final InvocationOnMock invocation) throws Throwable {
+                // Every chunk waits for the others, so they only complete when they run concurrently
+                allChunksStarted.countDown();
+                Assert.assertTrue(allChunksStarted.await(5, TimeUnit.SECONDS));
+                final HttpResponse httpResponse = new BasicHttpResponse(new BasicStatusLine(new ProtocolVersion("http", 1, 1), HttpStatus.SC_OK, ""));
+                httpResponse.setEntity(new StringEntity(body));
+                return httpResponse;
+            }
+        });
+
+        final List<String> ids = new ArrayList<String>();
+        for (int i = 0; i < 250; i++) {
+            ids.add(String.valueOf(i));
+        }
+
+        final ProductsResult productsResult = openApiClient.getProducts(ids, false);
+        Assert.assertEquals(1, productsResult.getProducts().size());
+        Assert.assertEquals(249, productsResult.getMissingIds().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetProductsNotNumeric() throws Exception {
+        openApiClient.getProducts(Arrays.asList("1", "abc"), false);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetProductsMissingIds() throws Exception {
+        openApiClient.getProducts(null, false);
+    }
+
+    @Test
+    public void testPartitionProductIds() {
+        final List<Long> ids = new ArrayList<Long>();
+        for (long i = 0; i < 250; i++) {
+            ids.add(Long.valueOf(i));
+        }
+
+        final List<List<Long>> chunks = OpenApiClient.partitionProductIds(ids);
+        Assert.assertEquals(3, chunks.size());
+        Assert.assertEquals(100, chunks.get(0).size());
+        Assert.assertEquals(50, chunks.get(2).size());
+        Assert.assertEquals(Long.valueOf(200), chunks.get(2).get(0));
+    }
+
+    @Test
+    public void testSearchProducts() throws Exception {
+        {
+            final ProtocolVersion protocolVersion = new ProtocolVersion("http", 1, 1);
+            final StatusLine statusLine = new BasicStatusLine(protocolVersion, HttpStatus.SC_OK, "");
+            final HttpResponse httpResponse = new BasicHttpResponse(statusLine);
+
+            final SearchResultsResponse searchResultsResponse = new SearchResultsResponse();
+            searchResultsResponse.setTotalResultSize(2L);
+            searchResultsResponse.getProduct().add(new Product());
+            searchResultsResponse.getProduct().add(new Product());
+            final HttpEntity httpEntity = new StringEntity(TestUtils.serializeUsingJAXB(searchResultsResponse));
+            httpResponse.setEntity(httpEntity);
+
+            Mockito.when(httpClient.execute(Mockito.any(HttpGet.class))).thenReturn(httpResponse);
+        }
+
+        int count = 0;
+        for (final Product product : openApiClient.searchProducts(new SearchResultsRequest("test"), new PagingOptions())) {
+            Assert.assertNotNull(product);
+            count++;
+        }
+        Assert.assertEquals(2, count);
+    }
+
+    @Test
+    public void testResponseCache() throws Exception {
+        {
+            final ProtocolVersion protocolVersion = new ProtocolVersion("http", 1, 1);
+            final StatusLine statusLine = new BasicStatusLine(protocolVersion, HttpStatus.SC_OK, "");
+            final HttpResponse httpResponse = new BasicHttpResponse(statusLine);
+
+            final ProductResponse productResponse = new ProductResponse();
+            final HttpEntity httpEntity = new StringEntity(TestUtils.serializeUsingJAXB(productResponse));
+            httpResponse.setEntity(httpEntity);
+
+            Mockito.when(httpClient.execute(Mockito.any(HttpGet.class))).thenReturn(httpResponse);
+        }
+
+        openApiClient.setResponseCache(new ResponseCache(10, 1, TimeUnit.MINUTES));
+        final ProductResponse first = openApiClient.getProduct("1234567890", false);
+        Assert.assertSame(first, openApiClient.getProduct("1234567890", false));
+        Assert.assertNotSame(first, openApiClient.getProduct("1234567890", true));
+        Assert.assertEquals(1, openApiClient.getResponseCache().getHits());
+        Assert.assertEquals(2, openApiClient.getResponseCache().getMisses());
+    }
+
+    @Test
+    public void testResponseCacheBypassedForBasket() throws Exception {
+        {
+            final ProtocolVersion protocolVersion = new ProtocolVersion("http", 1, 1);
+            final StatusLine statusLine = new BasicStatusLine(protocolVersion, HttpStatus.SC_OK, "");
+            final HttpResponse httpResponse = new BasicHttpResponse(statusLine);
+
+            final BasketResponse basketResponse = new BasketResponse();
+            final HttpEntity httpEntity = new StringEntity(TestUtils.serializeUsingJAXB(basketResponse));
+            httpResponse.setEntity(httpEntity);
+
+            Mockito.when(httpClient.execute(Mockito.any(HttpGet.class))).thenReturn(httpResponse);
+        }
+
+        openApiClient.setResponseCache(new ResponseCache(10, 1, TimeUnit.MINUTES));
+        Assert.assertNotSame(openApiClient.getBasket("sessionId"), openApiClient.getBasket("sessionId"));
+        Assert.assertEquals(0, openApiClient.getResponseCache().getMisses());
+        Assert.assertEquals(0, openApiClient.getResponseCache().size());
+    }
+
+    @Test
+    public void testInterceptor() throws Exception {
+        {
+            final ProtocolVersion protocolVersion = new ProtocolVersion("http", 1, 1);
+            final StatusLine statusLine = new BasicStatusLine(protocolVersion, HttpStatus.SC_OK, "");
+            final HttpResponse httpResponse = new BasicHttpResponse(statusLine);
+
+            Mockito.when(httpClient.execute(Mockito.any(HttpGet.class))).thenReturn(httpResponse);
+        }
+
+        final List<Endpoint> endpoints = new ArrayList<Endpoint>();
+        final Interceptor interceptor = new Interceptor() {
+            public Object intercept(final Chain chain) throws IOException, JAXBException, BasicApiException {
+                endpoints.add(chain.request().getEndpoint());
+                return chain.proceed(chain.request());
+            }
+        };
+        openApiClient.addInterceptor(interceptor);
+        Assert.assertTrue(openApiClient.ping());
+        Assert.assertTrue(openApiClient.removeInterceptor(interceptor));
+        Assert.assertTrue(openApiClient.ping());
+
+        Assert.assertEquals(Arrays.asList(Endpoint.PING), endpoints);
+    }
+
+    @Test
+    public void testInterceptorFailureOnStatusCheck() throws Exception {
+        openApiClient.addInterceptor(new Interceptor() {
+            public Object intercept(final Chain chain) throws BasicApiException {
+                throw new BasicApiException("503", "Refused");
+            }
+        });
+
+        try {
+            openApiClient.ping();
+            Assert.fail("Expected an I/O exception");
+        } catch (final IOException e) {
+            Assert.assertTrue(e.getCause() instanceof BasicApiException);
+        }
+    }
+
+    @Test
+    public void testRateLimiter() throws Exception {
+        {
+            final ProtocolVersion protocolVersion = new ProtocolVersion("http", 1, 1);
+            final StatusLine statusLine = new BasicStatusLine(protocolVersion, HttpStatus.SC_OK, "");
+            final HttpResponse httpResponse = new BasicHttpResponse(statusLine);
+
+            Mockito.when(httpClient.execute(Mockito.any(HttpGet.class))).thenReturn(httpResponse);
+        }
+
+        final RateLimiter rateLimiter = new RateLimiter(0.001, 1);
+        rateLimiter.setMode(RateLimiter.Mode.FAIL_FAST);
+        openApiClient.setRateLimiter(rateLimiter);
+        Assert.assertTrue(openApiClient.ping());
+
+        try {
+            openApiClient.ping();
+            Assert.fail("Expected an I/O exception");
+        } catch (final IOException e) {
+            Assert.assertTrue(e.getCause() instanceof RateLimitExceededException);
+        }
+        Assert.assertEquals(1, rateLimiter.getAcquired());
+        Assert.assertEquals(1, rateLimiter.getRejected());
+
+        openApiClient.setRateLimiter(null);
+        Assert.assertTrue(openApiClient.ping());
+    }
+
+    @Test
+    public void testAdaptiveRateLimiter() throws Exception {
+        {
+            final ProtocolVersion protocolVersion = new ProtocolVersion("http", 1, 1);
+            final StatusLine statusLine = new BasicStatusLine(protocolVersion, HttpStatus.SC_SERVICE_UNAVAILABLE, "");
+            final HttpResponse httpResponse = new BasicHttpResponse(statusLine);
+
+            final com.bol.openapi.openapi_3_0.Error error = new com.bol.openapi.openapi_3_0.Error();
+            error.setStatus("503");
+            error.setMessage("Service unavailable");
+            httpResponse.setEntity(new StringEntity(TestUtils.serializeUsingJAXB(error)));
+
+            Mockito.when(httpClient.execute(Mockito.any(HttpGet.class))).thenReturn(httpResponse);
+        }
+
+        final RateLimiter rateLimiter = new RateLimiter(100, 10);
+        rateLimiter.setAdaptive(true);
+        openApiClient.setRateLimiter(rateLimiter);
+        try {
+            openApiClient.getProduct("1", false);
+            Assert.fail("Expected a basic API exception");
+        } catch (final BasicApiException e) {
+            Assert.assertEquals("503", e.getStatus());
+        }
+
+        Assert.assertEquals(1, rateLimiter.getThrottled());
+        Assert.assertEquals(50, rateLimiter.getRate("accessKeyId"), 0.001);
+    }
+
+    @Test
+    public void testMetrics() throws Exception {
+        {
+            final ProtocolVersion protocolVersion = new ProtocolVersion("http", 1, 1);
+            final StatusLine statusLine = new BasicStatusLine(protocolVersion, HttpStatus.SC_OK, "");
+            final HttpResponse httpResponse = new BasicHttpResponse(statusLine);
+
+            final ProductResponse productResponse = new ProductResponse();
+            final HttpEntity httpEntity = new StringEntity(TestUtils.serializeUsingJAXB(productResponse));
+            httpResponse.setEntity(httpEntity);
+
+            Mockito.when(httpClient.execute(Mockito.any(HttpGet.class))).thenReturn(httpResponse);
+        }
+
+        final ClientMetrics metrics = new ClientMetrics();
+        openApiClient.setMetrics(metrics);
+        openApiClient.getProduct("1", false);
+
+        final EndpointSnapshot snapshot = metrics.snapshot().get(Endpoint.PRODUCT);
+        Assert.assertEquals(1, snapshot.getCallCount());
+        for (final Phase phase : Phase.values()) {
+            Assert.assertEquals(1, snapshot.getHistogram(phase).getCount());
+        }
+        Assert.assertTrue(snapshot.getBytesReceived() > 0);
+        Assert.assertEquals(Long.valueOf(1), snapshot.getStatusCodes().get(HttpStatus.SC_OK));
+        Assert.assertEquals(0, metrics.snapshot().get(Endpoint.SEARCH).getCallCount());
+    }
+
+    @Test
+    public void testMetricsError() throws Exception {
+        {
+            final ProtocolVersion protocolVersion = new ProtocolVersion("http", 1, 1);
+            final StatusLine statusLine = new BasicStatusLine(protocolVersion, HttpStatus.SC_BAD_REQUEST, "");
+            final HttpResponse httpResponse = new BasicHttpResponse(statusLine);
+
+            final com.bol.openapi.openapi_3_0.Error error = new com.bol.openapi.openapi_3_0.Error();
+            error.setStatus("400");
+            error.setMessage("Bad request");
+            httpResponse.setEntity(new StringEntity(TestUtils.serializeUsingJAXB(error)));
+
+            Mockito.when(httpClient.execute(Mockito.any(HttpGet.class))).thenReturn(httpResponse);
+        }
+
+        final ClientMetrics metrics = new ClientMetrics();
+        openApiClient.setMetrics(metrics);
+        openApiClient.setStreaming(true);
+        try {
+            openApiClient.getProduct("1", false);
+            Assert.fail("Expected a basic API exception");
+        } catch (final BasicApiException e) {
+            Assert.assertEquals("400", e.getStatus());
+        }
+
+        final EndpointSnapshot snapshot = metrics.snapshot().get(Endpoint.PRODUCT);
+        Assert.assertEquals(Long.valueOf(1), snapshot.getErrorStatuses().get("400"));
+        Assert.assertEquals(Long.valueOf(1), snapshot.getStatusCodes().get(HttpStatus.SC_BAD_REQUEST));
+        Assert.assertEquals(1, snapshot.getHistogram(Phase.UNMARSHAL).getCount());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,201 @@
+package com.bol.openapi.client.breaker;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.bol.openapi.client.EndpointGroup;
+import com.bol.openapi.client.exception.BasicApiException;
+import com.bol.openapi.client.exception.CircuitBreakerOpenException;
+import com.bol.openapi.client.util.Ticker;
+
+public class CircuitBreakerTest {
+
+    private long now;
+    private CircuitBreaker circuitBreaker;
+    private final List<String> transitions = new ArrayList<String>();
+
+    @Before
+    public void setUp() {
+        now = 1000;
+        circuitBreaker = new CircuitBreaker(EndpointGroup.CATALOG, new Ticker() {
+            public long nanoTime() {
+                return now;
+            }
+        });
+        circuitBreaker.setMinimumCalls(4);
+        circuitBreaker.setOpenDuration(1, TimeUnit.SECONDS);
+        circuitBreaker.setHalfOpenCalls(2);
+        circuitBreaker.addListener(new CircuitBreakerListener() {
+            public void onStateTransition(final CircuitBreaker circuitBreaker, final CircuitBreaker.State from, final CircuitBreaker.State to) {
+                transitions.add(from + "->" + to);
+            }
+        });
+    }
+
+    @Test
+    public void testOpenOnFailureRate() throws Exception {
+        call(false);
+        call(true);
+        call(false);
+        Assert.assertEquals(-1, circuitBreaker.getFailureRate(), 0);
+        Assert.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+        call(true);
+        Assert.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        Assert.assertEquals(50, circuitBreaker.getFailureRate(), 0);
+
+        try {
+            circuitBreaker.acquirePermission();
+            Assert.fail("Expected a circuit breaker open exception");
+        } catch (final CircuitBreakerOpenException e) {
+            Assert.assertEquals(EndpointGroup.CATALOG, e.getGroup());
+            Assert.assertEquals(1000, e.getRetryAfter(TimeUnit.MILLISECONDS));
+        }
+        Assert.assertEquals(1, circuitBreaker.getRejected());
+        Assert.assertEquals("[CLOSED->OPEN]", transitions.toString());
+    }
+
+    @Test
+    public void testOpenOnSlowCallRate() throws Exception {
+        circuitBreaker.setSlowCallRateThreshold(75);
+        circuitBreaker.setSlowCallDuration(100, TimeUnit.MILLISECONDS);
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.acquirePermission();
+            circuitBreaker.record(TimeUnit.MILLISECONDS.toNanos(100), false);
+        }
+        call(false);
+
+        Assert.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        Assert.assertEquals(75, circuitBreaker.getSlowCallRate(), 0);
+    }
+
+    @Test
+    public void testWindowRolls() throws Exception {
+        call(true);
+        call(true);
+        now += TimeUnit.SECONDS.toNanos(10);
+        call(false);
+        call(false);
+        call(true);
+
+        Assert.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    public void testHalfOpenCloses() throws Exception {
+        trip();
+        now += TimeUnit.SECONDS.toNanos(1);
+
+        circuitBreaker.acquirePermission();
+        circuitBreaker.acquirePermission();
+        Assert.assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        try {
+            circuitBreaker.acquirePermission();
+            Assert.fail("Expected a circuit breaker open exception");
+        } catch (final CircuitBreakerOpenException e) {
+            // Expected
+        }
+
+        circuitBreaker.record(0, false);
+        circuitBreaker.record(0, false);
+        Assert.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        Assert.assertEquals(-1, circuitBreaker.getFailureRate(), 0);
+        Assert.assertEquals("[CLOSED->OPEN, OPEN->HALF_OPEN, HALF_OPEN->CLOSED]", transitions.toString());
+    }
+
+    @Test
+    public void testHalfOpenReopens() throws Exception {
+        trip();
+        now += TimeUnit.SECONDS.toNanos(1);
+
+        call(true);
+        Assert.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        Assert.assertEquals("[CLOSED->OPEN, OPEN->HALF_OPEN, HALF_OPEN->OPEN]", transitions.toString());
+    }
+
+    @Test
+    public void testRelease() throws Exception {
+        circuitBreaker.setHalfOpenCalls(1);
+        trip();
+        now += TimeUnit.SECONDS.toNanos(1);
+
+        circuitBreaker.acquirePermission();
+        circuitBreaker.release();
+        circuitBreaker.acquirePermission();
+        circuitBreaker.record(0, false);
+        Assert.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    public void testFailedProbe() throws Exception {
+        final int[] probes = new int[1];
+        circuitBreaker.setProbe(new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                probes[0]++;
+                throw new IOException("Connection refused");
+            }
+        });
+        trip();
+        now += TimeUnit.SECONDS.toNanos(1);
+
+        try {
+            circuitBreaker.acquirePermission();
+            Assert.fail("Expected a circuit breaker open exception");
+        } catch (final CircuitBreakerOpenException e) {
+            Assert.assertEquals(1000, e.getRetryAfter(TimeUnit.MILLISECONDS));
+        }
+        try {
+            circuitBreaker.acquirePermission();
+            Assert.fail("Expected a circuit breaker open exception");
+        } catch (final CircuitBreakerOpenException e) {
+            // The open duration restarted
+        }
+        Assert.assertEquals(1, probes[0]);
+        Assert.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    public void testSuccessfulProbe() throws Exception {
+        circuitBreaker.setProbe(new Callable<Boolean>() {
+            public Boolean call() {
+                return true;
+            }
+        });
+        trip();
+        now += TimeUnit.SECONDS.toNanos(1);
+
+        circuitBreaker.acquirePermission();
+        Assert.assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    public void testIsFailure() {
+        Assert.assertTrue(circuitBreaker.isFailure(new IOException("Connection reset")));
+        Assert.assertTrue(circuitBreaker.isFailure(new SocketTimeoutException()));
+        Assert.assertTrue(circuitBreaker.isFailure(new BasicApiException("503", "Service unavailable")));
+        Assert.assertFalse(circuitBreaker.isFailure(new InterruptedIOException()));
+        Assert.assertFalse(circuitBreaker.isFailure(new BasicApiException("404", "Not found")));
+        Assert.assertFalse(circuitBreaker.isFailure(new BasicApiException("429", "Too many requests")));
+    }
+
+    private void trip() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            call(true);
+        }
+        Assert.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    private void call(final boolean failure) throws Exception {
+        circuitBreaker.acquirePermission();
+        circuitBreaker.record(0, failure);
+    }
+}
@@ -0,0 +1,107 @@
+package com.bol.openapi.client.cache;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.bind.JAXBException;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.bol.openapi.client.exception.BasicApiException;
+
+public class RequestCoalescerTest {
+
+    private RequestCoalescer requestCoalescer;
+    private ExecutorService executorService;
+
+    @Before
+    public void setUp() {
+        requestCoalescer = new RequestCoalescer();
+        executorService = Executors.newFixedThreadPool(2);
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrentCallsShareResult() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger invocations = new AtomicInteger();
+        final RequestCoalescer.Call<Object> call = new RequestCoalescer.Call<Object>() {
+            public Object call() throws IOException, JAXBException, BasicApiException {
+                invocations.incrementAndGet();
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new Object();
+            }
+        };
+
+        final Future<Object> leader = executorService.submit(new Callable<Object>() {
+            public Object call() throws Exception {
+                return requestCoalescer.execute("key", call);
+            }
+        });
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        final Future<Object> follower = executorService.submit(new Callable<Object>() {
+            public Object call() throws Exception {
+                return requestCoalescer.execute("key", call);
+            }
+        });
+        while (requestCoalescer.getCoalesced() == 0) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        Assert.assertSame(leader.get(5, TimeUnit.SECONDS), follower.get(5, TimeUnit.SECONDS));
+        Assert.assertEquals(1, invocations.get());
+        Assert.assertEquals(1, requestCoalescer.getExecutions());
+        Assert.assertEquals(1, requestCoalescer.getCoalesced());
+        Assert.assertEquals(0, requestCoalescer.getInFlightCount());
+    }
+
+    @Test
+    public void testSequentialCallsAreNotCoalesced() throws Exception {
+        final RequestCoalescer.Call<String> call = new RequestCoalescer.Call<String>() {
+            public String call() {
+                return "result";
+            }
+        };
+
+        Assert.assertEquals("result", requestCoalescer.execute("key", call));
+        Assert.assertEquals("result", requestCoalescer.execute("key", call));
+        Assert.assertEquals(2, requestCoalescer.getExecutions());
+        Assert.assertEquals(0, requestCoalescer.getCoalesced());
+    }
+
+    @Test
+    public void testFailurePropagates() throws Exception {
+        try {
+            requestCoalescer.execute("key", new RequestCoalescer.Call<String>() {
+                public String call() throws BasicApiException {
+                    throw new BasicApiException("status", "message");
+                }
+            });
+            Assert.fail("Expected a basic API exception");
+        } catch (final BasicApiException e) {
+            Assert.assertEquals("status", e.getStatus());
+        }
+        Assert.assertEquals(0, requestCoalescer.getInFlightCount());
+    }
+}
@@ -0,0 +1,84 @@
+package com.bol.openapi.client.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.NameValuePair;
+import org.apache.http.message.BasicNameValuePair;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.bol.openapi.client.Endpoint;
+
+public class ResponseCacheTest {
+
+    private long now;
+    private ResponseCache responseCache;
+
+    @Before
+    public void setUp() {
+        now = 1000L;
+        responseCache = new ResponseCache(2, 10, TimeUnit.SECONDS) {
+            @Override
+            protected long currentTimeMillis() {
+                return now;
+            }
+        };
+    }
+
+    @Test
+    public void testCreateKeyIgnoresParameterOrder() {
+        final List<NameValuePair> first = new ArrayList<NameValuePair>();
+        first.add(new BasicNameValuePair("term", "harry potter"));
+        first.add(new BasicNameValuePair("offset", "10"));
+
+        final List<NameValuePair> second = new ArrayList<NameValuePair>();
+        second.add(new BasicNameValuePair("offset", "10"));
+        second.add(new BasicNameValuePair("term", "harry potter"));
+
+        Assert.assertEquals(ResponseCache.createKey(Endpoint.SEARCH, "/search", first), ResponseCache.createKey(Endpoint.SEARCH, "/search", second));
+        Assert.assertEquals("SEARCH /search?offset=10&term=harry potter", ResponseCache.createKey(Endpoint.SEARCH, "/search", first));
+        Assert.assertEquals("PRODUCT /product", ResponseCache.createKey(Endpoint.PRODUCT, "/product", null));
+    }
+
+    @Test
+    public void testGetAndExpire() {
+        final Object value = new Object();
+        responseCache.put(Endpoint.PRODUCT, "key", value);
+        Assert.assertSame(value, responseCache.get("key"));
+
+        now += TimeUnit.SECONDS.toMillis(10);
+        Assert.assertNull(responseCache.get("key"));
+        Assert.assertEquals(1, responseCache.getHits());
+        Assert.assertEquals(1, responseCache.getMisses());
+        Assert.assertEquals(1, responseCache.getExpirations());
+        Assert.assertEquals(0, responseCache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        responseCache.put(Endpoint.PRODUCT, "first", "first");
+        responseCache.put(Endpoint.PRODUCT, "second", "second");
+        responseCache.get("first");
+        responseCache.put(Endpoint.PRODUCT, "third", "third");
+
+        Assert.assertEquals("first", responseCache.get("first"));
+        Assert.assertNull(responseCache.get("second"));
+        Assert.assertEquals(1, responseCache.getEvictions());
+    }
+
+    @Test
+    public void testEndpointTtl() {
+        responseCache.setTtl(Endpoint.SEARCH, 0, TimeUnit.SECONDS);
+        Assert.assertFalse(responseCache.isCached(Endpoint.SEARCH));
+        Assert.assertTrue(responseCache.isCached(Endpoint.LIST));
+        Assert.assertFalse(responseCache.isCached(Endpoint.BASKET));
+        Assert.assertFalse(responseCache.isCached(Endpoint.SESSION));
+
+        responseCache.put(Endpoint.SEARCH, "search", "search");
+        responseCache.put(Endpoint.BASKET, "basket", "basket");
+        Assert.assertEquals(0, responseCache.size());
+    }
+}
@@ -18,6 +18,13 @@ public class ExceptionHandlerTest {
         Assert.assertEquals("status", basicApiException.getStatus());
     }
     
+    @Test
+    public void testHandleHttpStatus() {
+        final BasicApiException basicApiException = ExceptionHandler.handleHttpStatus(503, "Service Unavailable");
+        Assert.assertEquals("Service Unavailable", basicApiException.getMessage());
+        Assert.assertEquals("503", basicApiException.getStatus());
+    }
+    
     @Test
     public void testExceptionHandlerPrivateConstructor() throws Exception {        
         final ExceptionHandler exceptionHandler = Whitebox.invokeConstructor(ExceptionHandler.class);
@@ -0,0 +1,53 @@
+package com.bol.openapi.client.hedge;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bol.openapi.client.Endpoint;
+import com.bol.openapi.client.metrics.ClientMetrics;
+import com.bol.openapi.client.metrics.Phase;
+
+public class HedgingPolicyTest {
+
+    @Test
+    public void testFixedDelay() {
+        final HedgingPolicy hedgingPolicy = new HedgingPolicy(null);
+        hedgingPolicy.setDelay(25, TimeUnit.MILLISECONDS);
+
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(25), hedgingPolicy.getDelayNanos(Endpoint.PRODUCT));
+    }
+
+    @Test
+    public void testPercentileDelay() {
+        final ClientMetrics metrics = new ClientMetrics();
+        final HedgingPolicy hedgingPolicy = new HedgingPolicy(null);
+        hedgingPolicy.setDelay(25, TimeUnit.MILLISECONDS);
+        hedgingPolicy.setDelayPercentile(metrics, 95);
+
+        for (int i = 0; i < HedgingPolicy.MIN_SAMPLES - 1; i++) {
+            metrics.getEndpointMetrics(Endpoint.PRODUCT).record(Phase.EXECUTE, TimeUnit.MILLISECONDS.toNanos(5));
+        }
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(25), hedgingPolicy.getDelayNanos(Endpoint.PRODUCT));
+
+        metrics.getEndpointMetrics(Endpoint.SEARCH).record(Phase.EXECUTE, TimeUnit.MILLISECONDS.toNanos(5));
+        for (int i = 0; i < 900; i++) {
+            metrics.getEndpointMetrics(Endpoint.SEARCH).record(Phase.EXECUTE, TimeUnit.MILLISECONDS.toNanos(5));
+        }
+        for (int i = 0; i < 100; i++) {
+            metrics.getEndpointMetrics(Endpoint.SEARCH).record(Phase.EXECUTE, TimeUnit.MILLISECONDS.toNanos(200));
+        }
+        final long delay = hedgingPolicy.getDelayNanos(Endpoint.SEARCH);
+        Assert.assertTrue(delay >= TimeUnit.MILLISECONDS.toNanos(200));
+        Assert.assertTrue(delay <= TimeUnit.MILLISECONDS.toNanos(250));
+    }
+
+    @Test
+    public void testBudget() {
+        final HedgingPolicy hedgingPolicy = new HedgingPolicy(null);
+        hedgingPolicy.setHedgeBudget(null);
+        Assert.assertTrue(hedgingPolicy.tryHedge());
+        Assert.assertEquals(1, hedgingPolicy.getHedges());
+    }
+}
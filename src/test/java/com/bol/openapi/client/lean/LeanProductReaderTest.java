@@ -0,0 +1,120 @@
+package com.bol.openapi.client.lean;
+
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.bol.openapi.client.util.TestUtils;
+import com.bol.openapi.client.xml.UnmarshallerPool;
+import com.bol.openapi.openapi_3_0.ListResultResponse;
+import com.bol.openapi.openapi_3_0.ObjectFactory;
+import com.bol.openapi.openapi_3_0.Offer;
+import com.bol.openapi.openapi_3_0.Product;
+import com.bol.openapi.openapi_3_0.ProductResponse;
+import com.bol.openapi.openapi_3_0.SearchResultsResponse;
+
+public class LeanProductReaderTest {
+
+    private static final ProductProjection ALL_FIELDS = ProductProjection.of(EnumSet.allOf(ProductField.class));
+
+    private UnmarshallerPool unmarshallerPool;
+
+    @Before
+    public void setUp() throws Exception {
+        unmarshallerPool = new UnmarshallerPool(JAXBContext.newInstance(ObjectFactory.class), 1);
+    }
+
+    @Test
+    public void testSearchResultsMatchJaxb() throws Exception {
+        final String xml = TestUtils.readFixture("search-results.xml");
+        final SearchResultsResponse expected = (SearchResultsResponse) unmarshallerPool.unmarshal(new StringReader(xml));
+
+        final LeanProducts products = read(xml, ALL_FIELDS);
+        Assert.assertEquals(Long.valueOf(expected.getTotalResultSize()), products.getTotalResultSize());
+        assertEquals(expected.getProduct(), products.getProducts());
+    }
+
+    @Test
+    public void testListResultsMatchJaxb() throws Exception {
+        final String xml = TestUtils.readFixture("list-results.xml");
+        final ListResultResponse expected = (ListResultResponse) unmarshallerPool.unmarshal(new StringReader(xml));
+
+        final LeanProducts products = read(xml, ALL_FIELDS);
+        Assert.assertEquals(Long.valueOf(expected.getTotalResultSize()), products.getTotalResultSize());
+        assertEquals(expected.getProduct(), products.getProducts());
+    }
+
+    @Test
+    public void testProductMatchesJaxb() throws Exception {
+        final String xml = TestUtils.readFixture("product.xml");
+        final ProductResponse expected = (ProductResponse) unmarshallerPool.unmarshal(new StringReader(xml));
+
+        final LeanProducts products = read(xml, ALL_FIELDS);
+        Assert.assertNull(products.getTotalResultSize());
+        assertEquals(Collections.singletonList(expected.getProduct()), products.getProducts());
+    }
+
+    @Test
+    public void testProjection() throws Exception {
+        final LeanProducts products = read(TestUtils.readFixture("list-results.xml"), ProductProjection.of(ProductField.ID, ProductField.TITLE));
+
+        Assert.assertEquals(100, products.getProducts().size());
+        final LeanProduct product = products.getProducts().get(0);
+        Assert.assertNotNull(product.getId());
+        Assert.assertNotNull(product.getTitle());
+        Assert.assertNull(product.getEan());
+        Assert.assertNull(product.getPrice());
+        Assert.assertNull(product.getOfferId());
+    }
+
+    @Test(expected = XMLStreamException.class)
+    public void testInvalidValue() throws Exception {
+        read("<ProductResponse><Product><Id>abc</Id></Product></ProductResponse>", ProductProjection.of(ProductField.ID));
+    }
+
+    @Test
+    public void testProjectionKey() {
+        Assert.assertEquals("ID,TITLE,PRICE", ProductProjection.of(ProductField.PRICE, ProductField.ID, ProductField.TITLE).getKey());
+        Assert.assertEquals(ProductProjection.of(ProductField.ID), ProductProjection.of(EnumSet.of(ProductField.ID)));
+        Assert.assertFalse(ProductProjection.of(ProductField.ID, ProductField.TITLE).includesOfferFields());
+        Assert.assertTrue(ProductProjection.of(ProductField.AVAILABILITY_CODE).includesOfferFields());
+    }
+
+    private static LeanProducts read(final String xml, final ProductProjection projection) throws Exception {
+        final XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(new StringReader(xml));
+        reader.nextTag();
+        return LeanProductReader.read(reader, projection);
+    }
+
+    private static void assertEquals(final List<Product> expected, final List<LeanProduct> actual) {
+        Assert.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            final Product product = expected.get(i);
+            final LeanProduct lean = actual.get(i);
+            Assert.assertEquals(Long.valueOf(product.getId()), lean.getId());
+            Assert.assertEquals(product.getEan(), lean.getEan());
+            Assert.assertEquals(product.getTitle(), lean.getTitle());
+            Assert.assertEquals(product.getSubtitle(), lean.getSubtitle());
+            Assert.assertEquals(product.getType(), lean.getType());
+            Assert.assertEquals(product.getRating(), lean.getRating());
+
+            final Offer offer = product.getOffers().getOffer().get(0);
+            Assert.assertEquals(offer.getId(), lean.getOfferId());
+            Assert.assertEquals(offer.getPrice(), lean.getPrice());
+            Assert.assertEquals(offer.getListPrice(), lean.getListPrice());
+            Assert.assertEquals(offer.getAvailabilityCode(), lean.getAvailabilityCode());
+            Assert.assertEquals(offer.getAvailabilityDescription(), lean.getAvailabilityDescription());
+            Assert.assertEquals(offer.isSecondHand(), lean.getSecondHand());
+        }
+    }
+}
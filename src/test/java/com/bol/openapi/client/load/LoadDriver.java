@@ -0,0 +1,122 @@
+package com.bol.openapi.client.load;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.Ignore;
+
+import com.bol.openapi.client.metrics.LatencyHistogram;
+
+/**
+ * Runs an operation from several threads at a fixed total rate and measures its latency. Every operation has an
+ * intended start time on a fixed schedule; when an operation is late because the previous one was slow, its latency
+ * is still measured from the intended start. This corrects for coordinated omission: a stall is counted for every
+ * request that would have been sent during it, not just the one that was stuck.
+ */
+@Ignore
+public class LoadDriver {
+
+    private final int threads;
+    private final double rate;
+    private final long durationNanos;
+
+    /**
+     * Constructs the load driver.
+     *
+     * @param threads The number of threads issuing operations.
+     * @param rate The total target rate in operations per second, or 0 to run every thread as fast as it can (without
+     * coordinated omission correction).
+     * @param duration The duration of the run.
+     * @param unit The unit of the duration.
+     */
+    public LoadDriver(final int threads, final double rate, final long duration, final TimeUnit unit) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is required");
+        }
+
+        this.threads = threads;
+        this.rate = rate;
+        this.durationNanos = unit.toNanos(duration);
+    }
+
+    /**
+     * Runs the operation until the duration has passed.
+     *
+     * @param operation The operation.
+     *
+     * @return The report.
+     *
+     * @throws InterruptedException When interrupted while waiting for the threads.
+     */
+    public LoadReport run(final Operation operation) throws InterruptedException {
+        final LatencyHistogram corrected = new LatencyHistogram();
+        final LatencyHistogram uncorrected = new LatencyHistogram();
+        final AtomicLong errors = new AtomicLong();
+        final CountDownLatch done = new CountDownLatch(threads);
+        final long intervalNanos = rate > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) * threads / rate) : 0L;
+        final long start = System.nanoTime();
+        final long end = start + durationNanos;
+
+        for (int i = 0; i < threads; i++) {
+            // Stagger the threads so their schedules interleave evenly
+            final long firstStart = start + (intervalNanos / threads) * i;
+            final Thread thread = new Thread(new Runnable() {
+                public void run() {
+                    try {
+                        long intended = firstStart;
+                        while (intended < end) {
+                            if (intervalNanos > 0) {
+                                waitUntil(intended);
+                            }
+
+                            final long actualStart = System.nanoTime();
+                            try {
+                                operation.execute();
+                            } catch (final Exception e) {
+                                errors.incrementAndGet();
+                            }
+                            final long completed = System.nanoTime();
+
+                            uncorrected.record(completed - actualStart);
+                            if (intervalNanos > 0) {
+                                corrected.record(completed - intended);
+                                intended += intervalNanos;
+                            } else {
+                                corrected.record(completed - actualStart);
+                                intended = completed;
+                            }
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            }, "load-driver-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        done.await();
+        return new LoadReport(System.nanoTime() - start, errors.get(), corrected.snapshot(), uncorrected.snapshot());
+    }
+
+    private static void waitUntil(final long deadline) {
+        long now = System.nanoTime();
+        while (now < deadline) {
+            LockSupport.parkNanos(deadline - now);
+            now = System.nanoTime();
+        }
+    }
+
+    /**
+     * An operation to put load on.
+     */
+    public interface Operation {
+
+        /**
+         * Executes the operation once. A thrown exception counts as an error.
+         */
+        void execute() throws Exception;
+    }
+}
@@ -0,0 +1,98 @@
+package com.bol.openapi.client.load;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.bol.openapi.client.Endpoint;
+import com.bol.openapi.client.OpenApiClient;
+import com.bol.openapi.client.exception.BasicApiException;
+import com.bol.openapi.client.metrics.ClientMetrics;
+import com.bol.openapi.client.metrics.EndpointSnapshot;
+import com.bol.openapi.client.request.ListResultRequest;
+import com.bol.openapi.client.request.ProductRecommendationsRequest;
+import com.bol.openapi.client.request.SearchResultsRequest;
+
+public class LoadHarnessTest {
+
+    private StubOpenApiServer server;
+    private OpenApiClient openApiClient;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new StubOpenApiServer(LoadRunner.ACCESS_KEY_ID, LoadRunner.SECRET_ACCESS_KEY);
+        server.start();
+        openApiClient = LoadRunner.createClient(server, 4);
+    }
+
+    @After
+    public void tearDown() {
+        openApiClient.shutdown();
+        server.stop();
+    }
+
+    @Test
+    public void testAllOperations() throws Exception {
+        Assert.assertTrue(openApiClient.ping());
+        Assert.assertEquals(10, openApiClient.search(new SearchResultsRequest("harry potter")).getProduct().size());
+        Assert.assertEquals(100, openApiClient.getList(new ListResultRequest(ListResultRequest.Type.TOPLIST_DEFAULT, "8299")).getProduct().size());
+        Assert.assertNotNull(openApiClient.getProduct("9200000012345678", true).getProduct());
+        Assert.assertEquals(1, openApiClient.getProducts(Arrays.asList("9200000012345678", "1"), false).getProducts().size());
+        Assert.assertFalse(openApiClient.getProductRecommendations(new ProductRecommendationsRequest(9200000012345678L).setIncludeAttributes(true).setIncludeAllOffers(true)).getProduct().isEmpty());
+
+        final String sessionId = openApiClient.getAnonymousSession().getSessionId();
+        Assert.assertNotNull(openApiClient.getBasket(sessionId).getBasket());
+        Assert.assertTrue(openApiClient.addItemToBasket(sessionId, 1L, 1, "127.0.0.1"));
+        Assert.assertTrue(openApiClient.changeBasketItemQuantity(sessionId, "1", 2));
+        Assert.assertTrue(openApiClient.removeBasketItemFromBasket(sessionId, "1"));
+
+        Assert.assertEquals(0, server.getSignatureFailures());
+    }
+
+    @Test
+    public void testCompression() throws Exception {
+        server.setCompression(true);
+        openApiClient.setCompression(true);
+        openApiClient.setStreaming(true);
+        final ClientMetrics metrics = new ClientMetrics();
+        openApiClient.setMetrics(metrics);
+
+        Assert.assertEquals(100, openApiClient.getList(new ListResultRequest(ListResultRequest.Type.TOPLIST_DEFAULT, "8299")).getProduct().size());
+        Assert.assertTrue(openApiClient.ping());
+
+        final EndpointSnapshot snapshot = metrics.snapshot().get(Endpoint.LIST);
+        Assert.assertEquals(1, server.getCompressedResponses());
+        Assert.assertTrue(snapshot.toString(), snapshot.getCompressionRatio() > 2);
+    }
+
+    @Test
+    public void testInvalidSignature() throws Exception {
+        final OpenApiClient invalidClient = new OpenApiClient(openApiClient.getHttpClient(), server.getUri(), LoadRunner.ACCESS_KEY_ID, "wrongSecret");
+
+        try {
+            invalidClient.getProduct("9200000012345678", false);
+            Assert.fail("Expected a basic API exception");
+        } catch (final BasicApiException e) {
+            Assert.assertEquals("401", e.getStatus());
+        }
+        Assert.assertEquals(1, server.getSignatureFailures());
+    }
+
+    @Test
+    public void testLoad() throws Exception {
+        server.setLatency(1, 3, TimeUnit.MILLISECONDS);
+        server.setErrorRate(0.1);
+
+        final LoadReport report = new LoadDriver(4, 200, 1, TimeUnit.SECONDS).run(LoadRunner.catalogMix(openApiClient));
+
+        Assert.assertTrue(report.toString(), report.getOperations() >= 150);
+        Assert.assertEquals(server.getInjectedErrors(), report.getErrors());
+        Assert.assertEquals(0, server.getSignatureFailures());
+        Assert.assertTrue(report.getCorrected().getValueAtPercentile(50) >= TimeUnit.MILLISECONDS.toNanos(1));
+        Assert.assertTrue(report.getCorrected().getValueAtPercentile(99.9) >= report.getUncorrected().getValueAtPercentile(99.9));
+    }
+}
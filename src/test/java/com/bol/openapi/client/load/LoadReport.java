@@ -0,0 +1,79 @@
+package com.bol.openapi.client.load;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Ignore;
+
+import com.bol.openapi.client.metrics.HistogramSnapshot;
+
+/**
+ * The result of a {@link LoadDriver} run.
+ */
+@Ignore
+public class LoadReport {
+
+    private final long elapsedNanos;
+    private final long errors;
+    private final HistogramSnapshot corrected;
+    private final HistogramSnapshot uncorrected;
+
+    /**
+     * Constructs the load report.
+     *
+     * @param elapsedNanos The duration of the run.
+     * @param errors The number of failed operations.
+     * @param corrected The latencies measured from the intended start times.
+     * @param uncorrected The latencies measured from the actual start times (service time).
+     */
+    LoadReport(final long elapsedNanos, final long errors, final HistogramSnapshot corrected, final HistogramSnapshot uncorrected) {
+        this.elapsedNanos = elapsedNanos;
+        this.errors = errors;
+        this.corrected = corrected;
+        this.uncorrected = uncorrected;
+    }
+
+    /**
+     * Gets the number of completed operations, including failed ones.
+     *
+     * @return The operation count.
+     */
+    public long getOperations() {
+        return corrected.getCount();
+    }
+
+    /**
+     * Gets the achieved throughput.
+     *
+     * @return The operations per second.
+     */
+    public double getThroughput() {
+        return getOperations() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public HistogramSnapshot getCorrected() {
+        return corrected;
+    }
+
+    public HistogramSnapshot getUncorrected() {
+        return uncorrected;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "operations=%d errors=%d throughput=%.1f ops/s%n"
+                + "  latency     p50=%.3f ms p99=%.3f ms p999=%.3f ms max=%.3f ms%n"
+                + "  service     p50=%.3f ms p99=%.3f ms p999=%.3f ms max=%.3f ms",
+                getOperations(), errors, getThroughput(),
+                millis(corrected.getValueAtPercentile(50)), millis(corrected.getValueAtPercentile(99)), millis(corrected.getValueAtPercentile(99.9)), millis(corrected.getMax()),
+                millis(uncorrected.getValueAtPercentile(50)), millis(uncorrected.getValueAtPercentile(99)), millis(uncorrected.getValueAtPercentile(99.9)), millis(uncorrected.getMax()));
+    }
+
+    private static double millis(final long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -0,0 +1,115 @@
+package com.bol.openapi.client.load;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Ignore;
+
+import com.bol.openapi.client.Endpoint;
+import com.bol.openapi.client.OpenApiClient;
+import com.bol.openapi.client.OpenApiClientBuilder;
+import com.bol.openapi.client.metrics.ClientMetrics;
+import com.bol.openapi.client.metrics.EndpointSnapshot;
+import com.bol.openapi.client.metrics.Phase;
+import com.bol.openapi.client.request.ListResultRequest;
+import com.bol.openapi.client.request.SearchResultsRequest;
+
+/**
+ * Runs a catalog workload against the {@link StubOpenApiServer} from the command line, e.g.
+ * "java -Dload.threads=16 -Dload.rate=2000 -Dload.duration=60 com.bol.openapi.client.load.LoadRunner" with the test
+ * classpath. Supported properties: load.threads, load.rate (ops/s, 0 for closed loop), load.duration and
+ * load.warmup (seconds), load.minLatency and load.maxLatency (server latency in ms) and load.errorRate (0-1).
+ */
+@Ignore
+public final class LoadRunner {
+
+    static final String ACCESS_KEY_ID = "accessKeyId";
+    static final String SECRET_ACCESS_KEY = "secretAccessKey";
+
+    private LoadRunner() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final int threads = Integer.getInteger("load.threads", 8);
+        final double rate = Double.parseDouble(System.getProperty("load.rate", "500"));
+        final long duration = Long.getLong("load.duration", 30);
+        final long warmup = Long.getLong("load.warmup", 5);
+
+        final StubOpenApiServer server = new StubOpenApiServer(ACCESS_KEY_ID, SECRET_ACCESS_KEY);
+        server.setLatency(Long.getLong("load.minLatency", 5), Long.getLong("load.maxLatency", 20), TimeUnit.MILLISECONDS);
+        server.setErrorRate(Double.parseDouble(System.getProperty("load.errorRate", "0")));
+        server.setCompression(Boolean.getBoolean("load.compression"));
+        server.start();
+
+        final OpenApiClient openApiClient = createClient(server, threads);
+        openApiClient.setCompression(Boolean.getBoolean("load.compression"));
+        try {
+            final LoadDriver.Operation operation = catalogMix(openApiClient);
+
+            System.out.println("Warming up for " + warmup + " s");
+            new LoadDriver(threads, rate, warmup, TimeUnit.SECONDS).run(operation);
+
+            final ClientMetrics metrics = new ClientMetrics();
+            openApiClient.setMetrics(metrics);
+            System.out.println("Running " + threads + " threads at " + rate + " ops/s for " + duration + " s");
+            System.out.println(new LoadDriver(threads, rate, duration, TimeUnit.SECONDS).run(operation));
+            System.out.println(server);
+            System.out.println("Connection pool " + openApiClient.getPoolStats());
+
+            for (final Map.Entry<Endpoint, EndpointSnapshot> entry : metrics.snapshot().entrySet()) {
+                final EndpointSnapshot snapshot = entry.getValue();
+                if (snapshot.getCallCount() > 0) {
+                    System.out.println(String.format("  %-16s calls=%d execute p99=%.3f ms unmarshal p99=%.3f ms bytes=%d uncompressed=%d", entry.getKey(), snapshot.getCallCount(),
+                            snapshot.getHistogram(Phase.EXECUTE).getValueAtPercentile(99) / 1e6, snapshot.getHistogram(Phase.UNMARSHAL).getValueAtPercentile(99) / 1e6,
+                            snapshot.getBytesReceived(), snapshot.getUncompressedBytes()));
+                }
+            }
+        } finally {
+            openApiClient.shutdown();
+            server.stop();
+        }
+    }
+
+    /**
+     * Creates a client for the server with enough pooled connections for the given number of threads.
+     *
+     * @param server  The server.
+     * @param threads The number of threads.
+     *
+     * @return The client.
+     */
+    static OpenApiClient createClient(final StubOpenApiServer server, final int threads) throws Exception {
+        return new OpenApiClientBuilder(server.getUri(), ACCESS_KEY_ID, SECRET_ACCESS_KEY).setMaxTotal(threads * 2).setMaxPerRoute(threads * 2).build();
+    }
+
+    /**
+     * Creates an operation that cycles through a search, a list and a product call.
+     *
+     * @param openApiClient The client.
+     *
+     * @return The operation.
+     */
+    static LoadDriver.Operation catalogMix(final OpenApiClient openApiClient) {
+        final SearchResultsRequest searchResultsRequest = new SearchResultsRequest("harry potter");
+        final ListResultRequest listResultRequest = new ListResultRequest(ListResultRequest.Type.TOPLIST_DEFAULT, "8299");
+        listResultRequest.setIncludeAttributes(true);
+        final AtomicInteger counter = new AtomicInteger();
+
+        return new LoadDriver.Operation() {
+            public void execute() throws Exception {
+                switch (counter.getAndIncrement() % 3) {
+                case 0:
+                    openApiClient.search(searchResultsRequest);
+                    break;
+                case 1:
+                    openApiClient.getList(listResultRequest);
+                    break;
+                default:
+                    openApiClient.getProduct("9200000012345678", true);
+                    break;
+                }
+            }
+        };
+    }
+}
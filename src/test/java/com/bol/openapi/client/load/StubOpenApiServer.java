@@ -0,0 +1,309 @@
+package com.bol.openapi.client.load;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.http.HttpStatus;
+import org.apache.http.NameValuePair;
+import org.apache.http.client.utils.URLEncodedUtils;
+import org.apache.http.message.BasicHttpRequest;
+import org.junit.Ignore;
+
+import com.bol.openapi.client.util.AuthUtils;
+import com.bol.openapi.client.util.TestUtils;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Embedded OpenAPI stub server. Serves the schema-valid fixtures for every /openapi/services/rest path, checks the
+ * X-OpenAPI-Authorization signature of each request, and can add latency and fail a share of the requests. With
+ * compression enabled, the fixtures are served gzip or deflate encoded to clients that accept it.
+ */
+@Ignore
+public class StubOpenApiServer {
+
+    private static final String REST_PATH = "/openapi/services/rest";
+    private static final String NAMESPACE = "http://openapi.bol.com/openapi-3.0.0";
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    private static final String HEADER_OAI_AUTH = "X-OpenAPI-Authorization";
+
+    private final String accessKeyId;
+    private final String secretAccessKey;
+    private final Map<String, byte[]> responses = new LinkedHashMap<String, byte[]>();
+    private final Map<String, byte[]> gzipResponses = new LinkedHashMap<String, byte[]>();
+    private final Map<String, byte[]> deflateResponses = new LinkedHashMap<String, byte[]>();
+    private final Random random = new Random();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong signatureFailures = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+    private final AtomicLong compressedResponses = new AtomicLong();
+    private volatile long minLatencyNanos;
+    private volatile long maxLatencyNanos;
+    private volatile double errorRate;
+    private volatile boolean compression;
+    private HttpServer server;
+    private ExecutorService executorService;
+
+    /**
+     * Constructs the stub server.
+     *
+     * @param accessKeyId The access key ID the clients must sign with.
+     * @param secretAccessKey The secret access key the clients must sign with.
+     *
+     * @throws IOException When the fixtures cannot be read.
+     */
+    public StubOpenApiServer(final String accessKeyId, final String secretAccessKey) throws IOException {
+        this.accessKeyId = accessKeyId;
+        this.secretAccessKey = secretAccessKey;
+
+        final String product = TestUtils.readFixture("product.xml");
+        final String productElement = product.substring(product.indexOf("<Product>"), product.lastIndexOf("</ProductResponse>"));
+        responses.put("GET /catalog/v3/searchresults", utf8(TestUtils.readFixture("search-results.xml")));
+        responses.put("GET /catalog/v3/listresults", utf8(TestUtils.readFixture("list-results.xml")));
+        responses.put("GET /catalog/v3/products", utf8(product));
+        responses.put("GET /catalog/v3/recommendations", utf8(XML_DECLARATION + "<ProductRecommendationsResponse xmlns=\"" + NAMESPACE + "\">" + productElement + "</ProductRecommendationsResponse>"));
+        responses.put("GET /auth/v3/session", utf8(XML_DECLARATION + "<SessionResponse xmlns=\"" + NAMESPACE + "\"><SessionId>0123456789abcdef</SessionId></SessionResponse>"));
+        responses.put("GET /checkout/v3/baskets", utf8(XML_DECLARATION + "<BasketResponse xmlns=\"" + NAMESPACE + "\"><Basket><TotalAmountArticles>0.0</TotalAmountArticles>"
+                + "<SubTotal>0.0</SubTotal><Total>0.0</Total><TotalQuantity>0</TotalQuantity><ShippableAbroad>true</ShippableAbroad>"
+                + "<Combinable>true</Combinable><OpenForUse>true</OpenForUse></Basket></BasketResponse>"));
+        responses.put("GET /utils/v3/ping", new byte[0]);
+        responses.put("POST /checkout/v3/baskets", new byte[0]);
+        responses.put("PUT /checkout/v3/baskets", new byte[0]);
+        responses.put("DELETE /checkout/v3/baskets", new byte[0]);
+
+        // Several product ids are answered with a products response
+        responses.put("GET products,", utf8(XML_DECLARATION + "<ProductsResponse xmlns=\"" + NAMESPACE + "\"><SessionId>0123456789abcdef</SessionId>" + productElement + "</ProductsResponse>"));
+
+        for (final Map.Entry<String, byte[]> entry : responses.entrySet()) {
+            if (entry.getValue().length > 0) {
+                gzipResponses.put(entry.getKey(), compress(entry.getValue(), true));
+                deflateResponses.put(entry.getKey(), compress(entry.getValue(), false));
+            }
+        }
+    }
+
+    /**
+     * Starts the server on a free port of the loopback interface.
+     *
+     * @throws IOException When the server cannot be bound.
+     */
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getByName("127.0.0.1"), 0), 1024);
+        server.createContext(REST_PATH, new HttpHandler() {
+            public void handle(final HttpExchange exchange) throws IOException {
+                try {
+                    respond(exchange);
+                } finally {
+                    exchange.close();
+                }
+            }
+        });
+        executorService = Executors.newCachedThreadPool();
+        server.setExecutor(executorService);
+        server.start();
+    }
+
+    /**
+     * Stops the server.
+     */
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Gets the URI to construct the client with.
+     *
+     * @return The server URI, without the REST path.
+     */
+    public URI getUri() throws URISyntaxException {
+        return new URI("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    /**
+     * Sets the latency added to every response, uniformly distributed between the bounds.
+     *
+     * @param min The minimum latency.
+     * @param max The maximum latency.
+     * @param unit The unit of the bounds.
+     */
+    public void setLatency(final long min, final long max, final TimeUnit unit) {
+        this.minLatencyNanos = unit.toNanos(min);
+        this.maxLatencyNanos = unit.toNanos(max);
+    }
+
+    /**
+     * Sets the share of the requests answered with a 503 error response.
+     *
+     * @param errorRate The error rate, between 0 and 1.
+     */
+    public void setErrorRate(final double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    /**
+     * Sets whether the fixtures are served compressed, gzip or deflate as the Accept-Encoding header of the request
+     * allows.
+     *
+     * @param compression True to serve compressed fixtures.
+     */
+    public void setCompression(final boolean compression) {
+        this.compression = compression;
+    }
+
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    public long getSignatureFailures() {
+        return signatureFailures.get();
+    }
+
+    public long getInjectedErrors() {
+        return injectedErrors.get();
+    }
+
+    public long getCompressedResponses() {
+        return compressedResponses.get();
+    }
+
+    private void respond(final HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        delay();
+
+        if (!isSignatureValid(exchange)) {
+            signatureFailures.incrementAndGet();
+            sendError(exchange, HttpStatus.SC_UNAUTHORIZED, "Invalid signature");
+            return;
+        }
+        if (errorRate > 0 && random.nextDouble() < errorRate) {
+            injectedErrors.incrementAndGet();
+            sendError(exchange, HttpStatus.SC_SERVICE_UNAVAILABLE, "Injected error");
+            return;
+        }
+
+        final String method = exchange.getRequestMethod();
+        final String path = exchange.getRequestURI().getPath().substring(REST_PATH.length());
+        final String key = findResponse(method, path);
+        final byte[] body = key != null ? responses.get(key) : null;
+        if (body == null) {
+            sendError(exchange, HttpStatus.SC_NOT_FOUND, "Unknown resource " + method + " " + path);
+        } else if (body.length == 0) {
+            exchange.sendResponseHeaders("POST".equals(method) ? HttpStatus.SC_CREATED : HttpStatus.SC_OK, -1);
+        } else {
+            final String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            if (compression && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                compressedResponses.incrementAndGet();
+                exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+                send(exchange, HttpStatus.SC_OK, gzipResponses.get(key));
+            } else if (compression && acceptEncoding != null && acceptEncoding.contains("deflate")) {
+                compressedResponses.incrementAndGet();
+                exchange.getResponseHeaders().set("Content-Encoding", "deflate");
+                send(exchange, HttpStatus.SC_OK, deflateResponses.get(key));
+            } else {
+                send(exchange, HttpStatus.SC_OK, body);
+            }
+        }
+    }
+
+    private String findResponse(final String method, final String path) {
+        if ("GET".equals(method) && path.startsWith("/catalog/v3/products/") && path.indexOf(',') != -1) {
+            return "GET products,";
+        }
+
+        for (final String key : responses.keySet()) {
+            if ((method + " " + path).startsWith(key)) {
+                return key;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Recalculates the signature from the received request with the reference implementation in {@link AuthUtils}.
+     */
+    private boolean isSignatureValid(final HttpExchange exchange) {
+        final String authorization = exchange.getRequestHeaders().getFirst(HEADER_OAI_AUTH);
+        if (authorization == null || !authorization.startsWith(accessKeyId + ":")) {
+            return false;
+        }
+
+        try {
+            final BasicHttpRequest request = new BasicHttpRequest(exchange.getRequestMethod(), exchange.getRequestURI().toString());
+            for (final Map.Entry<String, List<String>> header : exchange.getRequestHeaders().entrySet()) {
+                for (final String value : header.getValue()) {
+                    request.addHeader(header.getKey(), value);
+                }
+            }
+
+            final List<NameValuePair> parameters = URLEncodedUtils.parse(exchange.getRequestURI(), "UTF-8");
+            final String signature = AuthUtils.calculateHMAC256(AuthUtils.createStringToSign(request, parameters.isEmpty() ? null : parameters), secretAccessKey);
+            return authorization.equals(accessKeyId + ":" + signature);
+        } catch (final Exception e) {
+            return false;
+        }
+    }
+
+    private void delay() {
+        final long min = minLatencyNanos;
+        final long max = maxLatencyNanos;
+        if (max <= 0) {
+            return;
+        }
+
+        final long latency = min + (long) (random.nextDouble() * (max - min));
+        try {
+            TimeUnit.NANOSECONDS.sleep(latency);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sendError(final HttpExchange exchange, final int statusCode, final String message) throws IOException {
+        send(exchange, statusCode, utf8(XML_DECLARATION + "<Error xmlns=\"" + NAMESPACE + "\"><Status>" + statusCode + "</Status><Message>" + message + "</Message></Error>"));
+    }
+
+    private static void send(final HttpExchange exchange, final int statusCode, final byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/xml; charset=UTF-8");
+        exchange.sendResponseHeaders(statusCode, body.length);
+        final OutputStream out = exchange.getResponseBody();
+        out.write(body);
+        out.close();
+    }
+
+    private static byte[] utf8(final String value) throws IOException {
+        return value.getBytes("UTF-8");
+    }
+
+    private static byte[] compress(final byte[] body, final boolean gzip) throws IOException {
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+        final DeflaterOutputStream out = gzip ? new GZIPOutputStream(compressed) : new DeflaterOutputStream(compressed);
+        out.write(body);
+        out.close();
+        return compressed.toByteArray();
+    }
+
+    @Override
+    public String toString() {
+        return "StubOpenApiServer[requests=" + requests + ", signatureFailures=" + signatureFailures + ", injectedErrors=" + injectedErrors + ", compressedResponses=" + compressedResponses + "]";
+    }
+}
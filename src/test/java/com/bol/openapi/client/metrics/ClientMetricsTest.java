@@ -0,0 +1,43 @@
+package com.bol.openapi.client.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bol.openapi.client.Endpoint;
+import com.bol.openapi.client.exception.BasicApiException;
+
+public class ClientMetricsTest {
+
+    @Test
+    public void testSnapshot() {
+        final ClientMetrics metrics = new ClientMetrics();
+        final EndpointMetrics endpointMetrics = metrics.getEndpointMetrics(Endpoint.SEARCH);
+        endpointMetrics.record(Phase.TOTAL, 1000);
+        endpointMetrics.record(Phase.TOTAL, 2000);
+        endpointMetrics.record(Phase.SIGN, 10);
+        endpointMetrics.recordBytesReceived(100);
+        endpointMetrics.recordBytesReceived(50);
+        endpointMetrics.recordStatusCode(200);
+        endpointMetrics.recordStatusCode(200);
+        endpointMetrics.recordStatusCode(503);
+        endpointMetrics.recordStatusCode(1000);
+        endpointMetrics.recordError(new BasicApiException("503", "Unavailable"));
+        endpointMetrics.recordError(new BasicApiException("Failed"));
+        endpointMetrics.recordIoFailure();
+
+        final EndpointSnapshot snapshot = metrics.snapshot().get(Endpoint.SEARCH);
+        Assert.assertEquals(2, snapshot.getCallCount());
+        Assert.assertEquals(1, snapshot.getHistogram(Phase.SIGN).getCount());
+        Assert.assertEquals(0, snapshot.getHistogram(Phase.UNMARSHAL).getCount());
+        Assert.assertEquals(150, snapshot.getBytesReceived());
+        Assert.assertEquals(Long.valueOf(2), snapshot.getStatusCodes().get(200));
+        Assert.assertEquals(Long.valueOf(1), snapshot.getStatusCodes().get(503));
+        Assert.assertEquals(2, snapshot.getStatusCodes().size());
+        Assert.assertEquals(Long.valueOf(1), snapshot.getErrorStatuses().get("503"));
+        Assert.assertEquals(Long.valueOf(1), snapshot.getErrorStatuses().get("unknown"));
+        Assert.assertEquals(1, snapshot.getIoFailures());
+
+        Assert.assertEquals(Endpoint.values().length, metrics.snapshot().size());
+        Assert.assertEquals(0, metrics.snapshot().get(Endpoint.PING).getCallCount());
+    }
+}
@@ -0,0 +1,83 @@
+package com.bol.openapi.client.metrics;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketBounds() {
+        for (int i = 0; i < LatencyHistogram.BUCKET_COUNT; i++) {
+            Assert.assertEquals(i, LatencyHistogram.indexOf(LatencyHistogram.lowerBound(i)));
+            Assert.assertEquals(i, LatencyHistogram.indexOf(LatencyHistogram.upperBound(i)));
+            if (i > 0) {
+                Assert.assertEquals(LatencyHistogram.upperBound(i - 1) + 1, LatencyHistogram.lowerBound(i));
+            }
+        }
+        Assert.assertEquals(LatencyHistogram.MAX_VALUE, LatencyHistogram.upperBound(LatencyHistogram.BUCKET_COUNT - 1));
+    }
+
+    @Test
+    public void testPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+
+        final HistogramSnapshot snapshot = histogram.snapshot();
+        Assert.assertEquals(1000, snapshot.getCount());
+        Assert.assertEquals(TimeUnit.MICROSECONDS.toNanos(1000), snapshot.getMax());
+        assertWithinPrecision(TimeUnit.MICROSECONDS.toNanos(500), snapshot.getValueAtPercentile(50));
+        assertWithinPrecision(TimeUnit.MICROSECONDS.toNanos(990), snapshot.getValueAtPercentile(99));
+        Assert.assertEquals(snapshot.getMax(), snapshot.getValueAtPercentile(100));
+        Assert.assertEquals(500, snapshot.getValueAtPercentile(50, TimeUnit.MICROSECONDS), 500 / 8);
+        Assert.assertEquals(500500.0, snapshot.getMean(), 0.001);
+    }
+
+    @Test
+    public void testEmptyAndClamped() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(0, histogram.snapshot().getValueAtPercentile(99));
+
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        final HistogramSnapshot snapshot = histogram.snapshot();
+        Assert.assertEquals(1, snapshot.getCount(0));
+        Assert.assertEquals(1, snapshot.getCount(snapshot.getBucketCount() - 1));
+        Assert.assertEquals(LatencyHistogram.MAX_VALUE, snapshot.getMax());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPercentile() {
+        new LatencyHistogram().snapshot().getValueAtPercentile(101);
+    }
+
+    @Test
+    public void testConcurrentRecording() throws Exception {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final int threads = 4;
+        final int values = 10000;
+        final CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            new Thread(new Runnable() {
+                public void run() {
+                    for (int i = 0; i < values; i++) {
+                        histogram.record(i);
+                    }
+                    done.countDown();
+                }
+            }).start();
+        }
+
+        Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(threads * values, histogram.snapshot().getCount());
+        Assert.assertEquals(values - 1, histogram.snapshot().getMax());
+    }
+
+    private static void assertWithinPrecision(final long expected, final long actual) {
+        Assert.assertTrue("Expected " + expected + " but was " + actual, actual >= expected && actual <= expected + expected / 8);
+    }
+}
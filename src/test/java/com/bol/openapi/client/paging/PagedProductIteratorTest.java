@@ -0,0 +1,113 @@
+package com.bol.openapi.client.paging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.bol.openapi.client.exception.BasicApiException;
+import com.bol.openapi.client.exception.PagingException;
+import com.bol.openapi.openapi_3_0.Product;
+
+public class PagedProductIteratorTest {
+
+    private ExecutorService executorService;
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    @Before
+    public void setUp() {
+        executorService = Executors.newFixedThreadPool(2);
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testIteratesAllPages() {
+        final PagedProducts pagedProducts = new PagedProducts(createFetcher(250), 0L, new PagingOptions());
+
+        Assert.assertEquals(250, count(pagedProducts));
+        Assert.assertEquals(3, fetches.get());
+    }
+
+    @Test
+    public void testIteratesAllPagesWithPrefetch() {
+        final PagingOptions options = new PagingOptions().setPageSize(10).setPrefetchDepth(3).setExecutorService(executorService);
+        final PagedProducts pagedProducts = new PagedProducts(createFetcher(95), 0L, options);
+
+        long expectedId = 0;
+        for (final Product product : pagedProducts) {
+            Assert.assertEquals(expectedId++, product.getId());
+        }
+        Assert.assertEquals(95, expectedId);
+        Assert.assertEquals(10, fetches.get());
+    }
+
+    @Test
+    public void testMaxProducts() {
+        final PagedProducts pagedProducts = new PagedProducts(createFetcher(1000), 20L, new PagingOptions().setMaxProducts(150));
+
+        Assert.assertEquals(150, count(pagedProducts));
+        Assert.assertEquals(2, fetches.get());
+    }
+
+    @Test
+    public void testClose() {
+        final PagingOptions options = new PagingOptions().setPageSize(10).setPrefetchDepth(2).setExecutorService(executorService);
+        final PagedProductIterator iterator = new PagedProducts(createFetcher(1000), 0L, options).iterator();
+
+        Assert.assertTrue(iterator.hasNext());
+        iterator.next();
+        iterator.close();
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertEquals(1000, iterator.getTotalResultSize());
+    }
+
+    @Test(expected = PagingException.class)
+    public void testFetchFailure() {
+        final PagedProducts pagedProducts = new PagedProducts(new PageFetcher() {
+            public ProductPage fetch(final long offset, final int pageSize) throws Exception {
+                throw new BasicApiException("500", "failure");
+            }
+        }, 0L, new PagingOptions());
+
+        count(pagedProducts);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeMaxProducts() {
+        new PagingOptions().setMaxProducts(-1);
+    }
+
+    private long count(final Iterable<Product> products) {
+        long count = 0;
+        for (final Product product : products) {
+            Assert.assertNotNull(product);
+            count++;
+        }
+        return count;
+    }
+
+    private PageFetcher createFetcher(final long totalResultSize) {
+        return new PageFetcher() {
+            public ProductPage fetch(final long offset, final int pageSize) throws Exception {
+                fetches.incrementAndGet();
+                final List<Product> products = new ArrayList<Product>();
+                for (long id = offset; id < Math.min(offset + pageSize, totalResultSize); id++) {
+                    final Product product = new Product();
+                    product.setId(id);
+                    products.add(product);
+                }
+                return new ProductPage(products, totalResultSize);
+            }
+        };
+    }
+}
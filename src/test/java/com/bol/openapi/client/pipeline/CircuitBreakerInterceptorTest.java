@@ -0,0 +1,179 @@
+package com.bol.openapi.client.pipeline;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.NameValuePair;
+import org.apache.http.ProtocolVersion;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.message.BasicStatusLine;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.bol.openapi.client.Endpoint;
+import com.bol.openapi.client.EndpointGroup;
+import com.bol.openapi.client.breaker.CircuitBreaker;
+import com.bol.openapi.client.breaker.CircuitBreakers;
+import com.bol.openapi.client.exception.BasicApiException;
+import com.bol.openapi.client.exception.CircuitBreakerOpenException;
+import com.bol.openapi.client.util.EndpointTemplate;
+import com.bol.openapi.client.util.RequestSigner;
+import com.bol.openapi.client.util.Ticker;
+import com.bol.openapi.client.util.TestUtils;
+import com.bol.openapi.client.xml.ResponseReader;
+import com.bol.openapi.client.xml.UnmarshallerPool;
+import com.bol.openapi.openapi_3_0.ObjectFactory;
+import com.bol.openapi.openapi_3_0.ProductResponse;
+
+public class CircuitBreakerInterceptorTest {
+
+    private final HttpClient httpClient = Mockito.mock(HttpClient.class);
+    private RequestExecutor requestExecutor;
+    private CircuitBreakers circuitBreakers;
+    private CircuitBreaker catalog;
+    private URI serviceUri;
+    private int attempts;
+
+    @Before
+    public void setUp() throws Exception {
+        serviceUri = new URI("http://localhost:8082/openapi/services/rest");
+        requestExecutor = new RequestExecutor(httpClient, new RequestSigner("accessKeyId", "secretAccessKey"),
+                new ResponseReader(new UnmarshallerPool(JAXBContext.newInstance(ObjectFactory.class), 1)));
+        circuitBreakers = new CircuitBreakers();
+        catalog = circuitBreakers.getCircuitBreaker(EndpointGroup.CATALOG);
+        catalog.setMinimumCalls(2);
+        catalog.setOpenDuration(1, TimeUnit.MINUTES);
+        requestExecutor.setInterceptors(Arrays.<Interceptor>asList(new CircuitBreakerInterceptor(circuitBreakers), new Interceptor() {
+            public Object intercept(final Chain chain) throws IOException, JAXBException, BasicApiException {
+                attempts++;
+                throw new BasicApiException("503", "Service unavailable");
+            }
+        }));
+
+        final HttpResponse httpResponse = new BasicHttpResponse(new BasicStatusLine(new ProtocolVersion("http", 1, 1), HttpStatus.SC_OK, ""));
+        httpResponse.setEntity(new StringEntity(TestUtils.serializeUsingJAXB(new ProductResponse())));
+        Mockito.when(httpClient.execute(Mockito.any(HttpGet.class))).thenReturn(httpResponse);
+    }
+
+    @Test
+    public void testFastFail() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            try {
+                requestExecutor.execute(createProductRequest());
+                Assert.fail("Expected a basic API exception");
+            } catch (final BasicApiException e) {
+                Assert.assertEquals("503", e.getStatus());
+            }
+        }
+        Assert.assertEquals(CircuitBreaker.State.OPEN, catalog.getState());
+
+        try {
+            requestExecutor.execute(createProductRequest());
+            Assert.fail("Expected a circuit breaker open exception");
+        } catch (final CircuitBreakerOpenException e) {
+            Assert.assertNull(e.getStatus());
+        }
+        Assert.assertEquals(2, attempts);
+        Assert.assertEquals(1, catalog.getRejected());
+        Assert.assertEquals(CircuitBreaker.State.CLOSED, circuitBreakers.getCircuitBreaker(EndpointGroup.CHECKOUT).getState());
+    }
+
+    @Test
+    public void testAbortedHedgeNotRecorded() throws Exception {
+        final AbortHandle abortHandle = new AbortHandle();
+        abortHandle.abort();
+        requestExecutor.setInterceptors(Arrays.<Interceptor>asList(new CircuitBreakerInterceptor(circuitBreakers), new Interceptor() {
+            public Object intercept(final Chain chain) throws IOException, JAXBException, BasicApiException {
+                throw new IOException("Request aborted");
+            }
+        }));
+
+        for (int i = 0; i < 3; i++) {
+            try {
+                requestExecutor.execute(createProductRequest().withAbortHandle(abortHandle));
+                Assert.fail("Expected an I/O exception");
+            } catch (final IOException e) {
+                // Expected
+            }
+        }
+        Assert.assertEquals(CircuitBreaker.State.CLOSED, catalog.getState());
+    }
+
+    @Test
+    public void testUncheckedExceptionNotRecorded() throws Exception {
+        final long[] now = new long[1];
+        circuitBreakers = new CircuitBreakers(new Ticker() {
+            public long nanoTime() {
+                return now[0];
+            }
+        });
+        catalog = circuitBreakers.getCircuitBreaker(EndpointGroup.CATALOG);
+        catalog.setMinimumCalls(2);
+        catalog.setOpenDuration(1, TimeUnit.MINUTES);
+        catalog.setHalfOpenCalls(1);
+        final RuntimeException[] unchecked = new RuntimeException[1];
+        requestExecutor.setInterceptors(Arrays.<Interceptor>asList(new CircuitBreakerInterceptor(circuitBreakers, new Ticker() {
+            public long nanoTime() {
+                return now[0];
+            }
+        }), new Interceptor() {
+            public Object intercept(final Chain chain) throws IOException, JAXBException, BasicApiException {
+                if (unchecked[0] != null) {
+                    throw unchecked[0];
+                }
+                throw new BasicApiException("503", "Service unavailable");
+            }
+        }));
+
+        executeFailing();
+        unchecked[0] = new IllegalStateException("Client bug");
+        for (int i = 0; i < 3; i++) {
+            executeFailing();
+        }
+        // Only the API error was recorded, which is below the minimum number of calls
+        Assert.assertEquals(-1f, catalog.getFailureRate(), 0f);
+        unchecked[0] = null;
+        executeFailing();
+        Assert.assertEquals(CircuitBreaker.State.OPEN, catalog.getState());
+
+        // The trial permit of an unchecked failure is given back, and the breaker stays half-open
+        now[0] += TimeUnit.MINUTES.toNanos(1);
+        unchecked[0] = new IllegalStateException("Client bug");
+        executeFailing();
+        Assert.assertEquals(CircuitBreaker.State.HALF_OPEN, catalog.getState());
+        executeFailing();
+        Assert.assertEquals(CircuitBreaker.State.HALF_OPEN, catalog.getState());
+    }
+
+    private void executeFailing() throws Exception {
+        try {
+            requestExecutor.execute(createProductRequest());
+            Assert.fail("Expected a failure");
+        } catch (final BasicApiException e) {
+            Assert.assertEquals("503", e.getStatus());
+        } catch (final IllegalStateException e) {
+            // Expected
+        }
+    }
+
+    private ApiRequest<ProductResponse> createProductRequest() throws Exception {
+        final List<NameValuePair> queryParameters = new ArrayList<NameValuePair>();
+        queryParameters.add(new BasicNameValuePair("includeAttributes", "false"));
+        return ApiRequest.read(Endpoint.PRODUCT, EndpointTemplate.compile(serviceUri, Endpoint.PRODUCT.getPathTemplate()).expand(queryParameters, "1"), null, ProductResponse.class);
+    }
+}
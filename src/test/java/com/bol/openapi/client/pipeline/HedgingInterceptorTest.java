@@ -0,0 +1,188 @@
+package com.bol.openapi.client.pipeline;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.ProtocolVersion;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.message.BasicStatusLine;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.bol.openapi.client.Endpoint;
+import com.bol.openapi.client.exception.BasicApiException;
+import com.bol.openapi.client.hedge.HedgingPolicy;
+import com.bol.openapi.client.retry.RetryBudget;
+import com.bol.openapi.client.util.EndpointTemplate;
+import com.bol.openapi.client.util.RequestSigner;
+import com.bol.openapi.client.util.TestUtils;
+import com.bol.openapi.client.xml.ResponseReader;
+import com.bol.openapi.client.xml.UnmarshallerPool;
+import com.bol.openapi.openapi_3_0.ObjectFactory;
+import com.bol.openapi.openapi_3_0.ProductResponse;
+
+public class HedgingInterceptorTest {
+
+    private final HttpClient httpClient = Mockito.mock(HttpClient.class);
+    private ScheduledExecutorService scheduler;
+    private RequestExecutor requestExecutor;
+    private HedgingPolicy hedgingPolicy;
+    private URI serviceUri;
+
+    @Before
+    public void setUp() throws Exception {
+        serviceUri = new URI("http://localhost:8082/openapi/services/rest");
+        requestExecutor = new RequestExecutor(httpClient, new RequestSigner("accessKeyId", "secretAccessKey"),
+                new ResponseReader(new UnmarshallerPool(JAXBContext.newInstance(ObjectFactory.class), 1)));
+        scheduler = Executors.newScheduledThreadPool(2);
+        hedgingPolicy = new HedgingPolicy(scheduler);
+        hedgingPolicy.setDelay(10, TimeUnit.MILLISECONDS);
+
+        final HttpResponse httpResponse = new BasicHttpResponse(new BasicStatusLine(new ProtocolVersion("http", 1, 1), HttpStatus.SC_OK, ""));
+        httpResponse.setEntity(new StringEntity(TestUtils.serializeUsingJAXB(new ProductResponse())));
+        Mockito.when(httpClient.execute(Mockito.any(HttpGet.class))).thenReturn(httpResponse);
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testHedgeWins() throws Exception {
+        final SlowFirstInterceptor slowFirst = use(new SlowFirstInterceptor(null));
+
+        Assert.assertNotNull(requestExecutor.execute(createProductRequest()));
+        Assert.assertEquals(2, slowFirst.attempts.get());
+        Assert.assertTrue(slowFirst.firstAborted);
+        Assert.assertEquals(1, hedgingPolicy.getHedges());
+        Assert.assertEquals(1, hedgingPolicy.getHedgeWins());
+    }
+
+    @Test
+    public void testFastCallNotHedged() throws Exception {
+        hedgingPolicy.setDelay(1, TimeUnit.SECONDS);
+        final List<String> calls = new ArrayList<String>();
+        requestExecutor.setInterceptors(Arrays.<Interceptor>asList(new HedgingInterceptor(hedgingPolicy), new Interceptor() {
+            public Object intercept(final Chain chain) throws IOException, JAXBException, BasicApiException {
+                calls.add("exchange");
+                return chain.proceed(chain.request());
+            }
+        }));
+
+        Assert.assertNotNull(requestExecutor.execute(createProductRequest()));
+        Assert.assertEquals(Arrays.asList("exchange"), calls);
+        Assert.assertEquals(0, hedgingPolicy.getHedges());
+    }
+
+    @Test
+    public void testBudget() throws Exception {
+        final RetryBudget hedgeBudget = new RetryBudget(0, 1);
+        Assert.assertTrue(hedgeBudget.tryWithdraw());
+        hedgingPolicy.setHedgeBudget(hedgeBudget);
+        final SlowFirstInterceptor slowFirst = use(new SlowFirstInterceptor(null));
+
+        Assert.assertNotNull(requestExecutor.execute(createProductRequest()));
+        Assert.assertEquals(1, slowFirst.attempts.get());
+        Assert.assertEquals(0, hedgingPolicy.getHedges());
+        Assert.assertEquals(1, hedgingPolicy.getBudgetExhausted());
+    }
+
+    @Test
+    public void testPrimaryFailureWaitsForHedge() throws Exception {
+        use(new SlowFirstInterceptor(new IOException("Connection reset")));
+
+        Assert.assertNotNull(requestExecutor.execute(createProductRequest()));
+        Assert.assertEquals(1, hedgingPolicy.getHedgeWins());
+    }
+
+    @Test
+    public void testAllCopiesFail() throws Exception {
+        requestExecutor.setInterceptors(Arrays.<Interceptor>asList(new HedgingInterceptor(hedgingPolicy), new Interceptor() {
+            public Object intercept(final Chain chain) throws BasicApiException {
+                throw new BasicApiException("503", "Service unavailable");
+            }
+        }));
+
+        try {
+            requestExecutor.execute(createProductRequest());
+            Assert.fail("Expected a basic API exception");
+        } catch (final BasicApiException e) {
+            Assert.assertEquals("503", e.getStatus());
+        }
+    }
+
+    @Test
+    public void testAbortBeforeExchange() {
+        final AbortHandle abortHandle = new AbortHandle();
+        abortHandle.abort();
+        final HttpGet httpGet = new HttpGet("http://localhost:8082");
+        abortHandle.setHttpRequest(httpGet);
+
+        Assert.assertTrue(abortHandle.isAborted());
+        Assert.assertTrue(httpGet.isAborted());
+    }
+
+    private SlowFirstInterceptor use(final SlowFirstInterceptor slowFirst) {
+        requestExecutor.setInterceptors(Arrays.<Interceptor>asList(new HedgingInterceptor(hedgingPolicy), slowFirst));
+        return slowFirst;
+    }
+
+    private ApiRequest<ProductResponse> createProductRequest() throws Exception {
+        return ApiRequest.read(Endpoint.PRODUCT, EndpointTemplate.compile(serviceUri, Endpoint.PRODUCT.getPathTemplate()).expand(null, "1"), null,
+                ProductResponse.class);
+    }
+
+    /**
+     * Holds the first copy until it is aborted, or fails it once the hedge was started.
+     */
+    private static final class SlowFirstInterceptor implements Interceptor {
+
+        private final IOException firstFailure;
+        private final AtomicInteger attempts = new AtomicInteger();
+        private volatile boolean firstAborted;
+
+        private SlowFirstInterceptor(final IOException firstFailure) {
+            this.firstFailure = firstFailure;
+        }
+
+        public Object intercept(final Chain chain) throws IOException, JAXBException, BasicApiException {
+            if (attempts.incrementAndGet() > 1) {
+                return chain.proceed(chain.request());
+            }
+
+            final AbortHandle abortHandle = chain.request().getAbortHandle();
+            final long deadline = System.currentTimeMillis() + 200;
+            while (System.currentTimeMillis() < deadline && !abortHandle.isAborted() && (firstFailure == null || attempts.get() == 1)) {
+                try {
+                    Thread.sleep(1);
+                } catch (final InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+            firstAborted = abortHandle.isAborted();
+            if (firstFailure != null) {
+                throw firstFailure;
+            }
+            return chain.proceed(chain.request());
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.bol.openapi.client.pipeline;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.NameValuePair;
+import org.apache.http.ProtocolVersion;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.message.BasicStatusLine;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.bol.openapi.client.Endpoint;
+import com.bol.openapi.client.exception.BasicApiException;
+import com.bol.openapi.client.util.EndpointTemplate;
+import com.bol.openapi.client.util.RequestSigner;
+import com.bol.openapi.client.util.TestUtils;
+import com.bol.openapi.client.xml.ResponseReader;
+import com.bol.openapi.client.xml.UnmarshallerPool;
+import com.bol.openapi.openapi_3_0.ObjectFactory;
+import com.bol.openapi.openapi_3_0.ProductResponse;
+
+public class RequestExecutorTest {
+
+    private final HttpClient httpClient = Mockito.mock(HttpClient.class);
+    private RequestExecutor requestExecutor;
+    private URI serviceUri;
+
+    @Before
+    public void setUp() throws Exception {
+        serviceUri = new URI("http://localhost:8082/openapi/services/rest");
+        requestExecutor = new RequestExecutor(httpClient, new RequestSigner("accessKeyId", "secretAccessKey"),
+                new ResponseReader(new UnmarshallerPool(JAXBContext.newInstance(ObjectFactory.class), 1)));
+    }
+
+    @Test
+    public void testExecuteWithoutInterceptors() throws Exception {
+        mockResponse(HttpStatus.SC_OK, TestUtils.serializeUsingJAXB(new ProductResponse()));
+
+        Assert.assertNotNull(requestExecutor.execute(createProductRequest()));
+        Assert.assertTrue(requestExecutor.getInterceptors().isEmpty());
+    }
+
+    @Test
+    public void testInterceptorOrder() throws Exception {
+        mockResponse(HttpStatus.SC_OK, TestUtils.serializeUsingJAXB(new ProductResponse()));
+        final List<String> calls = Collections.synchronizedList(new ArrayList<String>());
+        requestExecutor.setInterceptors(Arrays.<Interceptor>asList(new RecordingInterceptor("first", calls), new RecordingInterceptor("second", calls)));
+
+        requestExecutor.execute(createProductRequest());
+
+        Assert.assertEquals(Arrays.asList("first in", "second in", "second out", "first out"), calls);
+    }
+
+    @Test
+    public void testInterceptorShortCircuits() throws Exception {
+        final ProductResponse cached = new ProductResponse();
+        requestExecutor.setInterceptors(Collections.<Interceptor>singletonList(new Interceptor() {
+            public Object intercept(final Chain chain) {
+                return cached;
+            }
+        }));
+
+        Assert.assertSame(cached, requestExecutor.execute(createProductRequest()));
+    }
+
+    @Test
+    public void testInterceptorProceedsTwice() throws Exception {
+        mockResponse(HttpStatus.SC_OK, TestUtils.serializeUsingJAXB(new ProductResponse()));
+        final List<String> calls = Collections.synchronizedList(new ArrayList<String>());
+        requestExecutor.setInterceptors(Arrays.<Interceptor>asList(new Interceptor() {
+            public Object intercept(final Chain chain) throws IOException, JAXBException, BasicApiException {
+                chain.proceed(chain.request());
+                return chain.proceed(chain.request());
+            }
+        }, new RecordingInterceptor("exchange", calls)));
+
+        Assert.assertNotNull(requestExecutor.execute(createProductRequest()));
+        Assert.assertEquals(Arrays.asList("exchange in", "exchange out", "exchange in", "exchange out"), calls);
+    }
+
+    @Test
+    public void testStatusCheck() throws Exception {
+        final HttpResponse httpResponse = new BasicHttpResponse(new BasicStatusLine(new ProtocolVersion("http", 1, 1), HttpStatus.SC_CREATED, ""));
+        Mockito.when(httpClient.execute(Mockito.any(HttpPost.class))).thenReturn(httpResponse);
+
+        final ApiRequest<Boolean> request = ApiRequest.statusCheck(Endpoint.ADD_TO_BASKET, HttpPost.METHOD_NAME,
+                EndpointTemplate.compile(serviceUri, Endpoint.ADD_TO_BASKET.getPathTemplate()).expand(null, 1L, 1, "127.0.0.1"), "sessionId", HttpStatus.SC_CREATED);
+
+        Assert.assertTrue(requestExecutor.execute(request));
+        Assert.assertFalse(request.isIdempotent());
+    }
+
+    @Test
+    public void testExchangeListener() throws Exception {
+        final String body = TestUtils.serializeUsingJAXB(new ProductResponse());
+        mockResponse(HttpStatus.SC_OK, body);
+        final List<HttpUriRequest> sent = new ArrayList<HttpUriRequest>();
+        final ByteArrayOutputStream copy = new ByteArrayOutputStream();
+        requestExecutor.setExchangeListener(new ExchangeListener() {
+            public OutputStream responseReceived(final ApiRequest<?> request, final HttpUriRequest httpRequest, final HttpResponse httpResponse) {
+                sent.add(httpRequest);
+                Assert.assertEquals(HttpStatus.SC_OK, httpResponse.getStatusLine().getStatusCode());
+                return copy;
+            }
+
+            public void exchangeFailed(final ApiRequest<?> request, final HttpUriRequest httpRequest, final IOException failure) {
+                Assert.fail("Unexpected failure");
+            }
+        });
+
+        Assert.assertNotNull(requestExecutor.execute(createProductRequest()));
+        Assert.assertEquals(1, sent.size());
+        Assert.assertNotNull(sent.get(0).getFirstHeader("X-OpenAPI-Authorization"));
+        Assert.assertEquals(body, copy.toString("ISO-8859-1"));
+    }
+
+    @Test
+    public void testExchangeListenerFailure() throws Exception {
+        final IOException failure = new IOException("Connection refused");
+        Mockito.when(httpClient.execute(Mockito.any(HttpGet.class))).thenThrow(failure);
+        final List<IOException> failures = new ArrayList<IOException>();
+        requestExecutor.setExchangeListener(new ExchangeListener() {
+            public OutputStream responseReceived(final ApiRequest<?> request, final HttpUriRequest httpRequest, final HttpResponse httpResponse) {
+                throw new IllegalStateException("Unexpected response");
+            }
+
+            public void exchangeFailed(final ApiRequest<?> request, final HttpUriRequest httpRequest, final IOException e) {
+                failures.add(e);
+            }
+        });
+
+        try {
+            requestExecutor.execute(createProductRequest());
+            Assert.fail("Expected an IO exception");
+        } catch (final IOException e) {
+            Assert.assertSame(failure, e);
+        }
+        Assert.assertEquals(Collections.singletonList(failure), failures);
+    }
+
+    @Test
+    public void testExchangeListenerErrorIgnored() throws Exception {
+        mockResponse(HttpStatus.SC_OK, TestUtils.serializeUsingJAXB(new ProductResponse()));
+        requestExecutor.setExchangeListener(new ExchangeListener() {
+            public OutputStream responseReceived(final ApiRequest<?> request, final HttpUriRequest httpRequest, final HttpResponse httpResponse) {
+                throw new IllegalStateException("Listener failure");
+            }
+
+            public void exchangeFailed(final ApiRequest<?> request, final HttpUriRequest httpRequest, final IOException failure) {
+            }
+        });
+
+        Assert.assertNotNull(requestExecutor.execute(createProductRequest()));
+    }
+
+    @Test
+    public void testCreateHttpRequest() throws Exception {
+        final ApiRequest<ProductResponse> request = createProductRequest();
+        final HttpUriRequest first = request.createHttpRequest();
+
+        Assert.assertEquals("GET", first.getMethod());
+        Assert.assertEquals("http://localhost:8082/openapi/services/rest/catalog/v3/products/1?includeAttributes=false", first.getURI().toString());
+        Assert.assertNotSame(first, request.createHttpRequest());
+        Assert.assertEquals("PRODUCT /openapi/services/rest/catalog/v3/products/1?includeAttributes=false", request.getKey());
+    }
+
+    private ApiRequest<ProductResponse> createProductRequest() throws Exception {
+        final List<NameValuePair> queryParameters = new ArrayList<NameValuePair>();
+        queryParameters.add(new BasicNameValuePair("includeAttributes", "false"));
+        return ApiRequest.read(Endpoint.PRODUCT, EndpointTemplate.compile(serviceUri, Endpoint.PRODUCT.getPathTemplate()).expand(queryParameters, "1"), null, ProductResponse.class);
+    }
+
+    private void mockResponse(final int statusCode, final String body) throws Exception {
+        final HttpResponse httpResponse = new BasicHttpResponse(new BasicStatusLine(new ProtocolVersion("http", 1, 1), statusCode, ""));
+        httpResponse.setEntity(new StringEntity(body));
+        Mockito.when(httpClient.execute(Mockito.any(HttpGet.class))).thenReturn(httpResponse);
+    }
+
+    private static final class RecordingInterceptor implements Interceptor {
+
+        private final String name;
+        private final List<String> calls;
+
+        private RecordingInterceptor(final String name, final List<String> calls) {
+            this.name = name;
+            this.calls = calls;
+        }
+
+        public Object intercept(final Chain chain) throws IOException, JAXBException, BasicApiException {
+            calls.add(name + " in");
+            final Object result = chain.proceed(chain.request());
+            calls.add(name + " out");
+            return result;
+        }
+    }
+}
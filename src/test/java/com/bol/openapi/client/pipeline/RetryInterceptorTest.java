@@ -0,0 +1,189 @@
+package com.bol.openapi.client.pipeline;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.NameValuePair;
+import org.apache.http.ProtocolVersion;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.message.BasicStatusLine;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.bol.openapi.client.Endpoint;
+import com.bol.openapi.client.exception.BasicApiException;
+import com.bol.openapi.client.retry.RetryBudget;
+import com.bol.openapi.client.retry.RetryPolicy;
+import com.bol.openapi.client.util.EndpointTemplate;
+import com.bol.openapi.client.util.RequestSigner;
+import com.bol.openapi.client.util.TestUtils;
+import com.bol.openapi.client.xml.ResponseReader;
+import com.bol.openapi.client.xml.UnmarshallerPool;
+import com.bol.openapi.openapi_3_0.ObjectFactory;
+import com.bol.openapi.openapi_3_0.ProductResponse;
+
+public class RetryInterceptorTest {
+
+    private final HttpClient httpClient = Mockito.mock(HttpClient.class);
+    private RequestExecutor requestExecutor;
+    private RetryPolicy retryPolicy;
+    private URI serviceUri;
+
+    @Before
+    public void setUp() throws Exception {
+        serviceUri = new URI("http://localhost:8082/openapi/services/rest");
+        requestExecutor = new RequestExecutor(httpClient, new RequestSigner("accessKeyId", "secretAccessKey"),
+                new ResponseReader(new UnmarshallerPool(JAXBContext.newInstance(ObjectFactory.class), 1)));
+        retryPolicy = new RetryPolicy();
+        retryPolicy.setBackoff(1, 2, TimeUnit.MILLISECONDS);
+
+        final HttpResponse httpResponse = new BasicHttpResponse(new BasicStatusLine(new ProtocolVersion("http", 1, 1), HttpStatus.SC_OK, ""));
+        httpResponse.setEntity(new StringEntity(TestUtils.serializeUsingJAXB(new ProductResponse())));
+        Mockito.when(httpClient.execute(Mockito.any(HttpGet.class))).thenReturn(httpResponse);
+    }
+
+    @Test
+    public void testRetryTransientFailures() throws Exception {
+        final FailingInterceptor failing = use(new IOException("Connection reset"), new BasicApiException("503", "Service unavailable"));
+
+        Assert.assertNotNull(requestExecutor.execute(createProductRequest()));
+        Assert.assertEquals(3, failing.attempts);
+        Assert.assertEquals(2, retryPolicy.getRetries());
+    }
+
+    @Test
+    public void testFatalStatus() throws Exception {
+        final FailingInterceptor failing = use(new BasicApiException("400", "Bad request"));
+
+        try {
+            requestExecutor.execute(createProductRequest());
+            Assert.fail("Expected a basic API exception");
+        } catch (final BasicApiException e) {
+            Assert.assertEquals("400", e.getStatus());
+        }
+        Assert.assertEquals(1, failing.attempts);
+        Assert.assertEquals(0, retryPolicy.getRetries());
+    }
+
+    @Test
+    public void testMaxAttempts() throws Exception {
+        final FailingInterceptor failing = use(new IOException("1"), new IOException("2"), new IOException("3"));
+
+        try {
+            requestExecutor.execute(createProductRequest());
+            Assert.fail("Expected an I/O exception");
+        } catch (final IOException e) {
+            Assert.assertEquals("3", e.getMessage());
+        }
+        Assert.assertEquals(3, failing.attempts);
+    }
+
+    @Test
+    public void testDeadline() throws Exception {
+        retryPolicy.setDeadline(0, TimeUnit.MILLISECONDS);
+        final FailingInterceptor failing = use(new IOException("1"), new IOException("2"));
+
+        try {
+            requestExecutor.execute(createProductRequest());
+            Assert.fail("Expected an I/O exception");
+        } catch (final IOException e) {
+            Assert.assertEquals("1", e.getMessage());
+        }
+        Assert.assertEquals(1, failing.attempts);
+        Assert.assertEquals(1, retryPolicy.getDeadlineExceeded());
+    }
+
+    @Test
+    public void testBudget() throws Exception {
+        retryPolicy.setRetryBudget(new RetryBudget(0, 1));
+        use(new IOException("1"), new IOException("2"));
+
+        try {
+            requestExecutor.execute(createProductRequest());
+            Assert.fail("Expected an I/O exception");
+        } catch (final IOException e) {
+            Assert.assertEquals("2", e.getMessage());
+        }
+        Assert.assertEquals(1, retryPolicy.getRetries());
+        Assert.assertEquals(1, retryPolicy.getBudgetExhausted());
+    }
+
+    @Test
+    public void testInterruptedNotRetried() throws Exception {
+        final FailingInterceptor failing = use(new InterruptedIOException());
+
+        try {
+            requestExecutor.execute(createProductRequest());
+            Assert.fail("Expected an I/O exception");
+        } catch (final InterruptedIOException e) {
+            // Expected
+        }
+        Assert.assertEquals(1, failing.attempts);
+    }
+
+    @Test
+    public void testNonCatalogNotRetried() throws Exception {
+        final FailingInterceptor failing = use(new IOException("Connection reset"));
+        final ApiRequest<ProductResponse> request = ApiRequest.read(Endpoint.BASKET, EndpointTemplate.compile(serviceUri, Endpoint.BASKET.getPathTemplate())
+                .expand(null), "sessionId", ProductResponse.class);
+
+        try {
+            requestExecutor.execute(request);
+            Assert.fail("Expected an I/O exception");
+        } catch (final IOException e) {
+            // Expected
+        }
+        Assert.assertEquals(1, failing.attempts);
+    }
+
+    private FailingInterceptor use(final Exception... failures) {
+        final FailingInterceptor failing = new FailingInterceptor(failures);
+        requestExecutor.setInterceptors(Arrays.<Interceptor>asList(new RetryInterceptor(retryPolicy), failing));
+        return failing;
+    }
+
+    private ApiRequest<ProductResponse> createProductRequest() throws Exception {
+        final List<NameValuePair> queryParameters = new ArrayList<NameValuePair>();
+        queryParameters.add(new BasicNameValuePair("includeAttributes", "false"));
+        return ApiRequest.read(Endpoint.PRODUCT, EndpointTemplate.compile(serviceUri, Endpoint.PRODUCT.getPathTemplate()).expand(queryParameters, "1"), null, ProductResponse.class);
+    }
+
+    private static final class FailingInterceptor implements Interceptor {
+
+        private final LinkedList<Exception> failures;
+        private int attempts;
+
+        private FailingInterceptor(final Exception... failures) {
+            this.failures = new LinkedList<Exception>(Arrays.asList(failures));
+        }
+
+        public Object intercept(final Chain chain) throws IOException, JAXBException, BasicApiException {
+            attempts++;
+            final Exception failure = failures.poll();
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            }
+            if (failure instanceof BasicApiException) {
+                throw (BasicApiException) failure;
+            }
+            return chain.proceed(chain.request());
+        }
+    }
+}
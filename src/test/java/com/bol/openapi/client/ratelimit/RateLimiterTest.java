@@ -0,0 +1,123 @@
+package com.bol.openapi.client.ratelimit;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.bol.openapi.client.Endpoint;
+import com.bol.openapi.client.exception.BasicApiException;
+import com.bol.openapi.client.exception.RateLimitExceededException;
+import com.bol.openapi.client.util.Ticker;
+
+public class RateLimiterTest {
+
+    private long now;
+    private RateLimiter rateLimiter;
+
+    @Before
+    public void setUp() {
+        now = 1000;
+        rateLimiter = new RateLimiter(100, 2, new Ticker() {
+            public long nanoTime() {
+                return now;
+            }
+        });
+    }
+
+    @Test
+    public void testFailFast() throws Exception {
+        rateLimiter.setMode(RateLimiter.Mode.FAIL_FAST);
+        rateLimiter.acquire("key", Endpoint.SEARCH);
+        rateLimiter.acquire("key", Endpoint.PRODUCT);
+
+        try {
+            rateLimiter.acquire("key", Endpoint.SEARCH);
+            Assert.fail("Expected a rate limit exceeded exception");
+        } catch (final RateLimitExceededException e) {
+            Assert.assertEquals(10, e.getRetryAfter(TimeUnit.MILLISECONDS));
+            Assert.assertNull(e.getStatus());
+        }
+        Assert.assertEquals(2, rateLimiter.getAcquired());
+        Assert.assertEquals(1, rateLimiter.getRejected());
+
+        // Every access key has its own quota
+        rateLimiter.acquire("otherKey", Endpoint.SEARCH);
+    }
+
+    @Test
+    public void testTimedWait() throws Exception {
+        rateLimiter.setMode(RateLimiter.Mode.TIMED_WAIT);
+        rateLimiter.setMaxWait(15, TimeUnit.MILLISECONDS);
+        rateLimiter.acquire("key", Endpoint.SEARCH);
+        rateLimiter.acquire("key", Endpoint.SEARCH);
+
+        // Waits 10 ms, the next permit would take 20 ms
+        rateLimiter.acquire("key", Endpoint.SEARCH);
+        try {
+            rateLimiter.acquire("key", Endpoint.SEARCH);
+            Assert.fail("Expected a rate limit exceeded exception");
+        } catch (final RateLimitExceededException e) {
+            Assert.assertEquals(1, rateLimiter.getRejected());
+        }
+        Assert.assertEquals(1, rateLimiter.getDelayed());
+    }
+
+    @Test
+    public void testBlock() throws Exception {
+        rateLimiter = new RateLimiter(1000, 1);
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < 21; i++) {
+            rateLimiter.acquire("key", Endpoint.SEARCH);
+        }
+
+        Assert.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+        Assert.assertEquals(21, rateLimiter.getAcquired());
+        Assert.assertEquals(0, rateLimiter.getRejected());
+    }
+
+    @Test
+    public void testEndpointLimit() throws Exception {
+        rateLimiter.setMode(RateLimiter.Mode.FAIL_FAST);
+        rateLimiter.setEndpointLimit(Endpoint.SEARCH, 1, 1);
+        rateLimiter.acquire("key", Endpoint.SEARCH);
+
+        try {
+            rateLimiter.acquire("key", Endpoint.SEARCH);
+            Assert.fail("Expected a rate limit exceeded exception");
+        } catch (final RateLimitExceededException e) {
+            Assert.assertEquals(1000, e.getRetryAfter(TimeUnit.MILLISECONDS));
+        }
+
+        // The rejected call returned its access key permit
+        rateLimiter.acquire("key", Endpoint.PRODUCT);
+    }
+
+    @Test
+    public void testAdaptive() throws Exception {
+        rateLimiter.onFailure("key", Endpoint.SEARCH, new BasicApiException("429", "Too many requests"));
+        Assert.assertEquals(100, rateLimiter.getRate("key"), 0.001);
+
+        rateLimiter.setAdaptive(true);
+        rateLimiter.onFailure("key", Endpoint.SEARCH, new BasicApiException("400", "Bad request"));
+        rateLimiter.onFailure("key", Endpoint.SEARCH, new BasicApiException("Unknown"));
+        Assert.assertEquals(100, rateLimiter.getRate("key"), 0.001);
+
+        rateLimiter.onFailure("key", Endpoint.SEARCH, new BasicApiException("503", "Service unavailable"));
+        Assert.assertEquals(50, rateLimiter.getRate("key"), 0.001);
+        Assert.assertEquals(1, rateLimiter.getThrottled());
+
+        for (int i = 0; i < TokenBucket.RECOVERY_STEPS / 2; i++) {
+            rateLimiter.onSuccess("key", Endpoint.SEARCH);
+        }
+        Assert.assertEquals(100, rateLimiter.getRate("key"), 0.001);
+
+        rateLimiter.setThrottleStatuses(Collections.singleton("TOO_MANY_REQUESTS"));
+        rateLimiter.onFailure("key", Endpoint.SEARCH, new BasicApiException("503", "Service unavailable"));
+        rateLimiter.onFailure("key", Endpoint.SEARCH, new BasicApiException("TOO_MANY_REQUESTS", "Quota exceeded"));
+        Assert.assertEquals(50, rateLimiter.getRate("key"), 0.001);
+    }
+}
@@ -0,0 +1,91 @@
+package com.bol.openapi.client.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.bol.openapi.client.util.Ticker;
+
+public class TokenBucketTest {
+
+    private long now;
+    private TokenBucket tokenBucket;
+
+    @Before
+    public void setUp() {
+        now = 1000;
+        tokenBucket = new TokenBucket(10, 3, new Ticker() {
+            public long nanoTime() {
+                return now;
+            }
+        });
+    }
+
+    @Test
+    public void testBurst() {
+        Assert.assertEquals(0, tokenBucket.reserve(0));
+        Assert.assertEquals(0, tokenBucket.reserve(0));
+        Assert.assertEquals(0, tokenBucket.reserve(0));
+        Assert.assertEquals(-1, tokenBucket.reserve(0));
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(100), tokenBucket.getWaitNanos());
+    }
+
+    @Test
+    public void testWait() {
+        for (int i = 0; i < 3; i++) {
+            tokenBucket.reserve(0);
+        }
+
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(100), tokenBucket.reserve(Long.MAX_VALUE));
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(200), tokenBucket.reserve(Long.MAX_VALUE));
+        Assert.assertEquals(-1, tokenBucket.reserve(TimeUnit.MILLISECONDS.toNanos(250)));
+    }
+
+    @Test
+    public void testRefill() {
+        for (int i = 0; i < 3; i++) {
+            tokenBucket.reserve(0);
+        }
+
+        now += TimeUnit.MILLISECONDS.toNanos(100);
+        Assert.assertEquals(0, tokenBucket.reserve(0));
+        Assert.assertEquals(-1, tokenBucket.reserve(0));
+
+        now += TimeUnit.SECONDS.toNanos(10);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(0, tokenBucket.reserve(0));
+        }
+        Assert.assertEquals(-1, tokenBucket.reserve(0));
+    }
+
+    @Test
+    public void testCancel() {
+        for (int i = 0; i < 3; i++) {
+            tokenBucket.reserve(0);
+        }
+        tokenBucket.cancel();
+
+        Assert.assertEquals(0, tokenBucket.reserve(0));
+    }
+
+    @Test
+    public void testBackOffAndRecover() {
+        tokenBucket.backOff();
+        Assert.assertEquals(5, tokenBucket.getRate(), 0.001);
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(200), tokenBucket.reserve(Long.MAX_VALUE));
+
+        for (int i = 0; i < 10; i++) {
+            tokenBucket.backOff();
+        }
+        Assert.assertEquals(10.0 / TokenBucket.MAX_BACKOFF, tokenBucket.getRate(), 0.001);
+
+        for (int i = 0; i < TokenBucket.RECOVERY_STEPS; i++) {
+            tokenBucket.recover();
+        }
+        Assert.assertEquals(10, tokenBucket.getRate(), 0.001);
+        tokenBucket.recover();
+        Assert.assertEquals(10, tokenBucket.getRate(), 0.001);
+    }
+}
@@ -0,0 +1,29 @@
+package com.bol.openapi.client.response;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bol.openapi.openapi_3_0.Product;
+
+public class ProductsResultTest {
+
+    @Test
+    public void testOrderAndMissingIds() {
+        final ProductsResult productsResult = new ProductsResult(Arrays.asList(1L, 2L, 3L), Arrays.asList(createProduct(3L), createProduct(1L)));
+
+        Assert.assertEquals(2, productsResult.getProducts().size());
+        Assert.assertEquals(1L, productsResult.getProducts().get(0).getId());
+        Assert.assertEquals(3L, productsResult.getProducts().get(1).getId());
+        Assert.assertEquals(Arrays.asList(2L), productsResult.getMissingIds());
+        Assert.assertNotNull(productsResult.getProduct(3L));
+        Assert.assertNull(productsResult.getProduct(2L));
+    }
+
+    private Product createProduct(final long id) {
+        final Product product = new Product();
+        product.setId(id);
+        return product;
+    }
+}
@@ -0,0 +1,83 @@
+package com.bol.openapi.client.retry;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.conn.ConnectTimeoutException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bol.openapi.client.exception.BasicApiException;
+import com.bol.openapi.client.exception.RateLimitExceededException;
+
+public class RetryPolicyTest {
+
+    @Test
+    public void testClassification() {
+        final RetryPolicy retryPolicy = new RetryPolicy();
+
+        Assert.assertTrue(retryPolicy.isRetryable(new IOException()));
+        Assert.assertTrue(retryPolicy.isRetryable(new SocketTimeoutException()));
+        Assert.assertTrue(retryPolicy.isRetryable(new ConnectTimeoutException()));
+        Assert.assertFalse(retryPolicy.isRetryable(new InterruptedIOException()));
+        Assert.assertTrue(retryPolicy.isRetryable(new BasicApiException("503", "Service unavailable")));
+        Assert.assertTrue(retryPolicy.isRetryable(new BasicApiException("429", "Too many requests")));
+        Assert.assertFalse(retryPolicy.isRetryable(new BasicApiException("400", "Bad request")));
+        Assert.assertFalse(retryPolicy.isRetryable(new BasicApiException("Unknown")));
+        Assert.assertFalse(retryPolicy.isRetryable(new RateLimitExceededException("Rate limit exceeded", 0)));
+
+        retryPolicy.setRetryableStatuses(Collections.singleton("400"));
+        Assert.assertTrue(retryPolicy.isRetryable(new BasicApiException("400", "Bad request")));
+        Assert.assertFalse(retryPolicy.isRetryable(new BasicApiException("503", "Service unavailable")));
+    }
+
+    @Test
+    public void testDelay() {
+        final RetryPolicy retryPolicy = new RetryPolicy();
+        retryPolicy.setBackoff(10, 35, TimeUnit.MILLISECONDS);
+
+        for (int i = 0; i < 100; i++) {
+            Assert.assertTrue(retryPolicy.getDelayNanos(1) < TimeUnit.MILLISECONDS.toNanos(10));
+            Assert.assertTrue(retryPolicy.getDelayNanos(2) < TimeUnit.MILLISECONDS.toNanos(20));
+            Assert.assertTrue(retryPolicy.getDelayNanos(3) < TimeUnit.MILLISECONDS.toNanos(35));
+            Assert.assertTrue(retryPolicy.getDelayNanos(100) < TimeUnit.MILLISECONDS.toNanos(35));
+            Assert.assertTrue(retryPolicy.getDelayNanos(100) >= 0);
+        }
+    }
+
+    @Test
+    public void testShouldRetry() {
+        final RetryPolicy retryPolicy = new RetryPolicy();
+        retryPolicy.setMaxAttempts(2);
+
+        Assert.assertTrue(retryPolicy.shouldRetry(new IOException(), 1, 1));
+        Assert.assertFalse(retryPolicy.shouldRetry(new IOException(), 2, 1));
+        Assert.assertFalse(retryPolicy.shouldRetry(new IOException(), 1, 0));
+        Assert.assertEquals(1, retryPolicy.getRetries());
+        Assert.assertEquals(1, retryPolicy.getDeadlineExceeded());
+    }
+
+    @Test
+    public void testBudget() {
+        final RetryBudget retryBudget = new RetryBudget(20, 2);
+        Assert.assertEquals(2, retryBudget.getAvailable());
+        Assert.assertTrue(retryBudget.tryWithdraw());
+        Assert.assertTrue(retryBudget.tryWithdraw());
+        Assert.assertFalse(retryBudget.tryWithdraw());
+
+        for (int i = 0; i < 4; i++) {
+            retryBudget.deposit();
+        }
+        Assert.assertFalse(retryBudget.tryWithdraw());
+        retryBudget.deposit();
+        Assert.assertTrue(retryBudget.tryWithdraw());
+
+        for (int i = 0; i < 100; i++) {
+            retryBudget.deposit();
+        }
+        Assert.assertEquals(2, retryBudget.getAvailable());
+    }
+}
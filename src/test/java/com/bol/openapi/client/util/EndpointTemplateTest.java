@@ -0,0 +1,99 @@
+package com.bol.openapi.client.util;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.http.NameValuePair;
+import org.apache.http.client.utils.URIUtils;
+import org.apache.http.client.utils.URLEncodedUtils;
+import org.apache.http.message.BasicNameValuePair;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class EndpointTemplateTest {
+
+    private URI serviceUri;
+
+    @Before
+    public void setUp() throws Exception {
+        serviceUri = new URI("https://api.bol.com:8443/openapi/services/rest");
+    }
+
+    @Test
+    public void testExpandWithoutVariables() throws Exception {
+        final EndpointTemplate template = EndpointTemplate.compile(serviceUri, "/utils/v3/ping");
+        final EndpointUri endpointUri = template.expand(null);
+
+        Assert.assertEquals(URIUtils.createURI("https", "api.bol.com", 8443, "/openapi/services/rest/utils/v3/ping", null, null), endpointUri.getUri());
+        Assert.assertEquals("/openapi/services/rest/utils/v3/ping", endpointUri.getPath());
+        Assert.assertNull(endpointUri.getParameters());
+    }
+
+    @Test
+    public void testExpandQueryParameters() throws Exception {
+        final List<NameValuePair> queryParameters = new ArrayList<NameValuePair>();
+        queryParameters.add(new BasicNameValuePair("term", "harry potter & the ~goblet~ (100%)"));
+        queryParameters.add(new BasicNameValuePair("categoryId", "87 4279"));
+        queryParameters.add(new BasicNameValuePair("listId", null));
+        queryParameters.add(new BasicNameValuePair("author", "Günter Grass"));
+        queryParameters.add(new BasicNameValuePair("a.b-c*d_e", "+/=?#"));
+
+        final EndpointUri endpointUri = EndpointTemplate.compile(serviceUri, "/catalog/v3/searchresults/").expand(queryParameters);
+
+        final URI expected = URIUtils.createURI("https", "api.bol.com", 8443, "/openapi/services/rest/catalog/v3/searchresults/", URLEncodedUtils.format(queryParameters, "UTF-8"), null);
+        Assert.assertEquals(expected.toString(), endpointUri.getUri().toString());
+        Assert.assertEquals(expected.getPath(), endpointUri.getPath());
+        Assert.assertSame(queryParameters, endpointUri.getParameters());
+    }
+
+    @Test
+    public void testExpandPathVariables() throws Exception {
+        final EndpointTemplate template = EndpointTemplate.compile(serviceUri, "/catalog/v3/listresults/{type}/{ids}");
+        Assert.assertArrayEquals(new String[] {"type", "ids"}, template.getVariables());
+        Assert.assertEquals("/openapi/services/rest/catalog/v3/listresults/{type}/{ids}", template.toString());
+
+        for (final String ids : Arrays.asList("87", "87 4279 8299", "a/b%c+d", "café", "x y+z")) {
+            final EndpointUri endpointUri = template.expand(null, "toplist_default", ids);
+            final URI expected = URIUtils.createURI("https", "api.bol.com", 8443, "/openapi/services/rest/catalog/v3/listresults/toplist_default/" + URLEncoder.encode(ids, "UTF-8"), null, null);
+
+            Assert.assertEquals(expected.toString(), endpointUri.getUri().toString());
+            Assert.assertEquals(expected.getPath(), endpointUri.getPath());
+        }
+    }
+
+    @Test
+    public void testExpandIterablePathVariable() throws Exception {
+        final EndpointUri endpointUri = EndpointTemplate.compile(serviceUri, "/catalog/v3/products/{ids}").expand(null, Arrays.asList("1", "2", "3"));
+
+        Assert.assertEquals("https://api.bol.com:8443/openapi/services/rest/catalog/v3/products/1,2,3", endpointUri.getUri().toString());
+        Assert.assertEquals("/openapi/services/rest/catalog/v3/products/1,2,3", endpointUri.getPath());
+    }
+
+    @Test
+    public void testExpandWithoutPort() throws Exception {
+        final EndpointTemplate template = EndpointTemplate.compile(new URI("http://localhost/openapi/services/rest"), "/checkout/v3/baskets/{offerId}/{quantity}/{ipAddress}");
+        final EndpointUri endpointUri = template.expand(null, 1234L, 2, "127.0.0.1");
+
+        Assert.assertEquals("http://localhost/openapi/services/rest/checkout/v3/baskets/1234/2/127.0.0.1", endpointUri.getUri().toString());
+        Assert.assertEquals(endpointUri.getUri().getPath(), endpointUri.getPath());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testExpandMissingVariable() throws Exception {
+        EndpointTemplate.compile(serviceUri, "/catalog/v3/products/{id}").expand(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testExpandNullVariable() throws Exception {
+        EndpointTemplate.compile(serviceUri, "/catalog/v3/products/{id}").expand(null, (Object) null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCompileUnterminatedVariable() {
+        EndpointTemplate.compile(serviceUri, "/catalog/v3/products/{id");
+    }
+}
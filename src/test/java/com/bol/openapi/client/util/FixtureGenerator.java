@@ -0,0 +1,370 @@
+package com.bol.openapi.client.util;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeConstants;
+import javax.xml.datatype.DatatypeFactory;
+
+import org.junit.Ignore;
+
+import com.bol.openapi.openapi_3_0.Attribute;
+import com.bol.openapi.openapi_3_0.Attributes;
+import com.bol.openapi.openapi_3_0.Authors;
+import com.bol.openapi.openapi_3_0.Category;
+import com.bol.openapi.openapi_3_0.Entity;
+import com.bol.openapi.openapi_3_0.Images;
+import com.bol.openapi.openapi_3_0.ListResultResponse;
+import com.bol.openapi.openapi_3_0.ObjectFactory;
+import com.bol.openapi.openapi_3_0.Offer;
+import com.bol.openapi.openapi_3_0.OfferTotals;
+import com.bol.openapi.openapi_3_0.Offers;
+import com.bol.openapi.openapi_3_0.OriginalRequest;
+import com.bol.openapi.openapi_3_0.Product;
+import com.bol.openapi.openapi_3_0.ProductResponse;
+import com.bol.openapi.openapi_3_0.ProductType;
+import com.bol.openapi.openapi_3_0.Promotion;
+import com.bol.openapi.openapi_3_0.Promotions;
+import com.bol.openapi.openapi_3_0.Refinement;
+import com.bol.openapi.openapi_3_0.RefinementGroup;
+import com.bol.openapi.openapi_3_0.SearchResultsResponse;
+import com.bol.openapi.openapi_3_0.Seller;
+import com.bol.openapi.openapi_3_0.Urls;
+
+/**
+ * Generates the response fixtures in src/test/resources/fixtures from a fixed seed, so they can be regenerated when
+ * the schema changes. FixturesTest fails when the committed fixtures differ from the generated ones.
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes com.bol.openapi.client.util.FixtureGenerator src/test/resources/fixtures
+ * </pre>
+ */
+@Ignore
+public final class FixtureGenerator {
+
+    /**
+     * The names of the generated fixtures.
+     */
+    public static final List<String> FIXTURES = Collections.unmodifiableList(Arrays.asList("search-results.xml", "list-results.xml", "product.xml"));
+
+    private static final long SEED = 42L;
+    private static final long FIRST_PRODUCT_ID = 1001004006016448L;
+    private static final String SESSION_ID = "0123456789abcdef";
+
+    private static final ProductType[] TYPES = { ProductType.BOOK, ProductType.MUSIC, ProductType.DVD, ProductType.TOY, ProductType.GAME, ProductType.ELECTRONICS };
+    private static final String[] AUTHORS = { "J.K. Rowling", "Stephen King", "Paulo Coelho", "Herman Koch", "Esther Verhoef", "Dan Brown", "Saskia Noort",
+            "Arnon Grunberg" };
+    private static final String[] PUBLISHERS = { "Bloomsbury Publishing", "De Harmonie", "Luitingh-Sijthoff", "Penguin Books", "Ambo|Anthos", "Prometheus" };
+    private static final String[] GENRES = { "Fantasy", "Thriller", "Literatuur", "Kinderboeken", "Romans", "Detectives" };
+    private static final String[][] BINDINGS = { { "PB", "Paperback" }, { "HB", "Hardcover" }, { "EB", "E-book" } };
+    private static final String[][] LANGUAGES = { { "nl", "Nederlands" }, { "en", "Engels" }, { "de", "Duits" } };
+    private static final String[][] SELLERS = { { "1", "bol.com", "bol.com" }, { "87654", "Boekhandel Van der Meer", "PROFESSIONAL" },
+            { "98123", "Tweedehands Boeken", "PROFESSIONAL" }, { "11223", "Jan de Vries", "CONSUMER" } };
+    private static final String[] AVAILABILITIES = { "Op voorraad. Voor 23:59 uur besteld, morgen in huis", "Verwacht over 2-3 weken", "1-2 werkdagen" };
+    private static final String[] RATINGS = { "3.5", "4", "4.5", "5" };
+    private static final String[] ATTRIBUTE_KEYS = { "Aantal pagina's", "Taal", "Bindwijze", "Verschijningsdatum", "Hoofdredacteur", "Afmetingen", "Gewicht",
+            "Druk", "Illustraties", "Reeks", "NUR", "Thema" };
+    private static final String[] WORDS = ("de het een en van in op met voor aan door over bij naar uit dat die niet ook als maar nog zo wel dan om tot "
+            + "verhaal avontuur wereld geheim nacht huis vriend reis stad familie liefde oorlog zomer winter school boek").split(" ");
+
+    private final Random random = new Random(SEED);
+    private final DatatypeFactory datatypeFactory;
+
+    private FixtureGenerator() throws DatatypeConfigurationException {
+        datatypeFactory = DatatypeFactory.newInstance();
+    }
+
+    /**
+     * Writes all fixtures to a directory.
+     *
+     * @param args The directory, src/test/resources/fixtures by default.
+     *
+     * @throws Exception When generating or writing a fixture fails.
+     */
+    public static void main(final String[] args) throws Exception {
+        final File directory = new File(args.length > 0 ? args[0] : "src/test/resources/fixtures");
+        for (final String name : FIXTURES) {
+            final OutputStream out = new FileOutputStream(new File(directory, name));
+            try {
+                out.write(generate(name).getBytes("UTF-8"));
+            } finally {
+                out.close();
+            }
+        }
+    }
+
+    /**
+     * Generates a fixture. Every fixture starts from the same seed, so the fixtures do not depend on each other.
+     *
+     * @param name The name of the fixture, one of {@link #FIXTURES}.
+     *
+     * @return The pretty-printed XML document.
+     *
+     * @throws JAXBException When marshalling fails.
+     * @throws DatatypeConfigurationException When no datatype factory is available.
+     */
+    public static String generate(final String name) throws JAXBException, DatatypeConfigurationException {
+        final FixtureGenerator generator = new FixtureGenerator();
+        final Object response;
+        if ("search-results.xml".equals(name)) {
+            response = generator.searchResults();
+        } else if ("list-results.xml".equals(name)) {
+            response = generator.listResults();
+        } else if ("product.xml".equals(name)) {
+            response = generator.productResponse();
+        } else {
+            throw new IllegalArgumentException("Unknown fixture: " + name);
+        }
+
+        final Marshaller marshaller = JAXBContext.newInstance(ObjectFactory.class).createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+        marshaller.setProperty(Marshaller.JAXB_ENCODING, "UTF-8");
+        final StringWriter writer = new StringWriter();
+        marshaller.marshal(response, writer);
+        return writer.toString();
+    }
+
+    /**
+     * A search result page with 10 products, categories and refinements.
+     */
+    private SearchResultsResponse searchResults() {
+        final SearchResultsResponse response = new SearchResultsResponse();
+        response.setSessionId(SESSION_ID);
+        response.setTotalResultSize(2841L);
+        for (int i = 0; i < 10; i++) {
+            response.getProduct().add(product(FIRST_PRODUCT_ID + i, 1 + random.nextInt(4), 0, false));
+        }
+        for (int c = 0; c < 6; c++) {
+            final Category category = new Category();
+            category.setId(String.valueOf(8290 + c));
+            category.setName(name(2));
+            category.setProductCount(Integer.valueOf(10 + random.nextInt(19991)));
+            response.getCategory().add(category);
+        }
+        response.getRefinementGroup().addAll(refinementGroups(4));
+        return response;
+    }
+
+    /**
+     * A list result page with 100 products, each with offers, sellers and attributes.
+     */
+    private ListResultResponse listResults() {
+        final ListResultResponse response = new ListResultResponse();
+        response.setSessionId(SESSION_ID);
+        final OriginalRequest originalRequest = new OriginalRequest();
+        final Category category = new Category();
+        category.setId("8299");
+        category.setName("Boeken");
+        originalRequest.setCategory(category);
+        response.setOriginalRequest(originalRequest);
+        response.setTotalResultSize(15234L);
+        for (int i = 0; i < 100; i++) {
+            response.getProduct().add(product(FIRST_PRODUCT_ID + 100 + i, 1 + random.nextInt(4), 8, false));
+        }
+        response.getRefinementGroup().addAll(refinementGroups(6));
+        return response;
+    }
+
+    /**
+     * A fully populated product response.
+     */
+    private ProductResponse productResponse() {
+        final ProductResponse response = new ProductResponse();
+        response.setSessionId(SESSION_ID);
+        response.setProduct(product(9200000012345678L, 4, 12, true));
+        return response;
+    }
+
+    private Product product(final long id, final int offerCount, final int attributeCount, final boolean longDescription) {
+        final Product product = new Product();
+        product.setId(id);
+        product.setTitle(name(4));
+        product.setSubtitle(name(5));
+        product.setType(pick(TYPES));
+        product.setPublisher(pick(PUBLISHERS));
+        product.setShortDescription(sentence(25));
+        if (longDescription) {
+            final StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 4; i++) {
+                sb.append("<p>").append(sentence(40)).append("</p>");
+            }
+            product.setLongDescription(sb.toString());
+        }
+        product.setReleaseDate(datatypeFactory.newXMLGregorianCalendarDate(2000 + random.nextInt(14), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                DatatypeConstants.FIELD_UNDEFINED));
+        product.setEan(String.format("97890%08d", Integer.valueOf(random.nextInt(100000000))));
+        product.setRating(new BigDecimal(pick(RATINGS)));
+        final String[] binding = pick(BINDINGS);
+        product.setBindingCode(binding[0]);
+        product.setBindingDescription(binding[1]);
+        final String[] language = pick(LANGUAGES);
+        product.setLanguageCode(language[0]);
+        product.setLanguageDescription(language[1]);
+        product.setEdition((1 + random.nextInt(12)) + "e druk");
+        product.setGenre(pick(GENRES));
+        product.setOffers(offers(id, offerCount));
+
+        final Urls urls = new Urls();
+        urls.setMain("https://www.bol.com/nl/p/product/" + id + "/");
+        product.setUrls(urls);
+
+        final Authors authors = new Authors();
+        final Entity author = new Entity();
+        author.setId(String.valueOf(1000 + random.nextInt(999000)));
+        author.setName(pick(AUTHORS));
+        authors.getAuthor().add(author);
+        product.setAuthors(authors);
+
+        final Images images = new Images();
+        images.setExtraSmall(image("extrasmall", id));
+        images.setSmall(image("small", id));
+        images.setMedium(image("medium", id));
+        images.setLarge(image("large", id));
+        images.setExtraLarge(image("extralarge", id));
+        product.setImages(images);
+
+        if (attributeCount > 0) {
+            final Attributes attributes = new Attributes();
+            for (final String key : sample(Arrays.asList(ATTRIBUTE_KEYS), attributeCount)) {
+                final Attribute attribute = new Attribute();
+                attribute.setKey(key);
+                attribute.setValue(name(2));
+                attributes.getAttribute().add(attribute);
+            }
+            product.setAttributes(attributes);
+        }
+
+        final Promotions promotions = new Promotions();
+        final Promotion promotion = new Promotion();
+        promotion.setTitle("Actie: 2e halve prijs");
+        promotion.setUrl("https://www.bol.com/nl/m/actie/");
+        promotions.getPromotion().add(promotion);
+        product.setPromotions(promotions);
+        return product;
+    }
+
+    private Offers offers(final long productId, final int count) {
+        // Every product has a bol.com offer, the others come from distinct partner sellers
+        final List<String[]> sellers = new ArrayList<String[]>();
+        sellers.add(SELLERS[0]);
+        sellers.addAll(sample(Arrays.asList(SELLERS).subList(1, SELLERS.length), count - 1));
+
+        final Offers offers = new Offers();
+        int secondHand = 0;
+        int plaza = 0;
+        for (int i = 0; i < sellers.size(); i++) {
+            final String[] seller = sellers.get(i);
+            if ("CONSUMER".equals(seller[2])) {
+                secondHand++;
+            } else if ("PROFESSIONAL".equals(seller[2])) {
+                plaza++;
+            }
+            offers.getOffer().add(offer(productId, i, seller));
+        }
+
+        final OfferTotals offerTotals = new OfferTotals();
+        offerTotals.setBolCom(Integer.valueOf(1));
+        offerTotals.setSecondHand(Integer.valueOf(secondHand));
+        offerTotals.setPlaza(Integer.valueOf(plaza));
+        offers.setOfferTotals(offerTotals);
+        return offers;
+    }
+
+    private Offer offer(final long productId, final int index, final String[] sellerValues) {
+        final boolean secondHand = "CONSUMER".equals(sellerValues[2]);
+        final double price = Math.round((4 + random.nextDouble() * 56) * 100) / 100.0;
+
+        final Offer offer = new Offer();
+        offer.setId(String.format("%d%03d", Long.valueOf(productId % 100000000L), Integer.valueOf(index)));
+        offer.setFirstEdition(Boolean.FALSE);
+        offer.setSigned(Boolean.FALSE);
+        offer.setSpecialEdition(Boolean.FALSE);
+        offer.setState(secondHand ? "Tweedehands - Zo goed als nieuw" : "Nieuw");
+        offer.setPrice(Double.valueOf(price));
+        offer.setListPrice(Double.valueOf(Math.round(price * 110) / 100.0));
+        offer.setAvailabilityCode(Integer.valueOf(1 + random.nextInt(3)));
+        offer.setAvailabilityDescription(pick(AVAILABILITIES));
+        offer.setBinding("Paperback");
+        offer.setComment(sentence(8));
+        offer.setSecondHand(Boolean.valueOf(secondHand));
+
+        final Seller seller = new Seller();
+        seller.setId(sellerValues[0]);
+        seller.setDisplayName(sellerValues[1]);
+        if (!"1".equals(sellerValues[0])) {
+            seller.setNumberOfReviews(Integer.valueOf(5 + random.nextInt(4996)));
+            seller.setOverallRating(Integer.valueOf(6 + random.nextInt(5)));
+            seller.setUrl("https://www.bol.com/nl/v/" + sellerValues[0] + "/");
+            seller.setLogo("https://s.s-bol.com/imgbase0/imagebase/sellers/" + sellerValues[0] + ".png");
+        }
+        seller.setSellerType(sellerValues[2]);
+        offer.setSeller(seller);
+        return offer;
+    }
+
+    private List<RefinementGroup> refinementGroups(final int count) {
+        final List<RefinementGroup> refinementGroups = new ArrayList<RefinementGroup>(count);
+        for (int g = 0; g < count; g++) {
+            final RefinementGroup refinementGroup = new RefinementGroup();
+            refinementGroup.setId(String.valueOf(2000 + g));
+            refinementGroup.setName(name(2));
+            for (int r = 0; r < 8; r++) {
+                final Refinement refinement = new Refinement();
+                refinement.setId(String.valueOf(4000000 + g * 100 + r));
+                refinement.setName(name(2));
+                refinement.setProductCount(Integer.valueOf(1 + random.nextInt(900)));
+                refinementGroup.getRefinement().add(refinement);
+            }
+            refinementGroups.add(refinementGroup);
+        }
+        return refinementGroups;
+    }
+
+    private static String image(final String size, final long productId) {
+        return "https://s.s-bol.com/imgbase0/imagebase3/" + size + "/" + productId + ".jpg";
+    }
+
+    /**
+     * A capitalized sentence of random words, ending with a period.
+     */
+    private String sentence(final int words) {
+        return name(words) + ".";
+    }
+
+    /**
+     * Capitalized random words without a period, used for titles and names.
+     */
+    private String name(final int words) {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(pick(WORDS));
+        }
+        sb.setCharAt(0, Character.toUpperCase(sb.charAt(0)));
+        return sb.toString();
+    }
+
+    private <T> T pick(final T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private <T> List<T> sample(final List<T> values, final int count) {
+        final List<T> shuffled = new ArrayList<T>(values);
+        Collections.shuffle(shuffled, random);
+        return shuffled.subList(0, count);
+    }
+}
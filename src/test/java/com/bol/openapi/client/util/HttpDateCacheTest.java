@@ -0,0 +1,47 @@
+package com.bol.openapi.client.util;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HttpDateCacheTest {
+
+    private long now;
+    private HttpDateCache httpDateCache;
+
+    @Before
+    public void setUp() {
+        now = 1321009871000L;
+        httpDateCache = new HttpDateCache(new Clock() {
+            public long currentTimeMillis() {
+                return now;
+            }
+        });
+    }
+
+    @Test
+    public void testGetDate() {
+        Assert.assertEquals("Fri, 11 Nov 2011 11:11:11 GMT", httpDateCache.getDate());
+    }
+
+    @Test
+    public void testGetDateIsCachedWithinSecond() {
+        final String date = httpDateCache.getDate();
+        now += 999L;
+        Assert.assertSame(date, httpDateCache.getDate());
+
+        now += 1L;
+        Assert.assertEquals("Fri, 11 Nov 2011 11:11:12 GMT", httpDateCache.getDate());
+    }
+
+    @Test
+    public void testGetDateBeforeEpoch() {
+        now = -1L;
+        Assert.assertEquals("Wed, 31 Dec 1969 23:59:59 GMT", httpDateCache.getDate());
+    }
+
+    @Test
+    public void testFormat() {
+        Assert.assertEquals("Thu, 01 Jan 1970 00:00:00 GMT", HttpDateCache.format(0L));
+    }
+}
@@ -0,0 +1,100 @@
+package com.bol.openapi.client.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.http.HttpRequest;
+import org.apache.http.NameValuePair;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.message.BasicNameValuePair;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RequestSignerTest {
+
+    private static final String DATE = "Fri, 11 Nov 2011 11:11:11 GMT";
+
+    private final RequestSigner requestSigner = new RequestSigner("accessKeyId", "secretAccessKey");
+
+    @Test
+    public void testCalculateHMAC256MatchesAuthUtils() throws Exception {
+        Assert.assertEquals(AuthUtils.calculateHMAC256("stringToSign", "secretAccessKey"), requestSigner.calculateHMAC256("stringToSign"));
+        Assert.assertEquals(AuthUtils.calculateHMAC256("other", "secretAccessKey"), requestSigner.calculateHMAC256("other"));
+    }
+
+    @Test
+    public void testCalculateHMAC256OnOtherThread() throws Exception {
+        final AtomicReference<String> signature = new AtomicReference<String>();
+        final Thread thread = new Thread(new Runnable() {
+            public void run() {
+                signature.set(requestSigner.calculateHMAC256("stringToSign"));
+            }
+        });
+        thread.start();
+        thread.join();
+
+        Assert.assertEquals(requestSigner.calculateHMAC256("stringToSign"), signature.get());
+    }
+
+    @Test
+    public void testHandleRequest() throws Exception {
+        final HttpRequest request = new HttpGet("/catalog/v3/searchresults/");
+        final List<NameValuePair> httpParams = new ArrayList<NameValuePair>();
+        httpParams.add(new BasicNameValuePair("term", "test"));
+
+        requestSigner.handleRequest(request, "sessionId", httpParams);
+
+        Assert.assertEquals(1, request.getHeaders("X-OpenAPI-Session-ID").length);
+        Assert.assertEquals(1, request.getHeaders("Date").length);
+        final String expected = "accessKeyId:" + AuthUtils.calculateHMAC256(AuthUtils.createStringToSign(request, httpParams), "secretAccessKey");
+        Assert.assertEquals(expected, request.getFirstHeader("X-OpenAPI-Authorization").getValue());
+    }
+
+    @Test
+    public void testHandleRequestWithBody() throws Exception {
+        final HttpRequest request = new HttpPost("/");
+
+        requestSigner.handleRequest(request, "sessionId", "body", null);
+
+        Assert.assertEquals(1, request.getHeaders("Content-Type").length);
+        Assert.assertEquals(1, request.getHeaders("Content-MD5").length);
+        Assert.assertEquals(1, request.getHeaders("X-OpenAPI-Authorization").length);
+    }
+
+    @Test
+    public void testCreateStringToSignMatchesAuthUtils() throws Exception {
+        final HttpRequest request = new HttpGet("http://localhost/openapi/services/rest/catalog/v3/searchresults/?term=harry+potter");
+        final List<NameValuePair> httpParams = new ArrayList<NameValuePair>();
+        httpParams.add(new BasicNameValuePair("term", "harry potter"));
+        AuthUtils.prepareRequest(request, "sessionId", null, DATE);
+
+        Assert.assertEquals(AuthUtils.createStringToSign(request, httpParams), requestSigner.createStringToSign(request, DATE, "sessionId", null, httpParams));
+    }
+
+    @Test
+    public void testCreateStringToSignWithExtraOpenApiHeader() throws Exception {
+        final HttpRequest request = new HttpGet("/");
+        request.addHeader("X-OpenAPI-Date", "Thu, 10 Nov 2011 10:10:10 GMT");
+        AuthUtils.prepareRequest(request, null, null, DATE);
+
+        Assert.assertEquals(AuthUtils.createStringToSign(request, null), requestSigner.createStringToSign(request, DATE, null, null, null));
+    }
+
+    @Test
+    public void testHandleRequestUsesClock() throws Exception {
+        final RequestSigner signer = new RequestSigner("accessKeyId", "secretAccessKey", new Clock() {
+            public long currentTimeMillis() {
+                return 1321009871000L;
+            }
+        });
+        final HttpRequest request = new HttpGet("/");
+
+        signer.handleRequest(request);
+
+        Assert.assertEquals(DATE, request.getFirstHeader("Date").getValue());
+        final String expected = "accessKeyId:" + AuthUtils.calculateHMAC256(AuthUtils.createStringToSign(request, null), "secretAccessKey");
+        Assert.assertEquals(expected, request.getFirstHeader("X-OpenAPI-Authorization").getValue());
+    }
+}
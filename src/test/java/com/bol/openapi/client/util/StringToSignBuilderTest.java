@@ -0,0 +1,107 @@
+package com.bol.openapi.client.util;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.NameValuePair;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.utils.URIUtils;
+import org.apache.http.client.utils.URLEncodedUtils;
+import org.apache.http.message.BasicNameValuePair;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StringToSignBuilderTest {
+
+    private static final String DATE = "Fri, 11 Nov 2011 11:11:11 GMT";
+
+    @Test
+    public void testGolden() throws Exception {
+        final List<NameValuePair> httpParams = new ArrayList<NameValuePair>();
+        httpParams.add(new BasicNameValuePair("term", "harry potter"));
+        httpParams.add(new BasicNameValuePair("offset", "0"));
+        httpParams.add(new BasicNameValuePair("categoryId", "87 4279"));
+
+        final String expected = "GET\n\n\n" + DATE + "\nx-openapi-session-id:sessionId\n/openapi/services/rest/catalog/v3/searchresults/\n"
+                + "&categoryId=87 4279\n&offset=0\n&term=harry potter";
+        Assert.assertEquals(expected, StringToSignBuilder.build("GET", null, null, DATE, "sessionId", "/openapi/services/rest/catalog/v3/searchresults/", httpParams));
+    }
+
+    @Test
+    public void testWithoutParameters() throws Exception {
+        assertSameAsAuthUtils(new HttpGet("http://localhost/openapi/services/rest/utils/v3/ping"), null, null);
+        assertSameAsAuthUtils(new HttpGet("http://localhost/openapi/services/rest/checkout/v3/baskets"), "sessionId", new ArrayList<NameValuePair>());
+    }
+
+    @Test
+    public void testParameters() throws Exception {
+        final List<NameValuePair> httpParams = new ArrayList<NameValuePair>();
+        httpParams.add(new BasicNameValuePair("term", "harry potter"));
+        httpParams.add(new BasicNameValuePair("sortingMethod", "price"));
+        httpParams.add(new BasicNameValuePair("includeAttributes", "true"));
+        httpParams.add(new BasicNameValuePair("categoryId", "87 4279"));
+
+        assertSameAsAuthUtils(createRequest("/catalog/v3/searchresults/", httpParams), null, httpParams);
+        assertSameAsAuthUtils(createRequest("/catalog/v3/searchresults/", httpParams), "sessionId", httpParams);
+    }
+
+    @Test
+    public void testRepeatedAndNullParameters() throws Exception {
+        final List<NameValuePair> httpParams = new ArrayList<NameValuePair>();
+        httpParams.add(new BasicNameValuePair("term", "test"));
+        httpParams.add(new BasicNameValuePair("b", null));
+        httpParams.add(new BasicNameValuePair("term", "test2"));
+        httpParams.add(new BasicNameValuePair("a", "1"));
+        httpParams.add(new BasicNameValuePair("a", null));
+        httpParams.add(new BasicNameValuePair("c", null));
+        httpParams.add(new BasicNameValuePair("c", "3"));
+        httpParams.add(new BasicNameValuePair("term", "test3"));
+
+        assertSameAsAuthUtils(createRequest("/catalog/v3/products/1", httpParams), null, httpParams);
+    }
+
+    @Test
+    public void testEscapedParameters() throws Exception {
+        final List<NameValuePair> httpParams = new ArrayList<NameValuePair>();
+        httpParams.add(new BasicNameValuePair("term", "a+b%20c"));
+        httpParams.add(new BasicNameValuePair("q%41", "été"));
+        httpParams.add(new BasicNameValuePair("listId", "100%25"));
+
+        assertSameAsAuthUtils(createRequest("/catalog/v3/searchresults/", httpParams), null, httpParams);
+    }
+
+    @Test
+    public void testEncodedPath() throws Exception {
+        final List<NameValuePair> httpParams = new ArrayList<NameValuePair>();
+        httpParams.add(new BasicNameValuePair("offset", "10"));
+
+        assertSameAsAuthUtils(createRequest("/catalog/v3/listresults/toplist_default/" + URLEncoder.encode("87 4279 8299", "UTF-8"), httpParams), null, httpParams);
+        assertSameAsAuthUtils(createRequest("/catalog/v3/listresults/toplist_default/" + URLEncoder.encode("é/%", "UTF-8"), httpParams), null, httpParams);
+    }
+
+    @Test
+    public void testPostWithBody() throws Exception {
+        final HttpPost request = new HttpPost("http://localhost/openapi/services/rest/checkout/v3/baskets/1/2/127.0.0.1");
+        AuthUtils.prepareRequest(request, "sessionId", "body", DATE);
+
+        Assert.assertEquals(AuthUtils.createStringToSign(request, null), StringToSignBuilder.build("POST", request.getFirstHeader("Content-MD5").getValue(),
+                request.getFirstHeader("Content-Type").getValue(), request.getFirstHeader("Date").getValue(), "sessionId", request.getURI().getPath(), null));
+    }
+
+    private static HttpUriRequest createRequest(final String path, final List<NameValuePair> httpParams) throws Exception {
+        final URI uri = URIUtils.createURI("http", "localhost", -1, "/openapi/services/rest" + path, URLEncodedUtils.format(httpParams, "UTF-8"), null);
+        return new HttpGet(uri);
+    }
+
+    private static void assertSameAsAuthUtils(final HttpUriRequest request, final String sessionId, final List<NameValuePair> httpParams) throws Exception {
+        AuthUtils.prepareRequest(request, sessionId, null, DATE);
+
+        final String expected = AuthUtils.createStringToSign(request, httpParams);
+        final String actual = StringToSignBuilder.build(request.getMethod(), null, null, request.getFirstHeader("Date").getValue(), sessionId, request.getURI().getPath(), httpParams);
+        Assert.assertEquals(expected, actual);
+    }
+}
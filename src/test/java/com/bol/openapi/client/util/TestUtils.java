@@ -1,5 +1,9 @@
 package com.bol.openapi.client.util;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.io.StringWriter;
 import javax.xml.bind.JAXB;
 import org.junit.Ignore;
@@ -15,5 +19,25 @@ public final class TestUtils {
         JAXB.marshal(entity, writer);
         return writer.toString();
     }
+
+    public static String readFixture(final String name) throws IOException {
+        final InputStream in = TestUtils.class.getResourceAsStream("/fixtures/" + name);
+        if (in == null) {
+            throw new IOException("Fixture not found: " + name);
+        }
+
+        final Reader reader = new InputStreamReader(in, "UTF-8");
+        try {
+            final StringWriter writer = new StringWriter();
+            final char[] buffer = new char[8192];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                writer.write(buffer, 0, read);
+            }
+            return writer.toString();
+        } finally {
+            reader.close();
+        }
+    }
     
 }
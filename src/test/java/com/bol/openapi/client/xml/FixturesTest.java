@@ -0,0 +1,74 @@
+package com.bol.openapi.client.xml;
+
+import java.io.File;
+import java.io.StringReader;
+
+import javax.xml.XMLConstants;
+import javax.xml.bind.JAXBContext;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.bol.openapi.client.util.FixtureGenerator;
+import com.bol.openapi.client.util.TestUtils;
+import com.bol.openapi.openapi_3_0.ListResultResponse;
+import com.bol.openapi.openapi_3_0.ObjectFactory;
+import com.bol.openapi.openapi_3_0.Product;
+import com.bol.openapi.openapi_3_0.ProductResponse;
+import com.bol.openapi.openapi_3_0.SearchResultsResponse;
+
+/**
+ * Checks that the response fixtures used by the tests and benchmarks conform to the OpenAPI schema.
+ */
+public class FixturesTest {
+
+    private Schema schema;
+    private UnmarshallerPool unmarshallerPool;
+
+    @Before
+    public void setUp() throws Exception {
+        schema = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(new File("src/main/xsd/openapi-3.0.0.xsd"));
+        unmarshallerPool = new UnmarshallerPool(JAXBContext.newInstance(ObjectFactory.class), 1);
+    }
+
+    @Test
+    public void testSearchResults() throws Exception {
+        final SearchResultsResponse response = (SearchResultsResponse) validateAndUnmarshal("search-results.xml");
+        Assert.assertEquals(10, response.getProduct().size());
+        Assert.assertFalse(response.getRefinementGroup().isEmpty());
+    }
+
+    @Test
+    public void testListResults() throws Exception {
+        final ListResultResponse response = (ListResultResponse) validateAndUnmarshal("list-results.xml");
+        Assert.assertEquals(100, response.getProduct().size());
+        for (final Product product : response.getProduct()) {
+            Assert.assertFalse(product.getOffers().getOffer().isEmpty());
+            Assert.assertFalse(product.getAttributes().getAttribute().isEmpty());
+        }
+    }
+
+    @Test
+    public void testProduct() throws Exception {
+        final ProductResponse response = (ProductResponse) validateAndUnmarshal("product.xml");
+        Assert.assertNotNull(response.getProduct().getLongDescription());
+        Assert.assertEquals(4, response.getProduct().getOffers().getOffer().size());
+    }
+
+    @Test
+    public void testFixturesUpToDate() throws Exception {
+        for (final String name : FixtureGenerator.FIXTURES) {
+            Assert.assertEquals("Regenerate " + name + " with FixtureGenerator", FixtureGenerator.generate(name), TestUtils.readFixture(name));
+        }
+    }
+
+    private Object validateAndUnmarshal(final String name) throws Exception {
+        final String fixture = TestUtils.readFixture(name);
+        schema.newValidator().validate(new StreamSource(new StringReader(fixture)));
+        return unmarshallerPool.unmarshal(new StringReader(fixture));
+    }
+}
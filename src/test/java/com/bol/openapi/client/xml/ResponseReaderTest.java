@@ -0,0 +1,346 @@
+package com.bol.openapi.client.xml;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.xml.bind.JAXBContext;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.ProtocolVersion;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.message.BasicHttpRequest;
+import org.apache.http.message.BasicStatusLine;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.bol.openapi.client.Endpoint;
+import com.bol.openapi.client.exception.BasicApiException;
+import com.bol.openapi.client.exception.ResponseTooLargeException;
+import com.bol.openapi.client.lean.LeanProducts;
+import com.bol.openapi.client.lean.ProductField;
+import com.bol.openapi.client.lean.ProductProjection;
+import com.bol.openapi.client.metrics.EndpointMetrics;
+import com.bol.openapi.client.metrics.EndpointSnapshot;
+import com.bol.openapi.client.util.TestUtils;
+import com.bol.openapi.openapi_3_0.ListResultResponse;
+import com.bol.openapi.openapi_3_0.ObjectFactory;
+import com.bol.openapi.openapi_3_0.Offer;
+import com.bol.openapi.openapi_3_0.SearchResultsResponse;
+
+public class ResponseReaderTest {
+
+    private ResponseReader responseReader;
+
+    @Before
+    public void setUp() throws Exception {
+        responseReader = new ResponseReader(new UnmarshallerPool(JAXBContext.newInstance(ObjectFactory.class), 1));
+    }
+
+    @Test
+    public void testReadBuffered() throws Exception {
+        final SearchResultsResponse searchResultsResponse = new SearchResultsResponse();
+        searchResultsResponse.setSessionId("sessionId");
+        searchResultsResponse.setTotalResultSize(42L);
+
+        final SearchResultsResponse result = responseReader.read(createResponse(HttpStatus.SC_OK, TestUtils.serializeUsingJAXB(searchResultsResponse)), SearchResultsResponse.class);
+        Assert.assertEquals("sessionId", result.getSessionId());
+        Assert.assertEquals(42L, result.getTotalResultSize());
+    }
+
+    @Test
+    public void testReadStreaming() throws Exception {
+        responseReader.setStreaming(true);
+        final SearchResultsResponse searchResultsResponse = new SearchResultsResponse();
+        searchResultsResponse.setSessionId("sessionId");
+        searchResultsResponse.setTotalResultSize(42L);
+
+        final SearchResultsResponse result = responseReader.read(createResponse(HttpStatus.SC_OK, TestUtils.serializeUsingJAXB(searchResultsResponse)), SearchResultsResponse.class);
+        Assert.assertEquals("sessionId", result.getSessionId());
+        Assert.assertEquals(42L, result.getTotalResultSize());
+    }
+
+    @Test
+    public void testReadStreamingError() throws Exception {
+        responseReader.setStreaming(true);
+        final com.bol.openapi.openapi_3_0.Error error = new com.bol.openapi.openapi_3_0.Error();
+        error.setStatus("status");
+        error.setMessage("message");
+
+        try {
+            responseReader.read(createResponse(HttpStatus.SC_BAD_REQUEST, TestUtils.serializeUsingJAXB(error)), SearchResultsResponse.class);
+            Assert.fail("Expected a basic API exception");
+        } catch (final BasicApiException e) {
+            Assert.assertEquals("status", e.getStatus());
+            Assert.assertEquals("message", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testReadStreamingNonOkWithoutErrorBody() throws Exception {
+        responseReader.setStreaming(true);
+
+        try {
+            responseReader.read(createResponse(HttpStatus.SC_BAD_GATEWAY, "<html><body>Bad gateway</body></html>"), SearchResultsResponse.class);
+            Assert.fail("Expected a basic API exception");
+        } catch (final BasicApiException e) {
+            Assert.assertEquals("502", e.getStatus());
+        }
+        Assert.assertEquals(0, responseReader.getUnmarshallerPool().getMisses());
+    }
+
+    @Test(expected = BasicApiException.class)
+    public void testReadBufferedUnexpectedType() throws Exception {
+        final SearchResultsResponse searchResultsResponse = new SearchResultsResponse();
+        responseReader.read(createResponse(HttpStatus.SC_ACCEPTED, TestUtils.serializeUsingJAXB(searchResultsResponse)), SearchResultsResponse.class);
+    }
+
+    @Test
+    public void testReadGzipStreaming() throws Exception {
+        responseReader.setStreaming(true);
+        final String body = TestUtils.readFixture("search-results.xml");
+        final EndpointMetrics metrics = new EndpointMetrics(Endpoint.SEARCH);
+
+        final SearchResultsResponse result = responseReader.read(createResponse(HttpStatus.SC_OK, "gzip", compress(body, "gzip")), SearchResultsResponse.class, metrics);
+        Assert.assertEquals(10, result.getProduct().size());
+
+        final EndpointSnapshot snapshot = metrics.snapshot();
+        Assert.assertTrue(snapshot.getBytesReceived() > 0);
+        Assert.assertTrue(snapshot.toString(), snapshot.getUncompressedBytes() > 2 * snapshot.getBytesReceived());
+    }
+
+    @Test
+    public void testReadDeflateBuffered() throws Exception {
+        final String body = TestUtils.readFixture("search-results.xml");
+        final EndpointMetrics metrics = new EndpointMetrics(Endpoint.SEARCH);
+
+        final SearchResultsResponse result = responseReader.read(createResponse(HttpStatus.SC_OK, "deflate", compress(body, "deflate")), SearchResultsResponse.class, metrics);
+        Assert.assertEquals(10, result.getProduct().size());
+        Assert.assertEquals(body.getBytes("UTF-8").length, metrics.snapshot().getUncompressedBytes());
+    }
+
+    @Test
+    public void testReadRawDeflate() throws Exception {
+        final String body = TestUtils.readFixture("search-results.xml");
+
+        final SearchResultsResponse result = responseReader.read(createResponse(HttpStatus.SC_OK, "deflate", compress(body, "raw")), SearchResultsResponse.class);
+        Assert.assertEquals(10, result.getProduct().size());
+    }
+
+    @Test
+    public void testUncompressedBytes() throws Exception {
+        final EndpointMetrics metrics = new EndpointMetrics(Endpoint.SEARCH);
+        responseReader.read(createResponse(HttpStatus.SC_OK, TestUtils.serializeUsingJAXB(new SearchResultsResponse())), SearchResultsResponse.class, metrics);
+
+        final EndpointSnapshot snapshot = metrics.snapshot();
+        Assert.assertEquals(snapshot.getBytesReceived(), snapshot.getUncompressedBytes());
+        Assert.assertEquals(1, snapshot.getCompressionRatio(), 0);
+    }
+
+    @Test
+    public void testPrepareRequest() {
+        final BasicHttpRequest request = new BasicHttpRequest("GET", "/");
+        responseReader.prepareRequest(request);
+        Assert.assertNull(request.getFirstHeader("Accept-Encoding"));
+
+        responseReader.setCompression(true);
+        responseReader.prepareRequest(request);
+        Assert.assertEquals("gzip, deflate", request.getFirstHeader("Accept-Encoding").getValue());
+    }
+
+    @Test
+    public void testReadStaxBinding() throws Exception {
+        responseReader.setBinding(Binding.STAX);
+        final String body = TestUtils.readFixture("list-results.xml");
+
+        final ListResultResponse buffered = responseReader.read(createResponse(HttpStatus.SC_OK, body), ListResultResponse.class);
+        responseReader.setStreaming(true);
+        final ListResultResponse streamed = responseReader.read(createResponse(HttpStatus.SC_OK, body), ListResultResponse.class);
+
+        Assert.assertEquals(100, buffered.getProduct().size());
+        Assert.assertEquals(TestUtils.serializeUsingJAXB(buffered), TestUtils.serializeUsingJAXB(streamed));
+        Assert.assertEquals(0, responseReader.getUnmarshallerPool().getMisses());
+    }
+
+    @Test
+    public void testReadStaxBindingError() throws Exception {
+        responseReader.setBinding(Binding.STAX);
+        final com.bol.openapi.openapi_3_0.Error error = new com.bol.openapi.openapi_3_0.Error();
+        error.setStatus("status");
+        error.setMessage("message");
+
+        try {
+            responseReader.read(createResponse(HttpStatus.SC_BAD_REQUEST, TestUtils.serializeUsingJAXB(error)), SearchResultsResponse.class);
+            Assert.fail("Expected a basic API exception");
+        } catch (final BasicApiException e) {
+            Assert.assertEquals("status", e.getStatus());
+            Assert.assertEquals("message", e.getMessage());
+        }
+        Assert.assertEquals(0, responseReader.getUnmarshallerPool().getMisses());
+    }
+
+    @Test
+    public void testReadStringInterner() throws Exception {
+        final StringInterner interner = new StringInterner();
+        responseReader.setStringInterner(interner);
+        final String body = TestUtils.readFixture("list-results.xml");
+
+        final ListResultResponse first = responseReader.read(createResponse(HttpStatus.SC_OK, body), ListResultResponse.class);
+        final ListResultResponse second = responseReader.read(createResponse(HttpStatus.SC_OK, body), ListResultResponse.class);
+
+        final Offer firstOffer = first.getProduct().get(0).getOffers().getOffer().get(0);
+        final Offer secondOffer = second.getProduct().get(0).getOffers().getOffer().get(0);
+        Assert.assertSame(firstOffer.getAvailabilityDescription(), secondOffer.getAvailabilityDescription());
+        Assert.assertSame(first.getProduct().get(0).getAttributes().getAttribute().get(0).getKey(),
+                second.getProduct().get(0).getAttributes().getAttribute().get(0).getKey());
+        Assert.assertTrue(interner.toString(), interner.getHitRate() > 0.5);
+    }
+
+    @Test
+    public void testReadLean() throws Exception {
+        final String body = TestUtils.readFixture("search-results.xml");
+        final ProductProjection projection = ProductProjection.of(ProductField.ID, ProductField.PRICE);
+
+        final LeanProducts result = responseReader.read(createResponse(HttpStatus.SC_OK, body), LeanProducts.class, projection, null);
+        Assert.assertEquals(10, result.getProducts().size());
+        Assert.assertNotNull(result.getProducts().get(0).getPrice());
+        Assert.assertNull(result.getProducts().get(0).getTitle());
+    }
+
+    @Test
+    public void testReadLeanError() throws Exception {
+        final com.bol.openapi.openapi_3_0.Error error = new com.bol.openapi.openapi_3_0.Error();
+        error.setStatus("status");
+        error.setMessage("message");
+
+        try {
+            responseReader.read(createResponse(HttpStatus.SC_BAD_REQUEST, TestUtils.serializeUsingJAXB(error)), LeanProducts.class, ProductProjection.of(ProductField.ID), null);
+            Assert.fail("Expected a basic API exception");
+        } catch (final BasicApiException e) {
+            Assert.assertEquals("status", e.getStatus());
+            Assert.assertEquals("message", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testReadContentLengthTooLarge() throws Exception {
+        final ResponseLimits limits = new ResponseLimits();
+        limits.setMaxSize(100);
+        responseReader.setResponseLimits(limits);
+
+        try {
+            responseReader.read(createResponse(HttpStatus.SC_OK, TestUtils.readFixture("list-results.xml")), ListResultResponse.class, Endpoint.LIST, null, null);
+            Assert.fail("Expected a response too large exception");
+        } catch (final ResponseTooLargeException e) {
+            Assert.assertEquals(Endpoint.LIST, e.getEndpoint());
+            Assert.assertEquals(100, e.getMaxSize());
+            Assert.assertTrue(e.getContentLength() > 100);
+        }
+        Assert.assertEquals(1, limits.getRejected());
+    }
+
+    @Test
+    public void testReadUnknownLengthTooLarge() throws Exception {
+        final ResponseLimits limits = new ResponseLimits();
+        limits.setMaxSize(100000);
+        responseReader.setResponseLimits(limits);
+        // Compressed the body fits, decompressed it does not
+        final byte[] body = compress(TestUtils.readFixture("list-results.xml"), "gzip");
+        Assert.assertTrue(body.length < 100000);
+
+        for (final boolean streaming : new boolean[] { false, true }) {
+            responseReader.setStreaming(streaming);
+            try {
+                responseReader.read(createResponse(HttpStatus.SC_OK, "gzip", body), ListResultResponse.class, Endpoint.LIST, null, null);
+                Assert.fail("Expected a response too large exception");
+            } catch (final ResponseTooLargeException e) {
+                Assert.assertEquals(100000, e.getMaxSize());
+                Assert.assertEquals(-1, e.getContentLength());
+            }
+        }
+        Assert.assertEquals(2, limits.getRejected());
+    }
+
+    @Test
+    public void testReadEndpointMaxSize() throws Exception {
+        final ResponseLimits limits = new ResponseLimits();
+        limits.setMaxSize(100);
+        limits.setMaxSize(Endpoint.LIST, ResponseLimits.UNLIMITED);
+        responseReader.setResponseLimits(limits);
+        final String body = TestUtils.readFixture("list-results.xml");
+
+        final ListResultResponse result = responseReader.read(createResponse(HttpStatus.SC_OK, body), ListResultResponse.class, Endpoint.LIST, null, null);
+        Assert.assertFalse(result.getProduct().isEmpty());
+        try {
+            responseReader.read(createResponse(HttpStatus.SC_OK, body), ListResultResponse.class, Endpoint.SEARCH, null, null);
+            Assert.fail("Expected a response too large exception");
+        } catch (final ResponseTooLargeException e) {
+            Assert.assertEquals(Endpoint.SEARCH, e.getEndpoint());
+        }
+    }
+
+    @Test
+    public void testReadSpilled() throws Exception {
+        final File directory = File.createTempFile("spill", "");
+        Assert.assertTrue(directory.delete() && directory.mkdir());
+        try {
+            final ResponseLimits limits = new ResponseLimits();
+            limits.setSpillThreshold(1024);
+            limits.setSpillDirectory(directory);
+            responseReader.setResponseLimits(limits);
+            final String body = TestUtils.readFixture("list-results.xml");
+
+            final ListResultResponse expected = new ResponseReader(responseReader.getUnmarshallerPool()).read(createResponse(HttpStatus.SC_OK, body),
+                    ListResultResponse.class);
+            final ListResultResponse result = responseReader.read(createResponse(HttpStatus.SC_OK, body), ListResultResponse.class);
+            Assert.assertEquals(expected.getProduct().size(), result.getProduct().size());
+            Assert.assertEquals(expected.getProduct().get(0).getTitle(), result.getProduct().get(0).getTitle());
+            Assert.assertEquals(1, limits.getSpilled());
+            Assert.assertEquals(0, directory.list().length);
+
+            responseReader.read(createResponse(HttpStatus.SC_OK, "<ListResultResponse xmlns=\"http://openapi.bol.com/openapi-3.0.0\"/>"), ListResultResponse.class);
+            Assert.assertEquals(1, limits.getSpilled());
+        } finally {
+            for (final File file : directory.listFiles()) {
+                file.delete();
+            }
+            directory.delete();
+        }
+    }
+
+    private HttpResponse createResponse(final int statusCode, final String body) throws Exception {
+        final HttpResponse httpResponse = new BasicHttpResponse(new BasicStatusLine(new ProtocolVersion("http", 1, 1), statusCode, ""));
+        final byte[] bytes = body.getBytes("UTF-8");
+        httpResponse.setEntity(new InputStreamEntity(new ByteArrayInputStream(bytes), bytes.length));
+        return httpResponse;
+    }
+
+    private HttpResponse createResponse(final int statusCode, final String contentEncoding, final byte[] body) {
+        final HttpResponse httpResponse = new BasicHttpResponse(new BasicStatusLine(new ProtocolVersion("http", 1, 1), statusCode, ""));
+        final InputStreamEntity entity = new InputStreamEntity(new ByteArrayInputStream(body), body.length);
+        entity.setContentEncoding(contentEncoding);
+        httpResponse.setEntity(entity);
+        return httpResponse;
+    }
+
+    private static byte[] compress(final String body, final String format) throws Exception {
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        final DeflaterOutputStream out;
+        if ("gzip".equals(format)) {
+            out = new GZIPOutputStream(compressed);
+        } else if ("deflate".equals(format)) {
+            out = new DeflaterOutputStream(compressed);
+        } else {
+            out = new DeflaterOutputStream(compressed, new Deflater(Deflater.DEFAULT_COMPRESSION, true));
+        }
+        out.write(body.getBytes("UTF-8"));
+        out.close();
+        return compressed.toByteArray();
+    }
+}
@@ -0,0 +1,63 @@
+package com.bol.openapi.client.xml;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StringInternerTest {
+
+    @Test
+    public void testIntern() {
+        final StringInterner interner = new StringInterner();
+        final String first = new String("Op voorraad");
+        final String second = new String("Op voorraad");
+
+        Assert.assertSame(first, interner.intern(first));
+        Assert.assertSame(first, interner.intern(second));
+        Assert.assertEquals(1, interner.getHits());
+        Assert.assertEquals(1, interner.getMisses());
+        Assert.assertEquals(0.5, interner.getHitRate(), 0);
+    }
+
+    @Test
+    public void testNullAndLongValues() {
+        final StringInterner interner = new StringInterner(16, 4);
+        Assert.assertNull(interner.intern(null));
+
+        final String value = new String("Paperback");
+        Assert.assertSame(value, interner.intern(value));
+        Assert.assertNotSame(value, interner.intern(new String("Paperback")));
+        Assert.assertEquals(0, interner.getHits() + interner.getMisses());
+        Assert.assertEquals(0, interner.getHitRate(), 0);
+    }
+
+    @Test
+    public void testBounded() {
+        final StringInterner interner = new StringInterner(3, StringInterner.DEFAULT_MAX_LENGTH);
+        Assert.assertEquals(4, interner.getCapacity());
+
+        for (int i = 0; i < 1000; i++) {
+            interner.intern("value" + i);
+        }
+        Assert.assertEquals(1000, interner.getMisses());
+
+        final String value = new String("value999");
+        Assert.assertNotSame(value, interner.intern(value));
+        Assert.assertEquals(1, interner.getHits());
+    }
+
+    @Test
+    public void testClear() {
+        final StringInterner interner = new StringInterner();
+        final String value = new String("Nederlands");
+        interner.intern(value);
+        interner.clear();
+
+        Assert.assertNotSame(value, interner.intern(new String("Nederlands")));
+        Assert.assertEquals(2, interner.getMisses());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() {
+        new StringInterner(0, StringInterner.DEFAULT_MAX_LENGTH);
+    }
+}
@@ -0,0 +1,83 @@
+package com.bol.openapi.client.xml;
+
+import java.io.StringReader;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.Unmarshaller;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.bol.openapi.client.util.TestUtils;
+import com.bol.openapi.openapi_3_0.ObjectFactory;
+import com.bol.openapi.openapi_3_0.SessionResponse;
+
+public class UnmarshallerPoolTest {
+
+    private JAXBContext jaxbContext;
+
+    @Before
+    public void setUp() throws Exception {
+        jaxbContext = JAXBContext.newInstance(ObjectFactory.class);
+    }
+
+    @Test
+    public void testBorrowReusesReleasedUnmarshaller() throws Exception {
+        final UnmarshallerPool pool = new UnmarshallerPool(jaxbContext, 2);
+
+        final Unmarshaller first = pool.borrow();
+        pool.release(first);
+        final Unmarshaller second = pool.borrow();
+
+        Assert.assertSame(first, second);
+        Assert.assertEquals(1, pool.getHits());
+        Assert.assertEquals(1, pool.getMisses());
+    }
+
+    @Test
+    public void testReleaseDropsWhenFull() throws Exception {
+        final UnmarshallerPool pool = new UnmarshallerPool(jaxbContext, 1);
+
+        final Unmarshaller first = pool.borrow();
+        final Unmarshaller second = pool.borrow();
+        pool.release(first);
+        pool.release(second);
+
+        Assert.assertEquals(1, pool.getIdleCount());
+        Assert.assertEquals(2, pool.getMisses());
+    }
+
+    @Test
+    public void testDisabledPool() throws Exception {
+        final UnmarshallerPool pool = new UnmarshallerPool(jaxbContext, 0);
+
+        final Unmarshaller first = pool.borrow();
+        pool.release(first);
+        final Unmarshaller second = pool.borrow();
+
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals(0, pool.getHits());
+        Assert.assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    public void testUnmarshal() throws Exception {
+        final UnmarshallerPool pool = new UnmarshallerPool(jaxbContext, UnmarshallerPool.DEFAULT_MAX_SIZE);
+        final SessionResponse sessionResponse = new SessionResponse();
+        sessionResponse.setSessionId("sessionId");
+        final String xml = TestUtils.serializeUsingJAXB(sessionResponse);
+
+        pool.unmarshal(new StringReader(xml));
+        final Object object = pool.unmarshal(new StringReader(xml));
+
+        Assert.assertEquals("sessionId", ((SessionResponse) object).getSessionId());
+        Assert.assertEquals(1, pool.getHits());
+        Assert.assertEquals(1, pool.getMisses());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeSize() {
+        new UnmarshallerPool(jaxbContext, -1);
+    }
+}
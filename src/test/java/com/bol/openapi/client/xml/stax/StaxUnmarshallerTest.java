@@ -0,0 +1,165 @@
+package com.bol.openapi.client.xml.stax;
+
+import java.io.StringReader;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.math.BigDecimal;
+import java.util.List;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.bol.openapi.client.util.TestUtils;
+import com.bol.openapi.client.xml.UnmarshallerPool;
+import com.bol.openapi.openapi_3_0.BasketResponse;
+import com.bol.openapi.openapi_3_0.ListResultResponse;
+import com.bol.openapi.openapi_3_0.ObjectFactory;
+import com.bol.openapi.openapi_3_0.ProductRecommendationsResponse;
+import com.bol.openapi.openapi_3_0.ProductResponse;
+import com.bol.openapi.openapi_3_0.ProductType;
+import com.bol.openapi.openapi_3_0.ProductsResponse;
+import com.bol.openapi.openapi_3_0.SearchResultsResponse;
+import com.bol.openapi.openapi_3_0.SessionResponse;
+
+/**
+ * Conformance of the StAX readers with JAXB: both read the same document, and the results must marshal to the same XML.
+ * Besides the fixtures, every supported root is read with all of its fields populated.
+ */
+public class StaxUnmarshallerTest {
+
+    private UnmarshallerPool unmarshallerPool;
+    private XMLInputFactory xmlInputFactory;
+    private int counter;
+
+    @Before
+    public void setUp() throws Exception {
+        unmarshallerPool = new UnmarshallerPool(JAXBContext.newInstance(ObjectFactory.class), 1);
+        xmlInputFactory = XMLInputFactory.newInstance();
+    }
+
+    @Test
+    public void testSearchResultsFixture() throws Exception {
+        final SearchResultsResponse response = (SearchResultsResponse) assertConforms(TestUtils.readFixture("search-results.xml"));
+        Assert.assertEquals(10, response.getProduct().size());
+    }
+
+    @Test
+    public void testListResultsFixture() throws Exception {
+        final ListResultResponse response = (ListResultResponse) assertConforms(TestUtils.readFixture("list-results.xml"));
+        Assert.assertEquals(100, response.getProduct().size());
+    }
+
+    @Test
+    public void testProductFixture() throws Exception {
+        final ProductResponse response = (ProductResponse) assertConforms(TestUtils.readFixture("product.xml"));
+        Assert.assertEquals(4, response.getProduct().getOffers().getOffer().size());
+    }
+
+    @Test
+    public void testAllFields() throws Exception {
+        final Class<?>[] roots = { SearchResultsResponse.class, ListResultResponse.class, ProductResponse.class, ProductsResponse.class,
+                ProductRecommendationsResponse.class, BasketResponse.class, SessionResponse.class, com.bol.openapi.openapi_3_0.Error.class };
+        for (final Class<?> root : roots) {
+            final Object populated = populate(root);
+            final Object read = assertConforms(TestUtils.serializeUsingJAXB(populated));
+            Assert.assertEquals(root, read.getClass());
+            Assert.assertEquals(root.getSimpleName(), TestUtils.serializeUsingJAXB(populated), TestUtils.serializeUsingJAXB(read));
+        }
+    }
+
+    @Test
+    public void testUnknownElementsSkipped() throws Exception {
+        final SessionResponse response = (SessionResponse) unmarshal("<SessionResponse xmlns=\"" + StaxUnmarshaller.NAMESPACE + "\">"
+                + "<Unknown><SessionId>nested</SessionId></Unknown><SessionId>sessionId</SessionId></SessionResponse>");
+        Assert.assertEquals("sessionId", response.getSessionId());
+    }
+
+    @Test
+    public void testUnknownProductType() throws Exception {
+        final ProductResponse response = (ProductResponse) assertConforms("<ProductResponse xmlns=\"" + StaxUnmarshaller.NAMESPACE + "\">"
+                + "<Product><Id>1</Id><Type>vinyl</Type></Product></ProductResponse>");
+        Assert.assertNull(response.getProduct().getType());
+    }
+
+    @Test(expected = XMLStreamException.class)
+    public void testInvalidValue() throws Exception {
+        unmarshal("<ProductResponse xmlns=\"" + StaxUnmarshaller.NAMESPACE + "\"><Product><Id>abc</Id></Product></ProductResponse>");
+    }
+
+    @Test
+    public void testSupports() throws Exception {
+        Assert.assertTrue(StaxUnmarshaller.supports(open("<BasketResponse xmlns=\"" + StaxUnmarshaller.NAMESPACE + "\"/>")));
+        Assert.assertFalse(StaxUnmarshaller.supports(open("<BasketResponse/>")));
+        Assert.assertFalse(StaxUnmarshaller.supports(open("<LoginResponse xmlns=\"" + StaxUnmarshaller.NAMESPACE + "\"/>")));
+    }
+
+    private Object assertConforms(final String xml) throws Exception {
+        final Object expected = unmarshallerPool.unmarshal(new StringReader(xml));
+        final Object actual = unmarshal(xml);
+        Assert.assertEquals(expected.getClass(), actual.getClass());
+        Assert.assertEquals(TestUtils.serializeUsingJAXB(expected), TestUtils.serializeUsingJAXB(actual));
+        return actual;
+    }
+
+    private Object unmarshal(final String xml) throws XMLStreamException {
+        final XMLStreamReader reader = open(xml);
+        final Object object = StaxUnmarshaller.unmarshal(reader);
+        Assert.assertTrue(reader.isEndElement());
+        return object;
+    }
+
+    private XMLStreamReader open(final String xml) throws XMLStreamException {
+        final XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(new StringReader(xml));
+        reader.nextTag();
+        return reader;
+    }
+
+    /**
+     * Creates an instance of a generated class with every property set, and two elements in every list.
+     */
+    private Object populate(final Class<?> type) throws Exception {
+        final Object object = type.newInstance();
+        for (final Method method : type.getMethods()) {
+            if (method.getName().startsWith("set") && method.getParameterTypes().length == 1) {
+                method.invoke(object, value(method.getParameterTypes()[0], method.getName()));
+            } else if (method.getName().startsWith("get") && method.getReturnType() == List.class) {
+                @SuppressWarnings("unchecked")
+                final List<Object> list = (List<Object>) method.invoke(object);
+                final Class<?> elementType = (Class<?>) ((ParameterizedType) method.getGenericReturnType()).getActualTypeArguments()[0];
+                list.add(value(elementType, method.getName()));
+                list.add(value(elementType, method.getName()));
+            }
+        }
+        return object;
+    }
+
+    private Object value(final Class<?> type, final String name) throws Exception {
+        final int value = ++counter;
+        if (type == String.class) {
+            return " " + name + " & <" + value + "> ";
+        } else if (type == long.class || type == Long.class) {
+            return Long.valueOf(value);
+        } else if (type == int.class || type == Integer.class) {
+            return Integer.valueOf(value);
+        } else if (type == double.class || type == Double.class) {
+            return Double.valueOf(value + 0.25);
+        } else if (type == boolean.class || type == Boolean.class) {
+            return Boolean.valueOf(value % 2 == 0);
+        } else if (type == BigDecimal.class) {
+            return new BigDecimal(value + ".5");
+        } else if (type == XMLGregorianCalendar.class) {
+            return DatatypeFactory.newInstance().newXMLGregorianCalendar("2013-05-" + (10 + value % 18));
+        } else if (type == ProductType.class) {
+            return ProductType.values()[value % ProductType.values().length];
+        }
+        return populate(type);
+    }
+}